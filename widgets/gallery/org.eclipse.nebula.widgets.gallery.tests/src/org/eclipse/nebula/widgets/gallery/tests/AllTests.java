@@ -16,6 +16,8 @@ public class AllTests {
 		suite.addTestSuite(Bug216204Test.class);
 		suite.addTestSuite(Bug276435Test.class);
 		suite.addTestSuite(Bug280635Test.class);
+		suite.addTestSuite(GalleryThumbnailServiceTest.class);
+		suite.addTestSuite(GallerySelectionTest.class);
 		//$JUnit-END$
 		return suite;
 	}
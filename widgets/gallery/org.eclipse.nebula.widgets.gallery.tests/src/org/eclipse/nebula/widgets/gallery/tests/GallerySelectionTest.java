@@ -0,0 +1,198 @@
+package org.eclipse.nebula.widgets.gallery.tests;
+
+import junit.framework.TestCase;
+
+import org.eclipse.nebula.widgets.gallery.Gallery;
+import org.eclipse.nebula.widgets.gallery.GalleryItem;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+public class GallerySelectionTest extends TestCase {
+	Display d = null;
+	Shell s = null;
+	private boolean createdDisplay = false;
+
+	protected void setUp() throws Exception {
+		d = Display.getCurrent();
+		if (d == null) {
+			d = new Display();
+			createdDisplay = true;
+		}
+		s = new Shell(d, SWT.NONE);
+		super.setUp();
+	}
+
+	protected void tearDown() throws Exception {
+		s.dispose();
+		if (createdDisplay) {
+			d.dispose();
+		}
+		super.tearDown();
+	}
+
+	public void testSelectAll() {
+		Gallery g = new Gallery(s, SWT.V_SCROLL | SWT.MULTI);
+		GalleryItem group = new GalleryItem(g, SWT.NONE);
+		for (int i = 0; i < 1000; i++) {
+			new GalleryItem(group, SWT.NONE);
+		}
+
+		g.selectAll();
+		assertEquals(1001, g.getSelectionCount());
+		GalleryItem[] selection = g.getSelection();
+		assertEquals(1001, selection.length);
+		assertSame(group, selection[0]);
+		assertSame(group.getItem(999), selection[1000]);
+
+		g.deselectAll();
+		assertEquals(0, g.getSelectionCount());
+		assertEquals(0, g.getSelection().length);
+
+		group.selectAll();
+		assertEquals(1000, g.getSelectionCount());
+		group.deselectAll();
+		assertEquals(0, g.getSelectionCount());
+
+		g.dispose();
+	}
+
+	public void testSetSelection() {
+		Gallery g = new Gallery(s, SWT.V_SCROLL | SWT.MULTI);
+		GalleryItem group = new GalleryItem(g, SWT.NONE);
+		GalleryItem[] items = new GalleryItem[100];
+		for (int i = 0; i < items.length; i++) {
+			items[i] = new GalleryItem(group, SWT.NONE);
+		}
+
+		g.setSelection(new GalleryItem[] { items[70], items[3], items[40] });
+		GalleryItem[] selection = g.getSelection();
+		assertEquals(3, selection.length);
+		assertSame(items[3], selection[0]);
+		assertSame(items[40], selection[1]);
+		assertSame(items[70], selection[2]);
+
+		g.dispose();
+	}
+
+	public void testSingleSelection() {
+		Gallery g = new Gallery(s, SWT.V_SCROLL | SWT.SINGLE);
+		GalleryItem group = new GalleryItem(g, SWT.NONE);
+		GalleryItem[] items = new GalleryItem[10];
+		for (int i = 0; i < items.length; i++) {
+			items[i] = new GalleryItem(group, SWT.NONE);
+		}
+
+		g.setSelection(new GalleryItem[] { items[2], items[5] });
+		assertEquals(1, g.getSelectionCount());
+		assertSame(items[5], g.getSelection()[0]);
+
+		g.dispose();
+	}
+
+	public void testRemoveKeepsSelection() {
+		Gallery g = new Gallery(s, SWT.V_SCROLL | SWT.MULTI);
+		GalleryItem group = new GalleryItem(g, SWT.NONE);
+		GalleryItem[] items = new GalleryItem[100];
+		for (int i = 0; i < items.length; i++) {
+			items[i] = new GalleryItem(group, SWT.NONE);
+		}
+
+		g.setSelection(new GalleryItem[] { items[31], items[32], items[90] });
+		items[10].dispose();
+		items[32].dispose();
+		GalleryItem[] selection = g.getSelection();
+		assertEquals(2, selection.length);
+		assertSame(items[31], selection[0]);
+		assertSame(items[90], selection[1]);
+
+		// An inserted item is not selected and does not move the selection
+		GalleryItem inserted = new GalleryItem(group, SWT.NONE, 0);
+		selection = g.getSelection();
+		assertEquals(2, selection.length);
+		assertSame(items[31], selection[0]);
+		assertSame(items[90], selection[1]);
+		assertEquals(0, group.indexOf(inserted));
+
+		g.dispose();
+	}
+
+	public void testVirtualSelectAll() {
+		Gallery g = new Gallery(s, SWT.V_SCROLL | SWT.MULTI | SWT.VIRTUAL);
+		final int[] createdGroups = new int[1];
+		final int[] created = new int[1];
+		g.addListener(SWT.SetData, event -> {
+			GalleryItem item = (GalleryItem) event.item;
+			if (item.getParentItem() == null) {
+				item.setItemCount(100000);
+				createdGroups[0]++;
+			} else {
+				created[0]++;
+			}
+		});
+		// Groups are only created when used
+		g.setVirtualGroups(true);
+		g.setItemCount(1000);
+
+		g.selectAll();
+		// Selecting and counting does not create the groups or the items
+		assertEquals(1000, g.getSelectionCount());
+		assertEquals(0, createdGroups[0]);
+		assertEquals(0, created[0]);
+
+		// The items of a group are selected when it is created
+		GalleryItem group = g.getItem(0);
+		assertEquals(1, createdGroups[0]);
+		assertEquals(101000, g.getSelectionCount());
+		assertEquals(0, created[0]);
+
+		group.setItemCount(10);
+		g.deselect(1, 999);
+		assertEquals(11, g.getSelectionCount());
+		assertEquals(11, g.getSelection().length);
+		assertEquals(1, createdGroups[0]);
+		assertEquals(10, created[0]);
+
+		g.dispose();
+	}
+
+	public void testRanges() {
+		Gallery g = new Gallery(s, SWT.V_SCROLL | SWT.MULTI | SWT.VIRTUAL);
+		final int[] created = new int[1];
+		g.addListener(SWT.SetData, event -> {
+			GalleryItem item = (GalleryItem) event.item;
+			if (item.getParentItem() == null) {
+				item.setItemCount(100000);
+			} else {
+				created[0]++;
+			}
+		});
+		g.setVirtualGroups(true);
+		g.setItemCount(3);
+		GalleryItem group = g.getItem(1);
+
+		group.select(10, 99989);
+		group.deselect(100, 199);
+		assertEquals(99880, g.getSelectionCount());
+		assertEquals(0, created[0]);
+
+		// Out of range indices are ignored
+		group.select(99990, 200000);
+		group.deselect(-5, 9);
+		assertEquals(99890, g.getSelectionCount());
+		assertEquals(0, created[0]);
+
+		// Selecting a group which was not created marks its items
+		g.select(0, 0);
+		assertEquals(99891, g.getSelectionCount());
+		g.deselect(0, 2);
+		assertEquals(0, g.getSelectionCount());
+
+		// Created after the deselection : its items are not selected
+		assertEquals(100000, g.getItem(0).getItemCount());
+		assertEquals(0, g.getSelectionCount());
+		assertEquals(0, created[0]);
+
+		g.dispose();
+	}
+}
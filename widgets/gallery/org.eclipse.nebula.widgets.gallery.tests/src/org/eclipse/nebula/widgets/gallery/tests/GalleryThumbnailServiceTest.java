@@ -0,0 +1,108 @@
+package org.eclipse.nebula.widgets.gallery.tests;
+
+import junit.framework.TestCase;
+
+import org.eclipse.nebula.widgets.gallery.Gallery;
+import org.eclipse.nebula.widgets.gallery.GalleryItem;
+import org.eclipse.nebula.widgets.gallery.GalleryThumbnailService;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+public class GalleryThumbnailServiceTest extends TestCase {
+	Display d = null;
+	Shell s = null;
+	private boolean createdDisplay = false;
+
+	protected void setUp() throws Exception {
+		d = Display.getCurrent();
+		if (d == null) {
+			d = new Display();
+			createdDisplay = true;
+		}
+		s = new Shell(d, SWT.NONE);
+		super.setUp();
+	}
+
+	protected void tearDown() throws Exception {
+		s.dispose();
+		if (createdDisplay) {
+			d.dispose();
+		}
+		super.tearDown();
+	}
+
+	private static ImageData createImage(int width, int height) {
+		ImageData data = new ImageData(width, height, 24,
+				new PaletteData(0xFF0000, 0xFF00, 0xFF));
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				// Left half red, right half blue
+				data.setPixel(x, y, x < width / 2 ? 0xFF0000 : 0x0000FF);
+			}
+		}
+		return data;
+	}
+
+	public void testScaleKeepsAspectRatio() {
+		ImageData scaled = GalleryThumbnailService.scale(createImage(400, 200),
+				100, 100);
+		assertEquals(100, scaled.width);
+		assertEquals(50, scaled.height);
+
+		RGB left = scaled.palette.getRGB(scaled.getPixel(10, 25));
+		RGB right = scaled.palette.getRGB(scaled.getPixel(90, 25));
+		assertEquals(new RGB(255, 0, 0), left);
+		assertEquals(new RGB(0, 0, 255), right);
+		assertNull(scaled.alphaData);
+	}
+
+	public void testScaleAverages() {
+		ImageData scaled = GalleryThumbnailService.scale(createImage(4, 2), 1,
+				1);
+		RGB rgb = scaled.palette.getRGB(scaled.getPixel(0, 0));
+		assertEquals(127, rgb.red);
+		assertEquals(0, rgb.green);
+		assertEquals(127, rgb.blue);
+	}
+
+	public void testScaleSmallImage() {
+		ImageData data = createImage(10, 10);
+		assertSame(data, GalleryThumbnailService.scale(data, 100, 100));
+	}
+
+	public void testLoad() {
+		Gallery g = new Gallery(s, SWT.V_SCROLL);
+		g.setSize(300, 300);
+		GalleryThumbnailService service = new GalleryThumbnailService(g,
+				source -> createImage(1000, 500));
+		g.setThumbnailService(service);
+
+		GalleryItem group = new GalleryItem(g, SWT.NONE);
+		GalleryItem item = new GalleryItem(group, SWT.NONE);
+		item.setData(GalleryThumbnailService.SOURCE, "image");
+
+		assertNull(service.getImage(item, 64, 64));
+		assertEquals(1, service.getPendingCount());
+
+		long end = System.currentTimeMillis() + 10000;
+		while (service.getPendingCount() > 0
+				&& System.currentTimeMillis() < end) {
+			if (!d.readAndDispatch())
+				Thread.yield();
+		}
+		Image image = service.getImage(item, 64, 64);
+		assertNotNull(image);
+		assertEquals(64, image.getBounds().width);
+		assertEquals(32, image.getBounds().height);
+		// Cached
+		assertSame(image, service.getImage(item, 64, 64));
+
+		g.dispose();
+		assertTrue(image.isDisposed());
+	}
+}
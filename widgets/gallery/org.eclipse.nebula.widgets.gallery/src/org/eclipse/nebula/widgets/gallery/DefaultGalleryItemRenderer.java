@@ -146,6 +146,13 @@ public class DefaultGalleryItemRenderer extends AbstractGalleryItemRenderer {
 			useableHeight -= fontHeight + 2;
 		}
 
+		// Use a cached thumbnail instead of scaling the image on each paint
+		if (gallery.thumbnailService != null) {
+			_drawImage = gallery.thumbnailService.getImage(item,
+					width - 8 - 2 * this.dropShadowsSize,
+					useableHeight - 8 - 2 * this.dropShadowsSize);
+		}
+
 		int imageWidth = 0;
 		int imageHeight = 0;
 		int xShift = 0;
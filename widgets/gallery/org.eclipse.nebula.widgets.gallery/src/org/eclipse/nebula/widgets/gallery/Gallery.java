@@ -105,6 +105,10 @@ public class Gallery extends Canvas {
 
 	GalleryItem[] items = null;
 
+	/**
+	 * Selected items, built from the selection flags by getSelection(). Null
+	 * if the selection changed since.
+	 */
 	private GalleryItem[] selection = null;
 
 	/**
@@ -112,6 +116,13 @@ public class Gallery extends Canvas {
 	 */
 	protected int[] selectionFlags = null;
 
+	/**
+	 * Groups which were selected with a range before they were created. Their
+	 * items are selected when they are created. Same layout as
+	 * selectionFlags.
+	 */
+	private int[] pendingGroupFlags = null;
+
 	/**
 	 * Virtual mode flag.
 	 */
@@ -207,6 +218,11 @@ public class Gallery extends Canvas {
 
 	AbstractGalleryGroupRenderer groupRenderer;
 
+	/**
+	 * Loads and caches scaled item images, if set.
+	 */
+	GalleryThumbnailService thumbnailService;
+
 	/**
 	 * Return the number of root-level items in the receiver. Does not include
 	 * children.
@@ -248,6 +264,11 @@ public class Gallery extends Canvas {
 			items = newItems;
 		}
 
+		// Removed items are no longer selected
+		SelectionFlags.clear(selectionFlags, count, Integer.MAX_VALUE);
+		SelectionFlags.clear(pendingGroupFlags, count, Integer.MAX_VALUE);
+		selection = null;
+
 		updateStructuralValues(null, false);
 		this.updateScrollBarsProperties();
 		redraw();
@@ -280,6 +301,32 @@ public class Gallery extends Canvas {
 		redraw();
 	}
 
+	/**
+	 * Get the service which loads and scales item images for the item
+	 * renderer.
+	 * 
+	 * @return the service, or null if item images are drawn as they are
+	 */
+	public GalleryThumbnailService getThumbnailService() {
+		checkWidget();
+		return thumbnailService;
+	}
+
+	/**
+	 * Set the service which loads and scales item images for the item
+	 * renderer. The previous service is not disposed.
+	 * 
+	 * @param thumbnailService
+	 *            the service, or null to draw item images as they are
+	 * @see GalleryThumbnailService
+	 */
+	public void setThumbnailService(
+			GalleryThumbnailService thumbnailService) {
+		checkWidget();
+		this.thumbnailService = thumbnailService;
+		redraw();
+	}
+
 	/**
 	 * Adds the listener to the collection of listeners who will be notified
 	 * when the receiver's selection changes, by sending it one of the messages
@@ -722,12 +769,88 @@ public class Gallery extends Canvas {
 		addListener(SWT.MouseUp, event -> onMouseUp(event));
 	}
 
-	private void select(int from, int to) {
-		for (int i = from; i <= to; i++) {
-			GalleryItem item = getItem(i);
+	/**
+	 * Selects the groups from index start to index end, inclusive, and all
+	 * their items. Indices out of range are ignored. If the receiver is single
+	 * select, only the last group is selected.
+	 * <p>
+	 * If SWT.VIRTUAL is used, no group or item is created : the items of a
+	 * group which has not been used yet are selected when it is created.
+	 * </p>
+	 * <p>
+	 * No selection event is sent.
+	 * </p>
+	 * 
+	 * @param start
+	 *            index of the first group
+	 * @param end
+	 *            index of the last group
+	 */
+	public void select(int start, int end) {
+		checkWidget();
+		_select(Math.max(0, start), Math.min(end, getItemCount() - 1));
+		redraw();
+	}
+
+	/**
+	 * Deselects the groups from index start to index end, inclusive, and all
+	 * their items. Indices out of range are ignored. No group or item is
+	 * created, and no selection event is sent.
+	 * 
+	 * @param start
+	 *            index of the first group
+	 * @param end
+	 *            index of the last group
+	 */
+	public void deselect(int start, int end) {
+		checkWidget();
+		start = Math.max(0, start);
+		end = Math.min(end, getItemCount() - 1);
+		if (start > end)
+			return;
+
+		SelectionFlags.clear(selectionFlags, start, end);
+		SelectionFlags.clear(pendingGroupFlags, start, end);
+		for (int i = start; i <= end; i++) {
+			if (items[i] != null)
+				items[i]._deselectAll();
+		}
+		selection = null;
+		redraw();
+	}
+
+	private void _select(int from, int to) {
+		if (from > to)
+			return;
+
+		if (!multi) {
+			// Each item would replace the previous one : only select the last
+			GalleryItem item = getItem(to);
 			this._addSelection(item);
 			item._selectAll();
+			return;
+		}
 
+		// Set the flags of the whole range, then select the content of each
+		// group.
+		selectionFlags = SelectionFlags.set(selectionFlags, from, to);
+		for (int i = from; i <= to; i++) {
+			selectGroupContent(i);
+		}
+		selection = null;
+	}
+
+	/**
+	 * Selects the items of the group at index, or marks them to be selected
+	 * when the group is created if SWT.VIRTUAL is used.
+	 */
+	private void selectGroupContent(int index) {
+		GalleryItem group = items[index];
+		if (group == null || group.isUltraLazyDummy()) {
+			pendingGroupFlags = SelectionFlags.set(pendingGroupFlags, index,
+					index);
+		} else {
+			group._selectAll();
 		}
 	}
 
@@ -740,11 +863,11 @@ public class Gallery extends Canvas {
 			if (fromParent == null) {
 				int fromIndex = indexOf(from);
 				int toIndex = indexOf(to);
-				select(fromIndex, toIndex);
+				_select(fromIndex, toIndex);
 			} else {
 				int fromIndex = fromParent.indexOf(from);
 				int toIndex = toParent.indexOf(to);
-				fromParent.select(fromIndex, toIndex);
+				fromParent._select(fromIndex, toIndex);
 			}
 		} else {
 			int fromParentIndex = indexOf(fromParent);
@@ -752,11 +875,11 @@ public class Gallery extends Canvas {
 			int fromIndex = fromParent.indexOf(from);
 			int toIndex = toParent.indexOf(to);
 
-			fromParent.select(fromIndex, fromParent.getItemCount() - 1);
+			fromParent._select(fromIndex, fromParent.getItemCount() - 1);
 			for (int i = fromParentIndex + 1; i < toParentIndex; i++) {
-				getItem(i)._selectAll();
+				selectGroupContent(i);
 			}
-			toParent.select(0, toIndex);
+			toParent._select(0, toIndex);
 
 		}
 		this.notifySelectionListeners(to, indexOf(to), false);
@@ -826,7 +949,9 @@ public class Gallery extends Canvas {
 			if (item != null && selected) {
 				notifiedItem = item;
 			} else {
-				if (selection != null && selection.length > 0) {
+				// The last selected item in the order of the receiver
+				GalleryItem[] selection = getSelection();
+				if (selection.length > 0) {
 					notifiedItem = selection[selection.length - 1];
 				}
 			}
@@ -858,58 +983,33 @@ public class Gallery extends Canvas {
 			item.getParentItem()._addSelection(item);
 		} else {
 			int index = indexOf(item);
-
-			// Divide position by 32 to get selection bloc for this item.
-			int n = index >> 5;
-			if (selectionFlags == null) {
-				// Create selectionFlag array
-				// Add 31 before dividing by 32 to ensure at least one 'int' is
-				// created if size < 32.
-				selectionFlags = new int[(items.length + 31) >> 5];
-			} else if (n >= selectionFlags.length) {
-				// Expand selectionArray
-				int[] oldFlags = selectionFlags;
-				selectionFlags = new int[n + 1];
-				System.arraycopy(oldFlags, 0, selectionFlags, 0,
-						oldFlags.length);
-			}
-
-			// Get flag position in the 32 bit block and ensure is selected.
-			selectionFlags[n] |= 1 << (index & 0x1f);
-
-		}
-
-		if (selection == null) {
-			selection = new GalleryItem[1];
-		} else {
-			GalleryItem[] oldSelection = selection;
-			selection = new GalleryItem[oldSelection.length + 1];
-			System.arraycopy(oldSelection, 0, selection, 0,
-					oldSelection.length);
+			selectionFlags = SelectionFlags.set(selectionFlags, index, index);
 		}
-		selection[selection.length - 1] = item;
 
+		selection = null;
 	}
 
 	private void _removeSelection(GalleryItem item) {
 
 		if (item.getParentItem() == null) {
 			int index = _indexOf(item);
-			selectionFlags[index >> 5] &= ~(1 << (index & 0x1f));
+			SelectionFlags.clear(selectionFlags, index, index);
+			selection = null;
 		} else
 			_removeSelection(item.getParentItem(), item);
-
-		int index = _arrayIndexOf(selection, item);
-		if (index == -1)
-			return;
-
-		selection = (GalleryItem[]) _arrayRemoveItem(selection, index);
-
 	}
 
 	protected void _removeSelection(GalleryItem parent, GalleryItem item) {
 		int index = _indexOf(parent, item);
-		parent.selectionFlags[index >> 5] &= ~(1 << (index & 0x1f));
+		SelectionFlags.clear(parent.selectionFlags, index, index);
+		selection = null;
+	}
+
+	/**
+	 * Called by items when the selection flags of their children change.
+	 */
+	void selectionChanged() {
+		selection = null;
 	}
 
 	protected boolean isSelected(GalleryItem item) {
@@ -924,13 +1024,7 @@ public class Gallery extends Canvas {
 		if (selectionFlags == null)
 			return false;
 
-		int index = indexOf(item);
-		int n = index >> 5;
-		if (n >= selectionFlags.length)
-			return false;
-		int flags = selectionFlags[n];
-		return flags != 0 && (flags & 1 << (index & 0x1f)) != 0;
-
+		return SelectionFlags.get(selectionFlags, indexOf(item));
 	}
 
 	/**
@@ -963,6 +1057,7 @@ public class Gallery extends Canvas {
 		if (selectionFlags != null)
 			for (int i = 0; i < selectionFlags.length; i++)
 				selectionFlags[i] = 0;
+		pendingGroupFlags = null;
 
 		if (items == null)
 			return;
@@ -1400,6 +1495,12 @@ public class Gallery extends Canvas {
 						galleryItem.setExpanded(true);
 					} else {
 						setData(galleryItem, i);
+
+						// The group was part of a selected range
+						if (SelectionFlags.get(pendingGroupFlags, i)) {
+							SelectionFlags.clear(pendingGroupFlags, i, i);
+							galleryItem._selectAll();
+						}
 					}
 				}
 			} else {
@@ -1706,6 +1807,13 @@ public class Gallery extends Canvas {
 	private void _addItem(GalleryItem item, int position) {
 		// Insert item
 		items = (GalleryItem[]) _arrayAddItem(items, item, position);
+		if (position != -1) {
+			selectionFlags = SelectionFlags.insert(selectionFlags, position,
+					items.length);
+			pendingGroupFlags = SelectionFlags.insert(pendingGroupFlags,
+					position, items.length);
+			selection = null;
+		}
 
 		// Update Gallery
 		updateStructuralValues(null, false);
@@ -2007,6 +2115,9 @@ public class Gallery extends Canvas {
 		int itemCount = getItemCount();
 		if (item == null)
 			SWT.error(SWT.ERROR_NULL_ARGUMENT);
+		int hint = item.indexHint;
+		if (0 <= hint && hint < itemCount && items[hint] == item)
+			return hint;
 		if (1 <= lastIndexOf && lastIndexOf < itemCount - 1) {
 			if (items[lastIndexOf] == item)
 				return lastIndexOf;
@@ -2018,12 +2129,12 @@ public class Gallery extends Canvas {
 		if (lastIndexOf < itemCount / 2) {
 			for (int i = 0; i < itemCount; i++) {
 				if (items[i] == item)
-					return lastIndexOf = i;
+					return lastIndexOf = item.indexHint = i;
 			}
 		} else {
 			for (int i = itemCount - 1; i >= 0; --i) {
 				if (items[i] == item)
-					return lastIndexOf = i;
+					return lastIndexOf = item.indexHint = i;
 			}
 		}
 		return -1;
@@ -2040,6 +2151,9 @@ public class Gallery extends Canvas {
 		int itemCount = parentItem.getItemCount();
 		if (item == null)
 			SWT.error(SWT.ERROR_NULL_ARGUMENT);
+		int hint = item.indexHint;
+		if (0 <= hint && hint < itemCount && parentItem.items[hint] == item)
+			return hint;
 		if (1 <= parentItem.lastIndexOf
 				&& parentItem.lastIndexOf < itemCount - 1) {
 			if (parentItem.items[parentItem.lastIndexOf] == item)
@@ -2052,12 +2166,12 @@ public class Gallery extends Canvas {
 		if (parentItem.lastIndexOf < itemCount / 2) {
 			for (int i = 0; i < itemCount; i++) {
 				if (parentItem.items[i] == item)
-					return parentItem.lastIndexOf = i;
+					return parentItem.lastIndexOf = item.indexHint = i;
 			}
 		} else {
 			for (int i = itemCount - 1; i >= 0; --i) {
 				if (parentItem.items[i] == item)
-					return parentItem.lastIndexOf = i;
+					return parentItem.lastIndexOf = item.indexHint = i;
 			}
 		}
 		return -1;
@@ -2250,19 +2364,73 @@ public class Gallery extends Canvas {
 		this.redraw();
 	}
 
+	/**
+	 * Returns the selected items. Each selected group comes before its
+	 * selected items, groups and items are in the order of the receiver.
+	 * <p>
+	 * This is not the order in which the items were selected. A selection
+	 * event sent when an item is deselected carries the last item of this
+	 * array.
+	 * </p>
+	 * <p>
+	 * The array is built from the selection flags the first time it is
+	 * requested after the selection changed. If SWT.VIRTUAL is used, selected
+	 * items which have not been used yet are created, as are groups selected
+	 * with a range.
+	 * </p>
+	 * 
+	 * @return the selected items
+	 */
 	public GalleryItem[] getSelection() {
 		if (selection == null) {
-			return new GalleryItem[0];
+			ArrayList<GalleryItem> list = new ArrayList<>(
+					getSelectionCount());
+			int count = getItemCount();
+			for (int i = 0; i < count; i++) {
+				if (SelectionFlags.get(selectionFlags, i)) {
+					list.add(_getItem(i));
+				} else if (SelectionFlags.get(pendingGroupFlags, i)) {
+					// Creating the group selects its items
+					_getItem(i);
+				}
+
+				GalleryItem group = items[i];
+				if (group == null || group.selectionFlags == null)
+					continue;
+				int groupCount = group.getItemCount();
+				for (int j = SelectionFlags.next(group.selectionFlags, 0,
+						groupCount); j != -1; j = SelectionFlags
+								.next(group.selectionFlags, j + 1, groupCount)) {
+					list.add(_getItem(group, j));
+				}
+			}
+			selection = list.toArray(new GalleryItem[list.size()]);
 		}
 
 		return selection;
 	}
 
+	/**
+	 * Returns the number of selected groups and items. The selection flags
+	 * are counted : no item is created. If SWT.VIRTUAL is used, the items of
+	 * groups selected with a range are counted once the group is created.
+	 * 
+	 * @return the number of selected groups and items
+	 */
 	public int getSelectionCount() {
-		if (selection == null)
-			return 0;
-
-		return selection.length;
+		if (selection != null)
+			return selection.length;
+
+		int count = getItemCount();
+		int selected = SelectionFlags.count(selectionFlags, count);
+		for (int i = 0; i < count; i++) {
+			GalleryItem group = items[i];
+			if (group != null) {
+				selected += SelectionFlags.count(group.selectionFlags,
+						group.getItemCount());
+			}
+		}
+		return selected;
 	}
 
 	/**
@@ -2275,7 +2443,7 @@ public class Gallery extends Canvas {
 	}
 
 	protected void _selectAll() {
-		select(0, this.getItemCount() - 1);
+		_select(0, this.getItemCount() - 1);
 	}
 
 	public void setSelection(GalleryItem[] items) {
@@ -2283,12 +2451,16 @@ public class Gallery extends Canvas {
 		_deselectAll(false);
 		for (int i = 0; i < items.length; i++) {
 			this.setSelected(items[i], true, false);
+		}
+
+		if (items.length > 0) {
+			GalleryItem last = items[items.length - 1];
 
 			// Ensure item is visible
-			_showItem(items[i]);
+			_showItem(last);
 
 			// Simulate mouse click to enable keyboard navigation
-			lastSingleClick = items[i];
+			lastSingleClick = last;
 		}
 		redraw();
 	}
@@ -2337,6 +2509,11 @@ public class Gallery extends Canvas {
 		}
 
 		this.items = (GalleryItem[]) this._arrayRemoveItem(this.items, index);
+
+		// Keep the flags of the following items with them
+		SelectionFlags.remove(selectionFlags, index);
+		SelectionFlags.remove(pendingGroupFlags, index);
+		selection = null;
 	}
 
 	protected void _remove(GalleryItem parent, int index) {
@@ -2346,6 +2523,10 @@ public class Gallery extends Canvas {
 
 		parent.items = (GalleryItem[]) this._arrayRemoveItem(parent.items,
 				index);
+
+		// Keep the flags of the following items with them
+		SelectionFlags.remove(parent.selectionFlags, index);
+		selection = null;
 	}
 
 	protected Object[] _arrayRemoveItem(Object[] array, int index) {
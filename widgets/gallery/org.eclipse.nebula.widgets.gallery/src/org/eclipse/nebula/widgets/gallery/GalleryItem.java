@@ -81,6 +81,13 @@ public class GalleryItem extends Item {
 	 */
 	protected int lastIndexOf = 0;
 
+	/**
+	 * Index of this item in its parent when it was last searched. Checked
+	 * first by indexOf( GalleryItem ), so looking up an item which has not
+	 * moved since does not scan its siblings.
+	 */
+	int indexHint = -1;
+
 	/**
 	 * True if the Gallery was created wih SWT.VIRTUAL
 	 */
@@ -188,6 +195,11 @@ public class GalleryItem extends Item {
 
 		// Insert item
 		items = (GalleryItem[]) parent._arrayAddItem(items, item, position);
+		if (position != -1) {
+			selectionFlags = SelectionFlags.insert(selectionFlags, position,
+					items.length);
+			parent.selectionChanged();
+		}
 
 		// Update Gallery
 		parent.updateStructuralValues(null, false);
@@ -227,6 +239,10 @@ public class GalleryItem extends Item {
 			}
 			items = newItems;
 		}
+
+		// Removed items are no longer selected
+		SelectionFlags.clear(selectionFlags, count, Integer.MAX_VALUE);
+		parent.selectionChanged();
 	}
 
 	/**
@@ -341,6 +357,7 @@ public class GalleryItem extends Item {
 		if (selectionFlags != null)
 			for (int i = 0; i < selectionFlags.length; i++)
 				selectionFlags[i] = 0;
+		parent.selectionChanged();
 
 		if (items == null)
 			return;
@@ -359,27 +376,9 @@ public class GalleryItem extends Item {
 		}
 
 		if (item.getParentItem() == this) {
-
 			int index = indexOf(item);
-
-			// Divide position by 32 to get selection bloc for this item.
-			int n = index >> 5;
-			if (selectionFlags == null) {
-				// Create selectionFlag array
-				// Add 31 before dividing by 32 to ensure at least one 'int' is
-				// created if size < 32.
-				selectionFlags = new int[(items.length + 31) >> 5];
-			} else if (n >= selectionFlags.length) {
-				// Expand selectionArray
-				int[] oldFlags = selectionFlags;
-				selectionFlags = new int[n + 1];
-				System.arraycopy(oldFlags, 0, selectionFlags, 0,
-						oldFlags.length);
-			}
-
-			// Get flag position in the 32 bit block and ensure is selected.
-			selectionFlags[n] |= 1 << (index & 0x1f);
-
+			selectionFlags = SelectionFlags.set(selectionFlags, index, index);
+			parent.selectionChanged();
 		}
 	}
 
@@ -391,25 +390,85 @@ public class GalleryItem extends Item {
 			if (selectionFlags == null)
 				return false;
 
-			int index = indexOf(item);
-			int n = index >> 5;
-			if (n >= selectionFlags.length)
-				return false;
-			int flags = selectionFlags[n];
-			return flags != 0 && (flags & 1 << (index & 0x1f)) != 0;
+			return SelectionFlags.get(selectionFlags, indexOf(item));
 		}
 		return false;
 	}
 
-	protected void select(int from, int to) {
+	/**
+	 * Selects the items from index start to index end, inclusive. Indices out
+	 * of range are ignored. If the gallery is single select, only the last
+	 * item is selected.
+	 * <p>
+	 * If SWT.VIRTUAL is used, the items are not created. No selection event is
+	 * sent.
+	 * </p>
+	 * 
+	 * @param start
+	 *            index of the first item
+	 * @param end
+	 *            index of the last item
+	 */
+	public void select(int start, int end) {
+		checkWidget();
+		_select(Math.max(0, start), Math.min(end, getItemCount() - 1));
+		parent.redraw();
+	}
+
+	/**
+	 * Deselects the items from index start to index end, inclusive. Indices
+	 * out of range are ignored. No item is created, and no selection event is
+	 * sent.
+	 * 
+	 * @param start
+	 *            index of the first item
+	 * @param end
+	 *            index of the last item
+	 */
+	public void deselect(int start, int end) {
+		checkWidget();
+		start = Math.max(0, start);
+		end = Math.min(end, getItemCount() - 1);
+		if (start > end)
+			return;
+
+		SelectionFlags.clear(selectionFlags, start, end);
+		if (items != null) {
+			for (int i = start; i <= end; i++) {
+				if (items[i] != null)
+					items[i]._deselectAll();
+			}
+		}
+		parent.selectionChanged();
+		parent.redraw();
+	}
+
+	protected void _select(int from, int to) {
 		if (Gallery.DEBUG)
 			System.out.println("GalleryItem.select(  " + from + "," + to + ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 
-		for (int i = from; i <= to; i++) {
-			GalleryItem item = getItem(i);
+		if (from > to)
+			return;
+
+		if (!parent.multi) {
+			// Each item would replace the previous one : only select the last
+			GalleryItem item = getItem(to);
 			parent._addSelection(item);
 			item._selectAll();
+			return;
+		}
+
+		// Set the flags of the whole range without creating virtual items.
+		// Items which are not created yet have no content to select.
+		selectionFlags = SelectionFlags.set(selectionFlags, from, to);
+		if (items != null) {
+			int end = Math.min(to, items.length - 1);
+			for (int i = from; i <= end; i++) {
+				if (items[i] != null && items[i].getItemCount() > 0)
+					items[i]._selectAll();
+			}
 		}
+		parent.selectionChanged();
 	}
 
 	/**
@@ -681,7 +740,7 @@ public class GalleryItem extends Item {
 	}
 
 	protected void _selectAll() {
-		select(0, this.getItemCount() - 1);
+		_select(0, this.getItemCount() - 1);
 	}
 
 	public void remove(int index) {
@@ -0,0 +1,537 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors :
+ *    Eclipse Nebula contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.gallery;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Listener;
+
+/**
+ * <p>
+ * Loads and scales the images of gallery items in background threads and
+ * caches the thumbnails.
+ * </p>
+ * <p>
+ * Items get their image either from {@link GalleryItem#setImage(Image)}, or,
+ * without decoding anything in the UI thread, from a source object set with
+ * <code>item.setData(GalleryThumbnailService.SOURCE, source)</code>, e.g. a
+ * file, which is decoded by the {@link ImageLoader} of the service. In
+ * SWT.VIRTUAL mode the source is usually set in the SWT.SetData listener.
+ * </p>
+ * <p>
+ * Thumbnails are scaled with an area average in a bounded pool of worker
+ * threads. Items drawn last are loaded first, and pending items that are
+ * scrolled out of view are cancelled. While an item is loading, the
+ * placeholder image is drawn. Finished thumbnails are kept as device images
+ * in a least recently used cache bounded by their number of pixels, backed by
+ * a larger cache of their image data, so evicted images are created again
+ * without decoding and scaling.
+ * </p>
+ * <p>
+ * Usage : gallery.setThumbnailService(new GalleryThumbnailService(gallery,
+ * source -&gt; new ImageData(source.toString())));
+ * </p>
+ * <p>
+ * NOTE: THIS WIDGET AND ITS API ARE STILL UNDER DEVELOPMENT.
+ * </p>
+ */
+public class GalleryThumbnailService {
+
+	/**
+	 * Id of the source of the image of an item.
+	 *
+	 * Example : item.setData( GalleryThumbnailService.SOURCE, file );
+	 */
+	public final static String SOURCE = "org.eclipse.nebula.widget.gallery.thumbnailSource"; //$NON-NLS-1$
+
+	/**
+	 * Decodes the image of a source. Called in a worker thread.
+	 */
+	public interface ImageLoader {
+		/**
+		 * @param source
+		 *            the source set on the item
+		 * @return the image data, or null if there is no image
+		 * @throws Exception
+		 *             if the image cannot be loaded; the item then has no
+		 *             image
+		 */
+		ImageData load(Object source) throws Exception;
+	}
+
+	private static final int DEFAULT_MAX_IMAGE_PIXELS = 16 * 1024 * 1024;
+
+	private static final long DEFAULT_MAX_DATA_BYTES = 128L * 1024 * 1024;
+
+	private final Gallery gallery;
+
+	private final Display display;
+
+	private final ImageLoader loader;
+
+	private final ThreadPoolExecutor executor;
+
+	private final int maxImagePixels;
+
+	private final long maxDataBytes;
+
+	private int imagePixels;
+
+	private long dataBytes;
+
+	private final LinkedHashMap<Key, Image> images = new LinkedHashMap<>(64,
+			0.75f, true);
+
+	private final LinkedHashMap<Key, ImageData> data = new LinkedHashMap<>(
+			64, 0.75f, true);
+
+	private final Map<Key, Task> pending = new HashMap<>();
+
+	private final Set<Key> failed = new HashSet<>();
+
+	private Image placeholder;
+
+	private boolean disposed = false;
+
+	private final AtomicInteger sequence = new AtomicInteger();
+
+	private final Listener paintListener = event -> cancelInvisible();
+
+	/**
+	 * Creates a service with a worker thread per available processor, at most
+	 * 4, 16M pixels of device images and 128 MB of image data.
+	 *
+	 * @param gallery
+	 * @param loader
+	 *            decodes the sources of items
+	 */
+	public GalleryThumbnailService(Gallery gallery, ImageLoader loader) {
+		this(gallery, loader,
+				Math.max(1, Math.min(4,
+						Runtime.getRuntime().availableProcessors() - 1)),
+				DEFAULT_MAX_IMAGE_PIXELS, DEFAULT_MAX_DATA_BYTES);
+	}
+
+	/**
+	 * @param gallery
+	 * @param loader
+	 *            decodes the sources of items
+	 * @param threads
+	 *            number of worker threads
+	 * @param maxImagePixels
+	 *            pixels of the cached device images
+	 * @param maxDataBytes
+	 *            bytes of the cached image data
+	 */
+	public GalleryThumbnailService(Gallery gallery, ImageLoader loader,
+			int threads, int maxImagePixels, long maxDataBytes) {
+		if (gallery == null || loader == null)
+			SWT.error(SWT.ERROR_NULL_ARGUMENT);
+		if (threads < 1)
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+		this.gallery = gallery;
+		this.display = gallery.getDisplay();
+		this.loader = loader;
+		this.maxImagePixels = maxImagePixels;
+		this.maxDataBytes = maxDataBytes;
+
+		// Most recently requested first
+		AtomicInteger threadCount = new AtomicInteger();
+		executor = new ThreadPoolExecutor(threads, threads, 10,
+				TimeUnit.SECONDS,
+				new PriorityBlockingQueue<>(64,
+						(a, b) -> Integer.compare(((Task) b).priority,
+								((Task) a).priority)),
+				runnable -> {
+					Thread thread = new Thread(runnable,
+							"Gallery thumbnails " //$NON-NLS-1$
+									+ threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					thread.setPriority(Thread.MIN_PRIORITY);
+					return thread;
+				});
+		executor.allowCoreThreadTimeOut(true);
+
+		gallery.addListener(SWT.Paint, paintListener);
+		gallery.addListener(SWT.Dispose, event -> dispose());
+	}
+
+	/**
+	 * Returns the thumbnail of an item that fits into the given size. While it
+	 * is loading, the placeholder is returned for a source, the item image
+	 * itself for an item image. Never scales up.
+	 *
+	 * @param item
+	 * @param width
+	 * @param height
+	 * @return the thumbnail, the placeholder, or null if the item has no image
+	 */
+	public Image getImage(GalleryItem item, int width, int height) {
+		checkThread();
+		if (disposed || width < 1 || height < 1)
+			return null;
+
+		Image itemImage = item.getImage();
+		Object source = itemImage != null ? itemImage : item.getData(SOURCE);
+		if (source == null)
+			return null;
+		// Small item images are drawn as they are.
+		if (itemImage != null) {
+			Rectangle bounds = itemImage.getBounds();
+			if (bounds.width <= width && bounds.height <= height)
+				return itemImage;
+		}
+
+		Key key = new Key(source, width, height);
+		Image image = images.get(key);
+		if (image != null)
+			return image;
+
+		ImageData imageData = data.get(key);
+		if (imageData != null) {
+			image = new Image(display, imageData);
+			putImage(key, image);
+			return image;
+		}
+
+		if (failed.contains(key))
+			return null;
+
+		Task task = pending.get(key);
+		if (task == null) {
+			task = new Task(key, item,
+					itemImage != null ? itemImage.getImageData() : null);
+			pending.put(key, task);
+		} else {
+			task.item = item;
+			// Move it to the front of the queue unless it already runs
+			if (!executor.remove(task))
+				return itemImage != null ? itemImage : placeholder;
+		}
+		task.priority = sequence.incrementAndGet();
+		executor.execute(task);
+		// Item images are drawn unscaled until their thumbnail is ready.
+		return itemImage != null ? itemImage : placeholder;
+	}
+
+	/**
+	 * @return the image drawn while a thumbnail is loading
+	 */
+	public Image getPlaceholder() {
+		return placeholder;
+	}
+
+	/**
+	 * Sets the image drawn while a thumbnail is loading. It is not disposed
+	 * by the service.
+	 *
+	 * @param placeholder
+	 */
+	public void setPlaceholder(Image placeholder) {
+		checkThread();
+		this.placeholder = placeholder;
+	}
+
+	/**
+	 * @return the number of thumbnails being loaded or waiting to be loaded
+	 */
+	public int getPendingCount() {
+		checkThread();
+		return pending.size();
+	}
+
+	/**
+	 * Drops all thumbnails, e.g. after the images of the sources changed.
+	 */
+	public void clear() {
+		checkThread();
+		for (Task task : pending.values()) {
+			task.cancelled = true;
+			executor.remove(task);
+		}
+		pending.clear();
+		for (Image image : images.values())
+			image.dispose();
+		images.clear();
+		data.clear();
+		failed.clear();
+		imagePixels = 0;
+		dataBytes = 0;
+	}
+
+	/**
+	 * Stops the worker threads and disposes the thumbnails. Called when the
+	 * gallery is disposed.
+	 */
+	public void dispose() {
+		if (disposed)
+			return;
+		clear();
+		disposed = true;
+		executor.shutdownNow();
+		if (!gallery.isDisposed())
+			gallery.removeListener(SWT.Paint, paintListener);
+	}
+
+	/**
+	 * Cancels the pending items which are no longer visible. Items drawn
+	 * again are requested again.
+	 */
+	void cancelInvisible() {
+		if (pending.isEmpty())
+			return;
+		Rectangle area = gallery.getClientArea();
+		Iterator<Task> i = pending.values().iterator();
+		while (i.hasNext()) {
+			Task task = i.next();
+			if (task.started)
+				continue;
+			if (task.item.isDisposed()
+					|| !task.item.getBounds().intersects(area)) {
+				task.cancelled = true;
+				executor.remove(task);
+				i.remove();
+			}
+		}
+	}
+
+	private void checkThread() {
+		if (display.getThread() != Thread.currentThread())
+			SWT.error(SWT.ERROR_THREAD_INVALID_ACCESS);
+	}
+
+	private void putImage(Key key, Image image) {
+		Rectangle bounds = image.getBounds();
+		images.put(key, image);
+		imagePixels += bounds.width * bounds.height;
+		Iterator<Image> i = images.values().iterator();
+		while (imagePixels > maxImagePixels && images.size() > 1) {
+			Image eldest = i.next();
+			bounds = eldest.getBounds();
+			imagePixels -= bounds.width * bounds.height;
+			eldest.dispose();
+			i.remove();
+		}
+	}
+
+	private void putData(Key key, ImageData imageData) {
+		data.put(key, imageData);
+		dataBytes += getBytes(imageData);
+		Iterator<ImageData> i = data.values().iterator();
+		while (dataBytes > maxDataBytes && data.size() > 1) {
+			dataBytes -= getBytes(i.next());
+			i.remove();
+		}
+	}
+
+	private static long getBytes(ImageData imageData) {
+		return imageData.data.length
+				+ (imageData.alphaData != null ? imageData.alphaData.length
+						: 0);
+	}
+
+	/**
+	 * Called in the UI thread when a task is done.
+	 */
+	private void done(Task task, ImageData thumbnail) {
+		if (disposed || pending.get(task.key) != task)
+			return;
+		pending.remove(task.key);
+		if (thumbnail == null) {
+			failed.add(task.key);
+			return;
+		}
+		putData(task.key, thumbnail);
+		if (!task.item.isDisposed())
+			gallery.redraw(task.item);
+	}
+
+	/**
+	 * Scales an image down to fit into the given size with an area average,
+	 * keeping its aspect ratio. Images which fit are returned as they are.
+	 * The result has a direct palette, and alpha data if the image has
+	 * transparency.
+	 *
+	 * @param source
+	 * @param width
+	 * @param height
+	 * @return the scaled image
+	 */
+	public static ImageData scale(ImageData source, int width, int height) {
+		if (source.width <= width && source.height <= height)
+			return source;
+		double ratio = Math.min((double) width / source.width,
+				(double) height / source.height);
+		int w = Math.max(1, (int) Math.round(source.width * ratio));
+		int h = Math.max(1, (int) Math.round(source.height * ratio));
+
+		PaletteData palette = source.palette;
+		RGB[] colors = palette.isDirect ? null : palette.getRGBs();
+		boolean transparent = source.alphaData != null
+				|| source.transparentPixel != -1 || source.alpha != -1;
+
+		// Destination column of each source column
+		int[] column = new int[source.width];
+		for (int x = 0; x < source.width; x++)
+			column[x] = (int) ((long) x * w / source.width);
+
+		int[] pixels = new int[source.width];
+		byte[] alphas = new byte[source.width];
+		long[] red = new long[w], green = new long[w], blue = new long[w],
+				alpha = new long[w], count = new long[w];
+
+		ImageData result = new ImageData(w, h, 24,
+				new PaletteData(0xFF0000, 0xFF00, 0xFF));
+		if (transparent)
+			result.alphaData = new byte[w * h];
+
+		int row = 0;
+		for (int y = 0; y < source.height; y++) {
+			source.getPixels(0, y, source.width, pixels, 0);
+			if (source.alphaData != null)
+				source.getAlphas(0, y, source.width, alphas, 0);
+			for (int x = 0; x < source.width; x++) {
+				int pixel = pixels[x];
+				int a = 255;
+				if (source.alphaData != null)
+					a = alphas[x] & 0xFF;
+				else if (source.alpha != -1)
+					a = source.alpha;
+				if (source.transparentPixel != -1
+						&& pixel == source.transparentPixel)
+					a = 0;
+				int r, g, b;
+				if (colors == null) {
+					r = shift(pixel & palette.redMask, palette.redShift);
+					g = shift(pixel & palette.greenMask,
+							palette.greenShift);
+					b = shift(pixel & palette.blueMask, palette.blueShift);
+				} else {
+					RGB rgb = colors[pixel];
+					r = rgb.red;
+					g = rgb.green;
+					b = rgb.blue;
+				}
+				// Colors weighted by alpha, so transparent pixels do not
+				// darken the edges
+				int c = column[x];
+				red[c] += r * a;
+				green[c] += g * a;
+				blue[c] += b * a;
+				alpha[c] += a;
+				count[c]++;
+			}
+			int nextRow = (int) ((long) (y + 1) * h / source.height);
+			if (nextRow != row || y == source.height - 1) {
+				for (int x = 0; x < w; x++) {
+					int r = 0, g = 0, b = 0;
+					if (alpha[x] > 0) {
+						r = (int) (red[x] / alpha[x]);
+						g = (int) (green[x] / alpha[x]);
+						b = (int) (blue[x] / alpha[x]);
+					}
+					result.setPixel(x, row, r << 16 | g << 8 | b);
+					if (transparent && count[x] > 0)
+						result.alphaData[row * w + x] = (byte) (alpha[x]
+								/ count[x]);
+					red[x] = green[x] = blue[x] = alpha[x] = count[x] = 0;
+				}
+				row = nextRow;
+			}
+		}
+		return result;
+	}
+
+	private static int shift(int value, int shift) {
+		return shift < 0 ? value >>> -shift : value << shift;
+	}
+
+	private static final class Key {
+		final Object source;
+		final int width;
+		final int height;
+
+		Key(Object source, int width, int height) {
+			this.source = source;
+			this.width = width;
+			this.height = height;
+		}
+
+		@Override
+		public int hashCode() {
+			return (source.hashCode() * 31 + width) * 31 + height;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			return width == other.width && height == other.height
+					&& source.equals(other.source);
+		}
+	}
+
+	private final class Task implements Runnable {
+		final Key key;
+		/** Image data of an item image, null to load the source */
+		final ImageData imageData;
+		GalleryItem item;
+		volatile int priority;
+		volatile boolean started;
+		volatile boolean cancelled;
+
+		Task(Key key, GalleryItem item, ImageData imageData) {
+			this.key = key;
+			this.item = item;
+			this.imageData = imageData;
+		}
+
+		public void run() {
+			started = true;
+			if (cancelled)
+				return;
+			ImageData thumbnail = null;
+			try {
+				ImageData full = imageData != null ? imageData
+						: loader.load(key.source);
+				if (full != null && !cancelled)
+					thumbnail = scale(full, key.width, key.height);
+			} catch (Exception e) {
+				// The item has no image, as with a null result.
+			}
+			if (cancelled)
+				return;
+			final ImageData result = thumbnail;
+			if (!display.isDisposed())
+				display.asyncExec(() -> done(this, result));
+		}
+	}
+}
@@ -130,6 +130,13 @@ public class ListItemRenderer extends AbstractGalleryItemRenderer {
 
 		int useableHeight = height;
 
+		// Use a cached thumbnail instead of scaling the image on each paint
+		if (gallery.thumbnailService != null) {
+			itemImage = gallery.thumbnailService.getImage(item,
+					useableHeight - 4 - this.dropShadowsSize,
+					useableHeight - 4 - this.dropShadowsSize);
+		}
+
 		int imageWidth = 0;
 		int imageHeight = 0;
 		int xShift = 0;
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * Contributors:
+ * 		Eclipse Nebula contributors - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.gallery;
+
+import java.util.Arrays;
+
+/**
+ * Operations on the selection bit flags of the Gallery and its groups. Each
+ * 'int' contains flags for 32 items, the flag of item i is bit (i &amp; 0x1f)
+ * of int (i &gt;&gt; 5). A null array means no item is selected.
+ * <p>
+ * Ranges are set and cleared 32 items at a time, so selecting all the items
+ * of a large group does not depend on the items themselves.
+ */
+final class SelectionFlags {
+
+	private SelectionFlags() {
+	}
+
+	/**
+	 * @return true if the flag of the item at index is set
+	 */
+	static boolean get(int[] flags, int index) {
+		if (flags == null || index < 0)
+			return false;
+		int n = index >> 5;
+		return n < flags.length && (flags[n] & 1 << (index & 0x1f)) != 0;
+	}
+
+	/**
+	 * Sets the flags of the items from index from to index to, inclusive.
+	 *
+	 * @return the flags, a new array if they had to be expanded
+	 */
+	static int[] set(int[] flags, int from, int to) {
+		if (from > to)
+			return flags;
+		int last = to >> 5;
+		if (flags == null) {
+			flags = new int[last + 1];
+		} else if (last >= flags.length) {
+			flags = Arrays.copyOf(flags, last + 1);
+		}
+		int first = from >> 5;
+		int firstMask = -1 << (from & 0x1f);
+		int lastMask = -1 >>> (31 - (to & 0x1f));
+		if (first == last) {
+			flags[first] |= firstMask & lastMask;
+		} else {
+			flags[first] |= firstMask;
+			Arrays.fill(flags, first + 1, last, -1);
+			flags[last] |= lastMask;
+		}
+		return flags;
+	}
+
+	/**
+	 * Clears the flags of the items from index from to index to, inclusive.
+	 */
+	static void clear(int[] flags, int from, int to) {
+		if (flags == null || from > to)
+			return;
+		int first = from >> 5;
+		if (first >= flags.length)
+			return;
+		int firstMask = -1 << (from & 0x1f);
+		int last = to >> 5;
+		if (last >= flags.length) {
+			last = flags.length - 1;
+			to = (last << 5) + 31;
+		}
+		int lastMask = -1 >>> (31 - (to & 0x1f));
+		if (first == last) {
+			flags[first] &= ~(firstMask & lastMask);
+		} else {
+			flags[first] &= ~firstMask;
+			Arrays.fill(flags, first + 1, last, 0);
+			flags[last] &= ~lastMask;
+		}
+	}
+
+	/**
+	 * @return the index of the first set flag from index from, below size, or
+	 *         -1 if there is none
+	 */
+	static int next(int[] flags, int from, int size) {
+		if (flags == null || from >= size)
+			return -1;
+		int n = from >> 5;
+		if (n >= flags.length)
+			return -1;
+		int word = flags[n] & (-1 << (from & 0x1f));
+		while (true) {
+			if (word != 0) {
+				int index = (n << 5) + Integer.numberOfTrailingZeros(word);
+				return index < size ? index : -1;
+			}
+			if (++n >= flags.length || n << 5 >= size)
+				return -1;
+			word = flags[n];
+		}
+	}
+
+	/**
+	 * @return the number of set flags below size
+	 */
+	static int count(int[] flags, int size) {
+		if (flags == null || size <= 0)
+			return 0;
+		int words = Math.min(flags.length, size >> 5);
+		int count = 0;
+		for (int n = 0; n < words; n++)
+			count += Integer.bitCount(flags[n]);
+		if (words < flags.length && (size & 0x1f) != 0)
+			count += Integer.bitCount(flags[words] & ((1 << (size & 0x1f)) - 1));
+		return count;
+	}
+
+	/**
+	 * Moves the flags of the items after index one position down, as when the
+	 * item at index is removed.
+	 */
+	static void remove(int[] flags, int index) {
+		if (flags == null || index < 0)
+			return;
+		int n = index >> 5;
+		if (n >= flags.length)
+			return;
+		int bit = index & 0x1f;
+		int low = flags[n] & ((1 << bit) - 1);
+		// bits above index, shifted down over it
+		int high = (flags[n] >>> 1) & (-1 << bit);
+		flags[n] = low | high;
+		for (int i = n + 1; i < flags.length; i++) {
+			flags[i - 1] |= flags[i] << 31;
+			flags[i] >>>= 1;
+		}
+	}
+
+	/**
+	 * Moves the flags of the items from index one position up, as when an
+	 * unselected item is inserted at index.
+	 *
+	 * @param size
+	 *            the number of items after the insertion
+	 * @return the flags, a new array if they had to be expanded
+	 */
+	static int[] insert(int[] flags, int index, int size) {
+		if (flags == null || index < 0 || index >> 5 >= flags.length)
+			return flags;
+		int words = (size + 31) >> 5;
+		if (words > flags.length)
+			flags = Arrays.copyOf(flags, words);
+		for (int i = flags.length - 1; i > index >> 5; i--) {
+			flags[i] = flags[i] << 1 | flags[i - 1] >>> 31;
+		}
+		int n = index >> 5;
+		int bit = index & 0x1f;
+		int low = flags[n] & ((1 << bit) - 1);
+		// the flag of the last item of a block moved to the next block
+		int high = bit == 31 ? 0 : (flags[n] << 1) & (-1 << (bit + 1));
+		flags[n] = low | high;
+		return flags;
+	}
+}
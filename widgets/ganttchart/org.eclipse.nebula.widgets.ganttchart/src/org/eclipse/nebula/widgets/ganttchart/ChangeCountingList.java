@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.nebula.widgets.ganttchart;
+
+import java.util.ArrayList;
+
+/**
+ * A list that counts its changes, so that data derived from it can tell whether it is still current. The chart hands
+ * out some of its lists, which may be changed directly, and a changed size does not show a reordered list.
+ * <p>
+ * Every add, remove and sort counts as a change, as does replacing an element.
+ */
+class ChangeCountingList<E> extends ArrayList<E> {
+
+	private static final long serialVersionUID = 1L;
+
+	// replaced elements, which the structural modification count leaves out
+	private int _replaced;
+
+	ChangeCountingList() {
+		super();
+	}
+
+	@Override
+	public E set(final int index, final E element) {
+		_replaced++;
+		return super.set(index, element);
+	}
+
+	/**
+	 * Returns a number that changes whenever the list changes.
+	 *
+	 * @return Change count
+	 */
+	int getChangeCount() {
+		return modCount + _replaced;
+	}
+}
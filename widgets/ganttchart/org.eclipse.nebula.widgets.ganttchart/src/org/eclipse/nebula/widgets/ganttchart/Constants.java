@@ -73,4 +73,9 @@ public final class Constants {
     public static final int    OS_LINUX          = 3;
 
     public static final int    HELP_HEIGHT       = 19;
+
+    // cached render layers, see GanttComposite.getRenderLayerRebuildCount(int)
+    public static final int    RENDER_LAYER_HEADER     = 0;
+    public static final int    RENDER_LAYER_BACKGROUND = 1;
+    public static final int    RENDER_LAYER_EVENTS     = 2;
 }
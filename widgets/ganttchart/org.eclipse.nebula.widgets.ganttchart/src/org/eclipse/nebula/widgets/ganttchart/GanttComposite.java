@@ -16,7 +16,9 @@
 
 package org.eclipse.nebula.widgets.ganttchart;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Comparator;
@@ -53,6 +55,7 @@ import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.graphics.Transform;
 import org.eclipse.swt.layout.FillLayout;
 import org.eclipse.swt.widgets.Canvas;
 import org.eclipse.swt.widgets.Display;
@@ -201,15 +204,30 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	private int _daysVisible;
 	private int _hoursVisible;
 
-	// all events
-	private final List<GanttEvent> _ganttEvents;
+	// all events, counting its changes as it is handed out by getEvents()
+	private final ChangeCountingList<GanttEvent> _ganttEvents;
 
-	// all connections between events
-	private final List<GanttConnection> _ganttConnections;
+	// all connections between events, counting its changes as it is handed out by getGanttConnections()
+	private final ChangeCountingList<GanttConnection> _ganttConnections;
+
+	// the connections as a graph, for dependency lookups
+	private final GanttDependencyGraph _dependencyGraph;
+
+	// change count of the connection list the dependency graph matches
+	private int _dependencyGraphChangeCount;
 
 	// a cache for re-used string extents
 	private final Map<String, Point> _dayLetterStringExtentMap;
 
+	// offscreen images of the header, background and events, drawn again only when invalidated
+	private final GanttLayerCache _layerCache;
+
+	// events drawn over the cached layers on each paint while they are dragged, null if none
+	private Set<GanttEvent> _overlayEvents;
+
+	// images of vertical section names
+	private final GanttSectionNameCache _sectionNameImages;
+
 	// various variables for resize and drag/drop
 	private boolean _dragging = false;
 
@@ -276,15 +294,37 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	private boolean _recalcScopes = true;
 	private boolean _recalcSecBounds = true;
 
+	// cached row order of each section, and the sections that need their events laid out again
+	private final GanttRowLayout _rowLayout;
+
+	// nesting depth of beginUpdate() calls
+	private int _updateDepth;
+
 	private final Set<Object> _allEventsCombined;
 	// sections, in groups, or single
 
-	private final List<Integer> _verticalLineLocations;
-
-	// faster
-	// than
-	// re-calculating over and over
-	private final Set<Integer> _verticalWeekDividerLineLocations;
+	// interval index over the dates of _allEventsCombined, used to only re-check the visibility of events near the view port
+	private final GanttEventIndex _eventIndex;
+	// events that were visible after the last visibility update
+	private final Set<GanttEvent> _visibleEvents;
+	// events whose dates changed since the last visibility update
+	private final Set<GanttEvent> _recheckEvents;
+	// visible events in the order of the event list for hit testing, null if it needs to be rebuilt
+	private List<GanttEvent> _hitTestEvents;
+	// index of each event in the event list, and the change count of the list both were built for
+	private Map<GanttEvent, Integer> _eventOrder;
+	private int _eventOrderChangeCount;
+	// state of the last visibility update, when any of it changes all events are re-checked
+	private boolean _fullVisibilityUpdate = true;
+	private long _lastVisibleStart;
+	private long _lastVisibleEnd;
+	private Rectangle _lastVisibilityBounds;
+	private Rectangle _lastVisibleBounds;
+	private int _lastVisibilityVScrollPos;
+	private int _lastVisibilityZoomLevel;
+
+	// leftmost date of the chart in milliseconds, and the tick marks of the header
+	private final GanttTimeAxis _timeAxis;
 
 	// keeps track of hidden layers
 	private final Set<Integer> _hiddenLayers;
@@ -321,6 +361,9 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 
 	private boolean _savingChartImage = false;
 
+	// the tile of the image being exported, only events that reach into it are drawn. Null when drawing all events
+	private Rectangle _imageTile;
+
 	private final List<GanttPhase> _ganttPhases;
 
 	final private List<GanttSpecialDateRange> _specDateRanges;
@@ -388,17 +431,23 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		_paintManager = paintManager;
 		_languageManager = languageManager;
 
-		_ganttConnections = new ArrayList<GanttConnection>();
+		_ganttConnections = new ChangeCountingList<GanttConnection>();
+		_dependencyGraph = new GanttDependencyGraph();
 		_dragEvents = new ArrayList<GanttEvent>();
 		_eventListeners = new ArrayList<IGanttEventListener>();
-		_ganttEvents = new ArrayList<GanttEvent>();
+		_ganttEvents = new ChangeCountingList<GanttEvent>();
 		_ganttGroups = new ArrayList<GanttGroup>();
 		_ganttSections = new ArrayList<GanttSection>();
-		_verticalLineLocations = new ArrayList<Integer>();
-		_verticalWeekDividerLineLocations = new HashSet<Integer>();
+		_timeAxis = new GanttTimeAxis();
 		_hiddenLayers = new HashSet<Integer>();
 		_allEventsCombined = new HashSet<Object>();
+		_eventIndex = new GanttEventIndex();
+		_visibleEvents = new HashSet<GanttEvent>();
+		_recheckEvents = new HashSet<GanttEvent>();
 		_dayLetterStringExtentMap = new HashMap<String, Point>();
+		_layerCache = new GanttLayerCache();
+		_rowLayout = new GanttRowLayout();
+		_sectionNameImages = new GanttSectionNameCache();
 		_layerOpacityMap = new HashMap<Integer, Integer>();
 		_selHeaderDates = new ArrayList<Calendar>();
 		_selectedEvents = new ArrayList<Object>();
@@ -548,6 +597,13 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		addMouseTrackListener(this);
 		addKeyListener(this);
 
+		addListener(SWT.Dispose, new Listener() {
+			public void handleEvent(final Event event) {
+				_layerCache.dispose();
+				_sectionNameImages.dispose();
+			}
+		});
+
 		final Listener mouseWheelListner = new Listener() {
 			public void handleEvent(final Event event) {
 				if (!_settings.enableZooming()) {
@@ -591,7 +647,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 					_showZoomHelper = false;
 					// redraw the area where it was
 					if (_zoomLevelArea != null) {
-						redraw(_zoomLevelArea.x, _zoomLevelArea.y, _zoomLevelArea.width + 1, _zoomLevelArea.height + 1, false);
+						redrawArea(_zoomLevelArea.x, _zoomLevelArea.y, _zoomLevelArea.width + 1, _zoomLevelArea.height + 1);
 					}
 				}
 			}
@@ -652,7 +708,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			// showVscrollInfo();
 
 			_recalcSecBounds = true;
-			redraw();
+			redrawLayers(GanttLayerCache.BACKGROUND);
 		}
 	}
 
@@ -682,7 +738,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		// showVscrollInfo();
 
 		_recalcSecBounds = true;
-		redraw();
+		redrawLayers(GanttLayerCache.BACKGROUND);
 	}
 
 	void updateVerticalScrollBar(final boolean redraw) {
@@ -818,6 +874,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	public void hideLayer(final int layer) {
 		if (!_hiddenLayers.contains(new Integer(layer))) {
 			_hiddenLayers.add(new Integer(layer));
+			_fullVisibilityUpdate = true;
 		}
 	}
 
@@ -829,6 +886,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	public void showLayer(final int layer) {
 		final boolean removed = _hiddenLayers.remove(new Integer(layer));
 		if (removed) {
+			_fullVisibilityUpdate = true;
 			redrawEventsArea();
 		}
 	}
@@ -847,6 +905,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		}
 
 		_hiddenLayers.clear();
+		_fullVisibilityUpdate = true;
 		redrawEventsArea();
 	}
 
@@ -862,6 +921,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			}
 		}
 
+		_fullVisibilityUpdate = true;
 		redrawEventsArea();
 	}
 
@@ -1178,7 +1238,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		final boolean drawSections = hasGanttSections();
 
 		// only reset bottom y if we recalculate it, or we'll lose the vertical scrollbar among other things that update on all redraws
-		if (_recalcScopes || drawSections) {
+		if (_recalcScopes || drawSections || _rowLayout.hasChanges()) {
 			_bottomMostY = 0;
 		}
 
@@ -1187,8 +1247,16 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			bounds = boundsOverride;
 		}
 
+		// on screen the chart is painted from cached layers, images of the chart are drawn directly
+		final boolean layered = boundsOverride == null && !_savingChartImage && bounds.width > 0 && bounds.height > 0;
+		final int layerWidth = bounds.width;
+		final int layerHeight = bounds.height;
+
 		// the actual visible bounds counting any vertical scroll offset (includes header height)
 		_visibleBounds = new Rectangle(bounds.x, bounds.y + _vScrollPos, bounds.width, bounds.height);
+		if (_imageTile != null) {
+			_visibleBounds = new Rectangle(_imageTile.x, _imageTile.y, _imageTile.width, _imageTile.height);
+		}
 
 		// if we use sections, our bounds for everything will be the size of the client area minus the section bar on the left
 		if (drawSections) {
@@ -1212,7 +1280,24 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 
 		final boolean calcHeaderOnly = _settings.drawHeader() && _settings.lockHeaderOnVerticalScroll() || !_settings.drawHeader();
 
-		drawHeader(gc, calcHeaderOnly);
+		_overlayEvents = layered ? getDraggedEvents() : null;
+		if (layered) {
+			if (_recalcScopes || _recalcSecBounds) {
+				_layerCache.invalidate(GanttLayerCache.BACKGROUND);
+			}
+
+			final List<Object> headerKey = Arrays.<Object> asList(layerWidth, _currentView, _zoomLevel, _mainCalendar.getTimeInMillis(), _lockedHeaderY, getHeaderHeight());
+			final List<Object> backgroundKey = Arrays.<Object> asList(headerKey, layerHeight, _vScrollPos);
+			final List<Object> eventsKey = Arrays.<Object> asList(new ArrayList<Object>(_selectedEvents), _overlayEvents);
+			_layerCache.validate(headerKey, backgroundKey, eventsKey);
+		}
+
+		// layers that are still valid are not drawn, but the header is always calculated as everything else depends on it
+		final boolean drawBackground = !layered || !_layerCache.isValid(GanttLayerCache.BACKGROUND);
+		final boolean drawEvents = !layered || !_layerCache.isValid(GanttLayerCache.EVENTS);
+		final GC backgroundGC = layered && drawBackground ? _layerCache.begin(GanttLayerCache.BACKGROUND, gc, layerWidth, layerHeight) : gc;
+
+		drawHeader(backgroundGC, calcHeaderOnly || !drawBackground);
 
 		/*
 		 * // header
@@ -1233,47 +1318,12 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		updateEventVisibilities(_visibleBounds);
 
 		// section drawing needs special treatment as we need to give sub-bounds to the various drawing methods
+		final List<Rectangle> sectionBounds = new ArrayList<Rectangle>();
 		if (drawSections) {
 			if (_recalcSecBounds) {
 				calculateSectionBounds(gc, bounds);
 			}
 
-			// if we fill the bottom then fill it!
-			if (_settings.drawFillsToBottomWhenUsingGanttSections()) {
-				final Rectangle extraBounds = new Rectangle(_mainBounds.x, _mainBounds.y + getHeaderHeight() - _vScrollPos, _mainBounds.x + _mainBounds.width, _mainBounds.y + _mainBounds.height - getHeaderHeight() + _vScrollPos);
-				drawFills(gc, extraBounds);
-				drawVerticalLines(gc, extraBounds, false);
-			} else {
-				// draw the background for the bottom of the gantt chart as on Win7 it would be transparent
-				final int dayWidth = _currentView == ISettings.VIEW_WEEK || _currentView == ISettings.VIEW_D_DAY ? _dayWidth : _monthDayWidth;
-				int maxX = bounds.width + dayWidth; // we need to draw beyond 1 day as the days at the edge of the viewport also needs to be filled in case a half-day is visible there
-				int startX = bounds.x;
-
-				int offset = _vScrollPos;
-				if (offset > getHeaderHeight()) {
-					offset = getHeaderHeight();
-				}
-
-				if (hasGanttSections()) {
-					if (_settings.drawSectionBar()) {
-						startX -= _settings.getSectionBarWidth();
-						maxX += _settings.getSectionBarWidth();
-					}
-					if (_settings.drawSectionDetails()) {
-						startX -= _settings.getSectionDetailWidth();
-						maxX += _settings.getSectionDetailWidth();
-					}
-				}
-
-				final int startY = bounds.y + getHeaderHeight() - offset;
-				final int heightY = bounds.height;
-
-				gc.setForeground(Display.getDefault().getSystemColor(SWT.COLOR_LIST_BACKGROUND));
-				gc.setBackground(Display.getDefault().getSystemColor(SWT.COLOR_LIST_BACKGROUND));
-
-				gc.fillRectangle(startX, startY, maxX, heightY);
-			}
-
 			for (int i = 0; i < _ganttSections.size(); i++) {
 				final GanttSection section = _ganttSections.get(i);
 				final Rectangle gsBounds = section.getBounds();
@@ -1282,38 +1332,15 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 					gsBounds.width = boundsOverride.width;
 				}
 
-				if (_recalcScopes) {
+				// only sections whose rows changed or that moved are laid out, unless the visible range changed
+				if (_recalcScopes || _rowLayout.needsLayout(section, gsBounds)) {
 					calculateAllScopes(gsBounds, section);
+					_rowLayout.laidOut(section, gsBounds);
 				}
 
-				drawFills(gc, gsBounds, section);
-
-				if (hasGanttPhases()) {
-					drawGanttPhases(gc, gsBounds, false, section);
-				}
-
-				// draw vertical lines
-				if (_drawVerticalLines) {
-					drawVerticalLines(gc, gsBounds, true);
-				}
-
-				// more lines
-				if (_drawHorizontalLines) {
-					drawHorizontalLines(gc, bounds);
-				}
-
-				if (hasSpecialDateRanges()) {
-					drawGanttSpecialDateRanges(gc, gsBounds, section);
-				}
-
-				// draw events
-				drawEvents(gc, gsBounds, section);
+				sectionBounds.add(gsBounds);
 			}
 
-			// before we drew connections inside the loop below, which was totally pointless. We only need to draw connections once for the visible area,
-			// not once per section. This is way faster, connection drawing is not 0ms
-			drawConnections(gc);
-
 			// just because I have the feeling some user will want cross-section connections, we allow it by
 			// drawing the connecting lines _last_. Why? because the event bounds are not calculated until the event is drawn, and if we have
 			// a connection to a group/event that hasn't been drawn yet, it would draw an arrow into space..
@@ -1325,35 +1352,30 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			bounds = new Rectangle(bounds.x, getHeaderHeight(), bounds.width, bounds.height);
 
 			// long start = System.currentTimeMillis();
-			if (_recalcScopes) {
+			if (_recalcScopes || _rowLayout.needsLayout(null, bounds)) {
 				calculateAllScopes(bounds, null);
+				_rowLayout.laidOut(null, bounds);
 			}
+		}
 
-			// draw fills
-			drawFills(gc, bounds);
-
-			if (hasGanttPhases()) {
-				drawGanttPhases(gc, bounds, false, null);
-			}
-
-			// draws vertical lines all over the chart
-			if (_drawVerticalLines) {
-				drawVerticalLines(gc, bounds, true);
-			}
-
-			if (_drawHorizontalLines) {
-				drawHorizontalLines(gc, bounds);
+		if (drawBackground) {
+			drawChartBackground(backgroundGC, bounds, sectionBounds);
+			if (layered) {
+				_layerCache.end(GanttLayerCache.BACKGROUND, backgroundGC);
 			}
+		}
 
-			if (hasSpecialDateRanges()) {
-				drawGanttSpecialDateRanges(gc, bounds, null);
+		if (drawEvents) {
+			final GC eventsGC = layered ? _layerCache.begin(GanttLayerCache.EVENTS, gc, layerWidth, layerHeight) : gc;
+			drawChartEvents(eventsGC, bounds, sectionBounds);
+			if (layered) {
+				_layerCache.end(GanttLayerCache.EVENTS, eventsGC);
 			}
+		}
 
-			// draw the events
-			drawEvents(gc, bounds);
-
-			// draw the connecting arrows
-			drawConnections(gc);
+		if (layered) {
+			_layerCache.draw(gc, GanttLayerCache.EVENTS);
+			drawOverlayEvents(gc, bounds);
 		}
 
 		if (drawSections) {
@@ -1363,9 +1385,20 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		// if we lock the header, we unfortunately need to draw it again on top of everything else. Down the road this should be optimized of course,
 		// but there's so many necessary calculations done in the header drawing that we need for later that it's a bit of work
 		if (_settings.lockHeaderOnVerticalScroll() && _settings.drawHeader()) {
-			drawHeader(gc, false);
-			// draw corner again
-			drawSectionColumn(gc, bounds, true, false, true, false);
+			if (layered) {
+				if (!_layerCache.isValid(GanttLayerCache.HEADER)) {
+					final GC headerGC = _layerCache.begin(GanttLayerCache.HEADER, gc, layerWidth, Math.max(1, _lockedHeaderY + getHeaderHeight()));
+					drawHeader(headerGC, false);
+					// draw corner again
+					drawSectionColumn(headerGC, bounds, true, false, true, false);
+					_layerCache.end(GanttLayerCache.HEADER, headerGC);
+				}
+				_layerCache.draw(gc, GanttLayerCache.HEADER);
+			} else {
+				drawHeader(gc, false);
+				// draw corner again
+				drawSectionColumn(gc, bounds, true, false, true, false);
+			}
 		}
 
 		// zoom
@@ -1414,6 +1447,144 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		drawVerticalInsertMarkers(gc);
 	}
 
+	// draws what is behind the events: fills, phases, lines and special date ranges
+	private void drawChartBackground(final GC gc, final Rectangle bounds, final List<Rectangle> sectionBounds) {
+		if (hasGanttSections()) {
+			// if we fill the bottom then fill it!
+			if (_settings.drawFillsToBottomWhenUsingGanttSections()) {
+				final Rectangle extraBounds = new Rectangle(_mainBounds.x, _mainBounds.y + getHeaderHeight() - _vScrollPos, _mainBounds.x + _mainBounds.width, _mainBounds.y + _mainBounds.height - getHeaderHeight() + _vScrollPos);
+				drawFills(gc, extraBounds);
+				drawVerticalLines(gc, extraBounds, false);
+			} else {
+				// draw the background for the bottom of the gantt chart as on Win7 it would be transparent
+				final int dayWidth = _currentView == ISettings.VIEW_WEEK || _currentView == ISettings.VIEW_D_DAY ? _dayWidth : _monthDayWidth;
+				int maxX = bounds.width + dayWidth; // we need to draw beyond 1 day as the days at the edge of the viewport also needs to be filled in case a half-day is visible there
+				int startX = bounds.x;
+
+				int offset = _vScrollPos;
+				if (offset > getHeaderHeight()) {
+					offset = getHeaderHeight();
+				}
+
+				if (_settings.drawSectionBar()) {
+					startX -= _settings.getSectionBarWidth();
+					maxX += _settings.getSectionBarWidth();
+				}
+				if (_settings.drawSectionDetails()) {
+					startX -= _settings.getSectionDetailWidth();
+					maxX += _settings.getSectionDetailWidth();
+				}
+
+				final int startY = bounds.y + getHeaderHeight() - offset;
+				final int heightY = bounds.height;
+
+				gc.setForeground(Display.getDefault().getSystemColor(SWT.COLOR_LIST_BACKGROUND));
+				gc.setBackground(Display.getDefault().getSystemColor(SWT.COLOR_LIST_BACKGROUND));
+
+				gc.fillRectangle(startX, startY, maxX, heightY);
+			}
+
+			for (int i = 0; i < _ganttSections.size(); i++) {
+				final GanttSection section = _ganttSections.get(i);
+				final Rectangle gsBounds = sectionBounds.get(i);
+
+				drawFills(gc, gsBounds, section);
+
+				if (hasGanttPhases()) {
+					drawGanttPhases(gc, gsBounds, false, section);
+				}
+
+				// draw vertical lines
+				if (_drawVerticalLines) {
+					drawVerticalLines(gc, gsBounds, true);
+				}
+
+				// more lines
+				if (_drawHorizontalLines) {
+					drawHorizontalLines(gc, bounds);
+				}
+
+				if (hasSpecialDateRanges()) {
+					drawGanttSpecialDateRanges(gc, gsBounds, section);
+				}
+			}
+		} else {
+			// draw fills
+			drawFills(gc, bounds);
+
+			if (hasGanttPhases()) {
+				drawGanttPhases(gc, bounds, false, null);
+			}
+
+			// draws vertical lines all over the chart
+			if (_drawVerticalLines) {
+				drawVerticalLines(gc, bounds, true);
+			}
+
+			if (_drawHorizontalLines) {
+				drawHorizontalLines(gc, bounds);
+			}
+
+			if (hasSpecialDateRanges()) {
+				drawGanttSpecialDateRanges(gc, bounds, null);
+			}
+		}
+	}
+
+	// draws the events and the arrows connecting them, on top of the background
+	private void drawChartEvents(final GC gc, final Rectangle bounds, final List<Rectangle> sectionBounds) {
+		if (hasGanttSections()) {
+			for (int i = 0; i < _ganttSections.size(); i++) {
+				drawEvents(gc, sectionBounds.get(i), _ganttSections.get(i));
+			}
+		} else {
+			drawEvents(gc, bounds);
+		}
+
+		// before we drew connections inside the section loop, which was totally pointless. We only need to draw connections once for the visible area,
+		// not once per section. This is way faster, connection drawing is not 0ms
+		drawConnections(gc, false);
+	}
+
+	// draws the dragged events and their connections over the cached events layer
+	private void drawOverlayEvents(final GC gc, final Rectangle bounds) {
+		if (_overlayEvents == null) {
+			return;
+		}
+
+		for (final GanttEvent ge : _overlayEvents) {
+			if (ge.isHidden() || ge.getVisibility() != Constants.EVENT_VISIBLE) {
+				continue;
+			}
+
+			drawOneEvent(gc, ge, ge.getGanttSection() == null ? bounds : ge.getGanttSection().getBounds());
+		}
+
+		drawConnections(gc, true);
+	}
+
+	// the events being moved or resized, which are drawn over the cached layers while the drag lasts. Null when the drag
+	// changes more than the dragged events, such as vertical drags between sections, phase drags and scope changes
+	private Set<GanttEvent> getDraggedEvents() {
+		if (!_dragging && !_resizing || _freeDragging || _dragPhase != null || _dragEvents.isEmpty()) {
+			return null;
+		}
+
+		final Set<GanttEvent> ret = new HashSet<GanttEvent>();
+		for (int i = 0; i < _dragEvents.size(); i++) {
+			final GanttEvent ge = _dragEvents.get(i);
+			if (ge.isScope() || ge.getScopeParent() != null || ge.getGanttGroup() != null) {
+				return null;
+			}
+			if (hasGanttSections() && ge.getGanttSection() == null) {
+				return null;
+			}
+
+			ret.add(ge);
+		}
+		return ret;
+	}
+
 	/**
 	 * Flag whether to show planned dates or not. This will override any settings value and will cause a redraw.
 	 *
@@ -1500,8 +1671,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	 * Draws the header but if calculateOnly is set it doesn't actually draw, it only calculates locations of things
 	 */
 	private void drawHeader(final GC gc, boolean calculateOnly) {
-		_verticalLineLocations.clear();
-		_verticalWeekDividerLineLocations.clear();
+		_timeAxis.clearTicks();
 
 		final Rectangle headerBounds = new Rectangle(_mainBounds.x, _mainBounds.y, _mainBounds.width, _mainBounds.height);
 		if (_settings.lockHeaderOnVerticalScroll()) {
@@ -2256,39 +2426,8 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 				}
 
 				if (gs.getTextOrientation() == SWT.VERTICAL) {
-					// draw vertical text (I tried using Transform.rotate stuff here earlier, but it's so incredibly slow that we can't use it)
-					// and not only that, but the kerning on vertical text is completely whacked with letter overlapping, so right now it's unusable
-					Image image = null;
-
-					// only create the images if we don't have one from before, or if the name has changed since last time
-					if (gs.getNameImage() == null || gs.needsNameUpdate()) {
-
-						final Image textImage = new Image(getDisplay(), extent.x, xMax - 2);
-						final GC gcTemp = new GC(textImage);
-
-						if (rightSide) {
-							gcTemp.setForeground(_colorManager.getActiveSessionBarColorRight());
-							gcTemp.setBackground(_colorManager.getActiveSessionBarColorLeft());
-						} else {
-							gcTemp.setForeground(_colorManager.getActiveSessionBarColorLeft());
-							gcTemp.setBackground(_colorManager.getActiveSessionBarColorRight());
-						}
-						gcTemp.fillGradientRectangle(0, 0, extent.x, xMax - 2, true);
-						gcTemp.setForeground(_textColor);
-						gcTemp.drawText(gs.getName(), 0, gs.getAdditionalImage()!=null ? (gs.getAdditionalImage().getBounds().width) : 0 , true);
-						gcTemp.dispose();
-
-						final ImageData id = textImage.getImageData();
-						image = new Image(getDisplay(), rotate(id, rightSide ? SWT.RIGHT : SWT.LEFT)); // NOPMD
-                        if(gs.getAdditionalImage()!=null) {
-                        	final GC gcAdditionalImage = new GC(image);
-                        	gcAdditionalImage.drawImage(gs.getAdditionalImage(), 0, image.getBounds().height/2 - gs.getAdditionalImage().getBounds().height/2);
-                        	gcAdditionalImage.dispose();
-                        }
-                        gs.setNameImage(image);						
-					} else {
-						image = gs.getNameImage();
-					}
+					// vertical text is drawn once into an image and reused until the name or its look changes
+					final Image image = getSectionNameImage(gc, gs, extent.x, xMax - 2, rightSide);
 
 					xStart -= image.getBounds().width / 2 - 2;
 					final int textLocY = gsHeight / 2 - image.getBounds().height / 2;
@@ -2331,6 +2470,8 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 				}
 			}
 
+			// drop the images of sections that are gone or look different now
+			_sectionNameImages.sweep();
 		}
 
 		gc.setForeground(_colorManager.getTopHorizontalLinesColor());
@@ -2343,6 +2484,68 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 
 	}
 
+	// returns the image of a vertical section name, drawn when it is not cached for the name and its current look
+	private Image getSectionNameImage(final GC gc, final GanttSection gs, final int length, final int width, final boolean rightSide) {
+		final Color top = rightSide ? _colorManager.getActiveSessionBarColorRight() : _colorManager.getActiveSessionBarColorLeft();
+		final Color bottom = rightSide ? _colorManager.getActiveSessionBarColorLeft() : _colorManager.getActiveSessionBarColorRight();
+		final List<Object> key = Arrays.<Object> asList(gs.getName(), gc.getFont(), top, bottom, _textColor, length, width, rightSide, gs.getAdditionalImage());
+
+		Image image = _sectionNameImages.get(key);
+		if (image != null) {
+			return image;
+		}
+
+		final int textY = gs.getAdditionalImage() != null ? gs.getAdditionalImage().getBounds().width : 0;
+
+		// the text is drawn horizontally onto a turned GC, reading upwards on the left side and downwards on the right side
+		image = new Image(getDisplay(), width, length);
+		final GC gcTemp = new GC(image);
+		gcTemp.setAdvanced(true);
+		if (gcTemp.getAdvanced()) {
+			final Transform transform = new Transform(getDisplay());
+			if (rightSide) {
+				transform.translate(width, 0);
+				transform.rotate(90);
+			} else {
+				transform.translate(0, length);
+				transform.rotate(-90);
+			}
+			gcTemp.setTransform(transform);
+			drawSectionName(gcTemp, gs.getName(), gc.getFont(), top, bottom, length, width, textY);
+			gcTemp.setTransform(null);
+			transform.dispose();
+		} else {
+			// without advanced graphics the text is drawn onto another image, which is turned pixel by pixel
+			final Image textImage = new Image(getDisplay(), length, width);
+			final GC gcText = new GC(textImage);
+			drawSectionName(gcText, gs.getName(), gc.getFont(), top, bottom, length, width, textY);
+			gcText.dispose();
+
+			final Image turned = new Image(getDisplay(), rotate(textImage.getImageData(), rightSide ? SWT.RIGHT : SWT.LEFT));
+			textImage.dispose();
+			gcTemp.drawImage(turned, 0, 0);
+			turned.dispose();
+		}
+
+		if (gs.getAdditionalImage() != null) {
+			gcTemp.drawImage(gs.getAdditionalImage(), 0, length / 2 - gs.getAdditionalImage().getBounds().height / 2);
+		}
+		gcTemp.dispose();
+
+		_sectionNameImages.put(key, image);
+		return image;
+	}
+
+	// draws a section name horizontally, for getSectionNameImage()
+	private void drawSectionName(final GC gc, final String name, final Font font, final Color top, final Color bottom, final int length, final int width, final int textY) {
+		gc.setFont(font);
+		gc.setForeground(top);
+		gc.setBackground(bottom);
+		gc.fillGradientRectangle(0, 0, length, width, true);
+		gc.setForeground(_textColor);
+		gc.drawText(name, 0, textY, true);
+	}
+
 	private void drawSectionDetails(GC gc, int x, int y, GanttSection section) {
 		String title = _settings.getSectionDetailTitle();
 		String content = _settings.getSectionDetailText();
@@ -2452,20 +2655,19 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		if (_currentView == ISettings.VIEW_MINUTE || _currentView == ISettings.VIEW_WEEK || _currentView == ISettings.VIEW_MONTH || _currentView == ISettings.VIEW_DAY || _currentView == ISettings.VIEW_D_DAY) {
 			// normal day lines
 			gc.setForeground(_lineColor);
-			for (int i = 0; i < _verticalLineLocations.size(); i++) {
-				final int current = _verticalLineLocations.get(i).intValue();
+			for (int i = 0; i < _timeAxis.getTickCount(); i++) {
+				final int current = _timeAxis.getTick(i);
 				gc.drawLine(current, yStart, current, height);
 			}
 
 			// "weekend" lines
 			gc.setForeground(_lineWkDivColor);
-			final Object[] weekLocs = _verticalWeekDividerLineLocations.toArray();
 
 			if (_useAlpha) {
 				gc.setAlpha(_colorManager.getWeekDividerAlpha());
 			}
-			for (int i = 0; i < weekLocs.length; i++) {
-				final int current = ((Integer) weekLocs[i]).intValue();
+			for (int i = 0; i < _timeAxis.getMajorTickCount(); i++) {
+				final int current = _timeAxis.getMajorTick(i);
 				gc.drawLine(current, yStart, current, height);
 			}
 			if (_useAlpha) {
@@ -2484,10 +2686,10 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 				drawTodayLine(gc, bounds, getStartingXFor(_settings.getPeriodEnd()), _settings.getPeriodEnd().get(Calendar.DAY_OF_WEEK), _linePeriodColor);
 			}
 		} else if (_currentView == ISettings.VIEW_YEAR) {
-			for (int i = 0; i < _verticalLineLocations.size(); i++) {
+			for (int i = 0; i < _timeAxis.getTickCount(); i++) {
 				gc.setForeground(_lineWkDivColor);
 
-				final int x = _verticalLineLocations.get(i).intValue();
+				final int x = _timeAxis.getTick(i);
 				gc.drawLine(x, yStart, x, height);
 			}
 
@@ -2524,7 +2726,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 
 		while (true) {
 			if (temp.get(Calendar.DATE) == 1) {
-				_verticalLineLocations.add(new Integer(current));
+				_timeAxis.addTick(current);
 				if (!calculateOnly) {
 					gc.setForeground(_colorManager.getYearTimeDividerColor());
 					gc.drawLine(current, topY, current, topY + heightY);
@@ -2605,11 +2807,11 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		while (true) {
 			final int curDay = temp.get(Calendar.DAY_OF_WEEK);
 
-			_verticalLineLocations.add(new Integer(current));
+			_timeAxis.addTick(current);
 			// only change dates when week changes, as we don't change date
 			// string for every different day
 			if (curDay == temp.getFirstDayOfWeek()) {
-				_verticalWeekDividerLineLocations.add(new Integer(current));
+				_timeAxis.addMajorTick(current);
 				if (!calculateOnly) {
 					gc.setForeground(_colorManager.getMonthTimeDividerColor());
 					gc.drawRectangle(current, topY, _monthWeekWidth, heightY);
@@ -2765,9 +2967,9 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 				gc.fillGradientRectangle(current + 1, topY + 1, _dayWidth - 1, heightY - 1, true);
 			}
 
-			_verticalLineLocations.add(new Integer(current));
+			_timeAxis.addTick(current);
 			if (temp.get(Calendar.DAY_OF_WEEK) == _mainCalendar.getFirstDayOfWeek()) {
-				_verticalWeekDividerLineLocations.add(new Integer(current));
+				_timeAxis.addMajorTick(current);
 			}
 
 			if (!calculateOnly) {
@@ -2935,7 +3137,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		temp.setTime(_mainCalendar.getTime());
 
 		while (true) {
-			_verticalLineLocations.add(new Integer(current));
+			_timeAxis.addTick(current);
 			if (!calculateOnly) {
 				if (_selHeaderDates.contains(temp)) {
 					gc.setForeground(_colorManager.getSelectedDayHeaderColorTop());
@@ -3008,7 +3210,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 
 			letter++;
 			if (letter % splitEvery == 0) {
-				_verticalWeekDividerLineLocations.add(new Integer(current));
+				_timeAxis.addMajorTick(current);
 				letter = 0;
 			}
 
@@ -3094,7 +3296,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			gc.setForeground(_colorManager.getHourTimeDividerColor());
 			int spacer = 1;
 
-			_verticalLineLocations.add(new Integer(current));
+			_timeAxis.addTick(current);
 
 			if (!calculateOnly) {
 				// this weird code here checks if it's a gantt section on the left and we're drawing the first iteration.
@@ -3133,7 +3335,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			_hoursVisible++;
 			temp.add(Calendar.HOUR_OF_DAY, 1);
 			if (temp.get(Calendar.HOUR_OF_DAY) == 0) {
-				_verticalWeekDividerLineLocations.add(new Integer(current));
+				_timeAxis.addMajorTick(current);
 				// temp.add(Calendar.DATE, 1);
 				// temp.set(Calendar.HOUR_OF_DAY, workDayStartHour);
 			}
@@ -3247,7 +3449,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			gc.setForeground(_colorManager.getHourTimeDividerColor());
 			int spacer = 1;
 
-			_verticalLineLocations.add(new Integer(current));
+			_timeAxis.addTick(current);
 
 			if (!calculateOnly) {
 				// this weird code here checks if it's a gantt section on the left and we're drawing the first iteration.
@@ -3286,7 +3488,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			_hoursVisible++;
 			temp.add(Calendar.MINUTE, 1);
 			if (temp.get(Calendar.MINUTE) == 0) {
-				_verticalWeekDividerLineLocations.add(new Integer(current));
+				_timeAxis.addMajorTick(current);
 				// temp.add(Calendar.DATE, 1);
 				// temp.set(Calendar.HOUR_OF_DAY, workDayStartHour);
 			}
@@ -3741,6 +3943,11 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 				continue;
 			}
 
+			// dragged events are drawn over the cached layers
+			if (_overlayEvents != null && _overlayEvents.contains(ge)) {
+				continue;
+			}
+
 			// at this point it will be drawn
 			alreadyDrawn.add(ge);
 
@@ -3838,10 +4045,104 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 
 	// updates all event visibilities, the bounds is the currently visible bounds, not the bounds that should be calculated
 	private void updateEventVisibilities(final Rectangle bounds) {
-		final Object[] all = _allEventsCombined.toArray();
-		for (int i = 0; i < all.length; i++) {
-			final GanttEvent ge = (GanttEvent) all[i];
-			ge.setVisibility(getEventVisibility(ge, bounds));
+		final long viewStart = _mainCalendar == null ? 0 : _mainCalendar.getTimeInMillis();
+		long viewEnd = viewStart + _daysVisible * GanttTimeAxis.MILLISECONDS_IN_DAY;
+		if (_endCalendar != null) {
+			viewEnd = Math.max(viewEnd, _endCalendar.getTimeInMillis());
+		}
+
+		// anything that moves events vertically or changes what is drawn at all needs a look at every event, otherwise only
+		// the events that were visible, changed, or are near the old or new date range can change their visibility
+		final boolean full = _fullVisibilityUpdate || _savingChartImage || _mainCalendar == null || viewEnd <= viewStart
+				|| _lastVisibleEnd <= _lastVisibleStart || !bounds.equals(_lastVisibilityBounds) || _visibleBounds == null
+				|| !_visibleBounds.equals(_lastVisibleBounds)
+				|| _vScrollPos != _lastVisibilityVScrollPos || _zoomLevel != _lastVisibilityZoomLevel;
+
+		if (full) {
+			// rows may have moved, which changes the hit test order
+			_hitTestEvents = null;
+			final Object[] all = _allEventsCombined.toArray();
+			for (int i = 0; i < all.length; i++) {
+				updateEventVisibility((GanttEvent) all[i], bounds);
+			}
+		} else {
+			// events are checked in pixels including their text and arrows, which may reach into the view from outside its
+			// date range, so the range is padded by the view length on both sides
+			final long padding = viewEnd - viewStart;
+			final Set<GanttEvent> candidates = new HashSet<GanttEvent>(_visibleEvents);
+			candidates.addAll(_recheckEvents);
+			_eventIndex.query(Math.min(_lastVisibleStart, viewStart) - padding, Math.max(_lastVisibleEnd, viewEnd) + padding, candidates);
+			for (final Iterator<GanttEvent> it = candidates.iterator(); it.hasNext();) {
+				updateEventVisibility(it.next(), bounds);
+			}
+		}
+
+		_recheckEvents.clear();
+		_fullVisibilityUpdate = false;
+		_lastVisibleStart = viewStart;
+		_lastVisibleEnd = viewEnd;
+		_lastVisibilityBounds = new Rectangle(bounds.x, bounds.y, bounds.width, bounds.height);
+		_lastVisibleBounds = _visibleBounds == null ? null : new Rectangle(_visibleBounds.x, _visibleBounds.y, _visibleBounds.width, _visibleBounds.height);
+		_lastVisibilityVScrollPos = _vScrollPos;
+		_lastVisibilityZoomLevel = _zoomLevel;
+	}
+
+	// index of each event in the event list, rebuilt when the list was changed other than by appendEvent()
+	private Map<GanttEvent, Integer> getEventOrder() {
+		if (_eventOrder == null || _eventOrderChangeCount != _ganttEvents.getChangeCount()) {
+			_eventOrder = new HashMap<GanttEvent, Integer>();
+			for (int i = 0; i < _ganttEvents.size(); i++) {
+				_eventOrder.put(_ganttEvents.get(i), Integer.valueOf(i));
+			}
+			_eventOrderChangeCount = _ganttEvents.getChangeCount();
+			_hitTestEvents = null;
+		}
+		return _eventOrder;
+	}
+
+	// adds an event to the end of the event list and keeps a current event order, so bulk loads do not rebuild it
+	private void appendEvent(final GanttEvent event) {
+		final boolean current = _eventOrder != null && _eventOrderChangeCount == _ganttEvents.getChangeCount();
+		_ganttEvents.add(event);
+		if (current) {
+			_eventOrder.put(event, Integer.valueOf(_ganttEvents.size() - 1));
+			_eventOrderChangeCount = _ganttEvents.getChangeCount();
+			_hitTestEvents = null;
+		}
+	}
+
+	// visible events in the order of the event list, so the first of overlapping events wins as when all events were hit
+	// tested
+	private List<GanttEvent> getHitTestEvents() {
+		final Map<GanttEvent, Integer> order = getEventOrder();
+		if (_hitTestEvents == null) {
+			_hitTestEvents = new ArrayList<GanttEvent>(_visibleEvents.size());
+			for (final GanttEvent ge : _visibleEvents) {
+				if (order.containsKey(ge)) {
+					_hitTestEvents.add(ge);
+				}
+			}
+			Collections.sort(_hitTestEvents, new Comparator<GanttEvent>() {
+				public int compare(final GanttEvent a, final GanttEvent b) {
+					return order.get(a).compareTo(order.get(b));
+				}
+			});
+		}
+		return _hitTestEvents;
+	}
+
+	// updates the visibility of a single event and keeps track of the visible events
+	private void updateEventVisibility(final GanttEvent ge, final Rectangle bounds) {
+		ge.setVisibility(getEventVisibility(ge, bounds));
+
+		final boolean changed;
+		if (ge.getVisibility() == Constants.EVENT_VISIBLE) {
+			changed = _visibleEvents.add(ge);
+		} else {
+			changed = _visibleEvents.remove(ge);
+		}
+		if (changed) {
+			_hitTestEvents = null;
 		}
 	}
 
@@ -3852,37 +4153,22 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 
 		int yStart = bounds.y + _settings.getEventsTopSpacer();// - mVerticalScrollPosition;
 
-		final Set allEventsInGroups = new HashSet();
-		for (int i = 0; i < _ganttGroups.size(); i++) {
-			allEventsInGroups.addAll(_ganttGroups.get(i).getEventMembers());
-		}
+		final Set<GanttEvent> allEventsInGroups = _rowLayout.getGroupedEvents(_ganttGroups);
 
 		boolean lastLoopWasGroup = false;
 		// GanttGroup lastGroup = null;
 		final Map groupLocations = new HashMap();
 
-		List events = _ganttEvents;
+		ChangeCountingList<?> events = _ganttEvents;
 		if (gs != null) {
-			events = gs.getEvents();
+			events = (ChangeCountingList<?>) gs.getEvents();
 		}
 
-		final List correctOrder = new ArrayList();
-		for (int i = 0; i < events.size(); i++) {
-			final IGanttChartItem event = (IGanttChartItem) events.get(i);
-			if (event instanceof GanttGroup) {
-				final GanttGroup gg = (GanttGroup) event;
-				final List children = gg.getEventMembers();
-				correctOrder.addAll(children);
-				continue;
-			} else {
-				correctOrder.add(event);
-			}
-		}
+		// groups are flattened into their members, the order is only built again when the section changed
+		final List<GanttEvent> correctOrder = _rowLayout.getRows(gs, events);
 
 		for (int i = 0; i < correctOrder.size(); i++) {
-			final IGanttChartItem event = (IGanttChartItem) correctOrder.get(i);
-
-			final GanttEvent ge = (GanttEvent) event;
+			final GanttEvent ge = correctOrder.get(i);
 
 			// if the override is set, set it on events etc so it's used
 			if (_fixedRowHeight != 0) {
@@ -3896,7 +4182,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			boolean newGroup = false;
 
 			// if events are not visible, we can save a lot of time by not drawing them
-			ge.setVisibility(getEventVisibility(ge, bounds));
+			updateEventVisibility(ge, bounds);
 
 			if (ge.isHidden()) {
 				continue;
@@ -4152,22 +4438,63 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 
 		final GanttConnection con = new GanttConnection(source, target, color);
 		con.setParentComposite(this);
-		if (!_ganttConnections.contains(con)) {
+		if (getDependencyGraph().add(con)) {
 			_ganttConnections.add(con);
+			dependencyGraphUpdated();
+		}
+	}
+
+	// connection is added from a GanttConnection class
+	void connectionAdded(final GanttConnection conn) {
+		checkWidget();
+
+		addDependency(conn.getSource(), conn.getTarget(), conn.getColor());
+	}
+
+	void connectionRemoved(final GanttConnection conn) {
+		checkWidget();
+
+		final GanttDependencyGraph graph = getDependencyGraph();
+		if (_ganttConnections.remove(conn)) {
+			graph.remove(conn.getSource(), conn.getTarget());
+			dependencyGraphUpdated();
+		}
+	}
+
+	// a connection of this chart got a new source or target
+	void connectionChanged(final GanttConnection conn, final GanttEvent oldSource, final GanttEvent oldTarget) {
+		final GanttDependencyGraph graph = getDependencyGraph();
+		if (graph.getConnection(oldSource, oldTarget) != conn) {
+			return;
+		}
+
+		graph.remove(oldSource, oldTarget);
+		if (!graph.add(conn)) {
+			// now a duplicate of another connection, or incomplete
+			_ganttConnections.remove(conn);
+			dependencyGraphUpdated();
 		}
 	}
 
-	// connection is added from a GanttConnection class
-	void connectionAdded(final GanttConnection conn) {
-		checkWidget();
-
-		addDependency(conn.getSource(), conn.getTarget(), conn.getColor());
+	/**
+	 * Returns the dependency graph of the connections of this chart. It is updated as connections are added and removed,
+	 * and can be used to find the events depending on an event, or that an event depends on, without looking at every
+	 * connection.
+	 *
+	 * @return Dependency graph
+	 */
+	public GanttDependencyGraph getDependencyGraph() {
+		// the connection list is handed out by getGanttConnections(), follow changes made to it directly
+		if (_dependencyGraphChangeCount != _ganttConnections.getChangeCount()) {
+			_dependencyGraph.rebuild(_ganttConnections);
+			dependencyGraphUpdated();
+		}
+		return _dependencyGraph;
 	}
 
-	void connectionRemoved(final GanttConnection conn) {
-		checkWidget();
-
-		_ganttConnections.remove(conn);
+	// the connection list and the graph were changed together, the graph still matches the list
+	private void dependencyGraphUpdated() {
+		_dependencyGraphChangeCount = _ganttConnections.getChangeCount();
 	}
 
 	/**
@@ -4177,14 +4504,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	 * @return true if the GanttEvent is connected
 	 */
 	public boolean isConnected(final GanttEvent ge) {
-		for (int i = 0; i < _ganttConnections.size(); i++) {
-			final GanttConnection gc = _ganttConnections.get(i);
-			if (gc.getSource().equals(ge) || gc.getTarget().equals(ge)) {
-				return true;
-			}
-		}
-
-		return false;
+		return getDependencyGraph().isConnected(ge);
 	}
 
 	/**
@@ -4195,14 +4515,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	 * @return true if a connection exists
 	 */
 	public boolean isConnected(final GanttEvent source, final GanttEvent target) {
-		for (int i = 0; i < _ganttConnections.size(); i++) {
-			final GanttConnection gc = _ganttConnections.get(i);
-			if (gc.getSource().equals(source) && gc.getTarget().equals(target)) {
-				return true;
-			}
-		}
-
-		return false;
+		return getDependencyGraph().getConnection(source, target) != null;
 	}
 
 	/**
@@ -4237,8 +4550,9 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		return new Rectangle(xStart, yStart, 4, _eventHeight);
 	}
 
-	// draws the lines and arrows between events
-	private void drawConnections(final GC gc) {
+	// draws the lines and arrows between events. While events are dragged over the cached layers, the connections of the
+	// dragged events are drawn with them, and the others with the rest of the events
+	private void drawConnections(final GC gc, final boolean overlay) {
 
 		final int dw = getDayWidth();
 
@@ -4256,6 +4570,10 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 				continue;
 			}
 
+			if (_overlayEvents != null && (_overlayEvents.contains(ge1) || _overlayEvents.contains(ge2)) != overlay) {
+				continue;
+			}
+
 			if (ge1.getX() == 0 && ge2.getY() == 0) {
 				continue;
 			}
@@ -5184,7 +5502,8 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	public void reindex(final GanttEvent event, final int newIndex) {
 		_ganttEvents.remove(event);
 		_ganttEvents.add(newIndex, event);
-		redrawEventsArea();
+		flagRowsChanged(null);
+		redraw();
 	}
 
 	/**
@@ -5196,7 +5515,8 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	public void reindex(final GanttSection section, final int newIndex) {
 		_ganttSections.remove(section);
 		_ganttSections.add(newIndex, section);
-		redrawEventsArea();
+		flagRowsChanged(section);
+		redraw();
 	}
 
 	/**
@@ -5389,18 +5709,13 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 
 		internalRemoveEvent(event);
 
-		final List toRemove = new ArrayList();
-		for (int i = 0; i < _ganttConnections.size(); i++) {
-			final GanttConnection con = _ganttConnections.get(i);
-
-			if (con.getSource().equals(event) || con.getTarget().equals(event)) {
-				toRemove.add(con);
-			}
-
-		}
+		final List<GanttConnection> toRemove = getDependencyGraph().getConnections(event);
 		for (int i = 0; i < toRemove.size(); i++) {
-			_ganttConnections.remove(toRemove.get(i));
+			final GanttConnection con = toRemove.get(i);
+			_ganttConnections.remove(con);
+			_dependencyGraph.remove(con.getSource(), con.getTarget());
 		}
+		dependencyGraphUpdated();
 
 		// eventNumbersChanged();
 		if (event.getScopeParent() != null) {
@@ -5421,6 +5736,9 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 
 	/**
 	 * Returns all currently connected events as a list of {@link GanttConnection} objects.
+	 * <p>
+	 * Connections should be added and removed through the chart. The {@link #getDependencyGraph() dependency graph}
+	 * is rebuilt from this list the next time it is used after the list was changed directly.
 	 *
 	 * @return List of connections.
 	 */
@@ -5429,6 +5747,8 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	}
 
 	void eventDatesChanged(final GanttEvent ge, final boolean redraw) {
+		eventSpanChanged(ge);
+
 		final int newStartX = getStartingXFor(ge);
 		final int newEndX = getXLengthForEvent(ge);
 
@@ -5446,6 +5766,8 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		checkWidget();
 		_ganttEvents.clear();
 		_ganttConnections.clear();
+		_dependencyGraph.clear();
+		dependencyGraphUpdated();
 		// mGmap.clear();
 		eventNumbersChanged();
 		_forceSBUpdate = true;
@@ -5490,6 +5812,8 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		checkWidget();
 		_ganttEvents.clear();
 		_ganttConnections.clear();
+		_dependencyGraph.clear();
+		dependencyGraphUpdated();
 		_ganttSections.clear();
 		_ganttGroups.clear();
 		_ganttPhases.clear();
@@ -5512,7 +5836,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	 */
 	public boolean hasEvent(final GanttEvent event) {
 		checkWidget();
-		return _ganttEvents.contains(event);
+		return getEventOrder().containsKey(event);
 	}
 
 	/**
@@ -5591,25 +5915,43 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	}
 
 	private void internalAddEvent(final int index, final GanttEvent event) {
-		if (!_ganttEvents.contains(event)) {
+		if (!getEventOrder().containsKey(event)) {
 			if (index == -1) {
-				_ganttEvents.add(event);
+				appendEvent(event);
 			} else {
 				_ganttEvents.add(index, event);
 			}
 		}
 
+		indexEvent(event);
+	}
+
+	// called by new events, which can not be part of the chart yet, so the event list is not searched for them
+	void eventCreated(final GanttEvent event) {
+		checkWidget();
+
+		appendEvent(event);
+		indexEvent(event);
+
+		redraw();
+	}
+
+	private void indexEvent(final GanttEvent event) {
 		_allEventsCombined.add(event);
+		_eventIndex.add(event);
 
-		flagForceFullUpdate();
+		event.setBoundsSet(false);
+		flagRowsChanged(event.getGanttSection());
 	}
 
 	private void internalRemoveEvent(final GanttEvent event) {
 		_ganttEvents.remove(event);
 
 		_allEventsCombined.remove(event);
+		_eventIndex.remove(event);
+		removeVisibleEvent(event);
 
-		flagForceFullUpdate();
+		flagRowsChanged(event.getGanttSection());
 	}
 
 	private void internalAddGroup(final int index, final GanttGroup group) {
@@ -5622,16 +5964,21 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		}
 
 		_allEventsCombined.addAll(group.getEventMembers());
+		_eventIndex.addAll(group.getEventMembers());
 
-		flagForceFullUpdate();
+		groupChanged(group);
 	}
 
 	private void internalRemoveGroup(final GanttGroup group) {
 		_ganttGroups.remove(group);
 
 		_allEventsCombined.removeAll(group.getEventMembers());
+		_eventIndex.removeAll(group.getEventMembers());
+		for (final Iterator it = group.getEventMembers().iterator(); it.hasNext();) {
+			removeVisibleEvent((GanttEvent) it.next());
+		}
 
-		flagForceFullUpdate();
+		groupChanged(group);
 	}
 
 	private void internalAddSection(final int index, final GanttSection section) {
@@ -5647,7 +5994,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			}
 		}
 
-		flagForceFullUpdate();
+		flagRowsChanged(section);
 	}
 
 	private void internalRemoveSection(final GanttSection section) {
@@ -5663,7 +6010,26 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 
 		_ganttSections.remove(section);
 
-		flagForceFullUpdate();
+		// the sections below move up, which lays them out again
+		flagRowsChanged(section);
+		_rowLayout.remove(section);
+	}
+
+	// called when events, groups or sections were added to, removed from or moved within a section, which only needs
+	// that section to be laid out again
+	void flagRowsChanged(final GanttSection section) {
+		_rowLayout.invalidate(section);
+		_recalcSecBounds = true;
+		_fullVisibilityUpdate = true;
+		_forceSBUpdate = true;
+	}
+
+	// called when the members of a group changed
+	void groupChanged(final GanttGroup group) {
+		_rowLayout.invalidate(group);
+		_recalcSecBounds = true;
+		_fullVisibilityUpdate = true;
+		_forceSBUpdate = true;
 	}
 
 	private void eventNumbersChanged() {
@@ -5681,9 +6047,43 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			_allEventsCombined.addAll(_ganttGroups.get(i).getEventMembers());
 		}
 
+		_eventIndex.clear();
+		_eventIndex.addAll(_allEventsCombined);
+		_visibleEvents.retainAll(_allEventsCombined);
+		_recheckEvents.clear();
+		_hitTestEvents = null;
+
+		_rowLayout.invalidateAll();
 		flagForceFullUpdate();
 	}
 
+	private void removeVisibleEvent(final GanttEvent event) {
+		_recheckEvents.remove(event);
+		if (_visibleEvents.remove(event)) {
+			_hitTestEvents = null;
+		}
+	}
+
+	// called by events when a date that affects their visibility changed
+	void eventSpanChanged(final GanttEvent ge) {
+		_eventIndex.update(ge);
+		if (_overlayEvents == null || !_overlayEvents.contains(ge)) {
+			_layerCache.invalidate(GanttLayerCache.EVENTS);
+		}
+		if (_allEventsCombined.contains(ge)) {
+			_recheckEvents.add(ge);
+		}
+	}
+
+	// called by events when they are hidden or shown, which frees or takes their row
+	void eventHiddenChanged(final GanttEvent ge) {
+		if (_allEventsCombined.contains(ge)) {
+			_recheckEvents.add(ge);
+		}
+		_layerCache.invalidate(GanttLayerCache.EVENTS);
+		flagRowsChanged(ge.getGanttSection());
+	}
+
 	// moves the x bounds of all events one day width left or right
 	void moveXBounds(final boolean positive) {
 		final Object[] objs = _allEventsCombined.toArray();
@@ -5754,7 +6154,24 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 
 	// redraws only the area where the events are, only call when dates aren't changing
 	private void redrawEventsArea() {
-		redraw();
+		// dragged events are drawn over the cached layers, which stay valid while they move
+		if (_overlayEvents == null) {
+			_layerCache.invalidate(GanttLayerCache.EVENTS);
+		}
+		_paintManager.redrawStarting();
+		super.redraw();
+	}
+
+	// redraws the chart, keeping the cached layers that are not affected by the change
+	private void redrawLayers(final int layer) {
+		_layerCache.invalidate(layer);
+		_paintManager.redrawStarting();
+		super.redraw();
+	}
+
+	// redraws part of the chart from the cached layers, for changes of what is drawn over them
+	private void redrawArea(final int x, final int y, final int width, final int height) {
+		super.redraw(x, y, width, height, false);
 	}
 
 	/**
@@ -5768,11 +6185,35 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		return getEventVisibility(event, bounds) == Constants.EVENT_VISIBLE;
 	}
 
+	// the bounds an event was last drawn in, with its text, planned dates, movement constraint markers and arrow heads
+	private Rectangle getDrawnBounds(final GanttEvent event) {
+		final Rectangle bounds = event.getActualBounds();
+		if (event.hasMovementConstraints()) {
+			if (event.getNoMoveBeforeDate() != null) {
+				final int x = getStartingXFor(event.getNoMoveBeforeDate());
+				if (x < bounds.x) {
+					bounds.width += bounds.x - x;
+					bounds.x = x;
+				}
+			}
+			if (event.getNoMoveAfterDate() != null) {
+				final int x = getXForDate(event.getNoMoveAfterDate()) + getDayWidth();
+				bounds.width = Math.max(bounds.width, x - bounds.x);
+			}
+		}
+
+		final int spacer = _settings.getArrowHeadEventSpacer() + getDayWidth();
+		return new Rectangle(bounds.x - spacer, bounds.y - spacer, bounds.width + 2 * spacer, bounds.height + 2 * spacer);
+	}
+
 	// checks whether an event is visible in the current date range that is
 	// displayed on the screen
 	private int getEventVisibility(final GanttEvent event, final Rectangle bounds) {
-		// if we're saving the chart as an image, everything is visible unless it's truly hidden
+		// if we're saving the chart as an image, everything is visible unless it's truly hidden, or outside the tile being drawn
 		if (_savingChartImage && !event.isHidden()) {
+			if (_imageTile != null && !_visibleBounds.intersects(getDrawnBounds(event))) {
+				return Constants.EVENT_NOT_VISIBLE;
+			}
 			return Constants.EVENT_VISIBLE;
 		}
 
@@ -5860,10 +6301,10 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		if (event.getWidthWithText() == 0) {
 			final Date eventStart = sCal.getTime();
 			final Date eventEnd = eCal.getTime();
-			final Calendar temp = Calendar.getInstance(_defaultLocale);
-			temp.setTime(_mainCalendar.getTime());
+			_timeAxis.setOrigin(_mainCalendar);
 
-			final long viewPortStart = temp.getTimeInMillis();
+			final long viewPortStart = _timeAxis.getOrigin();
+			final long viewPortEnd;
 			if (_daysVisible == 0) {
 				if (_endCalendar == null) {
 					// May happen when the widget is about to be created and not visible
@@ -5871,13 +6312,11 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 						return Constants.EVENT_NOT_VISIBLE;
 					}
 				}
-				temp.setTime(_endCalendar.getTime());
+				viewPortEnd = _endCalendar.getTimeInMillis();
 			} else {
-				temp.add(Calendar.DATE, _daysVisible);
+				viewPortEnd = _timeAxis.getOriginPlusDays(_daysVisible);
 			}
 
-			final long viewPortEnd = temp.getTimeInMillis();
-
 			// inside
 			// if (eventStart.getTime() >= viewPortStart && eventStart.getTime() <= viewPortEnd) { return Constants.EVENT_VISIBLE; }
 
@@ -5958,22 +6397,23 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	}
 
 	private int getStartingXForEventHours(final Calendar start) {
-		final Calendar temp = Calendar.getInstance(_defaultLocale);
-		temp.setTime(_mainCalendar.getTime());
+		_timeAxis.setOrigin(_mainCalendar);
 
 		// some stuff we know, (to help program this)
 		// 1 dayWidth is one working hour, thus, 1 dayWidth / 60 = 1 minute
 		// 1 day is the same as the week width
 
 		final int dw = getDayWidth();
-		final int daysBetween = (int) DateHelper.daysBetween(temp, start);
-		final int minsBetween = DateHelper.minutesBetween(temp.getTime(), start.getTime(), true, false);
+		final long startMillis = start.getTimeInMillis();
+		final int daysBetween = (int) _timeAxis.getDaysFromOrigin(startMillis, false);
+		// the time of day is compared as if both dates were on the same day
+		final long timeOfDayBetween = _timeAxis.getTimeOfDayFromOrigin(startMillis);
 		int ret = 0;
 		if (_currentView == ISettings.VIEW_MINUTE) { // TodayLine for View_Minute
 			ret = daysBetween * _minuteDayWidth;
 			ret += _mainBounds.x;
-			final float minutesBetween = DateHelper.minutesBetween(temp.getTime(), start.getTime(), true, false);
-			final float secondsBetween = DateHelper.secondsBetween(temp.getTime(), start.getTime(), true, false);
+			final float minutesBetween = (int) (timeOfDayBetween / 60000);
+			final float secondsBetween = (int) (timeOfDayBetween / 1000);
 
 			float minPixels = 0;
 
@@ -5988,8 +6428,8 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			// days is ok, now deal with hours
 			ret = daysBetween * _weekWidth;
 			ret += _mainBounds.x;
-			final float hoursBetween = DateHelper.hoursBetween(temp, start, true);
-			final float minutesBetween = DateHelper.minutesBetween(temp.getTime(), start.getTime(), true, false);
+			final float hoursBetween = (int) (timeOfDayBetween / 60000) / 60;
+			final float minutesBetween = (int) (timeOfDayBetween / 60000);
 
 			float minPixels = 0;
 
@@ -6026,13 +6466,9 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			return _mainBounds.x;
 		}
 
-		final Calendar temp = DateHelper.getNewCalendar(_mainCalendar);
-
-		if (_currentView == ISettings.VIEW_YEAR) {
-			temp.set(Calendar.DAY_OF_MONTH, 1);
-		}
-
-		final long secondsBetween = DateHelper.secondsBetween(temp.getTime(), date.getTime(), false, false);
+		// the year view counts from the first day of the month
+		_timeAxis.setOrigin(_mainCalendar);
+		final long secondsBetween = _timeAxis.getSecondsFromOrigin(date.getTimeInMillis(), _currentView == ISettings.VIEW_YEAR);
 		final int dw = getDayWidth();
 		final float pps = dw / (24f * 60f * 60f);
 		return _mainBounds.x + (int) (secondsBetween * pps);
@@ -6049,7 +6485,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		}
 
 
-		final int secondsBetweenStartAndEnd = DateHelper.secondsBetween(event.getActualStartDate().getTime(), event.getActualEndDate().getTime(), false, false);
+		final int secondsBetweenStartAndEnd = (int) ((event.getActualEndDate().getTimeInMillis() - event.getActualStartDate().getTimeInMillis()) / 1000);
 
 		final int dw = this.getDayWidth();
 		final float pps = dw / (24f * 60f * 60f);
@@ -6099,8 +6535,9 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		// it's in mouse-down mode, so we need to force it to not thinking that
 		killMouseState();
 
-		for (int i = 0; i < _ganttEvents.size(); i++) {
-			final GanttEvent event = _ganttEvents.get(i);
+		final List<GanttEvent> hitTestEvents = getHitTestEvents();
+		for (int i = 0; i < hitTestEvents.size(); i++) {
+			final GanttEvent event = hitTestEvents.get(i);
 
 			if (isInside(me.x, me.y, new Rectangle(event.getX(), event.getY(), event.getWidth(), event.getHeight()))) {
 				for (int j = 0; j < _eventListeners.size(); j++) {
@@ -6155,8 +6592,9 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			return;
 		}
 
-		for (int i = 0; i < _ganttEvents.size(); i++) {
-			final GanttEvent ge = _ganttEvents.get(i);
+		final List<GanttEvent> hitTestEvents = getHitTestEvents();
+		for (int i = 0; i < hitTestEvents.size(); i++) {
+			final GanttEvent ge = hitTestEvents.get(i);
 			if (ge.isScope()) {
 				continue;
 			}
@@ -6190,7 +6628,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		if (!_selectedEvents.isEmpty() && _settings.drawSelectionMarkerAroundSelectedEvent()) {
 			for (int x = 0; x < _selectedEvents.size(); x++) {
 				final GanttEvent selEvent = (GanttEvent) _selectedEvents.get(x);
-				redraw(selEvent.getX() - 2, selEvent.getY() - 2, selEvent.getWidth() + 4, selEvent.getHeight() + 4, false);
+				redrawArea(selEvent.getX() - 2, selEvent.getY() - 2, selEvent.getWidth() + 4, selEvent.getHeight() + 4);
 			}
 		}
 
@@ -6253,8 +6691,9 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		}
 
 		// deal with selection
-		for (int i = 0; i < _ganttEvents.size(); i++) {
-			final GanttEvent event = _ganttEvents.get(i);
+		final List<GanttEvent> hitTestEvents = getHitTestEvents();
+		for (int i = 0; i < hitTestEvents.size(); i++) {
+			final GanttEvent event = hitTestEvents.get(i);
 
 			if (event.isScope() && !_settings.allowScopeMenu()) {
 				continue;
@@ -7016,7 +7455,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 
 		_showZoomHelper = false;
 		if (_zoomLevelArea != null) {
-			redraw(_zoomLevelArea.x, _zoomLevelArea.y, _zoomLevelArea.width + 1, _zoomLevelArea.height + 1, false);
+			redrawArea(_zoomLevelArea.x, _zoomLevelArea.y, _zoomLevelArea.width + 1, _zoomLevelArea.height + 1);
 		}
 
 		_dragging = false;
@@ -7154,8 +7593,9 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 
 			if (_mainBounds == null || me.x >= _mainBounds.x) {
 				// check if cursor is inside the area of an event
-				for (int i = 0; i < _ganttEvents.size(); i++) {
-					final GanttEvent event = _ganttEvents.get(i);
+				final List<GanttEvent> hitTestEvents = getHitTestEvents();
+				for (int i = 0; i < hitTestEvents.size(); i++) {
+					final GanttEvent event = hitTestEvents.get(i);
 					if (isInside(me.x, me.y, new Rectangle(event.getX(), event.getY(), event.getWidth(), event.getHeight()))) {
 						insideAnyEvent = true;
 
@@ -7613,16 +8053,11 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			return getStartingXForEventHours(cal);
 		}
 
-		// clone the "root" calendar (our leftmost date)
-		final Calendar temp = DateHelper.getNewCalendar(_mainCalendar);
+		// days from our leftmost date, we draw years starting on the left for simplicity's sake
+		_timeAxis.setOrigin(_mainCalendar);
+		final long days = _timeAxis.getDaysFromOrigin(cal.getTimeInMillis(), _currentView == ISettings.VIEW_YEAR);
 
 		final int dw = getDayWidth();
-		if (_currentView == ISettings.VIEW_YEAR) {
-			// we draw years starting on the left for simplicity's sake
-			temp.set(Calendar.DAY_OF_MONTH, 1);
-		}
-
-		final long days = DateHelper.daysBetween(temp, cal);
 
 		int extra = 0;
 		if (_drawToMinute && (_currentView != ISettings.VIEW_DAY || _currentView != ISettings.VIEW_MINUTE)) {
@@ -7652,9 +8087,6 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	 * @return Calendar of date
 	 */
 	public Calendar getDateAt(final int x) {
-
-		int xPosition = x;
-
 		checkWidget();
 		final Calendar temp = DateHelper.getNewCalendar(_mainCalendar);
 
@@ -7666,58 +8098,22 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			// pixels per minute
 			final float ppm = 60f / dw;
 
-			// total minutes from left side
-			xPosition -= _mainBounds.x;
-			final int totalMinutes = (int) (xPosition * ppm);
-
-			// set our temporary end calendar to the start date of the calendar
-			final Calendar fakeEnd = Calendar.getInstance(_defaultLocale);
-			fakeEnd.setTime(temp.getTime());
-
-			for (int i = 0; i < totalMinutes; i++) {
-				fakeEnd.add(Calendar.MINUTE, 1);
-				if (temp.get(Calendar.HOUR_OF_DAY) >= 24) {
-					temp.add(Calendar.DATE, 1);
-					temp.set(Calendar.HOUR_OF_DAY, 0);
-				}
+			// total minutes from left side, nothing left of the chart start
+			final int totalMinutes = (int) ((x - _mainBounds.x) * ppm);
+			if (totalMinutes > 0) {
+				temp.add(Calendar.MINUTE, totalMinutes);
 			}
 
-			return fakeEnd;
+			return temp;
 		}
 
-		int xx = 0;
-
-		if (xPosition < 0) {
-			// loop from right to left
-			while (true) {
-				if (xx != 0) {
-					temp.add(Calendar.DATE, -1);
-				}
-
-				// after adding, as it's a diff direction and we round "up" (which is left)
-				if (xx < xPosition) {
-					break;
-				}
-
-				xx -= dw;
-			}
-		} else {
-			// loop from left to right
-			while (true) {
-				if (xx > xPosition) {
-					break;
-				}
-
-				if (xx != 0) {
-					temp.add(Calendar.DATE, 1);
-				}
-
-				xx += dw;
-			}
-
+		if (dw <= 0) {
+			return temp;
 		}
 
-		// System.err.println(x + " " + xx);
+		// whole days from the left side, positions left of it round "up" (which is left), so -dw is two days back
+		final int days = x < 0 ? -(-x / dw + 1) : x / dw;
+		temp.add(Calendar.DATE, days);
 
 		return temp;
 	}
@@ -8494,21 +8890,22 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		}
 
 		if (_mainBounds == null || me.x >= _mainBounds.x) {
-			for (int i = 0; i < _ganttEvents.size(); i++) {
-				final GanttEvent event = _ganttEvents.get(i);
+			final List<GanttEvent> hitTestEvents = getHitTestEvents();
+			for (int i = 0; i < hitTestEvents.size(); i++) {
+				final GanttEvent event = hitTestEvents.get(i);
 				if (!event.isHidden()) {
 					if (isInside(me.x, me.y, new Rectangle(event.getX(), event.getY(), event.getWidth(), event.getHeight()))) {
 						showTooltip(event, me);
 						return;
 					}
+				}
+			}
 
-					if (_settings.showHolidayToolTips()) {
-						for (final Holiday holiday : holidays) {
-							if (holiday.hasTooltip() && isInside(me.x, me.y, holiday.getBounds())) {
-								showTooltip(holiday, me);
-								return;
-							}
-						}
+			if (_settings.showHolidayToolTips()) {
+				for (final Holiday holiday : holidays) {
+					if (holiday.hasTooltip() && isInside(me.x, me.y, holiday.getBounds())) {
+						showTooltip(holiday, me);
+						return;
 					}
 				}
 			}
@@ -8761,13 +9158,125 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	 * <p>
 	 * Do note that if the chart is "huge", you may need to increase your heap size. If you're zoomed in that's also
 	 * taken into account and you may need a massive heap to work with hours views as they are simply huge in a pixel-size sense.
+	 * For such charts use {@link #exportFullImage(IImageTileConsumer, int, int)}, which draws the image in tiles.
 	 *
 	 * @return Image
 	 */
 	public Image getFullImage() {
 		checkWidget();
 
-		// we need to pretend that we are at scroll position 0 along with that our bounds are as big as all visible events,
+		return (Image) drawFullChart(new IFullChartPainter() {
+			public Object paint(final Rectangle fullBounds) {
+				if (fullBounds == null) {
+					return getImage();
+				}
+
+				final Image buffer = new Image(getDisplay(), fullBounds);
+
+				final GC gc2 = new GC(buffer);
+				drawChartImage(gc2, fullBounds, true);
+				gc2.dispose();
+
+				return buffer;
+			}
+		});
+	}
+
+	/**
+	 * Returns the bounds of the image returned by {@link #getFullImage()}, without drawing it. This is useful to find
+	 * out how many tiles or pages the entire chart will need.
+	 *
+	 * @return Bounds of the entire chart
+	 */
+	public Rectangle getFullImageBounds() {
+		checkWidget();
+
+		return (Rectangle) drawFullChart(new IFullChartPainter() {
+			public Object paint(final Rectangle fullBounds) {
+				if (fullBounds == null) {
+					return new Rectangle(0, 0, _visibleBounds.width, _visibleBounds.height);
+				}
+				return new Rectangle(0, 0, fullBounds.width, fullBounds.height);
+			}
+		});
+	}
+
+	/**
+	 * Draws the same image as {@link #getFullImage()}, but in tiles of the given size that are handed to the consumer
+	 * one at a time. Only one tile exists at any time, so the memory needed does not depend on the size of the chart,
+	 * and charts that are far too large for a single image can be exported or printed.
+	 * <p>
+	 * The first tile lays out the chart and draws every event. Each further tile is drawn clipped to the tile and only
+	 * draws the events that reach into it.
+	 *
+	 * @param consumer Consumer of the tiles, such as a {@link org.eclipse.nebula.widgets.ganttchart.utils.PngTileWriter}
+	 * @param tileWidth Width of the tiles
+	 * @param tileHeight Height of the tiles
+	 * @see #getFullImageBounds()
+	 */
+	public void exportFullImage(final IImageTileConsumer consumer, final int tileWidth, final int tileHeight) {
+		checkWidget();
+		if (consumer == null) {
+			SWT.error(SWT.ERROR_NULL_ARGUMENT);
+		}
+		if (tileWidth <= 0 || tileHeight <= 0) {
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+		}
+
+		drawFullChart(new IFullChartPainter() {
+			public Object paint(final Rectangle fullBounds) throws IOException {
+				// without events only the visible area is drawn, as with getFullImage()
+				final boolean full = fullBounds != null;
+				final Rectangle bounds = full ? fullBounds : new Rectangle(_visibleBounds.x, _visibleBounds.y, _visibleBounds.width, _visibleBounds.height);
+
+				consumer.start(bounds.width, bounds.height, tileWidth, tileHeight);
+				boolean laidOut = false;
+				try {
+					for (int y = 0; y < bounds.height; y += tileHeight) {
+						for (int x = 0; x < bounds.width; x += tileWidth) {
+							final Rectangle tileBounds = new Rectangle(x, y, Math.min(tileWidth, bounds.width - x), Math.min(tileHeight, bounds.height - y));
+							// events are positioned while the first tile is drawn, from then on the tile bounds cull them
+							_imageTile = laidOut && full ? tileBounds : null;
+
+							final Image tile = new Image(getDisplay(), tileBounds.width, tileBounds.height);
+							try {
+								final GC gc = new GC(tile);
+								final Transform transform = new Transform(getDisplay());
+								transform.translate(-x, -y);
+								gc.setTransform(transform);
+								gc.setClipping(tileBounds);
+								drawChartImage(gc, bounds, full);
+								transform.dispose();
+								gc.dispose();
+								laidOut = true;
+
+								consumer.tile(x, y, tile);
+							} finally {
+								tile.dispose();
+							}
+						}
+					}
+				} finally {
+					_imageTile = null;
+				}
+				consumer.finish();
+
+				return null;
+			}
+		});
+	}
+
+	// draws the chart once it is prepared by drawFullChart()
+	private interface IFullChartPainter {
+		/**
+		 * @param fullBounds Bounds of the entire chart, or null if there are no events to find them by
+		 * @return The result of drawFullChart()
+		 */
+		Object paint(Rectangle fullBounds) throws IOException;
+	}
+
+	// draws the entire chart: we need to pretend that we are at scroll position 0 along with that our bounds are as big as all visible events
+	private Object drawFullChart(final IFullChartPainter painter) {
 		// thus we save old values before so we can reset them at the end
 		_savingChartImage = true;
 		final int oldVscroll = _vScrollPos;
@@ -8784,7 +9293,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			final GanttEvent geRight = getEvent(false, true);
 
 			if (geRight == null || geLeft == null) {
-				return getImage();
+				return painter.paint(null);
 			}
 
 			// set calendar to earliest date
@@ -8843,22 +9352,9 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			// forcing a full update or event visibilities will not change
 			flagForceFullUpdate();
 
-			final Image buffer = new Image(getDisplay(), fullBounds);
-
-			final GC gc2 = new GC(buffer);
-			drawChartOntoGC(gc2, fullBounds);
-			drawHeader(gc2, false);
-
-			// we don't draw this when saving an image until the very end as we push
-			// bounds around differently and it gets drawn mis-aligned if we draw it
-			// before
-			if (drawSections && _settings.getSectionSide() == SWT.RIGHT) {
-				drawSectionColumn(gc2, fullBounds, false, true, false, true);
-			}
-
-			gc2.dispose();
-
-			return buffer;
+			return painter.paint(fullBounds);
+		} catch (final IOException err) {
+			SWT.error(SWT.ERROR_IO, err);
 		} catch (final Exception err) {
 			SWT.error(SWT.ERROR_UNSPECIFIED, err);
 		} finally {
@@ -8866,6 +9362,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			_vScrollPos = oldVscroll;
 			moveYBounds(_vScrollPos);
 			_savingChartImage = false;
+			_fullVisibilityUpdate = true;
 			_mainBounds = oldBounds;
 			_mainCalendar = currentCalendar;
 			getDisplay().asyncExec(new Runnable() {
@@ -8881,6 +9378,21 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		return null;
 	}
 
+	// draws the chart onto an image, the header is drawn again on top for images of the entire chart
+	private void drawChartImage(final GC gc, final Rectangle bounds, final boolean full) {
+		drawChartOntoGC(gc, bounds);
+		if (full) {
+			drawHeader(gc, false);
+		}
+
+		// we don't draw this when saving an image until the very end as we push
+		// bounds around differently and it gets drawn mis-aligned if we draw it
+		// before
+		if (hasGanttSections() && _settings.getSectionSide() == SWT.RIGHT) {
+			drawSectionColumn(gc, bounds, false, true, false, true);
+		}
+	}
+
 	/**
 	 * Returns the chart as an image for the given bounds.
 	 *
@@ -8896,21 +9408,14 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 			final Image buffer = new Image(getDisplay(), bounds);
 
 			final GC gc2 = new GC(buffer);
-			drawChartOntoGC(gc2, bounds);
-
-			// we don't draw this when saving an image until the very end as we push
-			// bounds around differently and it gets drawn mis-aligned if we draw it
-			// before
-			if (hasGanttSections() && _settings.getSectionSide() == SWT.RIGHT) {
-				drawSectionColumn(gc2, bounds, false, true, false, true);
-			}
-
+			drawChartImage(gc2, bounds, false);
 			gc2.dispose();
 			return buffer;
 		} catch (final Exception err) {
 			SWT.error(SWT.ERROR_UNSPECIFIED, err);
 		} finally {
 			_savingChartImage = false;
+			_fullVisibilityUpdate = true;
 
 			setRedraw(true);
 			redraw();
@@ -8919,59 +9424,9 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 		return null;
 	}
 
+	// all events linked to the given one, including itself
 	private List<Object> getEventsDependingOn(GanttEvent ge) {
-		if (_ganttConnections.isEmpty()) {
-			return new ArrayList<>();
-		}
-
-		final GanttMap gm = new GanttMap();
-
-		for (int i = 0; i < _ganttConnections.size(); i++) {
-			final GanttConnection conn = _ganttConnections.get(i);
-			gm.put(conn.getSource(), conn.getTarget());
-			gm.put(conn.getTarget(), conn.getSource());
-		}
-
-		final Set ret = recursiveGetEventsDependingOn(ge, gm, new HashSet());
-		if (!ret.contains(ge)) {
-			ret.add(ge);
-		}
-
-		final List retList = new ArrayList();
-		final Iterator ite = ret.iterator();
-		while (ite.hasNext()) {
-			retList.add(ite.next());
-		}
-
-		return retList;
-	}
-
-	// get all chained events
-	private Set recursiveGetEventsDependingOn(GanttEvent ge, GanttMap gm, Set ret) {
-		final List conns = gm.get(ge);
-		if (conns != null && conns.size() > 0) {
-			for (int i = 0; i < conns.size(); i++) {
-				final GanttEvent event = (GanttEvent) conns.get(i);
-				if (ret.contains(event)) {
-					continue;
-				} else {
-					ret.add(event);
-				}
-
-				final Set more = recursiveGetEventsDependingOn(event, gm, ret);
-				if (more.size() > 0) {
-					final Iterator ite = more.iterator();
-					while (ite.hasNext()) {
-						final Object obj = ite.next();
-						if (!ret.contains(obj)) {
-							ret.add(obj);
-						}
-					}
-				}
-			}
-		}
-
-		return ret;
+		return new ArrayList<Object>(getDependencyGraph().getLinked(ge));
 	}
 
 	private void updateZoomLevel() {
@@ -9107,6 +9562,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	 */
 	public void heavyRedraw() {
 		_zoomLevelChanged = true;
+		_rowLayout.invalidateAll();
 		forceFullUpdate();
 	}
 
@@ -9118,6 +9574,7 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	void flagForceFullUpdate() {
 		_recalcScopes = true;
 		_recalcSecBounds = true;
+		_fullVisibilityUpdate = true;
 
 		for (int i = 0; i < _ganttEvents.size(); i++) {
 			_ganttEvents.get(i).setBoundsSet(false);
@@ -9340,10 +9797,79 @@ public final class GanttComposite extends Canvas implements MouseListener, Mouse
 	// override so we can tell paint manager to reset
 	@Override
 	public void redraw() {
+		_layerCache.invalidateAll();
 		_paintManager.redrawStarting();
 		super.redraw();
 	}
 
+	// as anything may have changed, the cached layers are drawn again
+	@Override
+	public void redraw(final int x, final int y, final int width, final int height, final boolean all) {
+		_layerCache.invalidateAll();
+		super.redraw(x, y, width, height, all);
+	}
+
+	/**
+	 * Starts a batch of changes, such as adding many events, sections or groups. Until the matching
+	 * {@link #endUpdate()}, the chart is not painted, so the events are laid out once for the whole batch instead of
+	 * after each change. Calls may be nested, the chart is painted again when the outermost batch ends.
+	 */
+	public void beginUpdate() {
+		checkWidget();
+		if (_updateDepth++ == 0) {
+			setRedraw(false);
+		}
+	}
+
+	/**
+	 * Ends a batch of changes started by {@link #beginUpdate()}. When the outermost batch ends, the chart is laid out
+	 * and painted again. Calls without a matching {@link #beginUpdate()} are ignored.
+	 */
+	public void endUpdate() {
+		checkWidget();
+		if (_updateDepth == 0) {
+			return;
+		}
+
+		if (--_updateDepth == 0) {
+			setRedraw(true);
+			redraw();
+		}
+	}
+
+	/**
+	 * Whether a batch of changes started by {@link #beginUpdate()} is in progress.
+	 *
+	 * @return true if the chart is being updated
+	 */
+	public boolean isUpdating() {
+		checkWidget();
+		return _updateDepth > 0;
+	}
+
+	/**
+	 * Returns how many times a cached layer of the chart was drawn again since the chart was created or the counts were
+	 * reset. The chart is painted from offscreen images of its header, background and events, which are only drawn again
+	 * when something they show has changed. Comparing the counts with the number of paints shows how much drawing the
+	 * cache saves, such as during drags, where only the dragged events are drawn on each step.
+	 *
+	 * @param layer One of {@link Constants#RENDER_LAYER_HEADER}, {@link Constants#RENDER_LAYER_BACKGROUND} or
+	 *            {@link Constants#RENDER_LAYER_EVENTS}
+	 * @return Number of times the layer was drawn
+	 */
+	public int getRenderLayerRebuildCount(final int layer) {
+		checkWidget();
+		return _layerCache.getRebuildCount(layer);
+	}
+
+	/**
+	 * Resets the counts returned by {@link #getRenderLayerRebuildCount(int)} to zero.
+	 */
+	public void resetRenderLayerRebuildCounts() {
+		checkWidget();
+		_layerCache.resetRebuildCounts();
+	}
+
 	/**
 	 * Adds a listener that will be notified of Gantt events.
 	 *
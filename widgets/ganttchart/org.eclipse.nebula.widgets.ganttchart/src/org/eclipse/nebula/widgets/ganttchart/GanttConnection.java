@@ -80,7 +80,11 @@ public class GanttConnection implements Cloneable {
 	 * @param source Source event
 	 */
 	public void setSource(final GanttEvent source) {
+		final GanttEvent oldSource = _source;
 		this._source = source;
+		if (_parent != null) {
+			_parent.connectionChanged(this, oldSource, _target);
+		}
 	}
 
 	/**
@@ -98,7 +102,11 @@ public class GanttConnection implements Cloneable {
 	 * @param target Target event
 	 */
 	public void setTarget(final GanttEvent target) {
+		final GanttEvent oldTarget = _target;
 		this._target = target;
+		if (_parent != null) {
+			_parent.connectionChanged(this, _source, oldTarget);
+		}
 	}
 
 	/**
@@ -0,0 +1,347 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.nebula.widgets.ganttchart;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The dependencies between the events of a chart, kept up to date as connections are added and removed. Each
+ * {@link GanttConnection} is an edge from its source to its target event.
+ * <p>
+ * Direct successors and predecessors are looked up in constant time. The transitive closures returned by
+ * {@link #getDownstream(GanttEvent)}, {@link #getUpstream(GanttEvent)} and {@link #getLinked(GanttEvent)} are computed
+ * when first requested and cached. A changed edge only drops the closures it can change: the downstream closures of
+ * the events upstream of its source, the upstream closures of the events downstream of its target, and the linked
+ * groups of its two events.
+ * <p>
+ * The graph is owned by the {@link GanttComposite} and changed through its connection methods. Returned sets are read
+ * only and must not be kept across changes of the connections.
+ */
+public class GanttDependencyGraph {
+
+	private static final class Node {
+		// neighbor event to the connection with it
+		private final Map<GanttEvent, GanttConnection> _out = new LinkedHashMap<GanttEvent, GanttConnection>();
+		private final Map<GanttEvent, GanttConnection> _in = new LinkedHashMap<GanttEvent, GanttConnection>();
+	}
+
+	private final Map<GanttEvent, Node> _nodes = new HashMap<GanttEvent, Node>();
+
+	private int _connectionCount;
+
+	private final Map<GanttEvent, Set<GanttEvent>> _downstream = new HashMap<GanttEvent, Set<GanttEvent>>();
+
+	private final Map<GanttEvent, Set<GanttEvent>> _upstream = new HashMap<GanttEvent, Set<GanttEvent>>();
+
+	// all events of a linked group share the same set
+	private final Map<GanttEvent, Set<GanttEvent>> _linked = new HashMap<GanttEvent, Set<GanttEvent>>();
+
+	GanttDependencyGraph() {
+		super();
+	}
+
+	/**
+	 * Adds a connection as an edge.
+	 *
+	 * @param connection Connection to add
+	 * @return false if the connection has no source or target, or if its events are already connected in that direction
+	 */
+	boolean add(final GanttConnection connection) {
+		final GanttEvent source = connection.getSource();
+		final GanttEvent target = connection.getTarget();
+		if (source == null || target == null) {
+			return false;
+		}
+
+		final Node sourceNode = getOrCreateNode(source);
+		if (sourceNode._out.containsKey(target)) {
+			return false;
+		}
+
+		invalidate(source, target);
+		sourceNode._out.put(target, connection);
+		getOrCreateNode(target)._in.put(source, connection);
+		_connectionCount++;
+		return true;
+	}
+
+	/**
+	 * Removes the edge between two events.
+	 *
+	 * @param source Source event
+	 * @param target Target event
+	 * @return the connection of the edge, or null if there was none
+	 */
+	GanttConnection remove(final GanttEvent source, final GanttEvent target) {
+		final Node sourceNode = _nodes.get(source);
+		if (sourceNode == null || !sourceNode._out.containsKey(target)) {
+			return null;
+		}
+
+		invalidate(source, target);
+		final GanttConnection connection = sourceNode._out.remove(target);
+		final Node targetNode = _nodes.get(target);
+		targetNode._in.remove(source);
+		removeIfUnconnected(source, sourceNode);
+		removeIfUnconnected(target, targetNode);
+		_connectionCount--;
+		return connection;
+	}
+
+	/**
+	 * Replaces all edges with the given connections.
+	 *
+	 * @param connections Connections to add
+	 */
+	void rebuild(final Collection<GanttConnection> connections) {
+		clear();
+		for (final GanttConnection connection : connections) {
+			add(connection);
+		}
+	}
+
+	/**
+	 * Removes all edges.
+	 */
+	void clear() {
+		_nodes.clear();
+		_connectionCount = 0;
+		_downstream.clear();
+		_upstream.clear();
+		_linked.clear();
+	}
+
+	/**
+	 * Returns the number of connections in the graph. Connections between the same events in the same direction are
+	 * counted once.
+	 *
+	 * @return Number of connections
+	 */
+	public int getConnectionCount() {
+		return _connectionCount;
+	}
+
+	/**
+	 * Returns the connection from one event to another.
+	 *
+	 * @param source Source event
+	 * @param target Target event
+	 * @return the connection, or null if the events are not connected in that direction
+	 */
+	public GanttConnection getConnection(final GanttEvent source, final GanttEvent target) {
+		final Node node = _nodes.get(source);
+		return node == null ? null : node._out.get(target);
+	}
+
+	/**
+	 * Returns all connections from or to an event.
+	 *
+	 * @param event Event
+	 * @return a new list of the connections
+	 */
+	public List<GanttConnection> getConnections(final GanttEvent event) {
+		final List<GanttConnection> ret = new ArrayList<GanttConnection>();
+		final Node node = _nodes.get(event);
+		if (node != null) {
+			ret.addAll(node._out.values());
+			for (final GanttConnection connection : node._in.values()) {
+				// a connection of the event to itself is in both maps
+				if (connection.getSource() != event) {
+					ret.add(connection);
+				}
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns true if the given event is connected to another.
+	 *
+	 * @param event Event to check
+	 * @return true if the event is the source or target of a connection
+	 */
+	public boolean isConnected(final GanttEvent event) {
+		return _nodes.containsKey(event);
+	}
+
+	/**
+	 * Returns the events that an event connects to directly.
+	 *
+	 * @param event Source event
+	 * @return Target events of the connections from the event
+	 */
+	public Set<GanttEvent> getSuccessors(final GanttEvent event) {
+		final Node node = _nodes.get(event);
+		if (node == null) {
+			return Collections.emptySet();
+		}
+		return Collections.unmodifiableSet(node._out.keySet());
+	}
+
+	/**
+	 * Returns the events that connect directly to an event.
+	 *
+	 * @param event Target event
+	 * @return Source events of the connections to the event
+	 */
+	public Set<GanttEvent> getPredecessors(final GanttEvent event) {
+		final Node node = _nodes.get(event);
+		if (node == null) {
+			return Collections.emptySet();
+		}
+		return Collections.unmodifiableSet(node._in.keySet());
+	}
+
+	/**
+	 * Returns all events that depend on an event, directly or through other events. The event itself is only part of
+	 * the result if it depends on itself through a cycle.
+	 *
+	 * @param event Source event
+	 * @return Events reachable by following connections from source to target
+	 */
+	public Set<GanttEvent> getDownstream(final GanttEvent event) {
+		Set<GanttEvent> ret = _downstream.get(event);
+		if (ret == null) {
+			ret = Collections.unmodifiableSet(reach(event, false));
+			_downstream.put(event, ret);
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns all events that an event depends on, directly or through other events. The event itself is only part of
+	 * the result if it depends on itself through a cycle.
+	 *
+	 * @param event Target event
+	 * @return Events reachable by following connections from target to source
+	 */
+	public Set<GanttEvent> getUpstream(final GanttEvent event) {
+		Set<GanttEvent> ret = _upstream.get(event);
+		if (ret == null) {
+			ret = Collections.unmodifiableSet(reach(event, true));
+			_upstream.put(event, ret);
+		}
+		return ret;
+	}
+
+	/**
+	 * Returns an event and all events linked to it by connections in either direction. These are the events that move
+	 * along when linked events are dragged.
+	 *
+	 * @param event Event
+	 * @return The event and all events linked to it
+	 */
+	public Set<GanttEvent> getLinked(final GanttEvent event) {
+		Set<GanttEvent> ret = _linked.get(event);
+		if (ret == null) {
+			final Set<GanttEvent> group = new LinkedHashSet<GanttEvent>();
+			group.add(event);
+			final List<GanttEvent> queue = new ArrayList<GanttEvent>();
+			queue.add(event);
+			for (int i = 0; i < queue.size(); i++) {
+				final Node node = _nodes.get(queue.get(i));
+				if (node == null) {
+					continue;
+				}
+				for (final GanttEvent next : node._out.keySet()) {
+					if (group.add(next)) {
+						queue.add(next);
+					}
+				}
+				for (final GanttEvent next : node._in.keySet()) {
+					if (group.add(next)) {
+						queue.add(next);
+					}
+				}
+			}
+
+			ret = Collections.unmodifiableSet(group);
+			for (final GanttEvent member : group) {
+				_linked.put(member, ret);
+			}
+		}
+		return ret;
+	}
+
+	// breadth first walk along the connections in one direction
+	private Set<GanttEvent> reach(final GanttEvent event, final boolean upstream) {
+		final Set<GanttEvent> ret = new LinkedHashSet<GanttEvent>();
+		final List<GanttEvent> queue = new ArrayList<GanttEvent>();
+		queue.add(event);
+		for (int i = 0; i < queue.size(); i++) {
+			final Node node = _nodes.get(queue.get(i));
+			if (node == null) {
+				continue;
+			}
+			for (final GanttEvent next : (upstream ? node._in : node._out).keySet()) {
+				if (ret.add(next)) {
+					queue.add(next);
+				}
+			}
+		}
+		return ret;
+	}
+
+	// drops the cached closures that an edge from source to target takes part in. Called before the edge is added or
+	// removed; the events upstream of the source and downstream of the target are the same either way.
+	private void invalidate(final GanttEvent source, final GanttEvent target) {
+		if (!_downstream.isEmpty()) {
+			_downstream.remove(source);
+			for (final GanttEvent event : reach(source, true)) {
+				_downstream.remove(event);
+			}
+		}
+		if (!_upstream.isEmpty()) {
+			_upstream.remove(target);
+			for (final GanttEvent event : reach(target, false)) {
+				_upstream.remove(event);
+			}
+		}
+		invalidateLinked(source);
+		invalidateLinked(target);
+	}
+
+	private void invalidateLinked(final GanttEvent event) {
+		final Set<GanttEvent> group = _linked.get(event);
+		if (group != null) {
+			for (final GanttEvent member : group) {
+				_linked.remove(member);
+			}
+		}
+	}
+
+	private Node getOrCreateNode(final GanttEvent event) {
+		Node node = _nodes.get(event);
+		if (node == null) {
+			node = new Node();
+			_nodes.put(event, node);
+		}
+		return node;
+	}
+
+	private void removeIfUnconnected(final GanttEvent event, final Node node) {
+		if (node._out.isEmpty() && node._in.isEmpty()) {
+			_nodes.remove(event);
+		}
+	}
+}
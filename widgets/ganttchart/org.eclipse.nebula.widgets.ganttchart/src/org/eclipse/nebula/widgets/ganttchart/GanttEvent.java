@@ -347,7 +347,7 @@ public class GanttEvent extends AbstractGanttEvent implements IGanttChartItem, C
 
     private final void init() {
         _scopeEvents = new ArrayList();
-        _parentComposite.addEvent(this, true);
+        _parentComposite.eventCreated(this);
 
         updateDaysBetweenStartAndEnd();
     }
@@ -744,6 +744,7 @@ public class GanttEvent extends AbstractGanttEvent implements IGanttChartItem, C
     public void setRevisedStart(final int dDayStart) {
         _revisedStart = _parentComposite.getDDayCalendar();
         _revisedStart.add(Calendar.DATE, dDayStart);
+        _parentComposite.eventSpanChanged(this);
     }
 
     /**
@@ -754,6 +755,7 @@ public class GanttEvent extends AbstractGanttEvent implements IGanttChartItem, C
     public void setRevisedEnd(final int dDayEnd) {
         _revisedEnd = _parentComposite.getDDayCalendar();
         _revisedEnd.add(Calendar.DATE, dDayEnd);
+        _parentComposite.eventSpanChanged(this);
     }
 
     /**
@@ -976,6 +978,8 @@ public class GanttEvent extends AbstractGanttEvent implements IGanttChartItem, C
 
             _scopeEvents.clear();
         }
+
+        _parentComposite.eventSpanChanged(this);
     }
 
     /**
@@ -1158,7 +1162,24 @@ public class GanttEvent extends AbstractGanttEvent implements IGanttChartItem, C
      * @param hidden true to hide event.
      */
     public void setHidden(boolean hidden) {
+        if (_hidden == hidden) {
+            return;
+        }
+
         _hidden = hidden;
+        _parentComposite.eventHiddenChanged(this);
+    }
+
+    /**
+     * Sets the layer of this event.
+     * 
+     * @param layer Layer
+     * @see GanttComposite#hideLayer(int)
+     */
+    public void setLayer(final int layer) {
+        super.setLayer(layer);
+        // the layer may be hidden, which the chart needs to notice
+        _parentComposite.eventSpanChanged(this);
     }
 
     /**
@@ -1363,6 +1384,7 @@ public class GanttEvent extends AbstractGanttEvent implements IGanttChartItem, C
      */
     public void setNoMoveBeforeDate(final Calendar noMoveBeforeDate) {
         _noMoveBeforeDate = noMoveBeforeDate;
+        _parentComposite.eventSpanChanged(this);
     }
 
     /**
@@ -1383,6 +1405,7 @@ public class GanttEvent extends AbstractGanttEvent implements IGanttChartItem, C
      */
     public void setNoMoveAfterDate(final Calendar noMoveAfterDate) {
         _noMoveAfterDate = noMoveAfterDate;
+        _parentComposite.eventSpanChanged(this);
     }
 
     /**
@@ -1745,6 +1768,9 @@ public class GanttEvent extends AbstractGanttEvent implements IGanttChartItem, C
     }
 
     private final void updateDaysBetweenStartAndEnd() {
+        // the dates decide where the chart looks for this event when checking what is visible
+        _parentComposite.eventSpanChanged(this);
+
         if (getActualStartDate() == null || getActualEndDate() == null) {
             _daysBetweenStartAndEnd = -1;
             return;
@@ -0,0 +1,287 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.nebula.widgets.ganttchart;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Interval index over the time span of GanttEvents, used to find the events that may be visible in a date range
+ * without looking at every event of the chart.
+ * <p>
+ * The span of an event covers everything that can make it visible: its planned and revised dates as well as its
+ * movement constraints. Scope events and events without dates have an unbounded span and are always returned.
+ * <p>
+ * The bulk of the events is kept in an array sorted by span start that is used as an implicit, augmented binary
+ * search tree, where each node knows the largest span end in its subtree. A query for a range thus costs O(log n + k)
+ * for k results. Events that are added, moved or resized after the tree was built are kept in a small side set that is
+ * scanned linearly until the tree is rebuilt, which happens once the side set grows beyond a fraction of the tree.
+ */
+class GanttEventIndex {
+
+	/**
+	 * Smallest number of changed events before the tree is rebuilt.
+	 */
+	private static final int MIN_PENDING = 64;
+
+	/**
+	 * Subtrees up to this level are scanned linearly instead of walked.
+	 */
+	private static final int SCAN_LEVEL = 3;
+
+	/** current span of each indexed event, as {start, end} in milliseconds */
+	private final Map<GanttEvent, long[]> _spans = new HashMap<GanttEvent, long[]>();
+
+	/** events whose span is not (or no longer) reflected by the tree */
+	private final Set<GanttEvent> _pending = new HashSet<GanttEvent>();
+
+	private GanttEvent[] _events = new GanttEvent[0];
+	private long[] _starts = new long[0];
+	private long[] _ends = new long[0];
+	private long[] _maxEnds = new long[0];
+	private int _maxLevel;
+
+	/**
+	 * Adds an event to the index or updates its span if already indexed.
+	 *
+	 * @param event GanttEvent to add
+	 */
+	public void add(final GanttEvent event) {
+		_spans.put(event, getSpan(event));
+		_pending.add(event);
+	}
+
+	/**
+	 * Adds all given events.
+	 *
+	 * @param events GanttEvents to add
+	 */
+	public void addAll(final Collection<?> events) {
+		for (final Iterator<?> it = events.iterator(); it.hasNext();) {
+			add((GanttEvent) it.next());
+		}
+	}
+
+	/**
+	 * Removes an event from the index.
+	 *
+	 * @param event GanttEvent to remove
+	 */
+	public void remove(final GanttEvent event) {
+		if (_spans.remove(event) != null) {
+			// still in the tree, skipped there as it is no longer in the span map
+			_pending.add(event);
+		}
+	}
+
+	/**
+	 * Removes all given events.
+	 *
+	 * @param events GanttEvents to remove
+	 */
+	public void removeAll(final Collection<?> events) {
+		for (final Iterator<?> it = events.iterator(); it.hasNext();) {
+			remove((GanttEvent) it.next());
+		}
+	}
+
+	/**
+	 * Updates the span of an event after its dates changed. Events that are not indexed are ignored.
+	 *
+	 * @param event GanttEvent that changed
+	 */
+	public void update(final GanttEvent event) {
+		if (_spans.containsKey(event)) {
+			add(event);
+		}
+	}
+
+	/**
+	 * Removes all events.
+	 */
+	public void clear() {
+		_spans.clear();
+		_pending.clear();
+		_events = new GanttEvent[0];
+		_starts = new long[0];
+		_ends = new long[0];
+		_maxEnds = new long[0];
+		_maxLevel = 0;
+	}
+
+	/**
+	 * @return number of indexed events
+	 */
+	public int size() {
+		return _spans.size();
+	}
+
+	/**
+	 * Collects all events whose span overlaps the given range, both ends inclusive.
+	 *
+	 * @param from range start in milliseconds
+	 * @param to range end in milliseconds
+	 * @param result collection the events are added to
+	 */
+	public void query(final long from, final long to, final Collection<GanttEvent> result) {
+		if (_pending.size() > Math.max(MIN_PENDING, _events.length / 8)) {
+			rebuild();
+		}
+
+		queryTree(from, to, result);
+
+		for (final Iterator<GanttEvent> it = _pending.iterator(); it.hasNext();) {
+			final GanttEvent event = it.next();
+			final long[] span = _spans.get(event);
+			if (span != null && span[0] <= to && span[1] >= from) {
+				result.add(event);
+			}
+		}
+	}
+
+	/**
+	 * Returns the span of an event, see the class comment.
+	 *
+	 * @param event GanttEvent
+	 * @return {start, end} in milliseconds
+	 */
+	static long[] getSpan(final GanttEvent event) {
+		if (event.isScope() || event.getActualStartDate() == null || event.getActualEndDate() == null) {
+			return new long[] { Long.MIN_VALUE, Long.MAX_VALUE };
+		}
+
+		long start = Math.min(millis(event.getStartDate(), Long.MAX_VALUE), millis(event.getRevisedStart(), Long.MAX_VALUE));
+		start = Math.min(start, millis(event.getNoMoveBeforeDate(), Long.MAX_VALUE));
+		long end = Math.max(millis(event.getEndDate(), Long.MIN_VALUE), millis(event.getRevisedEnd(), Long.MIN_VALUE));
+		end = Math.max(end, millis(event.getNoMoveAfterDate(), Long.MIN_VALUE));
+
+		return new long[] { start, Math.max(start, end) };
+	}
+
+	private static long millis(final Calendar cal, final long fallback) {
+		return cal == null ? fallback : cal.getTimeInMillis();
+	}
+
+	private void rebuild() {
+		final int n = _spans.size();
+		final GanttEvent[] events = _spans.keySet().toArray(new GanttEvent[n]);
+		Arrays.sort(events, new Comparator<GanttEvent>() {
+			public int compare(final GanttEvent a, final GanttEvent b) {
+				final long sa = _spans.get(a)[0];
+				final long sb = _spans.get(b)[0];
+				return sa < sb ? -1 : sa == sb ? 0 : 1;
+			}
+		});
+
+		_events = events;
+		_starts = new long[n];
+		_ends = new long[n];
+		_maxEnds = new long[n];
+		for (int i = 0; i < n; i++) {
+			final long[] span = _spans.get(events[i]);
+			_starts[i] = span[0];
+			_ends[i] = span[1];
+			_maxEnds[i] = span[1];
+		}
+		_pending.clear();
+
+		// node i is on level k if its k lowest bits are set and bit k is not. Nodes beyond the array end are
+		// virtual, their max end is carried along as "last"
+		if (n == 0) {
+			_maxLevel = 0;
+			return;
+		}
+		int lastIndex = (n - 1) & ~1;
+		long last = _ends[lastIndex];
+		int level = 1;
+		for (; 1 << level <= n; level++) {
+			final int x = 1 << (level - 1);
+			final int step = x << 2;
+			for (int i = (x << 1) - 1; i < n; i += step) {
+				final long left = _maxEnds[i - x];
+				final long right = i + x < n ? _maxEnds[i + x] : last;
+				_maxEnds[i] = Math.max(_ends[i], Math.max(left, right));
+			}
+			lastIndex = ((lastIndex >> level) & 1) != 0 ? lastIndex - x : lastIndex + x;
+			if (lastIndex < n && _maxEnds[lastIndex] > last) {
+				last = _maxEnds[lastIndex];
+			}
+		}
+		_maxLevel = level - 1;
+	}
+
+	private void queryTree(final long from, final long to, final Collection<GanttEvent> result) {
+		final int n = _events.length;
+		if (n == 0) {
+			return;
+		}
+
+		// explicit stack of (level, node, visited left) entries
+		final int[] levels = new int[64];
+		final int[] nodes = new int[64];
+		final boolean[] leftDone = new boolean[64];
+		int top = 0;
+		levels[top] = _maxLevel;
+		nodes[top] = (1 << _maxLevel) - 1;
+		leftDone[top++] = false;
+
+		while (top > 0) {
+			top--;
+			final int level = levels[top];
+			final int node = nodes[top];
+
+			if (level <= SCAN_LEVEL) {
+				final int first = node >> level << level;
+				final int end = Math.min(n, first + (1 << (level + 1)) - 1);
+				for (int i = first; i < end && _starts[i] <= to; i++) {
+					if (_ends[i] >= from) {
+						addIfCurrent(i, result);
+					}
+				}
+			} else if (!leftDone[top]) {
+				// revisit this node after its left subtree
+				leftDone[top++] = true;
+				final int left = node - (1 << (level - 1));
+				if (left >= n || _maxEnds[left] >= from) {
+					levels[top] = level - 1;
+					nodes[top] = left;
+					leftDone[top++] = false;
+				}
+			} else if (node < n && _starts[node] <= to) {
+				if (_ends[node] >= from) {
+					addIfCurrent(node, result);
+				}
+				levels[top] = level - 1;
+				nodes[top] = node + (1 << (level - 1));
+				leftDone[top++] = false;
+			}
+		}
+	}
+
+	private void addIfCurrent(final int index, final Collection<GanttEvent> result) {
+		final GanttEvent event = _events[index];
+		// removed and changed events are reported from the pending set, if at all
+		if (!_pending.contains(event)) {
+			result.add(event);
+		}
+	}
+}
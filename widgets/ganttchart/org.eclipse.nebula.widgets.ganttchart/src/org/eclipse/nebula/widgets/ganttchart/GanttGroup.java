@@ -55,6 +55,7 @@ public class GanttGroup extends AbstractGanttEvent implements IGanttChartItem {
     public void addEvent(final GanttEvent event) {
         if (!_events.contains(event)) {
             _events.add(event);
+            _chart.getGanttComposite().groupChanged(this);
         }
 
         event.setGanttGroup(this);
@@ -70,7 +71,9 @@ public class GanttGroup extends AbstractGanttEvent implements IGanttChartItem {
             event.setGanttGroup(null);
         }
 
-        _events.remove(event);
+        if (_events.remove(event)) {
+            _chart.getGanttComposite().groupChanged(this);
+        }
     }
 
     /**
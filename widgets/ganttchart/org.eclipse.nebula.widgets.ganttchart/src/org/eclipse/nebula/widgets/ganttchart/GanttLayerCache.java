@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.nebula.widgets.ganttchart;
+
+import java.util.List;
+
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * Offscreen images of the parts of the chart that do not change between most paints.
+ * <p>
+ * The background layer holds the fills, lines, phases and special date ranges, and the header when it scrolls with the
+ * chart. The events layer is a copy of the background with the events and connections drawn on top. The header layer
+ * holds the locked header, which is drawn over everything else. Each layer is drawn again only when it was
+ * invalidated; invalidating the background also invalidates the events drawn on it.
+ * <p>
+ * Scrolling, zooming and resizing are detected by comparing keys of the visible range with the ones the layers were
+ * built for. While events are dragged, they are left out of the events layer and drawn on top of it on every paint,
+ * so a drag step only copies the cached images and draws the dragged events.
+ */
+class GanttLayerCache {
+
+	static final int	HEADER		= Constants.RENDER_LAYER_HEADER;
+	static final int	BACKGROUND	= Constants.RENDER_LAYER_BACKGROUND;
+	static final int	EVENTS		= Constants.RENDER_LAYER_EVENTS;
+
+	private static final int LAYER_COUNT = 3;
+
+	private final Image[] _images = new Image[LAYER_COUNT];
+
+	private final boolean[] _valid = new boolean[LAYER_COUNT];
+
+	private final int[] _rebuildCounts = new int[LAYER_COUNT];
+
+	private List<Object> _headerKey;
+
+	private List<Object> _backgroundKey;
+
+	private List<Object> _eventsKey;
+
+	/**
+	 * Invalidates the layers whose keys differ from the ones they were built for.
+	 *
+	 * @param headerKey Everything the locked header depends on
+	 * @param backgroundKey Everything the background depends on
+	 * @param eventsKey Everything the events depend on besides the background, such as the selection and the events
+	 *            that are left out while being dragged
+	 */
+	void validate(final List<Object> headerKey, final List<Object> backgroundKey, final List<Object> eventsKey) {
+		if (!headerKey.equals(_headerKey)) {
+			_headerKey = headerKey;
+			invalidate(HEADER);
+		}
+		if (!backgroundKey.equals(_backgroundKey)) {
+			_backgroundKey = backgroundKey;
+			invalidate(BACKGROUND);
+		}
+		if (!eventsKey.equals(_eventsKey)) {
+			_eventsKey = eventsKey;
+			invalidate(EVENTS);
+		}
+	}
+
+	/**
+	 * Invalidates a layer, and the events layer if the background is invalidated.
+	 *
+	 * @param layer Layer to invalidate
+	 */
+	void invalidate(final int layer) {
+		_valid[layer] = false;
+		if (layer == BACKGROUND) {
+			_valid[EVENTS] = false;
+		}
+	}
+
+	void invalidateAll() {
+		for (int i = 0; i < LAYER_COUNT; i++) {
+			_valid[i] = false;
+		}
+	}
+
+	boolean isValid(final int layer) {
+		return _valid[layer];
+	}
+
+	/**
+	 * Starts drawing a layer again. The events layer starts as a copy of the background layer, which must be valid. The
+	 * other layers start filled with the background color of the source, as the control is before it is painted.
+	 *
+	 * @param layer Layer to draw
+	 * @param source GC of the paint event, whose font and drawing settings are copied
+	 * @param width Width of the layer
+	 * @param height Height of the layer
+	 * @return GC to draw the layer with, to be passed to {@link #end(int, GC)}
+	 */
+	GC begin(final int layer, final GC source, final int width, final int height) {
+		Image image = _images[layer];
+		if (image == null || image.getBounds().width != width || image.getBounds().height != height) {
+			if (image != null) {
+				image.dispose();
+			}
+			image = new Image(Display.getCurrent(), width, height);
+			_images[layer] = image;
+		}
+
+		final GC gc = new GC(image);
+		gc.setFont(source.getFont());
+		gc.setForeground(source.getForeground());
+		gc.setBackground(source.getBackground());
+		gc.setAntialias(source.getAntialias());
+		gc.setTextAntialias(source.getTextAntialias());
+		if (layer == EVENTS) {
+			gc.drawImage(_images[BACKGROUND], 0, 0);
+		} else {
+			gc.fillRectangle(0, 0, width, height);
+		}
+
+		_rebuildCounts[layer]++;
+		return gc;
+	}
+
+	/**
+	 * Finishes drawing a layer.
+	 *
+	 * @param layer Layer that was drawn
+	 * @param gc GC returned by {@link #begin(int, GC, int, int)}
+	 */
+	void end(final int layer, final GC gc) {
+		gc.dispose();
+		_valid[layer] = true;
+	}
+
+	/**
+	 * Copies a valid layer onto a GC.
+	 *
+	 * @param gc GC to draw on
+	 * @param layer Layer to draw
+	 */
+	void draw(final GC gc, final int layer) {
+		gc.drawImage(_images[layer], 0, 0);
+	}
+
+	int getRebuildCount(final int layer) {
+		return _rebuildCounts[layer];
+	}
+
+	void resetRebuildCounts() {
+		for (int i = 0; i < LAYER_COUNT; i++) {
+			_rebuildCounts[i] = 0;
+		}
+	}
+
+	void dispose() {
+		for (int i = 0; i < LAYER_COUNT; i++) {
+			if (_images[i] != null) {
+				_images[i].dispose();
+				_images[i] = null;
+			}
+			_valid[i] = false;
+		}
+		_headerKey = null;
+		_backgroundKey = null;
+		_eventsKey = null;
+	}
+}
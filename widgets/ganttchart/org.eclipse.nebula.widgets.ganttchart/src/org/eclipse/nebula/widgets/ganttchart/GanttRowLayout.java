@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.nebula.widgets.ganttchart;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.swt.graphics.Rectangle;
+
+/**
+ * Row order of the events of each section, with groups flattened into their members, and which sections need their
+ * events laid out again. Charts without sections use the <code>null</code> section.
+ * <p>
+ * Adding, removing or moving events, groups and sections only invalidates the section they belong to, so a paint lays
+ * out that section again and keeps the rows of all others. Sections below a changed one are laid out again as well, as
+ * their bounds move. Changes of the visible range, such as scrolling and zooming, still lay out every section, but
+ * reuse the cached rows.
+ */
+class GanttRowLayout {
+
+	private final Map<GanttSection, List<GanttEvent>> _rows = new HashMap<GanttSection, List<GanttEvent>>();
+
+	// change count of the item list the rows were built from, a different count means the list was changed directly
+	private final Map<GanttSection, Integer> _sourceChangeCounts = new HashMap<GanttSection, Integer>();
+
+	private final Map<GanttGroup, GanttSection> _groupSections = new HashMap<GanttGroup, GanttSection>();
+
+	private final Map<GanttSection, Rectangle> _layoutBounds = new HashMap<GanttSection, Rectangle>();
+
+	private final Set<GanttSection> _dirty = new HashSet<GanttSection>();
+
+	private Set<GanttEvent> _groupedEvents;
+
+	/**
+	 * Returns the events of a section in row order. Groups are replaced by their members.
+	 *
+	 * @param section Section, or null for charts without sections
+	 * @param items Events and groups of the section
+	 * @return Events in row order
+	 */
+	List<GanttEvent> getRows(final GanttSection section, final ChangeCountingList<?> items) {
+		List<GanttEvent> rows = _rows.get(section);
+		final Integer changeCount = _sourceChangeCounts.get(section);
+		if (rows != null && changeCount != null && changeCount.intValue() == items.getChangeCount()) {
+			return rows;
+		}
+
+		rows = new ArrayList<GanttEvent>(items.size());
+		for (int i = 0; i < items.size(); i++) {
+			final Object item = items.get(i);
+			if (item instanceof GanttGroup) {
+				final GanttGroup group = (GanttGroup) item;
+				final List<?> members = group.getEventMembers();
+				for (int j = 0; j < members.size(); j++) {
+					rows.add((GanttEvent) members.get(j));
+				}
+				_groupSections.put(group, section);
+			} else {
+				rows.add((GanttEvent) item);
+			}
+		}
+
+		_rows.put(section, rows);
+		_sourceChangeCounts.put(section, Integer.valueOf(items.getChangeCount()));
+		return rows;
+	}
+
+	/**
+	 * Returns all events that are members of a group.
+	 *
+	 * @param groups Groups of the chart
+	 * @return Grouped events
+	 */
+	Set<GanttEvent> getGroupedEvents(final List<GanttGroup> groups) {
+		if (_groupedEvents == null) {
+			_groupedEvents = new HashSet<GanttEvent>();
+			for (int i = 0; i < groups.size(); i++) {
+				final List<?> members = groups.get(i).getEventMembers();
+				for (int j = 0; j < members.size(); j++) {
+					_groupedEvents.add((GanttEvent) members.get(j));
+				}
+			}
+		}
+		return _groupedEvents;
+	}
+
+	/**
+	 * Whether the events of a section need to be laid out, as its rows changed or it moved since the last layout.
+	 *
+	 * @param section Section, or null for charts without sections
+	 * @param bounds Bounds the section is laid out in
+	 * @return true if the section needs a layout
+	 */
+	boolean needsLayout(final GanttSection section, final Rectangle bounds) {
+		if (_dirty.contains(section)) {
+			return true;
+		}
+
+		final Rectangle last = _layoutBounds.get(section);
+		return last == null || last.x != bounds.x || last.y != bounds.y || last.width != bounds.width;
+	}
+
+	/**
+	 * Remembers that a section was laid out.
+	 *
+	 * @param section Section, or null for charts without sections
+	 * @param bounds Bounds the section was laid out in
+	 */
+	void laidOut(final GanttSection section, final Rectangle bounds) {
+		_dirty.remove(section);
+		_layoutBounds.put(section, new Rectangle(bounds.x, bounds.y, bounds.width, bounds.height));
+	}
+
+	boolean hasChanges() {
+		return !_dirty.isEmpty();
+	}
+
+	/**
+	 * Invalidates the rows of a section.
+	 *
+	 * @param section Section whose events changed, or null for charts without sections
+	 */
+	void invalidate(final GanttSection section) {
+		_rows.remove(section);
+		_sourceChangeCounts.remove(section);
+		_dirty.add(section);
+	}
+
+	/**
+	 * Invalidates the rows of the section that shows a group, as well as the grouped events.
+	 *
+	 * @param group Group whose members changed
+	 */
+	void invalidate(final GanttGroup group) {
+		_groupedEvents = null;
+		// groups that are not part of a section are laid out with the events of the chart
+		invalidate(_groupSections.get(group));
+	}
+
+	/**
+	 * Forgets a section that was removed from the chart.
+	 *
+	 * @param section Removed section
+	 */
+	void remove(final GanttSection section) {
+		_rows.remove(section);
+		_sourceChangeCounts.remove(section);
+		_layoutBounds.remove(section);
+		_dirty.remove(section);
+		for (final Iterator<GanttSection> it = _groupSections.values().iterator(); it.hasNext();) {
+			if (it.next() == section) {
+				it.remove();
+			}
+		}
+	}
+
+	void invalidateAll() {
+		_rows.clear();
+		_sourceChangeCounts.clear();
+		_groupSections.clear();
+		_layoutBounds.clear();
+		_dirty.clear();
+		_groupedEvents = null;
+	}
+}
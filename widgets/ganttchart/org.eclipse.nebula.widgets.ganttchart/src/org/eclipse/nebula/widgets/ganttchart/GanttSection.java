@@ -15,7 +15,9 @@
 package org.eclipse.nebula.widgets.ganttchart;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
@@ -42,12 +44,14 @@ public class GanttSection implements IFillBackgroundColors {
     private Object             	  _data;
     private String                _name;
     private GanttComposite        _parent;
-    private List                  _ganttEvents;
+    private ChangeCountingList    _ganttEvents;
+    // items of _ganttEvents for membership checks, rebuilt when the list was changed other than by appending
+    private Set<Object>           _members;
+    private int                   _membersChangeCount;
     // this list contains events that are being vertically DND'd across the section
     // and need to be rendered but should not count as actual member-events until (if) they are dropped
     private List                  _dndGanttEvents;
     private Rectangle             _bounds;
-    private Image                 _nameImage;
     private Image				  _additionalImage;
     private boolean               _needsNameUpdate;
     private IFillBackgroundColors _fillColorManager;
@@ -73,7 +77,7 @@ public class GanttSection implements IFillBackgroundColors {
     private boolean               _inheritBackgroud;
 
     private GanttSection() {
-        this._ganttEvents = new ArrayList();
+        this._ganttEvents = new ChangeCountingList();
         this._dndGanttEvents = new ArrayList();
     }
 
@@ -124,9 +128,11 @@ public class GanttSection implements IFillBackgroundColors {
     public void addGanttEvent(final int index, final IGanttChartItem event) {
         int inx = index;
         
-        if (!_ganttEvents.contains(event)) {
+        if (!getMembers().contains(event)) {
             if (inx == -1) {
                 _ganttEvents.add(event);
+                _members.add(event);
+                _membersChangeCount = _ganttEvents.getChangeCount();
             } else {
                 if (inx > _ganttEvents.size()) {
                     inx = _ganttEvents.size();
@@ -136,7 +142,7 @@ public class GanttSection implements IFillBackgroundColors {
             if (event instanceof GanttEvent) {
                 ((GanttEvent) event).setGanttSection(this);
             }
-            
+            rowsChanged();
         }
     }
 
@@ -146,7 +152,27 @@ public class GanttSection implements IFillBackgroundColors {
      * @param event Item to remove
      */
     public void removeGanttEvent(final IGanttChartItem event) {
-        _ganttEvents.remove(event);
+        if (_ganttEvents.remove(event)) {
+            rowsChanged();
+        }
+    }
+
+    private Set<Object> getMembers() {
+        if (_members == null || _membersChangeCount != _ganttEvents.getChangeCount()) {
+            _members = new HashSet<Object>();
+            for (int i = 0; i < _ganttEvents.size(); i++) {
+                _members.add(_ganttEvents.get(i));
+            }
+            _membersChangeCount = _ganttEvents.getChangeCount();
+        }
+        return _members;
+    }
+
+    // only this section needs its events laid out again
+    private void rowsChanged() {
+        if (_parent != null) {
+            _parent.flagRowsChanged(this);
+        }
     }
 
 
@@ -383,15 +409,6 @@ public class GanttSection implements IFillBackgroundColors {
         this._bounds = bounds;
     }
 
-    Image getNameImage() {
-        return _nameImage;
-    }
-
-    void setNameImage(final Image nameImage) {
-        this._nameImage = nameImage;
-        this._needsNameUpdate = false;
-    }
-
     boolean needsNameUpdate() {
         return _needsNameUpdate;
     }
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.nebula.widgets.ganttchart;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.swt.graphics.Image;
+
+/**
+ * Images of vertical section names, keyed by everything the image shows: the name, font, colors, size, side and
+ * additional image. Sections with the same name and look share one image.
+ * <p>
+ * A changed name or look simply leads to a new key. The images that were not used since the last
+ * {@link #sweep()}, as their section was removed or changed, are disposed by it, so the cache never holds more
+ * images than there are sections.
+ */
+class GanttSectionNameCache {
+
+	private final Map<List<Object>, Image> _images = new HashMap<List<Object>, Image>();
+
+	private final Set<List<Object>> _used = new HashSet<List<Object>>();
+
+	/**
+	 * Returns a cached image.
+	 *
+	 * @param key Key of the image
+	 * @return the image, or null if there is none for the key
+	 */
+	Image get(final List<Object> key) {
+		final Image image = _images.get(key);
+		if (image != null) {
+			_used.add(key);
+		}
+		return image;
+	}
+
+	void put(final List<Object> key, final Image image) {
+		final Image old = _images.put(key, image);
+		if (old != null && old != image) {
+			old.dispose();
+		}
+		_used.add(key);
+	}
+
+	/**
+	 * Disposes the images that were not used since the last call.
+	 */
+	void sweep() {
+		if (_used.size() == _images.size()) {
+			_used.clear();
+			return;
+		}
+
+		for (final Iterator<Map.Entry<List<Object>, Image>> it = _images.entrySet().iterator(); it.hasNext();) {
+			final Map.Entry<List<Object>, Image> entry = it.next();
+			if (!_used.contains(entry.getKey())) {
+				entry.getValue().dispose();
+				it.remove();
+			}
+		}
+		_used.clear();
+	}
+
+	void dispose() {
+		for (final Image image : _images.values()) {
+			image.dispose();
+		}
+		_images.clear();
+		_used.clear();
+	}
+}
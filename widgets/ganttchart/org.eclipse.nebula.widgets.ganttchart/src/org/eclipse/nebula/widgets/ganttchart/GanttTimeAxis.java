@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.nebula.widgets.ganttchart;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * Time axis of the chart in epoch milliseconds, used to convert between dates and pixels without creating calendars.
+ * <p>
+ * The axis keeps the leftmost date of the chart (the origin) along with its local day number, so the distance of any
+ * date to the origin in days, seconds or time of day is a matter of a few subtractions. Day numbers are counted in the
+ * default time zone, which gives the same results as {@link DateHelper#daysBetween(Calendar, Calendar)} including
+ * daylight savings changes. The origin is refreshed whenever the leftmost date of the chart changes.
+ * <p>
+ * The axis also holds the tick marks of the header for the current paint as plain int arrays, the vertical lines of
+ * the chart are drawn from these.
+ */
+class GanttTimeAxis {
+
+	static final long MILLISECONDS_IN_DAY = 24L * 60 * 60 * 1000;
+
+	private TimeZone _zone = TimeZone.getDefault();
+
+	private boolean _originSet;
+	private long _origin;
+	private long _originDay;
+	private long _originTimeOfDay;
+
+	// the year view draws from the first day of the month of the origin
+	private long _monthOrigin;
+	private long _monthOriginDay;
+
+	// last result of getOriginPlusDays
+	private int _plusDays = Integer.MIN_VALUE;
+	private long _plusDaysMillis;
+
+	private int[] _ticks = new int[64];
+	private int _tickCount;
+	private int[] _majorTicks = new int[16];
+	private int _majorTickCount;
+
+	/**
+	 * Sets the leftmost date of the chart. Nothing is recalculated if the date did not change.
+	 *
+	 * @param origin leftmost date
+	 */
+	public void setOrigin(final Calendar origin) {
+		final long millis = origin.getTimeInMillis();
+		if (_originSet && millis == _origin) {
+			return;
+		}
+
+		_zone = TimeZone.getDefault();
+		_origin = millis;
+		_originDay = getDay(millis);
+		_originTimeOfDay = getTimeOfDay(millis);
+
+		final Calendar month = DateHelper.getNewCalendar(origin);
+		month.set(Calendar.DAY_OF_MONTH, 1);
+		_monthOrigin = month.getTimeInMillis();
+		_monthOriginDay = getDay(_monthOrigin);
+
+		_plusDays = Integer.MIN_VALUE;
+		_originSet = true;
+	}
+
+	/**
+	 * @return leftmost date in milliseconds
+	 */
+	public long getOrigin() {
+		return _origin;
+	}
+
+	/**
+	 * @param days number of days to add
+	 * @return the origin plus the given number of calendar days in milliseconds, at the same time of day
+	 */
+	public long getOriginPlusDays(final int days) {
+		if (days != _plusDays) {
+			final Calendar temp = Calendar.getInstance();
+			temp.setTimeInMillis(_origin);
+			temp.add(Calendar.DATE, days);
+			_plusDaysMillis = temp.getTimeInMillis();
+			_plusDays = days;
+		}
+		return _plusDaysMillis;
+	}
+
+	/**
+	 * @param millis date in milliseconds
+	 * @param monthStart true to count from the first day of the month of the origin
+	 * @return number of calendar days from the origin to the date, negative if the date is before
+	 */
+	public long getDaysFromOrigin(final long millis, final boolean monthStart) {
+		return getDay(millis) - (monthStart ? _monthOriginDay : _originDay);
+	}
+
+	/**
+	 * @param millis date in milliseconds
+	 * @param monthStart true to count from the first day of the month of the origin
+	 * @return number of whole seconds from the origin to the date, negative if the date is before
+	 */
+	public int getSecondsFromOrigin(final long millis, final boolean monthStart) {
+		return (int) ((millis - (monthStart ? _monthOrigin : _origin)) / 1000);
+	}
+
+	/**
+	 * Returns the difference between the time of day of the date and that of the origin, ignoring the days in between.
+	 *
+	 * @param millis date in milliseconds
+	 * @return difference in milliseconds, negative if the date is earlier in its day than the origin
+	 */
+	public long getTimeOfDayFromOrigin(final long millis) {
+		return getTimeOfDay(millis) - _originTimeOfDay;
+	}
+
+	private long getDay(final long millis) {
+		return Math.floorDiv(millis + _zone.getOffset(millis), MILLISECONDS_IN_DAY);
+	}
+
+	private long getTimeOfDay(final long millis) {
+		return Math.floorMod(millis + _zone.getOffset(millis), MILLISECONDS_IN_DAY);
+	}
+
+	/**
+	 * Removes all tick marks, called before the header is laid out.
+	 */
+	public void clearTicks() {
+		_tickCount = 0;
+		_majorTickCount = 0;
+	}
+
+	/**
+	 * Adds a tick mark, such as a day in the week view.
+	 *
+	 * @param x x position
+	 */
+	public void addTick(final int x) {
+		if (_tickCount == _ticks.length) {
+			final int[] ticks = new int[_ticks.length * 2];
+			System.arraycopy(_ticks, 0, ticks, 0, _tickCount);
+			_ticks = ticks;
+		}
+		_ticks[_tickCount++] = x;
+	}
+
+	/**
+	 * Adds a major tick mark, such as the start of a week. Ticks are added left to right, a tick at the same position
+	 * as the previous one is ignored.
+	 *
+	 * @param x x position
+	 */
+	public void addMajorTick(final int x) {
+		if (_majorTickCount > 0 && _majorTicks[_majorTickCount - 1] == x) {
+			return;
+		}
+		if (_majorTickCount == _majorTicks.length) {
+			final int[] ticks = new int[_majorTicks.length * 2];
+			System.arraycopy(_majorTicks, 0, ticks, 0, _majorTickCount);
+			_majorTicks = ticks;
+		}
+		_majorTicks[_majorTickCount++] = x;
+	}
+
+	public int getTickCount() {
+		return _tickCount;
+	}
+
+	public int getTick(final int index) {
+		return _ticks[index];
+	}
+
+	public int getMajorTickCount() {
+		return _majorTickCount;
+	}
+
+	public int getMajorTick(final int index) {
+		return _majorTicks[index];
+	}
+}
@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.nebula.widgets.ganttchart;
+
+import java.io.IOException;
+
+import org.eclipse.swt.graphics.Image;
+
+/**
+ * Receives an image of the chart one tile at a time, see
+ * {@link GanttComposite#exportFullImage(IImageTileConsumer, int, int)}.
+ * <p>
+ * Tiles are handed over from left to right and top to bottom. All tiles have the requested tile size, except the
+ * ones at the right and bottom edges, which are cut off at the edges of the image.
+ *
+ * @see org.eclipse.nebula.widgets.ganttchart.utils.PngTileWriter
+ * @see org.eclipse.nebula.widgets.ganttchart.utils.TileDirectoryWriter
+ */
+public interface IImageTileConsumer {
+
+	/**
+	 * Called before the first tile.
+	 *
+	 * @param width Width of the whole image
+	 * @param height Height of the whole image
+	 * @param tileWidth Width of the tiles
+	 * @param tileHeight Height of the tiles
+	 * @throws IOException if the image can not be written
+	 */
+	void start(int width, int height, int tileWidth, int tileHeight) throws IOException;
+
+	/**
+	 * Called for each tile. The tile image is disposed when this method returns, so it must not be kept.
+	 *
+	 * @param x x location of the tile in the whole image
+	 * @param y y location of the tile in the whole image
+	 * @param tile Image of the tile
+	 * @throws IOException if the tile can not be written
+	 */
+	void tile(int x, int y, Image tile) throws IOException;
+
+	/**
+	 * Called after the last tile.
+	 *
+	 * @throws IOException if the image can not be written
+	 */
+	void finish() throws IOException;
+}
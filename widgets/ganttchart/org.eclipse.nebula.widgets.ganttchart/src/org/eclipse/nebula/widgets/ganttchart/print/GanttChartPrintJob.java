@@ -17,6 +17,7 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 
 import org.eclipse.nebula.widgets.ganttchart.GanttChart;
+import org.eclipse.nebula.widgets.ganttchart.IImageTileConsumer;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Image;
@@ -78,7 +79,11 @@ public class GanttChartPrintJob implements Runnable {
 			int currentPage = 1;
 			for (GanttChart ganttChart : this.ganttCharts) {
 				
-				Image printerImage = null;
+				// Calculate the size of a page, the page count uses the same size
+				final Point pageSize = PrintUtils.computePageSize(printer, ganttChart.getSettings().printFooter());
+				int pageWidth = pageSize.x;
+				int pageHeight = pageSize.y;
+
 				if (printer.getPrinterData().scope == PrinterData.SELECTION) {
 					//the user selected to only print the selected area
 					//as this is quite difficult in GanttChart, we specify that
@@ -87,75 +92,37 @@ public class GanttChartPrintJob implements Runnable {
 					//area means: 
 					// - really only the visible area horizontally and vertically
 					// - only the horizontal visible area, but vertically everything
-					printerImage = ganttChart.getSettings().printSelectedVerticallyComplete() ? 
+					Image printerImage = ganttChart.getSettings().printSelectedVerticallyComplete() ? 
 							ganttChart.getGanttComposite().getVerticallyFullImage() : ganttChart.getGanttComposite().getImage();
-				}
-				else {
-					printerImage = ganttChart.getGanttComposite().getFullImage();
-				}
-				
-				final Rectangle printerClientArea = PrintUtils.computePrintArea(printer);
-				final Point scaleFactor = PrintUtils.computeScaleFactor(printer);
-				final Point pageCount = PrintUtils.getPageCount(printer, printerImage);
-
-				// Print pages Left to Right and then Top to Down
-				for (int verticalPageNumber = 0; verticalPageNumber < pageCount.y; verticalPageNumber++) {
-
-					for (int horizontalPageNumber = 0; horizontalPageNumber < pageCount.x; horizontalPageNumber++) {
-
-						// Calculate bounds for the next page
-						int printerClientAreaHeight = ganttChart.getSettings().printFooter() ? 
-								(printerClientArea.height - PrintUtils.FOOTER_HEIGHT_IN_PRINTER_DPI) : printerClientArea.height;
-						Rectangle printBounds = new Rectangle((printerClientArea.width / scaleFactor.x) * horizontalPageNumber,
-						                                      (printerClientAreaHeight / scaleFactor.y) * verticalPageNumber,
-						                                      printerClientArea.width / scaleFactor.x,
-						                                      printerClientAreaHeight / scaleFactor.y);
-
-						if (shouldPrint(printer.getPrinterData(), currentPage)) {
-							printer.startPage();
-
-							Transform printerTransform = new Transform(printer);
-
-							// Adjust for DPI difference between display and printer
-							printerTransform.scale(scaleFactor.x, scaleFactor.y);
-
-							// Adjust for margins
-							printerTransform.translate(printerClientArea.x / scaleFactor.x, printerClientArea.y / scaleFactor.y);
-
-							// GanttChart will not automatically print the pages at the left margin.
-							// Example: page 1 will print at x = 0, page 2 at x = 100, page 3 at x = 300
-							// Adjust to print from the left page margin. i.e x = 0
-							printerTransform.translate(-1 * printBounds.x, -1 * printBounds.y);
-							gc.setTransform(printerTransform);
-
-							int imgWidthClipping = printBounds.width;
-							if (((horizontalPageNumber * printBounds.width)+printBounds.width) > printerImage.getImageData().width) {
-								imgWidthClipping = printerImage.getImageData().width - (horizontalPageNumber * printBounds.width);
-							}
-							
-							int imgHeightClipping = printBounds.height;
-							if (((verticalPageNumber * printBounds.height)+printBounds.height) > printerImage.getImageData().height) {
-								imgHeightClipping = printerImage.getImageData().height - (verticalPageNumber * printBounds.height);
-							}
-							
-							gc.drawImage(printerImage, 
-									horizontalPageNumber * printBounds.width, 
-									verticalPageNumber * printBounds.height, 
-									imgWidthClipping, imgHeightClipping,
-									printBounds.x, printBounds.y, imgWidthClipping, imgHeightClipping);
-							
-							if (ganttChart.getSettings().printFooter())
-								printFooter(gc, ganttChart, currentPage, printBounds);
-
-							printer.endPage();
-							printerTransform.dispose();
-							
+
+					final Point pageCount = PrintUtils.getPageCount(printer, 
+							PrintUtils.getVisibleGanttChartArea(printerImage), ganttChart.getSettings().printFooter());
+
+					// Print pages Left to Right and then Top to Down
+					for (int verticalPageNumber = 0; verticalPageNumber < pageCount.y; verticalPageNumber++) {
+
+						for (int horizontalPageNumber = 0; horizontalPageNumber < pageCount.x; horizontalPageNumber++) {
+
+							// Calculate bounds for the next page
+							Rectangle printBounds = new Rectangle(pageWidth * horizontalPageNumber,
+							                                      pageHeight * verticalPageNumber,
+							                                      pageWidth,
+							                                      pageHeight);
+
+							printPage(gc, ganttChart, printerImage, printBounds.x, printBounds.y, printBounds, currentPage);
+							currentPage++;
 						}
-						currentPage++;
 					}
+					
+					printerImage.dispose();
+				}
+				else {
+					//the whole chart is rendered one page at a time, so it never
+					//needs to fit into a single image
+					PagePrinter pagePrinter = new PagePrinter(gc, ganttChart, currentPage);
+					ganttChart.getGanttComposite().exportFullImage(pagePrinter, pageWidth, pageHeight);
+					currentPage = pagePrinter.currentPage;
 				}
-				
-				printerImage.dispose();
 			}
 			
 			printer.endJob();
@@ -168,6 +135,59 @@ public class GanttChartPrintJob implements Runnable {
 		}
 	}
 
+	/**
+	 * Render a part of an image of the chart to a print page, if the page should be printed.
+	 * @param gc The graphical context that is used for printing
+	 * @param ganttChart The GanttChart which is currently printed.
+	 * @param image The image that contains the content of the page
+	 * @param imageX The x coordinate of the content of the page in the image
+	 * @param imageY The y coordinate of the content of the page in the image
+	 * @param printBounds The bounds of the page in the whole chart
+	 * @param currentPage The number of the page
+	 */
+	private void printPage(GC gc, GanttChart ganttChart, Image image, int imageX, int imageY, Rectangle printBounds, int currentPage) {
+		if (!shouldPrint(printer.getPrinterData(), currentPage)) {
+			return;
+		}
+
+		final Rectangle printerClientArea = PrintUtils.computePrintArea(printer);
+		final Point scaleFactor = PrintUtils.computeScaleFactor(printer);
+
+		printer.startPage();
+
+		Transform printerTransform = new Transform(printer);
+
+		// Adjust for DPI difference between display and printer
+		printerTransform.scale(scaleFactor.x, scaleFactor.y);
+
+		// Adjust for margins
+		printerTransform.translate(printerClientArea.x / scaleFactor.x, printerClientArea.y / scaleFactor.y);
+
+		// GanttChart will not automatically print the pages at the left margin.
+		// Example: page 1 will print at x = 0, page 2 at x = 100, page 3 at x = 300
+		// Adjust to print from the left page margin. i.e x = 0
+		printerTransform.translate(-1 * printBounds.x, -1 * printBounds.y);
+		gc.setTransform(printerTransform);
+
+		Rectangle imageBounds = image.getBounds();
+		int imgWidthClipping = Math.min(printBounds.width, imageBounds.width - imageX);
+		int imgHeightClipping = Math.min(printBounds.height, imageBounds.height - imageY);
+
+		if (imgWidthClipping > 0 && imgHeightClipping > 0) {
+			gc.drawImage(image, 
+					imageX, 
+					imageY, 
+					imgWidthClipping, imgHeightClipping,
+					printBounds.x, printBounds.y, imgWidthClipping, imgHeightClipping);
+		}
+		
+		if (ganttChart.getSettings().printFooter())
+			printFooter(gc, ganttChart, currentPage, printBounds);
+
+		printer.endPage();
+		printerTransform.dispose();
+	}
+
 	/**
 	 * Render the footer to a print page.
 	 * @param gc The graphical context that is used for printing
@@ -224,4 +244,40 @@ public class GanttChartPrintJob implements Runnable {
 	public void setDisposePrinter(boolean dispose) {
 		this.disposePrinter = dispose;
 	}
+
+	/**
+	 * Prints the tiles of a chart image as pages, each tile is the content of one page.
+	 */
+	private class PagePrinter implements IImageTileConsumer {
+
+		private final GC gc;
+		
+		private final GanttChart ganttChart;
+		
+		private int currentPage;
+		
+		private int pageWidth;
+		
+		private int pageHeight;
+
+		PagePrinter(GC gc, GanttChart ganttChart, int firstPage) {
+			this.gc = gc;
+			this.ganttChart = ganttChart;
+			this.currentPage = firstPage;
+		}
+
+		public void start(int width, int height, int tileWidth, int tileHeight) {
+			this.pageWidth = tileWidth;
+			this.pageHeight = tileHeight;
+		}
+
+		public void tile(int x, int y, Image tile) {
+			printPage(gc, ganttChart, tile, 0, 0, new Rectangle(x, y, pageWidth, pageHeight), currentPage);
+			currentPage++;
+		}
+
+		public void finish() {
+			// every page is already printed
+		}
+	}
 }
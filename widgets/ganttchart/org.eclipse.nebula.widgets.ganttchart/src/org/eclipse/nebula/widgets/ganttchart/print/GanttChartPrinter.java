@@ -16,7 +16,6 @@ package org.eclipse.nebula.widgets.ganttchart.print;
 import org.eclipse.nebula.widgets.ganttchart.GanttChart;
 import org.eclipse.nebula.widgets.ganttchart.ILanguageManager;
 import org.eclipse.nebula.widgets.ganttchart.ISettings;
-import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.printing.PrintDialog;
 import org.eclipse.swt.printing.Printer;
@@ -112,9 +111,7 @@ public class GanttChartPrinter {
 	 * @return The number of horizontal and vertical pages that will be printed.
 	 */
 	protected Point getFullPageCount(Printer printer) {
-		Image chartImage = this.ganttChart.getGanttComposite().getFullImage();
-		Point result = PrintUtils.getPageCount(printer, chartImage);
-		chartImage.dispose();
-		return result;
+		return PrintUtils.getPageCount(printer, this.ganttChart.getGanttComposite().getFullImageBounds(),
+				this.ganttChart.getSettings().printFooter());
 	}
 }
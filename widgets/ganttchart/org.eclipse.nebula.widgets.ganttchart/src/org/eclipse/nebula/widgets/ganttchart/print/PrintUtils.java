@@ -76,6 +76,24 @@ public class PrintUtils {
 		int scaleFactorY = printerDPI.y / screenDPI.y;
 		return new Point(scaleFactorX, scaleFactorY);
 	}
+
+	/**
+	 * Computes the size of the part of the chart image that is printed
+	 * on one page.
+	 * @param printer The printer that will be used to print the chart
+	 * @param printFooter Whether a footer is printed below the chart
+	 * 			on each page.
+	 * @return The width and height of the chart part of a page, in
+	 * 			screen resolution.
+	 */
+	public static Point computePageSize(Printer printer, boolean printFooter) {
+		Rectangle printArea = computePrintArea(printer);
+		Point scaleFactor = computeScaleFactor(printer);
+
+		int printAreaHeight = printFooter ? 
+				(printArea.height - FOOTER_HEIGHT_IN_PRINTER_DPI) : printArea.height;
+		return new Point(printArea.width / scaleFactor.x, printAreaHeight / scaleFactor.y);
+	}
 	
 	/**
 	 * Calculate number of horizontal and vertical pages needed
@@ -86,15 +104,40 @@ public class PrintUtils {
 	 * 			printed.
 	 */
 	public static Point getPageCount(Printer printer, Image image){
-		Rectangle ganttArea = getVisibleGanttChartArea(image);
-		Rectangle printArea = PrintUtils.computePrintArea(printer);
-		Point scaleFactor = PrintUtils.computeScaleFactor(printer);
+		return getPageCount(printer, getVisibleGanttChartArea(image));
+	}
+
+	/**
+	 * Calculate number of horizontal and vertical pages needed
+	 * to print a chart image of the given size.
+	 * @param printer The printer that will be used to print the chart
+	 * @param ganttArea The size of the image of the chart that should be printed.
+	 * @return The number of horizontal and vertical pages that will be
+	 * 			printed.
+	 * @see org.eclipse.nebula.widgets.ganttchart.GanttComposite#getFullImageBounds()
+	 */
+	public static Point getPageCount(Printer printer, Rectangle ganttArea){
+		return getPageCount(printer, ganttArea, false);
+	}
+
+	/**
+	 * Calculate number of horizontal and vertical pages needed
+	 * to print a chart image of the given size, with the page size
+	 * of {@link #computePageSize(Printer, boolean)}.
+	 * @param printer The printer that will be used to print the chart
+	 * @param ganttArea The size of the image of the chart that should be printed.
+	 * @param printFooter Whether a footer is printed below the chart
+	 * 			on each page.
+	 * @return The number of horizontal and vertical pages that will be
+	 * 			printed, at least one each.
+	 */
+	public static Point getPageCount(Printer printer, Rectangle ganttArea, boolean printFooter){
+		Point pageSize = computePageSize(printer, printFooter);
 		
-		int numOfHorizontalPages = ganttArea.width / (printArea.width / scaleFactor.x);
-		int numOfVerticalPages = ganttArea.height / (printArea.height / scaleFactor.y);
+		int numOfHorizontalPages = (ganttArea.width + pageSize.x - 1) / pageSize.x;
+		int numOfVerticalPages = (ganttArea.height + pageSize.y - 1) / pageSize.y;
 		
-		// Adjusting for 0 index
-		return new Point(numOfHorizontalPages + 1, numOfVerticalPages + 1);
+		return new Point(Math.max(1, numOfHorizontalPages), Math.max(1, numOfVerticalPages));
 	}
 
 	/**
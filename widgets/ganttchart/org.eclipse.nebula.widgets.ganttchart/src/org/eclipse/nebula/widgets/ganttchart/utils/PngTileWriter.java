@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.nebula.widgets.ganttchart.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.eclipse.nebula.widgets.ganttchart.IImageTileConsumer;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+
+/**
+ * Writes the tiles of a chart image to a stream as one PNG image, without ever holding the whole image in memory.
+ * <p>
+ * PNG images are stored row by row, so the tiles of one row of tiles are collected into a band as high as a tile,
+ * which is compressed and written as soon as its last tile arrives. Memory use is bounded by the image width times
+ * the tile height. The stream is not closed.
+ */
+public class PngTileWriter implements IImageTileConsumer {
+
+	private static final byte[] SIGNATURE = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n' };
+
+	// compressed data is written in IDAT chunks of about this size
+	private static final int CHUNK_SIZE = 64 * 1024;
+
+	private final OutputStream _out;
+
+	private final Deflater _deflater = new Deflater();
+
+	private final byte[] _deflateBuffer = new byte[CHUNK_SIZE];
+
+	private final ByteArrayOutputStream _chunk = new ByteArrayOutputStream(CHUNK_SIZE);
+
+	private int _width;
+
+	// one row of tiles, each scanline starts with its filter type
+	private byte[] _band;
+
+	private int _rowBytes;
+
+	/**
+	 * Creates a new writer.
+	 *
+	 * @param out Stream to write the PNG image to
+	 */
+	public PngTileWriter(final OutputStream out) {
+		_out = out;
+	}
+
+	public void start(final int width, final int height, final int tileWidth, final int tileHeight) throws IOException {
+		_width = width;
+		_rowBytes = 1 + width * 3;
+		_band = new byte[_rowBytes * tileHeight];
+
+		_out.write(SIGNATURE);
+
+		final ByteArrayOutputStream header = new ByteArrayOutputStream(13);
+		writeInt(header, width);
+		writeInt(header, height);
+		header.write(8); // bit depth
+		header.write(2); // color type RGB
+		header.write(0); // compression
+		header.write(0); // filter
+		header.write(0); // no interlace
+		writeChunk("IHDR", header.toByteArray()); //$NON-NLS-1$
+	}
+
+	public void tile(final int x, final int y, final Image tile) throws IOException {
+		final ImageData data = tile.getImageData();
+		final PaletteData palette = data.palette;
+		final int[] pixels = new int[data.width];
+
+		for (int row = 0; row < data.height; row++) {
+			data.getPixels(0, row, data.width, pixels, 0);
+
+			int offset = row * _rowBytes + 1 + x * 3;
+			for (int col = 0; col < data.width; col++) {
+				final int pixel = pixels[col];
+				if (palette.isDirect) {
+					_band[offset++] = (byte) shift(pixel & palette.redMask, palette.redShift);
+					_band[offset++] = (byte) shift(pixel & palette.greenMask, palette.greenShift);
+					_band[offset++] = (byte) shift(pixel & palette.blueMask, palette.blueShift);
+				} else {
+					final RGB rgb = palette.colors[pixel];
+					_band[offset++] = (byte) rgb.red;
+					_band[offset++] = (byte) rgb.green;
+					_band[offset++] = (byte) rgb.blue;
+				}
+			}
+		}
+
+		// the band is complete with the last tile of the row
+		if (x + data.width == _width) {
+			// filter type 0 (none) is already in place, it is never written over
+			deflate(_band, data.height * _rowBytes);
+		}
+	}
+
+	public void finish() throws IOException {
+		_deflater.finish();
+		while (!_deflater.finished()) {
+			final int count = _deflater.deflate(_deflateBuffer);
+			_chunk.write(_deflateBuffer, 0, count);
+			if (_chunk.size() >= CHUNK_SIZE) {
+				flushChunk();
+			}
+		}
+		flushChunk();
+		_deflater.end();
+
+		writeChunk("IEND", new byte[0]); //$NON-NLS-1$
+		_out.flush();
+		_band = null;
+	}
+
+	private void deflate(final byte[] data, final int length) throws IOException {
+		_deflater.setInput(data, 0, length);
+		while (!_deflater.needsInput()) {
+			final int count = _deflater.deflate(_deflateBuffer);
+			_chunk.write(_deflateBuffer, 0, count);
+			if (_chunk.size() >= CHUNK_SIZE) {
+				flushChunk();
+			}
+		}
+	}
+
+	private void flushChunk() throws IOException {
+		if (_chunk.size() > 0) {
+			writeChunk("IDAT", _chunk.toByteArray()); //$NON-NLS-1$
+			_chunk.reset();
+		}
+	}
+
+	private void writeChunk(final String type, final byte[] data) throws IOException {
+		final byte[] typeBytes = type.getBytes("US-ASCII"); //$NON-NLS-1$
+		final CRC32 crc = new CRC32();
+		crc.update(typeBytes);
+		crc.update(data);
+
+		writeInt(_out, data.length);
+		_out.write(typeBytes);
+		_out.write(data);
+		writeInt(_out, (int) crc.getValue());
+	}
+
+	private static void writeInt(final OutputStream out, final int value) throws IOException {
+		out.write(value >>> 24);
+		out.write(value >>> 16);
+		out.write(value >>> 8);
+		out.write(value);
+	}
+
+	// moves a masked color component into the low 8 bits, as PaletteData.getRGB() does
+	private static int shift(final int value, final int shift) {
+		return shift < 0 ? value >>> -shift : value << shift;
+	}
+}
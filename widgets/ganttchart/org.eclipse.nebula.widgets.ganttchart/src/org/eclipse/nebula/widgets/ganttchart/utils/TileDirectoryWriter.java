@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.nebula.widgets.ganttchart.utils;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.eclipse.nebula.widgets.ganttchart.IImageTileConsumer;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+
+/**
+ * Writes each tile of a chart image to its own PNG file in a directory, such as for map-style viewers that load the
+ * tiles as they are needed. The file of the tile in row r and column c, counted from 0, is named
+ * <code>tile_r_c.png</code>.
+ */
+public class TileDirectoryWriter implements IImageTileConsumer {
+
+	private final File _directory;
+
+	private int _tileWidth;
+
+	private int _tileHeight;
+
+	/**
+	 * Creates a new writer.
+	 *
+	 * @param directory Directory to write the tiles to, created if it does not exist
+	 */
+	public TileDirectoryWriter(final File directory) {
+		_directory = directory;
+	}
+
+	public void start(final int width, final int height, final int tileWidth, final int tileHeight) throws IOException {
+		_tileWidth = tileWidth;
+		_tileHeight = tileHeight;
+
+		if (!_directory.isDirectory() && !_directory.mkdirs()) {
+			throw new IOException("Could not create directory " + _directory); //$NON-NLS-1$
+		}
+	}
+
+	public void tile(final int x, final int y, final Image tile) throws IOException {
+		final ImageLoader loader = new ImageLoader();
+		loader.data = new ImageData[] { tile.getImageData() };
+		final File file = new File(_directory, getFileName(y / _tileHeight, x / _tileWidth));
+		loader.save(file.getPath(), SWT.IMAGE_PNG);
+	}
+
+	public void finish() throws IOException {
+		// every tile is already written
+	}
+
+	/**
+	 * Returns the name of the file of a tile.
+	 *
+	 * @param row Row of the tile, counted from 0
+	 * @param column Column of the tile, counted from 0
+	 * @return File name
+	 */
+	public static String getFileName(final int row, final int column) {
+		return "tile_" + row + "_" + column + ".png"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+}
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import static org.eclipse.nebula.widgets.grid.GridTestUtil.createGridColumns;
+import static org.eclipse.nebula.widgets.grid.GridTestUtil.createGridItems;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ColumnarDataVisualizer_Test {
+
+  private Display display;
+  private Shell shell;
+  private Grid grid;
+  private ColumnarDataVisualizer visualizer;
+
+  @Before
+  public void setUp() {
+    display = Display.getDefault();
+    shell = new Shell( display );
+    Color background = display.getSystemColor( SWT.COLOR_WHITE );
+    Color foreground = display.getSystemColor( SWT.COLOR_BLACK );
+    visualizer = new ColumnarDataVisualizer( background, foreground, null );
+    grid = new Grid( visualizer, shell, SWT.H_SCROLL | SWT.V_SCROLL );
+    grid.setSize( 200, 200 );
+  }
+
+  @After
+  public void tearDown() {
+    shell.dispose();
+  }
+
+  @Test
+  public void testDefaults() {
+    createGridColumns( grid, 2, SWT.NONE );
+    GridItem item = new GridItem( grid, SWT.NONE );
+
+    assertEquals( "", item.getText( 1 ) );
+    assertNull( item.getImage( 1 ) );
+    assertNull( item.getToolTipText( 1 ) );
+    assertFalse( item.getChecked( 1 ) );
+    assertFalse( item.getGrayed( 1 ) );
+    assertTrue( item.getCheckable( 1 ) );
+    assertEquals( 0, item.getColumnSpan( 1 ) );
+    assertSame( visualizer.getDefaultBackground(), visualizer.getBackground( item, 1 ) );
+    assertEquals( 0, visualizer.getRowCount() );
+  }
+
+  @Test
+  public void testSetValues() {
+    createGridColumns( grid, 3, SWT.NONE );
+    GridItem[] items = createGridItems( grid, 100, 0 );
+    Color red = display.getSystemColor( SWT.COLOR_RED );
+
+    for( int i = 0; i < items.length; i++ ) {
+      items[ i ].setText( 2, "item " + i );
+      items[ i ].setChecked( 1, i % 2 == 0 );
+    }
+    items[ 50 ].setBackground( 0, red );
+    items[ 50 ].setCheckable( 0, false );
+    items[ 50 ].setColumnSpan( 0, 1 );
+
+    for( int i = 0; i < items.length; i++ ) {
+      assertEquals( "item " + i, items[ i ].getText( 2 ) );
+      assertEquals( i % 2 == 0, items[ i ].getChecked( 1 ) );
+    }
+    assertSame( red, items[ 50 ].getBackground( 0 ) );
+    assertSame( visualizer.getDefaultBackground(), items[ 49 ].getBackground( 0 ) );
+    assertFalse( items[ 50 ].getCheckable( 0 ) );
+    assertTrue( items[ 51 ].getCheckable( 0 ) );
+    assertEquals( 1, items[ 50 ].getColumnSpan( 0 ) );
+  }
+
+  @Test
+  public void testDisposeItem_ReusesSlot() {
+    createGridColumns( grid, 1, SWT.NONE );
+    GridItem[] items = createGridItems( grid, 3, 0 );
+    for( int i = 0; i < items.length; i++ ) {
+      items[ i ].setText( "item " + i );
+    }
+
+    items[ 1 ].dispose();
+    GridItem item = new GridItem( grid, SWT.NONE, 1 );
+
+    assertEquals( "", item.getText() );
+    assertEquals( "item 0", items[ 0 ].getText() );
+    assertEquals( "item 2", items[ 2 ].getText() );
+    item.setText( "new" );
+    assertEquals( 3, visualizer.getRowCount() );
+    assertEquals( "new", grid.getItem( 1 ).getText() );
+  }
+
+  @Test
+  public void testInsertAndRemoveColumn() {
+    GridColumn[] columns = createGridColumns( grid, 2, SWT.NONE );
+    GridItem item = new GridItem( grid, SWT.NONE );
+    item.setText( 0, "a" );
+    item.setText( 1, "b" );
+
+    new GridColumn( grid, SWT.NONE, 1 );
+
+    assertEquals( "a", item.getText( 0 ) );
+    assertEquals( "", item.getText( 1 ) );
+    assertEquals( "b", item.getText( 2 ) );
+
+    columns[ 0 ].dispose();
+
+    assertEquals( "", item.getText( 0 ) );
+    assertEquals( "b", item.getText( 1 ) );
+  }
+
+  @Test
+  public void testDisposeAllItems() {
+    createGridItems( grid, 10, 0 );
+    grid.getItem( 3 ).setText( "foo" );
+
+    grid.disposeAllItems();
+    GridItem item = new GridItem( grid, SWT.NONE );
+
+    assertEquals( 0, visualizer.getRowCount() );
+    assertEquals( "", item.getText() );
+  }
+}
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+
+/**
+ * Compares heap usage and lookup time of {@link GridItemDataVisualizer} and
+ * {@link ColumnarDataVisualizer}. Run with a fixed heap, e.g. -Xmx2g.
+ */
+public class DataVisualizerBenchmark {
+
+  private static final int ROWS = 200000;
+  private static final int COLUMNS = 10;
+  private static final int LOOKUP_ROUNDS = 5;
+
+  public static void main( String[] args ) {
+    Display display = new Display();
+    Color background = display.getSystemColor( SWT.COLOR_WHITE );
+    Color foreground = display.getSystemColor( SWT.COLOR_BLACK );
+    Color highlight = display.getSystemColor( SWT.COLOR_YELLOW );
+
+    run( "GridItemDataVisualizer",
+         new GridItemDataVisualizer( background, foreground, null ),
+         display,
+         highlight );
+    run( "ColumnarDataVisualizer",
+         new ColumnarDataVisualizer( background, foreground, null ),
+         display,
+         highlight );
+    display.dispose();
+  }
+
+  private static void run( String name, DataVisualizer visualizer, Display display, Color highlight ) {
+    Shell shell = new Shell( display );
+    Grid grid = new Grid( visualizer, shell, SWT.V_SCROLL | SWT.H_SCROLL | SWT.CHECK );
+    for( int i = 0; i < COLUMNS; i++ ) {
+      new GridColumn( grid, SWT.NONE );
+    }
+    long heapBefore = usedHeap();
+    long start = System.nanoTime();
+    GridItem[] items = new GridItem[ ROWS ];
+    for( int i = 0; i < ROWS; i++ ) {
+      GridItem item = new GridItem( grid, SWT.NONE );
+      for( int j = 0; j < COLUMNS; j++ ) {
+        item.setText( j, "Cell " + i + "/" + j );
+      }
+      item.setChecked( 0, i % 2 == 0 );
+      if( i % 100 == 0 ) {
+        item.setBackground( 1, highlight );
+      }
+      items[ i ] = item;
+    }
+    long fillTime = System.nanoTime() - start;
+    long heapAfter = usedHeap();
+
+    long checksum = 0;
+    start = System.nanoTime();
+    for( int round = 0; round < LOOKUP_ROUNDS; round++ ) {
+      for( int i = 0; i < ROWS; i++ ) {
+        for( int j = 0; j < COLUMNS; j++ ) {
+          checksum += visualizer.getText( items[ i ], j ).length();
+          if( visualizer.getBackground( items[ i ], j ) == highlight ) {
+            checksum++;
+          }
+        }
+        if( visualizer.getChecked( items[ i ], 0 ) ) {
+          checksum++;
+        }
+      }
+    }
+    long lookupTime = System.nanoTime() - start;
+
+    System.out.println( name
+                        + ": heap " + ( heapAfter - heapBefore ) / ( 1024 * 1024 ) + " MB"
+                        + ", fill " + fillTime / 1000000 + " ms"
+                        + ", lookup " + lookupTime / LOOKUP_ROUNDS / 1000000 + " ms/round"
+                        + " (" + checksum + ")" );
+    grid.disposeAllItems();
+    shell.dispose();
+  }
+
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for( int i = 0; i < 3; i++ ) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.eclipse.swt.graphics.Point;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GridCellSet_Test {
+
+  private GridCellSet cells;
+
+  @Before
+  public void setUp() {
+    cells = new GridCellSet();
+  }
+
+  @Test
+  public void testInitial() {
+    assertTrue( cells.isEmpty() );
+    assertEquals( 0, cells.size() );
+    assertNull( cells.first() );
+    assertFalse( cells.containsRow( 0 ) );
+  }
+
+  @Test
+  public void testAdd() {
+    assertTrue( cells.add( 1, 2 ) );
+    assertFalse( cells.add( new Point( 1, 2 ) ) );
+    assertEquals( 1, cells.size() );
+    assertTrue( cells.contains( 1, 2 ) );
+    assertFalse( cells.contains( 2, 1 ) );
+    assertTrue( cells.containsRow( 2 ) );
+    assertFalse( cells.containsRow( 1 ) );
+  }
+
+  @Test
+  public void testKeepsInsertionOrder() {
+    for( int i = 100; i >= 0; i-- ) {
+      cells.add( i % 7, i );
+    }
+    Point[] array = cells.toArray();
+    assertEquals( 101, array.length );
+    assertEquals( new Point( 100 % 7, 100 ), cells.first() );
+    for( int i = 0; i < array.length; i++ ) {
+      assertEquals( new Point( ( 100 - i ) % 7, 100 - i ), array[ i ] );
+    }
+  }
+
+  @Test
+  public void testRemove() {
+    cells.add( 0, 0 );
+    cells.add( 1, 0 );
+    cells.add( 0, 1 );
+    assertTrue( cells.remove( 1, 0 ) );
+    assertFalse( cells.remove( new Point( 1, 0 ) ) );
+    assertTrue( cells.containsRow( 0 ) );
+    assertTrue( cells.remove( 0, 0 ) );
+    assertFalse( cells.containsRow( 0 ) );
+    assertArrayEquals( new Point[] { new Point( 0, 1 ) }, cells.toArray() );
+  }
+
+  @Test
+  public void testRemoveWhileGrowing() {
+    for( int i = 0; i < 10000; i++ ) {
+      cells.add( i % 13, i );
+    }
+    for( int i = 0; i < 10000; i += 2 ) {
+      assertTrue( cells.remove( i % 13, i ) );
+    }
+    assertEquals( 5000, cells.size() );
+    for( int i = 0; i < 10000; i++ ) {
+      assertEquals( i % 2 == 1, cells.contains( i % 13, i ) );
+      assertEquals( i % 2 == 1, cells.containsRow( i ) );
+    }
+  }
+
+  @Test
+  public void testIteratorRemove() {
+    for( int i = 0; i < 100; i++ ) {
+      cells.add( 0, i );
+    }
+    Iterator<Point> iterator = cells.iterator();
+    int expected = 0;
+    while( iterator.hasNext() ) {
+      Point cell = iterator.next();
+      assertEquals( expected++, cell.y );
+      if( cell.y % 3 != 0 ) {
+        iterator.remove();
+      }
+    }
+    assertEquals( 34, cells.size() );
+  }
+
+  @Test
+  public void testClear() {
+    cells.add( 1, 1 );
+    cells.add( 2, 3 );
+    cells.clear();
+    assertTrue( cells.isEmpty() );
+    assertFalse( cells.contains( 1, 1 ) );
+    assertFalse( cells.containsRow( 3 ) );
+  }
+
+  @Test
+  public void testRemoveColumn() {
+    cells.add( 0, 0 );
+    cells.add( 1, 0 );
+    cells.add( 2, 0 );
+    cells.add( 1, 1 );
+    assertTrue( cells.removeColumn( 1 ) );
+    assertArrayEquals( new Point[] { new Point( 0, 0 ), new Point( 1, 0 ) }, cells.toArray() );
+    assertFalse( cells.containsRow( 1 ) );
+    assertFalse( cells.removeColumn( 5 ) );
+  }
+
+  @Test
+  public void testSameCells() {
+    cells.add( 0, 0 );
+    cells.add( 1, 1 );
+    assertTrue( cells.sameCells( Arrays.asList( new Point( 1, 1 ), new Point( 0, 0 ) ) ) );
+    assertTrue( cells.sameCells( Arrays.asList( new Point( 1, 1 ), new Point( 0, 0 ), new Point( 0, 0 ) ) ) );
+    assertFalse( cells.sameCells( Arrays.asList( new Point( 1, 1 ) ) ) );
+    assertFalse( cells.sameCells( Arrays.asList( new Point( 1, 1 ), new Point( 0, 1 ) ) ) );
+  }
+
+  @Test
+  public void testCopyFrom() {
+    GridCellSet other = new GridCellSet();
+    other.add( 3, 4 );
+    cells.add( 1, 1 );
+    cells.copyFrom( other );
+    assertArrayEquals( new Point[] { new Point( 3, 4 ) }, cells.toArray() );
+    assertTrue( cells.containsRow( 4 ) );
+    assertFalse( cells.containsRow( 1 ) );
+  }
+}
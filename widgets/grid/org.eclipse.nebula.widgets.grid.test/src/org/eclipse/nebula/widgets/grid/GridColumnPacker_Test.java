@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import static org.eclipse.nebula.widgets.grid.GridTestUtil.createGridItems;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class GridColumnPacker_Test {
+
+  private static final String LONG_TEXT = "A considerably longer text than all the others";
+
+  private Display display;
+  private Shell shell;
+  private Grid grid;
+  private GridItem[] items;
+
+  @Before
+  public void setUp() {
+    display = Display.getDefault();
+    shell = new Shell( display );
+    grid = new Grid( shell, SWT.H_SCROLL | SWT.V_SCROLL );
+    grid.setSize( 200, 100 );
+    items = createGridItems( grid, 500, 0 );
+    items[ 401 ].setText( LONG_TEXT );
+  }
+
+  @After
+  public void tearDown() {
+    shell.dispose();
+  }
+
+  @Test
+  public void testFindLongest() {
+    String[] texts = { "a", null, "abcd", "ab", "abcdef", "x" };
+
+    assertArrayEquals( new int[] { 4, 2, 3 }, GridColumnPacker.findLongest( texts, 3 ) );
+    assertArrayEquals( new int[] { 4, 2, 3, 0, 5 }, GridColumnPacker.findLongest( texts, 10 ) );
+  }
+
+  @Test
+  public void testDefaults() {
+    assertEquals( GridColumnPackStrategy.EXACT, grid.getColumnPackStrategy() );
+    assertEquals( 1000, grid.getColumnPackSampleSize() );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testSetColumnPackStrategy_Null() {
+    grid.setColumnPackStrategy( null );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testSetColumnPackSampleSize_Zero() {
+    grid.setColumnPackSampleSize( 0 );
+  }
+
+  @Test
+  public void testPack_Exact() {
+    GridColumn column = grid.getColumn( 0 );
+
+    column.pack();
+
+    assertTrue( column.getWidth() > textWidth( LONG_TEXT ) );
+  }
+
+  @Test
+  public void testPack_SampleMissesRow() {
+    grid.setColumnPackStrategy( GridColumnPackStrategy.SAMPLE );
+    grid.setColumnPackSampleSize( 10 );
+    GridColumn column = grid.getColumn( 0 );
+
+    column.pack();
+
+    assertTrue( column.getWidth() < textWidth( LONG_TEXT ) );
+  }
+
+  @Test
+  public void testPack_VisibleAndLongest() {
+    grid.setColumnPackStrategy( GridColumnPackStrategy.VISIBLE_AND_LONGEST );
+    grid.setColumnPackSampleSize( 1 );
+    GridColumn column = grid.getColumn( 0 );
+
+    column.pack();
+    assertTrue( column.getWidth() < textWidth( LONG_TEXT ) );
+
+    long timeout = System.currentTimeMillis() + 5000;
+    while( column.getWidth() < textWidth( LONG_TEXT ) && System.currentTimeMillis() < timeout ) {
+      if( !display.readAndDispatch() ) {
+        Thread.yield();
+      }
+    }
+    assertTrue( column.getWidth() > textWidth( LONG_TEXT ) );
+  }
+
+  @Test
+  public void testPackColumns() {
+    GridColumn second = new GridColumn( grid, SWT.NONE );
+    items[ 10 ].setText( 1, LONG_TEXT );
+
+    grid.packColumns();
+
+    assertTrue( grid.getColumn( 0 ).getWidth() > textWidth( LONG_TEXT ) );
+    assertTrue( second.getWidth() > textWidth( LONG_TEXT ) );
+  }
+
+  private int textWidth( String text ) {
+    GC gc = new GC( grid );
+    try {
+      return gc.textExtent( text ).x;
+    } finally {
+      gc.dispose();
+    }
+  }
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import static org.eclipse.nebula.widgets.grid.GridTestUtil.createGridItems;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class GridRowHeightMeasurer_Test {
+
+  private static final String LONG_TEXT = "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod";
+
+  private Display display;
+  private Shell shell;
+  private Grid grid;
+  private GridItem[] items;
+
+  @Before
+  public void setUp() {
+    display = Display.getDefault();
+    shell = new Shell( display );
+    grid = new Grid( shell, SWT.H_SCROLL | SWT.V_SCROLL );
+    grid.setSize( 200, 200 );
+    grid.setAutoHeight( true );
+    items = createGridItems( grid, 50, 0 );
+    grid.getColumn( 0 ).setWordWrap( true );
+    grid.getColumn( 0 ).setWidth( 40 );
+  }
+
+  @After
+  public void tearDown() {
+    shell.dispose();
+  }
+
+  @Test
+  public void testSetMeasureRowHeightsInBackground() {
+    assertFalse( grid.isMeasureRowHeightsInBackground() );
+
+    grid.setMeasureRowHeightsInBackground( true );
+
+    assertTrue( grid.isMeasureRowHeightsInBackground() );
+  }
+
+  @Test
+  public void testMeasuredStamp_InvalidatedByContent() {
+    grid.setRowHeightMeasured( items[ 0 ] );
+    assertTrue( grid.isRowHeightMeasured( items[ 0 ] ) );
+
+    items[ 0 ].setText( LONG_TEXT );
+
+    assertFalse( grid.isRowHeightMeasured( items[ 0 ] ) );
+  }
+
+  @Test
+  public void testMeasuredStamp_InvalidatedByColumnWidth() {
+    grid.setRowHeightMeasured( items[ 0 ] );
+
+    grid.getColumn( 0 ).setWidth( 80 );
+
+    assertFalse( grid.isRowHeightMeasured( items[ 0 ] ) );
+  }
+
+  @Test
+  public void testRun_MeasuresAllRows() {
+    for( GridItem item : items ) {
+      item.setText( LONG_TEXT );
+    }
+    int defaultHeight = grid.getItemHeight();
+    GridRowHeightMeasurer measurer = new GridRowHeightMeasurer( grid );
+
+    // a single batch may run out of time
+    while( !grid.isRowHeightMeasured( items[ items.length - 1 ] ) ) {
+      measurer.run();
+    }
+
+    for( GridItem item : items ) {
+      assertTrue( grid.isRowHeightMeasured( item ) );
+      assertTrue( item.getHeight() > defaultHeight );
+    }
+  }
+
+  @Test
+  public void testRun_KeepsMeasuredRows() {
+    items[ 0 ].setText( LONG_TEXT );
+    GridRowHeightMeasurer measurer = new GridRowHeightMeasurer( grid );
+    measurer.run();
+    items[ 0 ].setHeight( 5 );
+
+    measurer.restart();
+    measurer.run();
+
+    assertEquals( 5, items[ 0 ].getHeight() );
+  }
+}
@@ -0,0 +1,268 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import static org.eclipse.nebula.widgets.grid.GridTestUtil.createGridItems;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class GridRowOffsets_Test {
+
+  private Display display;
+  private Shell shell;
+  private Grid grid;
+  private GridRowOffsets offsets;
+
+  @Before
+  public void setUp() {
+    display = Display.getDefault();
+    shell = new Shell( display );
+    grid = new Grid( shell, SWT.H_SCROLL | SWT.V_SCROLL );
+    grid.setSize( 200, 200 );
+    offsets = new GridRowOffsets();
+  }
+
+  @After
+  public void tearDown() {
+    shell.dispose();
+  }
+
+  @Test
+  public void testEmpty() {
+    offsets.rebuild( Arrays.<GridItem>asList() );
+
+    assertTrue( offsets.isValid() );
+    assertEquals( 0, offsets.getTotalHeight() );
+    assertEquals( 0, offsets.getIndexAt( 0 ) );
+    assertEquals( 0, offsets.getIndexOfVisible( 0 ) );
+  }
+
+  @Test
+  public void testOffsets() {
+    GridItem[] items = createGridItems( grid, 3, 0 );
+    items[ 0 ].setHeight( 10 );
+    items[ 1 ].setHeight( 20 );
+    items[ 2 ].setHeight( 30 );
+
+    offsets.rebuild( Arrays.asList( items ) );
+
+    assertEquals( 0, offsets.getOffset( 0 ) );
+    assertEquals( 11, offsets.getOffset( 1 ) );
+    assertEquals( 32, offsets.getOffset( 2 ) );
+    assertEquals( 63, offsets.getTotalHeight() );
+    assertEquals( 3, offsets.getVisibleCount( 3 ) );
+  }
+
+  @Test
+  public void testIndexAt() {
+    GridItem[] items = createGridItems( grid, 3, 0 );
+    items[ 0 ].setHeight( 10 );
+    items[ 1 ].setHeight( 20 );
+    items[ 2 ].setHeight( 30 );
+
+    offsets.rebuild( Arrays.asList( items ) );
+
+    assertEquals( 0, offsets.getIndexAt( 0 ) );
+    assertEquals( 0, offsets.getIndexAt( 10 ) );
+    assertEquals( 1, offsets.getIndexAt( 11 ) );
+    assertEquals( 2, offsets.getIndexAt( 62 ) );
+    assertEquals( 3, offsets.getIndexAt( 63 ) );
+  }
+
+  @Test
+  public void testSet() {
+    GridItem[] items = createGridItems( grid, 4, 0 );
+    offsets.rebuild( Arrays.asList( items ) );
+    int height = items[ 0 ].getHeight();
+
+    offsets.set( 1, false, height );
+    offsets.set( 2, true, 100 );
+
+    assertEquals( 2 * ( height + 1 ) + 101, offsets.getTotalHeight() );
+    assertEquals( 3, offsets.getVisibleCount( 4 ) );
+    assertEquals( 2, offsets.getIndexOfVisible( 1 ) );
+    assertEquals( 2, offsets.getIndexAt( height + 1 ) );
+  }
+
+  @Test
+  public void testGrid_ExpandAndCollapse() {
+    GridItem[] items = createGridItems( grid, 3, 500 );
+    GridItem root = items[ 0 ];
+    int height = root.getHeight();
+    assertEquals( 3 * ( height + 1 ), grid.getRowOffsets().getTotalHeight() );
+
+    root.setExpanded( true );
+    assertEquals( 503, grid.getRowOffsets().getVisibleCount( grid.getItemCount() ) );
+    assertEquals( 501, grid.getRowOffsets().getIndexOfVisible( 501 ) );
+
+    root.setExpanded( false );
+    assertEquals( 3, grid.getRowOffsets().getVisibleCount( grid.getItemCount() ) );
+    assertEquals( 501, grid.getRowOffsets().getIndexOfVisible( 1 ) );
+  }
+
+  @Test
+  public void testGrid_GetItemWithDifferingHeights() {
+    GridItem[] items = createGridItems( grid, 10, 0 );
+    items[ 0 ].setHeight( 50 );
+    items[ 1 ].setHeight( 10 );
+
+    assertSame( items[ 0 ], grid.getItem( new Point( 10, 50 ) ) );
+    assertSame( items[ 1 ], grid.getItem( new Point( 10, 51 ) ) );
+    assertSame( items[ 2 ], grid.getItem( new Point( 10, 62 ) ) );
+  }
+
+  @Test
+  public void testGrid_GetRowRangeMatchesLoop() {
+    GridItem[] items = createRandomLayout( new Random( 4 ) );
+
+    for( int start = 0; start < items.length; start++ ) {
+      if( !items[ start ].isVisible() ) {
+        continue;
+      }
+      for( int height = 0; height <= 400; height += 7 ) {
+        for( int flags = 0; flags < 4; flags++ ) {
+          boolean forceEndCompletelyInside = ( flags & 1 ) != 0;
+          boolean inverse = ( flags & 2 ) != 0;
+          Grid.RowRange range = grid.getRowRange( start, height, forceEndCompletelyInside, inverse );
+          int[] expected = getRowRangeByLoop( items, start, height, forceEndCompletelyInside, inverse );
+          String message = "start " + start + ", height " + height + ", flags " + flags;
+          assertEquals( message, expected[ 0 ], range.startIndex );
+          assertEquals( message, expected[ 1 ], range.endIndex );
+          assertEquals( message, expected[ 2 ], range.rows );
+          assertEquals( message, expected[ 3 ], range.height );
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testGrid_GetTopIndexMatchesLoop() {
+    GridItem[] items = createRandomLayout( new Random( 7 ) );
+
+    for( int i = 0; i < items.length; i++ ) {
+      if( !items[ i ].isVisible() ) {
+        continue;
+      }
+      grid.setTopIndex( i );
+      // the scroll bar may stop short of the requested row near the end
+      int row = grid.getVerticalBar().getSelection();
+      assertEquals( "top index " + i, getIndexOfVisibleByLoop( items, row ), grid.getTopIndex() );
+    }
+  }
+
+  @Test
+  public void testGrid_GetOriginMatchesLoop() {
+    GridItem[] items = createRandomLayout( new Random( 11 ) );
+    GridColumn column = grid.getColumn( 0 );
+    int headerHeight = grid.getHeaderVisible() ? grid.getHeaderHeight() : 0;
+
+    for( int top = 0; top < items.length; top += 13 ) {
+      grid.setTopIndex( top );
+      int topIndex = grid.getTopIndex();
+      for( int i = 0; i < items.length; i++ ) {
+        if( !items[ i ].isVisible() ) {
+          continue;
+        }
+        int expected = headerHeight + getOffsetByLoop( items, i ) - getOffsetByLoop( items, topIndex );
+        assertEquals( "top " + topIndex + ", item " + i, expected, grid.getOrigin( column, items[ i ] ).y );
+      }
+    }
+  }
+
+  // a tree with rows of differing heights, in which the children of some roots are collapsed and hidden
+  private GridItem[] createRandomLayout( Random random ) {
+    GridItem[] items = createGridItems( grid, 30, 3 );
+    for( int i = 0; i < items.length; i++ ) {
+      items[ i ].setHeight( 5 + random.nextInt( 40 ) );
+      if( items[ i ].getParentItem() == null && random.nextBoolean() ) {
+        items[ i ].setExpanded( true );
+      }
+    }
+    return items;
+  }
+
+  // the row range as Grid computed it by adding one row after the other
+  private static int[] getRowRangeByLoop( GridItem[] items,
+                                          int startIndex,
+                                          int availableHeight,
+                                          boolean forceEndCompletelyInside,
+                                          boolean inverse )
+  {
+    if( availableHeight <= 0 ) {
+      return new int[] { startIndex, startIndex, 0, 0 };
+    }
+    int otherIndex = startIndex;
+    int consumedItems = 1;
+    int consumedHeight = items[ otherIndex ].getHeight();
+    while( consumedHeight + 2 <= availableHeight ) {
+      int nextIndex = otherIndex;
+      GridItem nextItem;
+      do {
+        nextIndex += inverse ? -1 : 1;
+        nextItem = nextIndex >= 0 && nextIndex < items.length ? items[ nextIndex ] : null;
+      } while( nextItem != null && !nextItem.isVisible() );
+      if( nextItem == null ) {
+        break;
+      }
+      if( forceEndCompletelyInside && consumedHeight + 1 + nextItem.getHeight() > availableHeight ) {
+        break;
+      }
+      consumedItems++;
+      consumedHeight += 1 + nextItem.getHeight();
+      otherIndex = nextIndex;
+    }
+    return new int[] {
+      inverse ? otherIndex : startIndex,
+      inverse ? startIndex : otherIndex,
+      consumedItems,
+      consumedHeight
+    };
+  }
+
+  private static int getIndexOfVisibleByLoop( GridItem[] items, int row ) {
+    int remaining = row + 1;
+    for( int i = 0; i < items.length; i++ ) {
+      if( items[ i ].isVisible() ) {
+        remaining--;
+        if( remaining == 0 ) {
+          return i;
+        }
+      }
+    }
+    return row;
+  }
+
+  private static int getOffsetByLoop( GridItem[] items, int index ) {
+    int offset = 0;
+    for( int i = 0; i < index; i++ ) {
+      if( items[ i ].isVisible() ) {
+        offset += items[ i ].getHeight() + 1;
+      }
+    }
+    return offset;
+  }
+}
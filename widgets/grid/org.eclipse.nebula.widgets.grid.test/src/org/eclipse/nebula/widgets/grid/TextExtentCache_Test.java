@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.nebula.widgets.grid.internal.TextUtils;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class TextExtentCache_Test {
+
+  private static final String TEXT = "The quick brown fox jumps over the lazy dog";
+
+  private Display display;
+  private Shell shell;
+  private GC gc;
+  private TextExtentCache cache;
+
+  @Before
+  public void setUp() {
+    display = Display.getDefault();
+    shell = new Shell( display );
+    gc = new GC( shell );
+    cache = new TextExtentCache();
+  }
+
+  @After
+  public void tearDown() {
+    gc.dispose();
+    shell.dispose();
+  }
+
+  @Test
+  public void testStringExtent() {
+    Point expected = gc.stringExtent( TEXT );
+
+    assertEquals( expected, cache.stringExtent( gc, TEXT ) );
+    assertEquals( expected, cache.stringExtent( gc, TEXT ) );
+    assertEquals( 1, cache.getMissCount() );
+    assertEquals( 1, cache.getHitCount() );
+    assertEquals( 0.5, cache.getHitRate(), 0 );
+  }
+
+  @Test
+  public void testStringExtent_ReturnsCopy() {
+    cache.stringExtent( gc, TEXT ).x = -1;
+
+    assertEquals( gc.stringExtent( TEXT ), cache.stringExtent( gc, TEXT ) );
+  }
+
+  @Test
+  public void testGetShortStr() {
+    int width = gc.stringExtent( TEXT ).x / 2;
+
+    String expected = TextUtils.getShortStr( gc, TEXT, width, SWT.RIGHT );
+
+    assertEquals( expected, cache.getShortStr( gc, TEXT, width, SWT.RIGHT ) );
+    assertEquals( expected, cache.getShortStr( gc, TEXT, width, SWT.RIGHT ) );
+    assertEquals( TextUtils.getShortStr( gc, TEXT, width, SWT.LEFT ),
+                  cache.getShortStr( gc, TEXT, width, SWT.LEFT ) );
+    assertEquals( 1, cache.getHitCount() );
+    assertEquals( 2, cache.getMissCount() );
+  }
+
+  @Test
+  public void testKeyedByFont() {
+    Font font = new Font( display, new FontData( "Arial", 30, SWT.BOLD ) );
+    try {
+      Point small = cache.stringExtent( gc, TEXT );
+      gc.setFont( font );
+
+      Point large = cache.stringExtent( gc, TEXT );
+
+      assertEquals( gc.stringExtent( TEXT ), large );
+      assertEquals( 0, cache.getHitCount() );
+      assertTrue( small.y < large.y );
+    } finally {
+      font.dispose();
+    }
+  }
+
+  @Test
+  public void testEviction() {
+    cache.setMaxSize( 2 );
+
+    cache.stringExtent( gc, "a" );
+    cache.stringExtent( gc, "b" );
+    cache.stringExtent( gc, "a" );
+    cache.stringExtent( gc, "c" );
+    cache.resetStatistics();
+    cache.stringExtent( gc, "a" );
+    cache.stringExtent( gc, "b" );
+
+    assertEquals( 2, cache.size() );
+    assertEquals( 1, cache.getHitCount() );
+    assertEquals( 1, cache.getMissCount() );
+  }
+
+  @Test
+  public void testSetMaxSize_Shrinks() {
+    cache.stringExtent( gc, "a" );
+    cache.stringExtent( gc, "b" );
+    cache.stringExtent( gc, "c" );
+
+    cache.setMaxSize( 1 );
+
+    assertEquals( 1, cache.size() );
+    assertEquals( 1, cache.getMaxSize() );
+  }
+
+  @Test
+  public void testSetMaxSize_Zero() {
+    cache.setMaxSize( 0 );
+
+    cache.stringExtent( gc, TEXT );
+    cache.stringExtent( gc, TEXT );
+
+    assertEquals( 0, cache.size() );
+    assertEquals( 2, cache.getMissCount() );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testSetMaxSize_Negative() {
+    cache.setMaxSize( -1 );
+  }
+
+  @Test
+  public void testGrid_SharedCache() {
+    Grid grid = new Grid( shell, SWT.NONE );
+
+    assertNotNull( grid.getTextExtentCache() );
+    assertSame( grid.getTextExtentCache(), grid.getTextExtentCache() );
+  }
+
+  @Test
+  public void testGrid_SetFontClearsCache() {
+    Grid grid = new Grid( shell, SWT.NONE );
+    grid.getTextExtentCache().stringExtent( gc, TEXT );
+
+    grid.setFont( display.getSystemFont() );
+
+    assertEquals( 0, grid.getTextExtentCache().size() );
+  }
+}
@@ -0,0 +1,675 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Nebula contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.Image;
+
+/**
+ * A {@link DataVisualizer} which stores the values column-wise in dense arrays
+ * instead of one list per row and attribute.
+ * <p>
+ * Every {@link GridItem} which has at least one value gets a storage slot, the
+ * slot is the index into the per column arrays. Texts are kept in a
+ * {@code String[]}, checked, grayed and checkable states in {@link BitSet}s and
+ * spans in {@code int[]}s. Colors, fonts, images and tooltips are usually set
+ * on a few cells only, they are kept in a sparse slot map which is switched to
+ * a dense array once it gets crowded. Arrays are only allocated for the
+ * attributes and columns which have been set at least once.
+ * </p>
+ * <p>
+ * This implementation is preferable for grids with a lot of rows, it uses a
+ * fraction of the memory of {@link GridItemDataVisualizer} and looking up a
+ * value during paint is a couple of array accesses.
+ * </p>
+ *
+ * <pre>
+ * Grid grid = new Grid(new ColumnarDataVisualizer(background, foreground, font), parent, SWT.V_SCROLL);
+ * </pre>
+ */
+public class ColumnarDataVisualizer implements DataVisualizer {
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	private final List<ColumnStore> columns = new ArrayList<ColumnStore>();
+
+	/**
+	 * Owner of each slot, used to validate the slot stored on the item.
+	 */
+	private GridItem[] owners = new GridItem[INITIAL_CAPACITY];
+
+	private int nextSlot = 0;
+
+	private int[] freeSlots = new int[16];
+
+	private int freeSlotCount = 0;
+
+	private Color defaultBackground;
+	private Color defaultForeground;
+	private Font defaultFont;
+
+	/**
+	 * Create {@link ColumnarDataVisualizer} with default value
+	 *
+	 * @param defaultBackground
+	 * @param defaultForeground
+	 * @param defaultFont
+	 */
+	public ColumnarDataVisualizer(Color defaultBackground, Color defaultForeground, Font defaultFont) {
+		this.defaultBackground = defaultBackground;
+		this.defaultForeground = defaultForeground;
+		this.defaultFont = defaultFont;
+	}
+
+	/**
+	 * @return number of rows which currently hold at least one value
+	 */
+	public int getRowCount() {
+		return nextSlot - freeSlotCount;
+	}
+
+	/**
+	 * @param gridItem
+	 * @return the slot of the item or -1 if it does not hold any value
+	 */
+	private int slotOf(GridItem gridItem) {
+		final int slot = gridItem.visualizerSlot;
+		if (slot < 0 || slot >= nextSlot || owners[slot] != gridItem) {
+			return -1;
+		}
+		return slot;
+	}
+
+	private int slotFor(GridItem gridItem) {
+		int slot = slotOf(gridItem);
+		if (slot != -1) {
+			return slot;
+		}
+		if (freeSlotCount > 0) {
+			slot = freeSlots[--freeSlotCount];
+		} else {
+			slot = nextSlot++;
+			if (slot >= owners.length) {
+				owners = Arrays.copyOf(owners, owners.length + (owners.length >> 1));
+			}
+		}
+		owners[slot] = gridItem;
+		gridItem.visualizerSlot = slot;
+		return slot;
+	}
+
+	private ColumnStore getColumn(int column) {
+		if (column < 0 || column >= columns.size()) {
+			return null;
+		}
+		return columns.get(column);
+	}
+
+	private ColumnStore getOrCreateColumn(int column) {
+		while (columns.size() <= column) {
+			columns.add(null);
+		}
+		ColumnStore store = columns.get(column);
+		if (store == null) {
+			store = new ColumnStore();
+			columns.set(column, store);
+		}
+		return store;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getDefaultBackground()
+	 */
+	@Override
+	public Color getDefaultBackground() {
+		return defaultBackground;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getDefaultForeground()
+	 */
+	@Override
+	public Color getDefaultForeground() {
+		return defaultForeground;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getDefaultFont()
+	 */
+	@Override
+	public Font getDefaultFont() {
+		return defaultFont;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setDefaultBackground(org.eclipse.swt.graphics.Color)
+	 */
+	@Override
+	public void setDefaultBackground(Color defaultBackground) {
+		this.defaultBackground = defaultBackground;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setDefaultForeground(org.eclipse.swt.graphics.Color)
+	 */
+	@Override
+	public void setDefaultForeground(Color defaultForeground) {
+		this.defaultForeground = defaultForeground;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setDefaultFont(org.eclipse.swt.graphics.Font)
+	 */
+	@Override
+	public void setDefaultFont(Font defaultFont) {
+		this.defaultFont = defaultFont;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getText(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public String getText(GridItem gridItem, int column) {
+		final ColumnStore store = getColumn(column);
+		final int slot = slotOf(gridItem);
+		if (store == null || slot == -1 || store.texts == null || slot >= store.texts.length) {
+			return "";
+		}
+		final String text = store.texts[slot];
+		return text == null ? "" : text;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setText(org.eclipse.nebula.widgets.grid.GridItem, int, java.lang.String)
+	 */
+	@Override
+	public void setText(GridItem gridItem, int column, String text) {
+		final ColumnStore store = getOrCreateColumn(column);
+		final int slot = slotFor(gridItem);
+		store.texts = ensureCapacity(store.texts, slot, owners.length);
+		store.texts[slot] = text;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getToolTipText(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public String getToolTipText(GridItem gridItem, int column) {
+		final ColumnStore store = getColumn(column);
+		return store == null ? null : (String) SlotMap.get(store.toolTipTexts, slotOf(gridItem), null);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setToolTipText(org.eclipse.nebula.widgets.grid.GridItem, int, java.lang.String)
+	 */
+	@Override
+	public void setToolTipText(GridItem gridItem, int column, String tooltip) {
+		final ColumnStore store = getOrCreateColumn(column);
+		store.toolTipTexts = SlotMap.put(store.toolTipTexts, slotFor(gridItem), tooltip, owners.length);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getBackground(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public Color getBackground(GridItem gridItem, int column) {
+		final ColumnStore store = getColumn(column);
+		return store == null ? defaultBackground
+				: (Color) SlotMap.get(store.backgrounds, slotOf(gridItem), defaultBackground);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setBackground(org.eclipse.nebula.widgets.grid.GridItem, int, org.eclipse.swt.graphics.Color)
+	 */
+	@Override
+	public void setBackground(GridItem gridItem, int column, Color color) {
+		final ColumnStore store = getOrCreateColumn(column);
+		store.backgrounds = SlotMap.put(store.backgrounds, slotFor(gridItem), color, owners.length);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getForeground(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public Color getForeground(GridItem gridItem, int column) {
+		final ColumnStore store = getColumn(column);
+		return store == null ? defaultForeground
+				: (Color) SlotMap.get(store.foregrounds, slotOf(gridItem), defaultForeground);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setForeground(org.eclipse.nebula.widgets.grid.GridItem, int, org.eclipse.swt.graphics.Color)
+	 */
+	@Override
+	public void setForeground(GridItem gridItem, int column, Color foreground) {
+		final ColumnStore store = getOrCreateColumn(column);
+		store.foregrounds = SlotMap.put(store.foregrounds, slotFor(gridItem), foreground, owners.length);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getFont(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public Font getFont(GridItem gridItem, int column) {
+		final ColumnStore store = getColumn(column);
+		return store == null ? defaultFont : (Font) SlotMap.get(store.fonts, slotOf(gridItem), defaultFont);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setFont(org.eclipse.nebula.widgets.grid.GridItem, int, org.eclipse.swt.graphics.Font)
+	 */
+	@Override
+	public void setFont(GridItem gridItem, int column, Font font) {
+		final ColumnStore store = getOrCreateColumn(column);
+		store.fonts = SlotMap.put(store.fonts, slotFor(gridItem), font, owners.length);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getImage(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public Image getImage(GridItem gridItem, int column) {
+		final ColumnStore store = getColumn(column);
+		return store == null ? null : (Image) SlotMap.get(store.images, slotOf(gridItem), null);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setImage(org.eclipse.nebula.widgets.grid.GridItem, int, org.eclipse.swt.graphics.Image)
+	 */
+	@Override
+	public void setImage(GridItem gridItem, int column, Image image) {
+		final ColumnStore store = getOrCreateColumn(column);
+		store.images = SlotMap.put(store.images, slotFor(gridItem), image, owners.length);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getChecked(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public boolean getChecked(GridItem gridItem, int column) {
+		final ColumnStore store = getColumn(column);
+		return store != null && getBit(store.checkeds, slotOf(gridItem));
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setChecked(org.eclipse.nebula.widgets.grid.GridItem, int, boolean)
+	 */
+	@Override
+	public void setChecked(GridItem gridItem, int column, boolean checked) {
+		final ColumnStore store = getOrCreateColumn(column);
+		store.checkeds = setBit(store.checkeds, slotFor(gridItem), checked);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getGrayed(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public boolean getGrayed(GridItem gridItem, int column) {
+		final ColumnStore store = getColumn(column);
+		return store != null && getBit(store.grayeds, slotOf(gridItem));
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setGrayed(org.eclipse.nebula.widgets.grid.GridItem, int, boolean)
+	 */
+	@Override
+	public void setGrayed(GridItem gridItem, int column, boolean grayed) {
+		final ColumnStore store = getOrCreateColumn(column);
+		store.grayeds = setBit(store.grayeds, slotFor(gridItem), grayed);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getCheckable(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public boolean getCheckable(GridItem gridItem, int column) {
+		final ColumnStore store = getColumn(column);
+		return store == null || !getBit(store.uncheckables, slotOf(gridItem));
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setCheckable(org.eclipse.nebula.widgets.grid.GridItem, int, boolean)
+	 */
+	@Override
+	public void setCheckable(GridItem gridItem, int column, boolean checked) {
+		final ColumnStore store = getOrCreateColumn(column);
+		store.uncheckables = setBit(store.uncheckables, slotFor(gridItem), !checked);
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getColumnSpan(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public int getColumnSpan(GridItem gridItem, int column) {
+		final ColumnStore store = getColumn(column);
+		return store == null ? 0 : getInt(store.columnSpans, slotOf(gridItem));
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setColumnSpan(org.eclipse.nebula.widgets.grid.GridItem, int, int)
+	 */
+	@Override
+	public void setColumnSpan(GridItem gridItem, int column, int span) {
+		final ColumnStore store = getOrCreateColumn(column);
+		final int slot = slotFor(gridItem);
+		if (span != 0 || store.columnSpans != null) {
+			store.columnSpans = ensureCapacity(store.columnSpans, slot, owners.length);
+			store.columnSpans[slot] = span;
+		}
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#getRowSpan(org.eclipse.nebula.widgets.grid.GridItem, int)
+	 */
+	@Override
+	public int getRowSpan(GridItem gridItem, int column) {
+		final ColumnStore store = getColumn(column);
+		return store == null ? 0 : getInt(store.rowSpans, slotOf(gridItem));
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#setRowSpan(org.eclipse.nebula.widgets.grid.GridItem, int, int)
+	 */
+	@Override
+	public void setRowSpan(GridItem gridItem, int column, int span) {
+		final ColumnStore store = getOrCreateColumn(column);
+		final int slot = slotFor(gridItem);
+		if (span != 0 || store.rowSpans != null) {
+			store.rowSpans = ensureCapacity(store.rowSpans, slot, owners.length);
+			store.rowSpans[slot] = span;
+		}
+	}
+
+	/**
+	 * Releases the slot of the row, it is reused by the next item which gets a
+	 * value.
+	 *
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#clearRow(GridItem)
+	 */
+	@Override
+	public void clearRow(GridItem gridItem) {
+		final int slot = slotOf(gridItem);
+		if (slot == -1) {
+			return;
+		}
+		for (final ColumnStore store : columns) {
+			if (store != null) {
+				store.clear(slot);
+			}
+		}
+		owners[slot] = null;
+		gridItem.visualizerSlot = -1;
+		if (freeSlotCount == freeSlots.length) {
+			freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+		}
+		freeSlots[freeSlotCount++] = slot;
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#clearColumn(int)
+	 */
+	@Override
+	public void clearColumn(int column) {
+		if (column >= 0 && column < columns.size()) {
+			columns.remove(column);
+		}
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#addColumn(int)
+	 */
+	@Override
+	public void addColumn(int column) {
+		if (column >= 0 && column < columns.size()) {
+			columns.add(column, null);
+		}
+	}
+
+	/**
+	 * @see org.eclipse.nebula.widgets.grid.DataVisualizer#clearAll()
+	 */
+	@Override
+	public void clearAll() {
+		columns.clear();
+		owners = new GridItem[INITIAL_CAPACITY];
+		nextSlot = 0;
+		freeSlotCount = 0;
+	}
+
+	private static String[] ensureCapacity(String[] array, int slot, int capacity) {
+		if (array == null) {
+			return new String[Math.max(slot + 1, capacity)];
+		}
+		if (slot >= array.length) {
+			return Arrays.copyOf(array, Math.max(slot + 1, capacity));
+		}
+		return array;
+	}
+
+	private static int[] ensureCapacity(int[] array, int slot, int capacity) {
+		if (array == null) {
+			return new int[Math.max(slot + 1, capacity)];
+		}
+		if (slot >= array.length) {
+			return Arrays.copyOf(array, Math.max(slot + 1, capacity));
+		}
+		return array;
+	}
+
+	private static int getInt(int[] array, int slot) {
+		if (array == null || slot < 0 || slot >= array.length) {
+			return 0;
+		}
+		return array[slot];
+	}
+
+	private static boolean getBit(BitSet bits, int slot) {
+		return bits != null && slot >= 0 && bits.get(slot);
+	}
+
+	private static BitSet setBit(BitSet bits, int slot, boolean value) {
+		if (bits == null) {
+			if (!value) {
+				return null;
+			}
+			bits = new BitSet();
+		}
+		bits.set(slot, value);
+		return bits;
+	}
+
+	/**
+	 * Values of one column, indexed by slot.
+	 */
+	private static final class ColumnStore {
+		String[] texts;
+		BitSet checkeds;
+		BitSet grayeds;
+		BitSet uncheckables;
+		int[] columnSpans;
+		int[] rowSpans;
+		SlotMap backgrounds;
+		SlotMap foregrounds;
+		SlotMap fonts;
+		SlotMap images;
+		SlotMap toolTipTexts;
+
+		void clear(int slot) {
+			if (texts != null && slot < texts.length) {
+				texts[slot] = null;
+			}
+			if (checkeds != null) {
+				checkeds.clear(slot);
+			}
+			if (grayeds != null) {
+				grayeds.clear(slot);
+			}
+			if (uncheckables != null) {
+				uncheckables.clear(slot);
+			}
+			if (columnSpans != null && slot < columnSpans.length) {
+				columnSpans[slot] = 0;
+			}
+			if (rowSpans != null && slot < rowSpans.length) {
+				rowSpans[slot] = 0;
+			}
+			SlotMap.remove(backgrounds, slot);
+			SlotMap.remove(foregrounds, slot);
+			SlotMap.remove(fonts, slot);
+			SlotMap.remove(images, slot);
+			SlotMap.remove(toolTipTexts, slot);
+		}
+	}
+
+	/**
+	 * Maps slots to values. Starts as an open addressing hash map and switches
+	 * to a dense array once more than a quarter of the slots hold a value.
+	 */
+	private static final class SlotMap {
+		private static final int EMPTY = -1;
+
+		private int[] keys;
+		private Object[] values;
+		private int size;
+		private Object[] dense;
+
+		private SlotMap() {
+			keys = new int[16];
+			Arrays.fill(keys, EMPTY);
+			values = new Object[16];
+		}
+
+		static Object get(SlotMap map, int slot, Object defaultValue) {
+			if (map == null || slot < 0) {
+				return defaultValue;
+			}
+			final Object value = map.lookup(slot);
+			return value == null ? defaultValue : value;
+		}
+
+		static SlotMap put(SlotMap map, int slot, Object value, int capacity) {
+			if (map == null) {
+				if (value == null) {
+					return null;
+				}
+				map = new SlotMap();
+			}
+			map.store(slot, value, capacity);
+			return map;
+		}
+
+		static void remove(SlotMap map, int slot) {
+			if (map != null) {
+				map.store(slot, null, 0);
+			}
+		}
+
+		private static int hash(int slot, int mask) {
+			return (slot * 0x9E3779B9) >>> 16 & mask;
+		}
+
+		private Object lookup(int slot) {
+			if (dense != null) {
+				return slot < dense.length ? dense[slot] : null;
+			}
+			final int mask = keys.length - 1;
+			int i = hash(slot, mask);
+			while (keys[i] != EMPTY) {
+				if (keys[i] == slot) {
+					return values[i];
+				}
+				i = (i + 1) & mask;
+			}
+			return null;
+		}
+
+		private void store(int slot, Object value, int capacity) {
+			if (dense != null) {
+				if (slot >= dense.length) {
+					if (value == null) {
+						return;
+					}
+					dense = Arrays.copyOf(dense, Math.max(slot + 1, capacity));
+				}
+				dense[slot] = value;
+				return;
+			}
+
+			final int mask = keys.length - 1;
+			int i = hash(slot, mask);
+			while (keys[i] != EMPTY) {
+				if (keys[i] == slot) {
+					// removed values are kept as null entries until the next rehash
+					values[i] = value;
+					return;
+				}
+				i = (i + 1) & mask;
+			}
+			if (value == null) {
+				return;
+			}
+			keys[i] = slot;
+			values[i] = value;
+			size++;
+
+			if (size * 4 > capacity) {
+				toDense(capacity);
+			} else if (size * 4 > keys.length * 3) {
+				rehash(keys.length * 2);
+			}
+		}
+
+		private void toDense(int capacity) {
+			int length = capacity;
+			for (final int key : keys) {
+				length = Math.max(length, key + 1);
+			}
+			dense = new Object[length];
+			for (int i = 0; i < keys.length; i++) {
+				if (keys[i] != EMPTY) {
+					dense[keys[i]] = values[i];
+				}
+			}
+			keys = null;
+			values = null;
+		}
+
+		private void rehash(int length) {
+			final int[] oldKeys = keys;
+			final Object[] oldValues = values;
+			keys = new int[length];
+			Arrays.fill(keys, EMPTY);
+			values = new Object[length];
+			size = 0;
+			final int mask = length - 1;
+			for (int j = 0; j < oldKeys.length; j++) {
+				if (oldKeys[j] != EMPTY && oldValues[j] != null) {
+					int i = hash(oldKeys[j], mask);
+					while (keys[i] != EMPTY) {
+						i = (i + 1) & mask;
+					}
+					keys[i] = oldKeys[j];
+					values[i] = oldValues[j];
+					size++;
+				}
+			}
+		}
+	}
+}
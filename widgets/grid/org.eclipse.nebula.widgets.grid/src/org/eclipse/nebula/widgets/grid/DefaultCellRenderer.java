@@ -18,7 +18,6 @@ package org.eclipse.nebula.widgets.grid;
 
 import org.eclipse.nebula.widgets.grid.internal.BranchRenderer;
 import org.eclipse.nebula.widgets.grid.internal.CheckBoxRenderer;
-import org.eclipse.nebula.widgets.grid.internal.TextUtils;
 import org.eclipse.nebula.widgets.grid.internal.ToggleRenderer;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
@@ -178,21 +177,23 @@ public class DefaultCellRenderer extends GridCellRenderer {
         }
 
         if (!isWordWrap()) {
-            String text = TextUtils.getShortStr(gc, item.getText(getColumn()), width,truncationStyle);
+            TextExtentCache cache = item.getParent().getTextExtentCache();
+            String text = cache.getShortStr(gc, item.getText(getColumn()), width,truncationStyle);
+            Point extent = cache.stringExtent(gc, text);
 
             if (getAlignment() == SWT.RIGHT) {
-                int len = gc.stringExtent(text).x;
+                int len = extent.x;
                 if (len < width) {
                     x += width - len;
                 }
             } else if (getAlignment() == SWT.CENTER) {
-                int len = gc.stringExtent(text).x;
+                int len = extent.x;
                 if (len < width) {
                     x += (width - len) / 2;
                 }
             }
 
-            int verticalDelta = getVerticalAlignmentAdjustment(gc.stringExtent(text).y, height);
+            int verticalDelta = getVerticalAlignmentAdjustment(extent.y, height);
             gc.drawString(text, getBounds().x + x, getBounds().y + textTopMargin + topMargin + verticalDelta, true);
         } else {
             if (textLayout == null) {
@@ -205,31 +206,8 @@ public class DefaultCellRenderer extends GridCellRenderer {
             textLayout.setWidth(width < 1 ? 1 : width);
 			int verticalDelta = 0;
             if (item.getParent().isAutoHeight()) {
-				// Look through all columns (except this one) to get the max height needed for
-				// this item
-				int columnCount = item.getParent().getColumnCount();
-				int maxHeight = textLayout.getBounds().height + textTopMargin + textBottomMargin;
-				if (image != null) {
-					int imageHeight = topMargin + image.getBounds().height + bottomMargin;
-					maxHeight = Math.max(maxHeight, imageHeight);
-				}
-				for (int i = 0; i < columnCount; i++) {
-					GridColumn column = item.getParent().getColumn(i);
-					if (i != getColumn() && column.getWordWrap()) {
-						height = column.getCellRenderer().computeSize(gc, column.getWidth(), SWT.DEFAULT, item).y;
-						maxHeight = Math.max(maxHeight, height);
-					}
-				}
-
-				// Also look at the row header if necessary
-				if (item.getParent().isWordWrapHeader()) {
-					height = item.getParent().getRowHeaderRenderer().computeSize(gc, SWT.DEFAULT, SWT.DEFAULT,
-							item).y;
-					maxHeight = Math.max(maxHeight, height);
-				}
-
-				if (maxHeight != item.getHeight()) {
-					item.setHeight(maxHeight);
+				if (!item.getParent().isRowHeightMeasured(item)) {
+					updateAutoHeight(gc, item, image);
 				}
 			} else {
 				verticalDelta = getVerticalAlignmentAdjustment(textLayout.getBounds().height, height);
@@ -276,6 +254,40 @@ public class DefaultCellRenderer extends GridCellRenderer {
         }
     }
 
+	/**
+	 * Sets the height of the item to the maximum height needed by its word-wrapped
+	 * cells and row header.
+	 */
+	private void updateAutoHeight(GC gc, GridItem item, Image image) {
+		// Look through all columns (except this one) to get the max height needed for
+		// this item
+		int columnCount = item.getParent().getColumnCount();
+		int maxHeight = textLayout.getBounds().height + textTopMargin + textBottomMargin;
+		if (image != null) {
+			int imageHeight = topMargin + image.getBounds().height + bottomMargin;
+			maxHeight = Math.max(maxHeight, imageHeight);
+		}
+		for (int i = 0; i < columnCount; i++) {
+			GridColumn column = item.getParent().getColumn(i);
+			if (i != getColumn() && column.getWordWrap()) {
+				int height = column.getCellRenderer().computeSize(gc, column.getWidth(), SWT.DEFAULT, item).y;
+				maxHeight = Math.max(maxHeight, height);
+			}
+		}
+
+		// Also look at the row header if necessary
+		if (item.getParent().isWordWrapHeader()) {
+			int height = item.getParent().getRowHeaderRenderer().computeSize(gc, SWT.DEFAULT, SWT.DEFAULT,
+					item).y;
+			maxHeight = Math.max(maxHeight, height);
+		}
+
+		if (maxHeight != item.getHeight()) {
+			item.setHeight(maxHeight);
+		}
+		item.getParent().setRowHeightMeasured(item);
+	}
+
     private int getVerticalAlignmentAdjustment(int textHeight, int cellHeight)
     {
 		if (getVerticalAlignment() == SWT.BOTTOM)
@@ -415,10 +427,11 @@ public class DefaultCellRenderer extends GridCellRenderer {
 //
 // with this code:
 
+        TextExtentCache cache = item.getParent().getTextExtentCache();
         int textHeight = 0;
         if(!isWordWrap())
         {
-            x += gc.textExtent(item.getText(getColumn())).x + rightMargin;
+            x += cache.textExtent(gc, item.getText(getColumn())).x + rightMargin;
 
             textHeight = topMargin + textTopMargin + gc.getFontMetrics().getHeight() + textBottomMargin + bottomMargin;
         }
@@ -426,24 +439,15 @@ public class DefaultCellRenderer extends GridCellRenderer {
         {
         	int plainTextWidth;
         	if (wHint == SWT.DEFAULT)
-        		plainTextWidth = gc.textExtent(item.getText(getColumn())).x;
+        		plainTextWidth = cache.textExtent(gc, item.getText(getColumn())).x;
         	else
         		plainTextWidth = wHint - x - rightMargin;
 
-            TextLayout currTextLayout = new TextLayout(gc.getDevice());
-            currTextLayout.setFont(gc.getFont());
-            currTextLayout.setText(item.getText(getColumn()));
-            currTextLayout.setAlignment(getAlignment());
-            currTextLayout.setWidth(plainTextWidth < 1 ? 1 : plainTextWidth);
-
             x += plainTextWidth + rightMargin;
 
             textHeight += topMargin + textTopMargin;
-            for(int cnt=0;cnt<currTextLayout.getLineCount();cnt++)
-                textHeight += currTextLayout.getLineBounds(cnt).height;
+            textHeight += cache.getWrappedHeight(gc, item.getText(getColumn()), plainTextWidth, getAlignment());
             textHeight += textBottomMargin + bottomMargin;
-
-            currTextLayout.dispose();
         }
 
         y = Math.max(y, textHeight);
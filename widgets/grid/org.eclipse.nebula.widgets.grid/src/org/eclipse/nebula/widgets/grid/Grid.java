@@ -29,8 +29,10 @@ package org.eclipse.nebula.widgets.grid;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Iterator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.Vector;
 import java.util.function.Consumer;
 import java.util.function.ToIntFunction;
@@ -167,6 +169,7 @@ public class Grid extends Canvas {
 	public void clearItems() {
 		items.clear();
 		rootItems.clear();
+		rowOffsets.invalidate();
 		deselectAll();
 		redraw();
 	}
@@ -258,6 +261,12 @@ public class Grid extends Canvas {
 	 */
 	private boolean visibleLinesBasedColumnPack = false;
 
+	private GridColumnPackStrategy columnPackStrategy = GridColumnPackStrategy.EXACT;
+
+	private int columnPackSampleSize = 1000;
+
+	private final GridColumnPacker columnPacker = new GridColumnPacker(this);
+
 	/**
 	 * All items in the table, not just root items.
 	 */
@@ -269,9 +278,10 @@ public class Grid extends Canvas {
 	private final List<GridItem> rootItems = new ArrayList<>();
 
 	/**
-	 * List of selected items.
+	 * Selected items, in selection order. Hash based so that the paint loop can
+	 * check the selection state of each row in constant time.
 	 */
-	private final List<GridItem> selectedItems = new ArrayList<>();
+	private final SelectedItems selectedItems = new SelectedItems();
 
 	/**
 	 * Reference to the item in focus.
@@ -281,8 +291,8 @@ public class Grid extends Canvas {
 	private boolean cellSelectionEnabled = false;
 	private boolean cellDragSelectionEnabled = true;
 
-	private final List<Point> selectedCells = new ArrayList<>();
-	private final List<Point> selectedCellsBeforeRangeSelect = new ArrayList<>();
+	private final GridCellSet selectedCells = new GridCellSet();
+	private final GridCellSet selectedCellsBeforeRangeSelect = new GridCellSet();
 
 	private boolean cellDragSelectionOccuring = false;
 	private boolean cellRowDragSelectionOccuring = false;
@@ -298,7 +308,7 @@ public class Grid extends Canvas {
 
 	private GridColumn focusColumn;
 
-	private final List<GridColumn> selectedColumns = new ArrayList<>();
+	private final Set<GridColumn> selectedColumns = new HashSet<>();
 
 	/**
 	 * This is the column that the user last navigated to, but may not be the
@@ -590,6 +600,12 @@ public class Grid extends Canvas {
 	 */
 	private int currentVisibleItems = 0;
 
+	/**
+	 * Offsets of the rows, used if the rows have differing heights or some are
+	 * collapsed. Access through {@link #getRowOffsets()}.
+	 */
+	private final GridRowOffsets rowOffsets = new GridRowOffsets();
+
 	/**
 	 * Item selected when a multiple selection using shift+click first occurs. This
 	 * item anchors all further shift+click selections.
@@ -729,6 +745,22 @@ public class Grid extends Canvas {
 	private final IRenderer insertMarkRenderer = new DefaultInsertMarkRenderer();
 	private boolean sizeOnEveryItemImageChange;
 	private boolean autoHeight = false;
+
+	/**
+	 * Incremented whenever the layout changes in a way which affects the
+	 * height of all rows with auto-height, e.g. a column width.
+	 */
+	private int rowHeightGeneration = 0;
+
+	/**
+	 * Measures row heights in the background, <code>null</code> if disabled.
+	 */
+	private GridRowHeightMeasurer rowHeightMeasurer;
+
+	/**
+	 * Text measurements shared by the renderers of this grid.
+	 */
+	private final TextExtentCache textExtentCache = new TextExtentCache();
 	private boolean autoWidth = true;
 	private boolean wordWrapRowHeader = false;
 
@@ -758,7 +790,7 @@ public class Grid extends Canvas {
 	 *
 	 * @see Grid#getRowRange(int, int, boolean, boolean)
 	 */
-	private static class RowRange {
+	static class RowRange {
 		/** index of first item in range */
 		public int startIndex;
 		/** index of last item in range */
@@ -771,6 +803,59 @@ public class Grid extends Canvas {
 		public int height;
 	}
 
+	/**
+	 * Selected items in selection order, which also knows the most recently
+	 * selected item without walking the set.
+	 */
+	private static class SelectedItems extends LinkedHashSet<GridItem> {
+		private static final long serialVersionUID = 1L;
+
+		/** most recently added item, null if unknown */
+		private GridItem last;
+
+		@Override
+		public boolean add(final GridItem item) {
+			if (super.add(item)) {
+				last = item;
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public boolean remove(final Object item) {
+			if (super.remove(item)) {
+				if (item == last) {
+					last = null;
+				}
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public void clear() {
+			super.clear();
+			last = null;
+		}
+
+		/**
+		 * Returns the most recently selected item. The set is only walked when that
+		 * item was deselected since.
+		 *
+		 * @return the last item in selection order, or null if the set is empty
+		 */
+		GridItem getLast() {
+			if (last == null || !contains(last)) {
+				last = null;
+				for (final GridItem item : this) {
+					last = item;
+				}
+			}
+			return last;
+		}
+	}
+
 	/**
 	 * Filters out unnecessary styles, adds mandatory styles and generally manages
 	 * the style to pass to the super class.
@@ -1071,9 +1156,7 @@ public class Grid extends Canvas {
 		final GridItem item = items.get(index);
 
 		if (!cellSelectionEnabled) {
-			if (selectedItems.contains(item)) {
-				selectedItems.remove(item);
-			}
+			selectedItems.remove(item);
 		} else {
 			deselectCells(getCells(item));
 		}
@@ -1115,9 +1198,7 @@ public class Grid extends Canvas {
 			final GridItem item = items.get(i);
 
 			if (!cellSelectionEnabled) {
-				if (selectedItems.contains(item)) {
-					selectedItems.remove(item);
-				}
+				selectedItems.remove(item);
 			} else {
 				deselectCells(getCells(item));
 			}
@@ -1160,9 +1241,7 @@ public class Grid extends Canvas {
 				final GridItem item = items.get(j);
 
 				if (!cellSelectionEnabled) {
-					if (selectedItems.contains(item)) {
-						selectedItems.remove(item);
-					}
+					selectedItems.remove(item);
 				} else {
 					deselectCells(getCells(item));
 				}
@@ -1317,7 +1396,7 @@ public class Grid extends Canvas {
 			}
 
 			if (item != null) {
-				final int displayColIndex = displayOrderedColumns.indexOf(overThis);
+				final int displayColIndex = displayIndexOf(overThis);
 
 				// track back all previous columns and check their spanning
 				for (int i = 0; i < displayColIndex; i++) {
@@ -1388,7 +1467,7 @@ public class Grid extends Canvas {
 			columnOrders = new int[columns.size()];
 			int i = 0;
 			for (GridColumn col : displayOrderedColumns) {
-				columnOrders[i] = columns.indexOf(col);
+				columnOrders[i] = columnIndexOf(col);
 				i++;
 			}
 		}
@@ -1871,20 +1950,30 @@ public class Grid extends Canvas {
 
 		GridItem itemToReturn = null;
 
-		int row = getTopIndex();
-		while (row < items.size() && y2 <= getClientArea().height) {
-			final GridItem currItem = items.get(row);
-			if (currItem.isVisible()) {
-				final int currItemHeight = currItem.getHeight();
+		final int top = getTopIndex();
+		if ((isTree || hasDifferingHeights) && p.y >= y2 && top < items.size()) {
+			final GridRowOffsets offsets = getRowOffsets();
+			final int topOffset = offsets.getOffset(top);
+			final int row = offsets.getIndexAt(topOffset + p.y - y2);
+			if (row < items.size() && y2 + offsets.getOffset(row) - topOffset <= getClientArea().height) {
+				itemToReturn = items.get(row);
+			}
+		} else {
+			int row = top;
+			while (row < items.size() && y2 <= getClientArea().height) {
+				final GridItem currItem = items.get(row);
+				if (currItem.isVisible()) {
+					final int currItemHeight = currItem.getHeight();
+
+					if (p.y >= y2 && p.y < y2 + currItemHeight + 1) {
+						itemToReturn = currItem;
+						break;
+					}
 
-				if (p.y >= y2 && p.y < y2 + currItemHeight + 1) {
-					itemToReturn = currItem;
-					break;
+					y2 += currItemHeight + 1;
 				}
-
-				y2 += currItemHeight + 1;
+				row++;
 			}
-			row++;
 		}
 
 		if (hasSpanning) {
@@ -1892,7 +1981,7 @@ public class Grid extends Canvas {
 				final int itemIndex = getIndexOfItem(itemToReturn);
 
 				final GridColumn gridColumn = getColumn(itemToReturn, point);
-				final int displayColIndex = displayOrderedColumns.indexOf(gridColumn);
+				final int displayColIndex = displayIndexOf(gridColumn);
 
 				// track back all previous columns and check their spanning
 				int indexNextItemToCheck = 0;
@@ -1996,6 +2085,7 @@ public class Grid extends Canvas {
 			items.get(cnt).setHeight(height);
 		}
 		hasDifferingHeights = false;
+		invalidateRowHeights();
 		setScrollValuesObsolete();
 		redraw();
 	}
@@ -2222,7 +2312,7 @@ public class Grid extends Canvas {
 	public GridColumn getPreviousVisibleColumn(final GridColumn column) {
 		checkWidget();
 
-		int index = displayOrderedColumns.indexOf(column);
+		int index = displayIndexOf(column);
 
 		if (index == 0) {
 			return null;
@@ -2261,7 +2351,7 @@ public class Grid extends Canvas {
 	public GridColumn getNextVisibleColumn(final GridColumn column) {
 		checkWidget();
 
-		int index = displayOrderedColumns.indexOf(column);
+		int index = displayIndexOf(column);
 
 		if (index == displayOrderedColumns.size() - 1) {
 			return null;
@@ -2382,18 +2472,15 @@ public class Grid extends Canvas {
 		if (!cellSelectionEnabled) {
 			return selectedItems.toArray(new GridItem[selectedItems.size()]);
 		} else {
-			final Vector<GridItem> items = new Vector<>();
+			final Set<GridItem> items = new LinkedHashSet<>();
 			final int itemCount = getItemCount();
 
 			for (final Point cell : selectedCells) {
 				if (cell.y >= 0 && cell.y < itemCount) {
-					final GridItem item = getItem(cell.y);
-					if (!items.contains(item)) {
-						items.add(item);
-					}
+					items.add(getItem(cell.y));
 				}
 			}
-			return items.toArray(new GridItem[] {});
+			return items.toArray(new GridItem[items.size()]);
 		}
 	}
 
@@ -2417,12 +2504,9 @@ public class Grid extends Canvas {
 		if (!cellSelectionEnabled) {
 			return selectedItems.size();
 		} else {
-			final Vector<GridItem> items = new Vector<>();
+			final Set<GridItem> items = new HashSet<>();
 			for (final Point cell : selectedCells) {
-				final GridItem item = getItem(cell.y);
-				if (!items.contains(item)) {
-					items.add(item);
-				}
+				items.add(getItem(cell.y));
 			}
 			return items.size();
 		}
@@ -2467,13 +2551,13 @@ public class Grid extends Canvas {
 				return -1;
 			}
 
-			return selectedItems.get(0).getRowIndex();
+			return selectedItems.iterator().next().getRowIndex();
 		} else {
 			if (selectedCells.size() == 0) {
 				return -1;
 			}
 
-			return selectedCells.get(0).y;
+			return selectedCells.first().y;
 		}
 	}
 
@@ -2509,12 +2593,9 @@ public class Grid extends Canvas {
 			}
 			return indices;
 		} else {
-			final Vector<GridItem> selectedRows = new Vector<>();
+			final Set<GridItem> selectedRows = new LinkedHashSet<>();
 			for (final Point cell : selectedCells) {
-				final GridItem item = getItem(cell.y);
-				if (!selectedRows.contains(item)) {
-					selectedRows.add(item);
-				}
+				selectedRows.add(getItem(cell.y));
 			}
 			final int[] indices = new int[selectedRows.size()];
 			int i = 0;
@@ -2554,29 +2635,13 @@ public class Grid extends Canvas {
 			int firstVisibleIndex = vScroll.getSelection();
 
 			if (isTree) {
-				final Iterator<GridItem> itemsIter = items.iterator();
-				int row = firstVisibleIndex + 1;
-
-				while (row > 0 && itemsIter.hasNext()) {
-					final GridItem item = itemsIter.next();
-
-					if (item.isVisible()) {
-						row--;
-						if (row == 0) {
-							firstVisibleIndex = item.getRowIndex();
-						}
-					}
+				final int index = getRowOffsets().getIndexOfVisible(firstVisibleIndex);
+				if (index < items.size()) {
+					firstVisibleIndex = index;
 				}
 			}
 
 			topIndex = firstVisibleIndex;
-
-			/*
-			 * MOPR here lies more potential for increasing performance for the case (isTree
-			 * || hasDifferingHeights) the topIndex could be derived from the previous value
-			 * depending on a delta of the vScroll.getSelection() instead of being
-			 * calculated completely anew
-			 */
 		}
 
 		return topIndex;
@@ -2672,17 +2737,10 @@ public class Grid extends Canvas {
 		range.endIndex = endIndex;
 
 		if (isTree || hasDifferingHeights) {
-			for (int idx = startIndex; idx <= endIndex; idx++) {
-				final GridItem currItem = items.get(idx);
-
-				if (currItem.isVisible()) {
-					if (range.rows > 0) {
-						range.height++; // height of horizontal row separator
-					}
-					range.height += currItem.getHeight();
-					range.rows++;
-				}
-			}
+			final GridRowOffsets offsets = getRowOffsets();
+			range.rows = offsets.getVisibleCount(endIndex + 1) - offsets.getVisibleCount(startIndex);
+			// minus the separator below the last row
+			range.height = offsets.getOffset(endIndex + 1) - offsets.getOffset(startIndex) - 1;
 		} else {
 			range.rows = range.endIndex - range.startIndex + 1;
 			range.height = (getItemHeight() + 1) * range.rows - 1;
@@ -2717,7 +2775,7 @@ public class Grid extends Canvas {
 	 * @return range of grid rows
 	 * @see RowRange
 	 */
-	private RowRange getRowRange(int startIndex, final int availableHeight, final boolean forceEndCompletelyInside,
+	RowRange getRowRange(int startIndex, final int availableHeight, final boolean forceEndCompletelyInside,
 			final boolean inverse) {
 		// parameter preparation
 		if (startIndex == -1) {
@@ -2758,69 +2816,41 @@ public class Grid extends Canvas {
 		}
 
 		if (isTree || hasDifferingHeights) {
-			int otherIndex = startIndex; // tentative end index
-			int consumedItems = 0;
-			int consumedHeight = 0;
-
-			// consume height for startEnd (note: no separator pixel added here)
-			consumedItems++;
-			consumedHeight += items.get(otherIndex).getHeight();
-
-			// note: we use "+2" in next line, because we only try to add another row if
-			// there
-			// is room for the separator line + at least one pixel row for the additional
-			// item
-			while (consumedHeight + 2 <= availableHeight) {
-				// STEP 1:
-				// try to find a visible item we can add
-
-				int nextIndex = otherIndex;
-				GridItem nextItem;
-
-				do {
-					if (!inverse) {
-						nextIndex++;
-					} else {
-						nextIndex--;
-					}
+			// a row covers its height plus the separator line below it, instead of
+			// adding one row after the other search the row covering the last pixel
+			// which may be used
+			final GridRowOffsets offsets = getRowOffsets();
+			int otherIndex;
 
-					if (nextIndex >= 0 && nextIndex < items.size()) {
-						nextItem = items.get(nextIndex);
-					} else {
-						nextItem = null;
+			if (!inverse) {
+				final int top = offsets.getOffset(startIndex);
+				if (!forceEndCompletelyInside) {
+					otherIndex = offsets.getIndexAt(top + availableHeight - 1);
+					if (otherIndex == items.size()) {
+						otherIndex = offsets.getIndexAt(offsets.getTotalHeight() - 1);
 					}
-				} while (nextItem != null && !nextItem.isVisible());
-
-				if (nextItem == null) {
-					// no visible item found
-					break;
+				} else {
+					final int limit = offsets.getIndexAt(top + availableHeight + 1);
+					otherIndex = Math.max(startIndex, offsets.getIndexAt(offsets.getOffset(limit) - 1));
 				}
-
-				if (forceEndCompletelyInside) {
-					// must lie completely within the allowed height
-					if (!(consumedHeight + 1 + nextItem.getHeight() <= availableHeight)) {
-						break;
-					}
+				range.startIndex = startIndex;
+				range.endIndex = otherIndex;
+				range.height = offsets.getOffset(otherIndex + 1) - 1 - top;
+			} else {
+				final int bottom = offsets.getOffset(startIndex + 1) - 1;
+				if (!forceEndCompletelyInside) {
+					otherIndex = offsets.getIndexAt(Math.max(0, bottom - availableHeight + 1));
+				} else if (bottom - availableHeight <= 0) {
+					otherIndex = offsets.getIndexAt(0);
+				} else {
+					final int outside = offsets.getIndexAt(bottom - availableHeight - 1);
+					otherIndex = Math.min(startIndex, offsets.getIndexAt(offsets.getOffset(outside + 1)));
 				}
-
-				// we found one !!
-
-				// STEP 2:
-				// Consume height for this item
-
-				consumedItems++;
-				consumedHeight += 1; // height of separator line
-				consumedHeight += nextItem.getHeight();
-
-				// STEP 3:
-				// make this item it the current guess for the other end
-				otherIndex = nextIndex;
+				range.startIndex = otherIndex;
+				range.endIndex = startIndex;
+				range.height = bottom - offsets.getOffset(otherIndex);
 			}
-
-			range.startIndex = !inverse ? startIndex : otherIndex;
-			range.endIndex = !inverse ? otherIndex : startIndex;
-			range.rows = consumedItems;
-			range.height = consumedHeight;
+			range.rows = offsets.getVisibleCount(range.endIndex + 1) - offsets.getVisibleCount(range.startIndex);
 		} else {
 			int availableRows = (availableHeight + 1) / (getItemHeight() + 1);
 
@@ -2861,16 +2891,12 @@ public class Grid extends Canvas {
 	 * @return height of plain grid
 	 */
 	int getGridHeight() {
+		if (isTree || hasDifferingHeights) {
+			// minus the separator below the last row
+			return Math.max(0, getRowOffsets().getTotalHeight() - 1);
+		}
 		final RowRange range = getRowRange(-1, -1);
 		return range != null ? range.height : 0;
-		/*
-		 * MOPR currently this method is only used in #getTableSize() ; if it will be
-		 * used for more important things in the future (e.g. the max value for
-		 * vScroll.setValues() when doing pixel-by-pixel vertical scrolling) then this
-		 * value should at least be cached or even updated incrementally when grid items
-		 * are added/removed or expaned/collapsed (similar as #currentVisibleItems).
-		 * (this is only necessary in the case (isTree || hasDifferingHeights))
-		 */
 	}
 
 	/**
@@ -2960,7 +2986,57 @@ public class Grid extends Canvas {
 			return -1;
 		}
 
-		return columns.indexOf(column);
+		return columnIndexOf(column);
+	}
+
+	/**
+	 * Returns the index of the column in {@link #columns} in constant time. The
+	 * index kept on the column is validated and all indices are recomputed if it
+	 * is outdated, so they only have to be rebuilt once after the columns have
+	 * changed.
+	 *
+	 * @param column
+	 * @return the index of the column or -1
+	 */
+	private int columnIndexOf(final GridColumn column) {
+		if (column == null) {
+			return -1;
+		}
+		if (!isAt(columns, column.index, column)) {
+			for (int i = 0; i < columns.size(); i++) {
+				columns.get(i).index = i;
+			}
+			if (!isAt(columns, column.index, column)) {
+				return -1;
+			}
+		}
+		return column.index;
+	}
+
+	/**
+	 * Returns the index of the column in {@link #displayOrderedColumns} in
+	 * constant time, see {@link #columnIndexOf(GridColumn)}.
+	 *
+	 * @param column
+	 * @return the display index of the column or -1
+	 */
+	private int displayIndexOf(final GridColumn column) {
+		if (column == null) {
+			return -1;
+		}
+		if (!isAt(displayOrderedColumns, column.displayIndex, column)) {
+			for (int i = 0; i < displayOrderedColumns.size(); i++) {
+				displayOrderedColumns.get(i).displayIndex = i;
+			}
+			if (!isAt(displayOrderedColumns, column.displayIndex, column)) {
+				return -1;
+			}
+		}
+		return column.displayIndex;
+	}
+
+	private static <T> boolean isAt(final List<T> list, final int index, final T element) {
+		return index >= 0 && index < list.size() && list.get(index) == element;
 	}
 
 	/**
@@ -2994,6 +3070,10 @@ public class Grid extends Canvas {
 			return -1;
 		}
 
+		final int row = item.getCachedRowIndex();
+		if (isAt(items, row, item)) {
+			return row;
+		}
 		return items.indexOf(item);
 	}
 
@@ -3042,12 +3122,7 @@ public class Grid extends Canvas {
 		if (!cellSelectionEnabled) {
 			return isSelected(items.get(index));
 		} else {
-			for (final Point cell : selectedCells) {
-				if (cell.y == index) {
-					return true;
-				}
-			}
-			return false;
+			return selectedCells.containsRow(index);
 		}
 	}
 
@@ -3079,12 +3154,7 @@ public class Grid extends Canvas {
 			if (index == -1) {
 				return false;
 			}
-			for (final Point cell : selectedCells) {
-				if (cell.y == index) {
-					return true;
-				}
-			}
-			return false;
+			return selectedCells.containsRow(index);
 		}
 	}
 
@@ -3414,9 +3484,7 @@ public class Grid extends Canvas {
 			final GridItem item = items.get(i);
 
 			if (!cellSelectionEnabled) {
-				if (!selectedItems.contains(item)) {
-					selectedItems.add(item);
-				}
+				selectedItems.add(item);
 			} else {
 				selectCells(getCells(item));
 			}
@@ -3480,9 +3548,7 @@ public class Grid extends Canvas {
 				final GridItem item = items.get(j);
 
 				if (!cellSelectionEnabled) {
-					if (!selectedItems.contains(item)) {
-						selectedItems.add(item);
-					}
+					selectedItems.add(item);
 				} else {
 					selectCells(getCells(item));
 				}
@@ -3973,6 +4039,118 @@ public class Grid extends Canvas {
 		this.visibleLinesBasedColumnPack = visibleLinesBasedColumnPack;
 	}
 
+	/**
+	 * Sets the strategy used to choose the rows which are measured when a
+	 * column is packed. The default is {@link GridColumnPackStrategy#EXACT}.
+	 * The strategy is ignored if {@link #isVisibleLinesColumnPack()} is
+	 * <code>true</code>.
+	 *
+	 * @param strategy
+	 *            the strategy
+	 * @throws IllegalArgumentException
+	 *             <ul>
+	 *             <li>ERROR_NULL_ARGUMENT - if the strategy is null</li>
+	 *             </ul>
+	 * @throws org.eclipse.swt.SWTException
+	 *             <ul>
+	 *             <li>ERROR_WIDGET_DISPOSED - if the receiver has been
+	 *             disposed</li>
+	 *             <li>ERROR_THREAD_INVALID_ACCESS - if not called from the
+	 *             thread that created the receiver</li>
+	 *             </ul>
+	 * @see #setColumnPackSampleSize(int)
+	 */
+	public void setColumnPackStrategy(final GridColumnPackStrategy strategy) {
+		checkWidget();
+		if (strategy == null) {
+			SWT.error(SWT.ERROR_NULL_ARGUMENT);
+		}
+		columnPackStrategy = strategy;
+	}
+
+	/**
+	 * @return the strategy used to pack columns
+	 * @throws org.eclipse.swt.SWTException
+	 *             <ul>
+	 *             <li>ERROR_WIDGET_DISPOSED - if the receiver has been
+	 *             disposed</li>
+	 *             <li>ERROR_THREAD_INVALID_ACCESS - if not called from the
+	 *             thread that created the receiver</li>
+	 *             </ul>
+	 * @see #setColumnPackStrategy(GridColumnPackStrategy)
+	 */
+	public GridColumnPackStrategy getColumnPackStrategy() {
+		checkWidget();
+		return columnPackStrategy;
+	}
+
+	/**
+	 * Sets the number of rows measured with
+	 * {@link GridColumnPackStrategy#SAMPLE} or the number of longest texts per
+	 * column measured with {@link GridColumnPackStrategy#VISIBLE_AND_LONGEST}.
+	 * The default is 1000.
+	 *
+	 * @param sampleSize
+	 *            the sample size, must be positive
+	 * @throws IllegalArgumentException
+	 *             <ul>
+	 *             <li>ERROR_INVALID_ARGUMENT - if the sample size is not
+	 *             positive</li>
+	 *             </ul>
+	 * @throws org.eclipse.swt.SWTException
+	 *             <ul>
+	 *             <li>ERROR_WIDGET_DISPOSED - if the receiver has been
+	 *             disposed</li>
+	 *             <li>ERROR_THREAD_INVALID_ACCESS - if not called from the
+	 *             thread that created the receiver</li>
+	 *             </ul>
+	 */
+	public void setColumnPackSampleSize(final int sampleSize) {
+		checkWidget();
+		if (sampleSize < 1) {
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+		}
+		columnPackSampleSize = sampleSize;
+	}
+
+	/**
+	 * @return the sample size used to pack columns
+	 * @throws org.eclipse.swt.SWTException
+	 *             <ul>
+	 *             <li>ERROR_WIDGET_DISPOSED - if the receiver has been
+	 *             disposed</li>
+	 *             <li>ERROR_THREAD_INVALID_ACCESS - if not called from the
+	 *             thread that created the receiver</li>
+	 *             </ul>
+	 * @see #setColumnPackSampleSize(int)
+	 */
+	public int getColumnPackSampleSize() {
+		checkWidget();
+		return columnPackSampleSize;
+	}
+
+	/**
+	 * Resizes all columns to their preferred size. Unlike calling
+	 * {@link GridColumn#pack()} for each column, the rows are visited only once.
+	 *
+	 * @throws org.eclipse.swt.SWTException
+	 *             <ul>
+	 *             <li>ERROR_WIDGET_DISPOSED - if the receiver has been
+	 *             disposed</li>
+	 *             <li>ERROR_THREAD_INVALID_ACCESS - if not called from the
+	 *             thread that created the receiver</li>
+	 *             </ul>
+	 * @see #setColumnPackStrategy(GridColumnPackStrategy)
+	 */
+	public void packColumns() {
+		checkWidget();
+		packColumns(getColumns());
+	}
+
+	void packColumns(final GridColumn[] columnsToPack) {
+		columnPacker.pack(columnsToPack);
+	}
+
 	/**
 	 * Selects the items at the given zero-relative indices in the receiver. The
 	 * current selection is cleared before the new items are selected.
@@ -4247,7 +4425,7 @@ public class Grid extends Canvas {
 			}
 		} else {
 			if (x < firstVisibleX || col.getWidth() > getClientArea().width - firstVisibleX) {
-				final int sel = displayOrderedColumns.indexOf(col);
+				final int sel = displayIndexOf(col);
 				hScroll.setSelection(sel);
 			} else {
 				int availableWidth = getClientArea().width - firstVisibleX - col.getWidth();
@@ -4257,7 +4435,7 @@ public class Grid extends Canvas {
 
 				while (true) {
 					if (prevCol == null || prevCol.getWidth() > availableWidth) {
-						final int sel = displayOrderedColumns.indexOf(currentScrollTo);
+						final int sel = displayIndexOf(currentScrollTo);
 						hScroll.setSelection(sel);
 						break;
 					} else {
@@ -4390,14 +4568,15 @@ public class Grid extends Canvas {
 				return;
 			}
 
-			showItem(selectedItems.get(0));
+			showItem(selectedItems.iterator().next());
 		} else {
 			if (selectedCells.size() == 0) {
 				return;
 			}
 
-			showItem(getItem(selectedCells.get(0).y));
-			showColumn(getColumn(selectedCells.get(0).x));
+			final Point firstCell = selectedCells.first();
+			showItem(getItem(firstCell.y));
+			showColumn(getColumn(firstCell.x));
 		}
 
 	}
@@ -4730,7 +4909,7 @@ public class Grid extends Canvas {
 		if ((dragDropBeforeColumn != columnBeingPushed && dragDropAfterColumn != columnBeingPushed)
 				&& (columnGroups.length == 0 || dragDropPointValid)) {
 
-			int notifyFrom = displayOrderedColumns.indexOf(columnBeingPushed);
+			int notifyFrom = displayIndexOf(columnBeingPushed);
 			int notifyTo = notifyFrom;
 
 			displayOrderedColumns.remove(columnBeingPushed);
@@ -4752,15 +4931,15 @@ public class Grid extends Canvas {
 					// cols
 
 					if (dragDropBeforeColumn.getColumnGroup() == columnBeingPushed.getColumnGroup()) {
-						insertAtIndex = displayOrderedColumns.indexOf(dragDropBeforeColumn);
+						insertAtIndex = displayIndexOf(dragDropBeforeColumn);
 					} else if (dragDropAfterColumn.getColumnGroup() == columnBeingPushed.getColumnGroup()) {
-						insertAtIndex = displayOrderedColumns.indexOf(dragDropAfterColumn) + 1;
+						insertAtIndex = displayIndexOf(dragDropAfterColumn) + 1;
 					} else {
 						if (dragDropBeforeColumn.getColumnGroup() == null) {
-							insertAtIndex = displayOrderedColumns.indexOf(dragDropBeforeColumn);
+							insertAtIndex = displayIndexOf(dragDropBeforeColumn);
 						} else {
 							final GridColumnGroup beforeGroup = dragDropBeforeColumn.getColumnGroup();
-							insertAtIndex = displayOrderedColumns.indexOf(dragDropBeforeColumn);
+							insertAtIndex = displayIndexOf(dragDropBeforeColumn);
 							while (insertAtIndex > 0
 									&& displayOrderedColumns.get(insertAtIndex - 1).getColumnGroup() == beforeGroup) {
 								insertAtIndex--;
@@ -4769,7 +4948,7 @@ public class Grid extends Canvas {
 						}
 					}
 				} else {
-					insertAtIndex = displayOrderedColumns.indexOf(dragDropBeforeColumn);
+					insertAtIndex = displayIndexOf(dragDropBeforeColumn);
 				}
 				displayOrderedColumns.add(insertAtIndex, columnBeingPushed);
 				notifyFrom = Math.min(notifyFrom, insertAtIndex);
@@ -4963,7 +5142,7 @@ public class Grid extends Canvas {
 	}
 
 	void fireColumnsMoved() {
-		for (int index = displayOrderedColumns.indexOf(columnBeingResized) + 1; index < displayOrderedColumns
+		for (int index = displayIndexOf(columnBeingResized) + 1; index < displayOrderedColumns
 				.size(); index++) {
 			final GridColumn col = displayOrderedColumns.get(index);
 			if (col.isVisible()) {
@@ -4977,7 +5156,7 @@ public class Grid extends Canvas {
 
 		if (getHorizontalBar() != null) {
 			if (!getHorizontalBar().isVisible()) {
-				index = displayOrderedColumns.indexOf(column);
+				index = displayIndexOf(column);
 			}
 		}
 
@@ -5185,7 +5364,7 @@ public class Grid extends Canvas {
 		final GridColumn column = getColumn(point);
 
 		if (item != null && column != null) {
-			return new Point(columns.indexOf(column), item.getRowIndex());
+			return new Point(columnIndexOf(column), item.getRowIndex());
 		}
 
 		return null;
@@ -5355,7 +5534,7 @@ public class Grid extends Canvas {
 
 							column.getCellRenderer().setColumn(indexOfColumn);
 
-							if (selectedCells.contains(new Point(indexOfColumn, row))) {
+							if (selectedCells.contains(indexOfColumn, row)) {
 								column.getCellRenderer().setCellSelected(true);
 								cellInRowSelected = true;
 							} else {
@@ -5634,8 +5813,8 @@ public class Grid extends Canvas {
 					int width = column.getWidth();
 
 					GridColumn nextCol = null;
-					if (displayOrderedColumns.indexOf(column) + 1 < displayOrderedColumns.size()) {
-						nextCol = displayOrderedColumns.get(displayOrderedColumns.indexOf(column) + 1);
+					if (displayIndexOf(column) + 1 < displayOrderedColumns.size()) {
+						nextCol = displayOrderedColumns.get(displayIndexOf(column) + 1);
 					}
 
 					while (nextCol != null && nextCol.getColumnGroup() == column.getColumnGroup()) {
@@ -5646,8 +5825,8 @@ public class Grid extends Canvas {
 							width += nextCol.getWidth();
 						}
 
-						if (displayOrderedColumns.indexOf(nextCol) + 1 < displayOrderedColumns.size()) {
-							nextCol = displayOrderedColumns.get(displayOrderedColumns.indexOf(nextCol) + 1);
+						if (displayIndexOf(nextCol) + 1 < displayOrderedColumns.size()) {
+							nextCol = displayOrderedColumns.get(displayIndexOf(nextCol) + 1);
 						} else {
 							nextCol = null;
 						}
@@ -5997,7 +6176,7 @@ public class Grid extends Canvas {
 					selectedItems.clear();
 				}
 
-				final int anchorIndex = items.indexOf(shiftSelectionAnchorItem);
+				final int anchorIndex = shiftSelectionAnchorItem == null ? -1 : shiftSelectionAnchorItem.getRowIndex();
 				final int itemIndex = item.getRowIndex();
 
 				int min = 0;
@@ -6020,8 +6199,9 @@ public class Grid extends Canvas {
 				}
 
 				for (int i = min; i <= max; i++) {
-					if (!selectedItems.contains(items.get(i)) && items.get(i).isVisible()) {
-						selectedItems.add(items.get(i));
+					final GridItem rangeItem = items.get(i);
+					if (rangeItem.isVisible()) {
+						selectedItems.add(rangeItem);
 					}
 				}
 				final Rectangle clientArea = getClientArea();
@@ -6029,9 +6209,7 @@ public class Grid extends Canvas {
 
 				selectionEvent = new Event();
 			} else if (ctrl) {
-				if (selectedItems.contains(item)) {
-					selectedItems.remove(item);
-				} else {
+				if (!selectedItems.remove(item)) {
 					selectedItems.add(item);
 				}
 				final Rectangle clientArea = getClientArea();
@@ -6102,7 +6280,7 @@ public class Grid extends Canvas {
 		}
 
 		if (!shift && !ctrl) {
-			if (newCells.equals(selectedCells)) {
+			if (selectedCells.sameCells(newCells)) {
 				return null;
 			}
 
@@ -6125,7 +6303,7 @@ public class Grid extends Canvas {
 
 			if (ctrl) {
 				selectedCells.clear();
-				addCellstThatDoNotAlreadyExist(selectedCells, selectedCellsBeforeRangeSelect);
+				selectedCells.addAll(selectedCellsBeforeRangeSelect);
 			} else {
 				selectedCells.clear();
 			}
@@ -6164,7 +6342,7 @@ public class Grid extends Canvas {
 
 				do {
 					if (!firstLoop2) {
-						final int index = displayOrderedColumns.indexOf(currentColumn) + 1;
+						final int index = displayIndexOf(currentColumn) + 1;
 
 						if (index < displayOrderedColumns.size()) {
 							currentColumn = getVisibleColumn_DegradeRight(currentItem,
@@ -6174,8 +6352,7 @@ public class Grid extends Canvas {
 						}
 
 						if (currentColumn != null) {
-							if (displayOrderedColumns.indexOf(currentColumn) > displayOrderedColumns
-									.indexOf(endColumn)) {
+							if (displayIndexOf(currentColumn) > displayIndexOf(endColumn)) {
 								currentColumn = null;
 							}
 						}
@@ -6197,7 +6374,7 @@ public class Grid extends Canvas {
 
 			if (dragging) {
 				selectedCells.clear();
-				addCellstThatDoNotAlreadyExist(selectedCells, selectedCellsBeforeRangeSelect);
+				selectedCells.addAll(selectedCellsBeforeRangeSelect);
 			}
 
 			if (reverse) {
@@ -6223,27 +6400,6 @@ public class Grid extends Canvas {
 		return e;
 	}
 
-	/**
-	 * Adds Point objects from the itemsToBeAdded list that do not currently exist
-	 * in the sourceList.
-	 *
-	 * @param sourceList
-	 * @param itemsToBeAdded
-	 */
-	private void addCellstThatDoNotAlreadyExist(List<Point> sourceList, List<Point> itemsToBeAdded) {
-		if (itemsToBeAdded.size() > 0) {
-			// add all the cells from the itemsToBeAdded list that don't already exist in
-			// the sourceList
-			for (Iterator<Point> cellIterator = itemsToBeAdded.iterator(); cellIterator.hasNext();) {
-				Point cell = cellIterator.next();
-				if (!sourceList.contains(cell)) {
-					sourceList.add(cell);
-				}
-
-			}
-		}
-	}
-
 	private void addToCellSelection(final Point newCell) {
 		if (newCell.x < 0 || newCell.x >= columns.size()) {
 			return;
@@ -6254,17 +6410,7 @@ public class Grid extends Canvas {
 		}
 
 		if (getColumn(newCell.x).getCellSelectionEnabled()) {
-			final Iterator<Point> it = selectedCells.iterator();
-			boolean found = false;
-			while (it.hasNext()) {
-				final Point p = it.next();
-				if (newCell.equals(p)) {
-					found = true;
-					break;
-				}
-			}
-
-			if (!found) {
+			if (!selectedCells.contains(newCell)) {
 				if (selectionType == GridSelectionType.SINGLE && selectedCells.size() > 0) {
 					return;
 				}
@@ -6556,7 +6702,7 @@ public class Grid extends Canvas {
 				final GridColumn col = getColumn(new Point(e.x, e.y));
 				boolean isSelectedCell = false;
 				if (col != null) {
-					isSelectedCell = selectedCells.contains(new Point(indexOf(col), item.getRowIndex()));
+					isSelectedCell = selectedCells.contains(indexOf(col), item.getRowIndex());
 				}
 
 				if (e.button == 1 || (e.button == 3 && col != null && !isSelectedCell)) {
@@ -6718,7 +6864,7 @@ public class Grid extends Canvas {
 		if (hoveringOnColumnResizer) {
 			columnBeingResized.pack();
 			columnBeingResized.fireResized();
-			for (int index = displayOrderedColumns.indexOf(columnBeingResized) + 1; index < displayOrderedColumns
+			for (int index = displayIndexOf(columnBeingResized) + 1; index < displayOrderedColumns
 					.size(); index++) {
 				final GridColumn col = displayOrderedColumns.get(index);
 				if (col.isVisible()) {
@@ -6878,8 +7024,7 @@ public class Grid extends Canvas {
 					setCursor(getDisplay().getSystemCursor(SWT.CURSOR_CROSS));
 					cellDragCTRL = ((e.stateMask & SWT.MOD1) != 0);
 					if (cellDragCTRL) {
-						selectedCellsBeforeRangeSelect.clear();
-						selectedCellsBeforeRangeSelect.addAll(selectedCells);
+						selectedCellsBeforeRangeSelect.copyFrom(selectedCells);
 					}
 				}
 				if (!cellRowDragSelectionOccuring && cellRowSelectedOnLastMouseDown) {
@@ -6887,8 +7032,7 @@ public class Grid extends Canvas {
 					setCursor(getDisplay().getSystemCursor(SWT.CURSOR_CROSS));
 					cellDragCTRL = ((e.stateMask & SWT.MOD1) != 0);
 					if (cellDragCTRL) {
-						selectedCellsBeforeRangeSelect.clear();
-						selectedCellsBeforeRangeSelect.addAll(selectedCells);
+						selectedCellsBeforeRangeSelect.copyFrom(selectedCells);
 					}
 				}
 
@@ -6897,8 +7041,7 @@ public class Grid extends Canvas {
 					setCursor(getDisplay().getSystemCursor(SWT.CURSOR_CROSS));
 					cellDragCTRL = ((e.stateMask & SWT.MOD1) != 0);
 					if (cellDragCTRL) {
-						selectedCellsBeforeRangeSelect.clear();
-						selectedCellsBeforeRangeSelect.addAll(selectedCells);
+						selectedCellsBeforeRangeSelect.copyFrom(selectedCells);
 					}
 				}
 
@@ -6978,8 +7121,7 @@ public class Grid extends Canvas {
 
 					final Vector<Point> newSelected = new Vector<>();
 
-					final boolean decreasing = (displayOrderedColumns.indexOf(iterCol) > displayOrderedColumns
-							.indexOf(focusColumn));
+					final boolean decreasing = (displayIndexOf(iterCol) > displayIndexOf(focusColumn));
 
 					do {
 						getCells(iterCol, newSelected);
@@ -7173,7 +7315,7 @@ public class Grid extends Canvas {
 				if (impliedFocusItem != null && impliedFocusColumn != null) {
 					newSelection = impliedFocusItem;
 
-					int index = displayOrderedColumns.indexOf(impliedFocusColumn);
+					int index = displayIndexOf(impliedFocusColumn);
 
 					int jumpAhead = impliedFocusItem.getColumnSpan(indexOf(impliedFocusColumn));
 
@@ -7208,7 +7350,7 @@ public class Grid extends Canvas {
 				if (impliedFocusItem != null && impliedFocusColumn != null) {
 					newSelection = impliedFocusItem;
 
-					final int index = displayOrderedColumns.indexOf(impliedFocusColumn);
+					final int index = displayIndexOf(impliedFocusColumn);
 
 					if (index != 0) {
 						newColumnFocus = displayOrderedColumns.get(index - 1);
@@ -7512,6 +7654,12 @@ public class Grid extends Canvas {
 				SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 			}
 
+			if ((isTree || hasDifferingHeights) && currIndex < items.size()) {
+				final GridRowOffsets offsets = getRowOffsets();
+				y += offsets.getOffset(itemIndex) - offsets.getOffset(currIndex);
+				currIndex = itemIndex;
+			}
+
 			while (currIndex != itemIndex) {
 				if (currIndex < itemIndex) {
 					final GridItem currItem = items.get(currIndex);
@@ -7599,7 +7747,7 @@ public class Grid extends Canvas {
 		if (col != null) {
 			if (item != null) {
 				if (y < getClientArea().height - (columnFootersVisible ? footerHeight : 0)) {
-					col.getCellRenderer().setBounds(item.getBounds(columns.indexOf(col)));
+					col.getCellRenderer().setBounds(item.getBounds(columnIndexOf(col)));
 
 					if (col.getCellRenderer().notify(IInternalWidget.MouseMove, new Point(x, y), item)) {
 						detail = col.getCellRenderer().getHoverDetail();
@@ -7829,30 +7977,13 @@ public class Grid extends Canvas {
 		final int index = indexOf(column);
 
 		if (cellSelectionEnabled) {
-			final Vector<Point> removeSelectedCells = new Vector<>();
-
-			for (final Point cell : selectedCells) {
-				if (cell.x == index) {
-					removeSelectedCells.add(cell);
-				}
-			}
-
-			if (removeSelectedCells.size() > 0) {
-				selectedCells.removeAll(removeSelectedCells);
-				selectionModified = true;
-			}
-
-			for (final Point cell : selectedCells) {
-				if (cell.x >= index) {
-					cell.x--;
-					selectionModified = true;
-				}
-			}
+			selectionModified = selectedCells.removeColumn(index);
 		}
 
 		columns.remove(column);
 		displayOrderedColumns.remove(column);
 		dataVisualizer.clearColumn(index);
+		invalidateRowHeights();
 
 		if (focusColumn == column) {
 			focusColumn = null;
@@ -7956,6 +8087,7 @@ public class Grid extends Canvas {
 				items.get(i).increaseRow();
 			}
 		}
+		rowOffsets.invalidate();
 
 		estimate(sizingGC -> {
 			if (items.size() == 1 && !userModifiedItemHeight) {
@@ -7980,6 +8112,10 @@ public class Grid extends Canvas {
 
 		currentVisibleItems++;
 
+		if (rowHeightMeasurer != null && autoHeight) {
+			rowHeightMeasurer.rowChanged(row);
+		}
+
 		redraw();
 
 		return row;
@@ -8000,6 +8136,7 @@ public class Grid extends Canvas {
 		final int index = item.getRowIndex();
 
 		items.remove(item);
+		rowOffsets.invalidate();
 
 		dataVisualizer.clearRow(item);
 
@@ -8100,6 +8237,35 @@ public class Grid extends Canvas {
 		currentVisibleItems += amount;
 	}
 
+	/**
+	 * Updates the row offsets after the height or the visibility of the given
+	 * item has changed.
+	 *
+	 * @param item
+	 *            the changed item
+	 */
+	void updateRowOffset(final GridItem item) {
+		if (!rowOffsets.isValid()) {
+			return;
+		}
+		final int index = item.getCachedRowIndex();
+		if (index >= 0 && index < rowOffsets.size() && items.get(index) == item) {
+			rowOffsets.set(index, item.isVisible(), item.getHeight());
+		} else {
+			rowOffsets.invalidate();
+		}
+	}
+
+	/**
+	 * @return the row offsets, rebuilt if items have been added or removed
+	 */
+	GridRowOffsets getRowOffsets() {
+		if (!rowOffsets.isValid()) {
+			rowOffsets.rebuild(items);
+		}
+		return rowOffsets;
+	}
+
 	/**
 	 * Returns the current item in focus.
 	 *
@@ -8270,7 +8436,7 @@ public class Grid extends Canvas {
 	 * @return
 	 */
 	GridColumn getVisibleColumn_DegradeLeft(final GridItem item, final GridColumn col) {
-		int index = displayOrderedColumns.indexOf(col);
+		int index = displayIndexOf(col);
 
 		GridColumn prevCol = col;
 
@@ -8284,7 +8450,7 @@ public class Grid extends Canvas {
 			prevCol = displayOrderedColumns.get(index - i);
 		}
 
-		index = displayOrderedColumns.indexOf(prevCol);
+		index = displayIndexOf(prevCol);
 
 		for (int j = 0; j < index; j++) {
 			final GridColumn tempCol = displayOrderedColumns.get(j);
@@ -8313,7 +8479,7 @@ public class Grid extends Canvas {
 	 * @return
 	 */
 	GridColumn getVisibleColumn_DegradeRight(final GridItem item, final GridColumn col) {
-		int index = displayOrderedColumns.indexOf(col);
+		int index = displayIndexOf(col);
 
 		int i = 0;
 		GridColumn nextCol = col;
@@ -8326,7 +8492,7 @@ public class Grid extends Canvas {
 			nextCol = displayOrderedColumns.get(index + i);
 		}
 
-		index = displayOrderedColumns.indexOf(nextCol);
+		index = displayIndexOf(nextCol);
 		final int startIndex = index;
 
 		while (index > 0) {
@@ -8888,7 +9054,7 @@ public class Grid extends Canvas {
 	 */
 	public Point[] getCellSelection() {
 		checkWidget();
-		return selectedCells.toArray(new Point[selectedCells.size()]);
+		return selectedCells.toArray();
 	}
 
 	GridColumn getFocusColumn() {
@@ -8897,7 +9063,7 @@ public class Grid extends Canvas {
 
 	void updateColumnFocus() {
 		if (!focusColumn.isVisible()) {
-			final int index = displayOrderedColumns.indexOf(focusColumn);
+			final int index = displayIndexOf(focusColumn);
 			if (index > 0) {
 				GridColumn prev = displayOrderedColumns.get(index - 1);
 				prev = getVisibleColumn_DegradeLeft(focusItem, prev);
@@ -9057,7 +9223,7 @@ public class Grid extends Canvas {
 	 * @return
 	 */
 	private Point getSelectionRange(GridItem fromItem, GridColumn fromColumn, GridItem toItem, GridColumn toColumn) {
-		if (displayOrderedColumns.indexOf(fromColumn) > displayOrderedColumns.indexOf(toColumn)) {
+		if (displayIndexOf(fromColumn) > displayIndexOf(toColumn)) {
 			final GridColumn temp = fromColumn;
 			fromColumn = toColumn;
 			toColumn = temp;
@@ -9313,6 +9479,9 @@ public class Grid extends Canvas {
 		dataVisualizer.setDefaultFont(font);
 		defaultFont = font;
 		super.setFont(font);
+		// entries of the former font are not used anymore, and its handle may be reused once it is disposed
+		textExtentCache.clear();
+		invalidateRowHeights();
 	}
 
 	/**
@@ -9378,6 +9547,7 @@ public class Grid extends Canvas {
 			for (int i = items.size() - 1; i >= count; i--) {
 				final GridItem removed = items.remove(i);
 				rootItems.remove(i);
+				rowOffsets.invalidate();
 
 				selectedItems.remove(removed);
 
@@ -9661,16 +9831,15 @@ public class Grid extends Canvas {
 				e.childID = ACC.CHILDID_NONE;
 				if (selectedItems.size() == 1) {
 					// Single selection
-					e.childID = selectedItems.get(0).getRowIndex();
+					e.childID = selectedItems.iterator().next().getRowIndex();
 				} else if (selectedItems.size() > 1) {
 					// multiple selection
 					e.childID = ACC.CHILDID_MULTIPLE;
-					final int length = selectedItems.size();
-					final Object[] children = new Object[length];
+					final Object[] children = new Object[selectedItems.size()];
 
-					for (int i = 0; i < length; i++) {
-						final GridItem item = selectedItems.get(i);
-						children[i] = new Integer(item.getRowIndex());
+					int i = 0;
+					for (final GridItem item : selectedItems) {
+						children[i++] = new Integer(item.getRowIndex());
 					}
 					e.children = children;
 				}
@@ -9738,8 +9907,9 @@ public class Grid extends Canvas {
 		addListener(SWT.Selection, new Listener() {
 			@Override
 			public void handleEvent(final Event event) {
-				if (selectedItems.size() > 0) {
-					accessible.setFocus(selectedItems.get(selectedItems.size() - 1).getRowIndex());
+				final GridItem lastSelected = selectedItems.getLast();
+				if (lastSelected != null) {
+					accessible.setFocus(lastSelected.getRowIndex());
 				}
 			}
 		});
@@ -10340,6 +10510,7 @@ public class Grid extends Canvas {
 		checkWidget();
 		autoHeight = enabled;
 		setRowsResizeable(false); // turn of resizing of row height since it conflicts with this property
+		invalidateRowHeights();
 		redraw();
 	}
 
@@ -10354,6 +10525,135 @@ public class Grid extends Canvas {
 		return autoHeight;
 	}
 
+	/**
+	 * Sets whether the heights of the rows are measured in the background when
+	 * {@link #setAutoHeight(boolean) auto-height} is enabled.
+	 * <p>
+	 * By default a row is measured when it is painted for the first time. With
+	 * this option enabled all rows are measured in small batches while the UI is
+	 * idle, starting with the rows on screen, so the scrollbar soon reflects the
+	 * real heights. Rows which are not yet measured keep the default item height
+	 * as an estimate. A row is measured again only if its content, a column
+	 * width or a font changes.
+	 * </p>
+	 *
+	 * @param enabled
+	 *            Set to true to measure in the background, false (default)
+	 *            otherwise.
+	 * @see #setAutoHeight(boolean)
+	 */
+	public void setMeasureRowHeightsInBackground(final boolean enabled) {
+		checkWidget();
+		if (enabled == (rowHeightMeasurer != null)) {
+			return;
+		}
+		if (enabled) {
+			rowHeightMeasurer = new GridRowHeightMeasurer(this);
+			rowHeightMeasurer.restart();
+		} else {
+			rowHeightMeasurer.cancel();
+			rowHeightMeasurer = null;
+		}
+	}
+
+	/**
+	 * @return whether the heights of the rows are measured in the background
+	 * @see #setMeasureRowHeightsInBackground(boolean)
+	 */
+	public boolean isMeasureRowHeightsInBackground() {
+		checkWidget();
+		return rowHeightMeasurer != null;
+	}
+
+	/**
+	 * Returns the cache of text extents and shortened strings used by the
+	 * renderers of this grid. Its size can be tuned with
+	 * {@link TextExtentCache#setMaxSize(int)} based on its hit rate.
+	 *
+	 * @return the text extent cache
+	 * @throws org.eclipse.swt.SWTException
+	 *             <ul>
+	 *             <li>ERROR_WIDGET_DISPOSED - if the receiver has been
+	 *             disposed</li>
+	 *             <li>ERROR_THREAD_INVALID_ACCESS - if not called from the
+	 *             thread that created the receiver</li>
+	 *             </ul>
+	 */
+	public TextExtentCache getTextExtentCache() {
+		checkWidget();
+		return textExtentCache;
+	}
+
+	/**
+	 * Forces all rows to be measured again, called if the layout has changed in
+	 * a way that affects the height of all rows.
+	 */
+	void invalidateRowHeights() {
+		rowHeightGeneration++;
+		if (rowHeightMeasurer != null) {
+			rowHeightMeasurer.restart();
+		}
+	}
+
+	/**
+	 * Called when content of the given item which affects its height has
+	 * changed.
+	 *
+	 * @param item
+	 *            the changed item
+	 */
+	void rowContentChanged(final GridItem item) {
+		if (rowHeightMeasurer != null && autoHeight) {
+			rowHeightMeasurer.rowChanged(item.getCachedRowIndex());
+		}
+	}
+
+	/**
+	 * @param item
+	 *            the item
+	 * @return <code>true</code> if the auto-height of the item has been
+	 *         measured and neither its content nor the layout has changed since
+	 */
+	boolean isRowHeightMeasured(final GridItem item) {
+		return item.isHeightMeasured(rowHeightGeneration);
+	}
+
+	/**
+	 * Remembers that the auto-height of the item has been measured.
+	 *
+	 * @param item
+	 *            the measured item
+	 */
+	void setRowHeightMeasured(final GridItem item) {
+		item.setHeightMeasured(rowHeightGeneration);
+	}
+
+	/**
+	 * Computes the height of the given item from its word-wrapped cells and
+	 * row header, as done by the {@link DefaultCellRenderer} for auto-height.
+	 *
+	 * @param item
+	 *            the item to measure
+	 * @param gc
+	 *            GC used to measure
+	 * @return the height or 0 if nothing of the item is word-wrapped
+	 */
+	int computeAutoHeight(final GridItem item, final GC gc) {
+		int height = 0;
+		for (int i = 0; i < columns.size(); i++) {
+			final GridColumn column = columns.get(i);
+			if (column.getWordWrap()) {
+				column.getCellRenderer().setColumn(i);
+				height = Math.max(height,
+						column.getCellRenderer().computeSize(gc, column.getWidth(), SWT.DEFAULT, item).y);
+			}
+		}
+		if (wordWrapRowHeader && rowHeaderRenderer != null) {
+			height = Math.max(height, rowHeaderRenderer.computeSize(gc, SWT.DEFAULT, SWT.DEFAULT, item).y);
+		}
+		return height;
+	}
+
 	/**
 	 * Sets the value of the auto-width feature. When enabled, this feature resizes
 	 * the width of the row headers to reflect the content of row headers.
@@ -10398,6 +10698,7 @@ public class Grid extends Canvas {
 
 		checkWidget();
 		wordWrapRowHeader = enabled;
+		invalidateRowHeights();
 		redraw();
 	}
 
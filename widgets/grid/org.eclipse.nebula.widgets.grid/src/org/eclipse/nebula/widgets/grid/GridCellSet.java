@@ -0,0 +1,521 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.eclipse.swt.graphics.Point;
+
+/**
+ * Insertion ordered set of selected cells used by {@link Grid}.
+ * <p>
+ * Each cell (column index, row index) is packed into a single {@code long} and
+ * stored in an open addressing hash table using linear probing, so membership
+ * checks from the paint loop are O(1) and do not allocate. The insertion order
+ * is kept in a doubly linked list threaded through the table, which preserves
+ * the "first selected cell" semantic of the former {@code List<Point>}. In
+ * addition the number of selected cells per row is tracked, so that
+ * {@link #containsRow(int)} is O(1) as well.
+ * </p>
+ * <p>
+ * The {@link Point}s handed out by this class are copies, modifying them does
+ * not affect the set.
+ * </p>
+ */
+class GridCellSet implements Iterable<Point> {
+
+	private static final int MIN_CAPACITY = 16;
+
+	private long[] keys;
+	private boolean[] used;
+	private int[] before;
+	private int[] after;
+	private int head = -1;
+	private int tail = -1;
+	private int size;
+	private int mask;
+	private int shift;
+	private int modCount;
+
+	/**
+	 * Number of selected cells for each row index.
+	 */
+	private int[] rowCounts = new int[0];
+
+	GridCellSet() {
+		allocate(MIN_CAPACITY);
+	}
+
+	private void allocate(final int capacity) {
+		keys = new long[capacity];
+		used = new boolean[capacity];
+		before = new int[capacity];
+		after = new int[capacity];
+		mask = capacity - 1;
+		shift = 64 - Integer.numberOfTrailingZeros(capacity);
+		head = -1;
+		tail = -1;
+		size = 0;
+	}
+
+	private static long pack(final int x, final int y) {
+		return ((long) x << 32) | (y & 0xFFFFFFFFL);
+	}
+
+	private static int unpackX(final long key) {
+		return (int) (key >> 32);
+	}
+
+	private static int unpackY(final long key) {
+		return (int) key;
+	}
+
+	private int slot(final long key) {
+		return (int) ((key * 0x9E3779B97F4A7C15L) >>> shift);
+	}
+
+	private int find(final long key) {
+		int i = slot(key);
+		while (used[i]) {
+			if (keys[i] == key) {
+				return i;
+			}
+			i = (i + 1) & mask;
+		}
+		return -1;
+	}
+
+	/**
+	 * @return the number of selected cells
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * @return <code>true</code> if no cell is selected
+	 */
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * @param x
+	 *            column index
+	 * @param y
+	 *            row index
+	 * @return <code>true</code> if the cell is contained
+	 */
+	boolean contains(final int x, final int y) {
+		return find(pack(x, y)) != -1;
+	}
+
+	/**
+	 * @param cell
+	 *            the cell
+	 * @return <code>true</code> if the cell is contained
+	 */
+	boolean contains(final Point cell) {
+		return contains(cell.x, cell.y);
+	}
+
+	/**
+	 * @param cells
+	 *            the cells
+	 * @return <code>true</code> if all the given cells are contained
+	 */
+	boolean containsAll(final Collection<Point> cells) {
+		for (final Point cell : cells) {
+			if (!contains(cell)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param cells
+	 *            the cells
+	 * @return <code>true</code> if this set contains exactly the given cells
+	 */
+	boolean sameCells(final Collection<Point> cells) {
+		if (cells.size() < size) {
+			return false;
+		}
+		final GridCellSet distinct = new GridCellSet();
+		for (final Point cell : cells) {
+			if (!contains(cell)) {
+				return false;
+			}
+			distinct.add(cell);
+		}
+		return distinct.size == size;
+	}
+
+	/**
+	 * @param y
+	 *            row index
+	 * @return <code>true</code> if at least one cell of the row is contained
+	 */
+	boolean containsRow(final int y) {
+		return y >= 0 && y < rowCounts.length && rowCounts[y] > 0;
+	}
+
+	/**
+	 * Adds the given cell at the end of the set.
+	 *
+	 * @param x
+	 *            column index
+	 * @param y
+	 *            row index
+	 * @return <code>true</code> if the cell was not already contained
+	 */
+	boolean add(final int x, final int y) {
+		final long key = pack(x, y);
+		int i = slot(key);
+		while (used[i]) {
+			if (keys[i] == key) {
+				return false;
+			}
+			i = (i + 1) & mask;
+		}
+		keys[i] = key;
+		used[i] = true;
+		before[i] = tail;
+		after[i] = -1;
+		if (tail == -1) {
+			head = i;
+		} else {
+			after[tail] = i;
+		}
+		tail = i;
+		size++;
+		modCount++;
+		incrementRow(y);
+
+		if (size > (mask + 1) * 3 / 4) {
+			rehash((mask + 1) * 2);
+		}
+		return true;
+	}
+
+	/**
+	 * @param cell
+	 *            the cell to add
+	 * @return <code>true</code> if the cell was not already contained
+	 */
+	boolean add(final Point cell) {
+		return add(cell.x, cell.y);
+	}
+
+	/**
+	 * Adds all the given cells which are not already contained.
+	 *
+	 * @param other
+	 *            the cells to add
+	 */
+	void addAll(final GridCellSet other) {
+		ensureCapacity(size + other.size);
+		for (int i = other.head; i != -1; i = other.after[i]) {
+			add(unpackX(other.keys[i]), unpackY(other.keys[i]));
+		}
+	}
+
+	/**
+	 * @param x
+	 *            column index
+	 * @param y
+	 *            row index
+	 * @return <code>true</code> if the cell was contained
+	 */
+	boolean remove(final int x, final int y) {
+		final int i = find(pack(x, y));
+		if (i == -1) {
+			return false;
+		}
+		removeSlot(i);
+		return true;
+	}
+
+	/**
+	 * @param cell
+	 *            the cell to remove
+	 * @return <code>true</code> if the cell was contained
+	 */
+	boolean remove(final Point cell) {
+		return remove(cell.x, cell.y);
+	}
+
+	/**
+	 * @param cells
+	 *            the cells to remove
+	 * @return <code>true</code> if at least one cell was removed
+	 */
+	boolean removeAll(final Collection<Point> cells) {
+		boolean modified = false;
+		for (final Point cell : cells) {
+			modified |= remove(cell);
+		}
+		return modified;
+	}
+
+	/**
+	 * Removes all the cells of the given column and decrements the column index
+	 * of all cells to the right of it.
+	 *
+	 * @param index
+	 *            column index
+	 * @return <code>true</code> if the set was modified
+	 */
+	boolean removeColumn(final int index) {
+		boolean modified = false;
+		for (int i = head; i != -1 && !modified; i = after[i]) {
+			modified = unpackX(keys[i]) >= index;
+		}
+		if (!modified) {
+			return false;
+		}
+
+		final long[] ordered = toKeys();
+		clear();
+		for (final long key : ordered) {
+			final int x = unpackX(key);
+			if (x < index) {
+				add(x, unpackY(key));
+			} else if (x > index) {
+				add(x - 1, unpackY(key));
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Removes all cells.
+	 */
+	void clear() {
+		if (size == 0) {
+			return;
+		}
+		if (size < rowCounts.length / 8) {
+			for (int i = head; i != -1; i = after[i]) {
+				decrementRow(unpackY(keys[i]));
+			}
+		} else {
+			Arrays.fill(rowCounts, 0);
+		}
+		if (mask + 1 > MIN_CAPACITY * 4 && size < (mask + 1) / 8) {
+			allocate(MIN_CAPACITY);
+		} else {
+			Arrays.fill(used, false);
+			head = -1;
+			tail = -1;
+			size = 0;
+		}
+		modCount++;
+	}
+
+	/**
+	 * @return the first cell which was added, or <code>null</code> if the set is
+	 *         empty
+	 */
+	Point first() {
+		return head == -1 ? null : toPoint(keys[head]);
+	}
+
+	/**
+	 * @return the cells in insertion order
+	 */
+	Point[] toArray() {
+		final Point[] result = new Point[size];
+		int n = 0;
+		for (int i = head; i != -1; i = after[i]) {
+			result[n++] = toPoint(keys[i]);
+		}
+		return result;
+	}
+
+	/**
+	 * Replaces the content of this set by the content of the given set.
+	 *
+	 * @param other
+	 *            the cells to copy
+	 */
+	void copyFrom(final GridCellSet other) {
+		clear();
+		addAll(other);
+	}
+
+	@Override
+	public Iterator<Point> iterator() {
+		return new Iterator<Point>() {
+			private int next = head;
+			private int current = -1;
+			private int expectedModCount = modCount;
+
+			@Override
+			public boolean hasNext() {
+				return next != -1;
+			}
+
+			@Override
+			public Point next() {
+				if (modCount != expectedModCount) {
+					throw new ConcurrentModificationException();
+				}
+				if (next == -1) {
+					throw new NoSuchElementException();
+				}
+				current = next;
+				next = after[next];
+				return toPoint(keys[current]);
+			}
+
+			@Override
+			public void remove() {
+				if (current == -1) {
+					throw new IllegalStateException();
+				}
+				if (modCount != expectedModCount) {
+					throw new ConcurrentModificationException();
+				}
+				// removal may move entries inside the table, find the next one again
+				final boolean hasNext = next != -1;
+				final long nextKey = hasNext ? keys[next] : 0;
+				removeSlot(current);
+				next = hasNext ? find(nextKey) : -1;
+				current = -1;
+				expectedModCount = modCount;
+			}
+		};
+	}
+
+	private static Point toPoint(final long key) {
+		return new Point(unpackX(key), unpackY(key));
+	}
+
+	private long[] toKeys() {
+		final long[] result = new long[size];
+		int n = 0;
+		for (int i = head; i != -1; i = after[i]) {
+			result[n++] = keys[i];
+		}
+		return result;
+	}
+
+	private void incrementRow(final int y) {
+		if (y < 0) {
+			return;
+		}
+		if (y >= rowCounts.length) {
+			rowCounts = Arrays.copyOf(rowCounts, Math.max(y + 1, rowCounts.length * 2));
+		}
+		rowCounts[y]++;
+	}
+
+	private void decrementRow(final int y) {
+		if (y >= 0 && y < rowCounts.length) {
+			rowCounts[y]--;
+		}
+	}
+
+	private void ensureCapacity(final int expected) {
+		int capacity = mask + 1;
+		while (expected > capacity * 3 / 4) {
+			capacity *= 2;
+		}
+		if (capacity != mask + 1) {
+			rehash(capacity);
+		}
+	}
+
+	private void rehash(final int capacity) {
+		final long[] ordered = toKeys();
+		allocate(capacity);
+		for (final long key : ordered) {
+			int i = slot(key);
+			while (used[i]) {
+				i = (i + 1) & mask;
+			}
+			keys[i] = key;
+			used[i] = true;
+			before[i] = tail;
+			after[i] = -1;
+			if (tail == -1) {
+				head = i;
+			} else {
+				after[tail] = i;
+			}
+			tail = i;
+			size++;
+		}
+	}
+
+	private void removeSlot(int i) {
+		decrementRow(unpackY(keys[i]));
+		unlink(i);
+		used[i] = false;
+		size--;
+		modCount++;
+
+		// backward shift deletion, keeps probe sequences intact without tombstones
+		int j = i;
+		while (true) {
+			j = (j + 1) & mask;
+			if (!used[j]) {
+				return;
+			}
+			final int k = slot(keys[j]);
+			final boolean inRange = i <= j ? (i < k && k <= j) : (i < k || k <= j);
+			if (!inRange) {
+				move(j, i);
+				i = j;
+			}
+		}
+	}
+
+	private void unlink(final int i) {
+		if (before[i] == -1) {
+			head = after[i];
+		} else {
+			after[before[i]] = after[i];
+		}
+		if (after[i] == -1) {
+			tail = before[i];
+		} else {
+			before[after[i]] = before[i];
+		}
+	}
+
+	private void move(final int from, final int to) {
+		keys[to] = keys[from];
+		used[to] = true;
+		used[from] = false;
+		before[to] = before[from];
+		after[to] = after[from];
+		if (before[to] == -1) {
+			head = to;
+		} else {
+			after[before[to]] = to;
+		}
+		if (after[to] == -1) {
+			tail = to;
+		} else {
+			before[after[to]] = to;
+		}
+	}
+}
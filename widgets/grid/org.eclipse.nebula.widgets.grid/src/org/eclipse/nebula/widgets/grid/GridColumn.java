@@ -188,6 +188,24 @@ public class GridColumn extends Item {
 
 	private String headerTooltip = null;
 
+	/**
+	 * Last known position in the columns of the parent, maintained by
+	 * {@link Grid}.
+	 */
+	int index = -1;
+
+	/**
+	 * Last known position in the display order of the parent, maintained by
+	 * {@link Grid}.
+	 */
+	int displayIndex = -1;
+
+	/**
+	 * Identifies the last pack of this column, maintained by
+	 * {@link GridColumnPacker}.
+	 */
+	int packGeneration;
+
 	/**
 	 * Constructs a new instance of this class given its parent (which must be a
 	 * <code>Grid</code>) and a style value describing its behavior and
@@ -432,6 +450,9 @@ public class GridColumn extends Item {
 				widthToSet = Math.min(availableVisibleWidthForColumns, widthToSet);
 			}
 		}
+		if (this.width != widthToSet && getWordWrap()) {
+			parent.invalidateRowHeights();
+		}
 		this.width = widthToSet;
 		if (redraw) {
 			parent.setScrollValuesObsolete();
@@ -642,6 +663,11 @@ public class GridColumn extends Item {
 
 	/**
 	 * Causes the receiver to be resized to its preferred size.
+	 * <p>
+	 * The rows which are measured depend on
+	 * {@link Grid#setColumnPackStrategy(GridColumnPackStrategy)}. Use
+	 * {@link Grid#packColumns()} to pack all columns at once.
+	 * </p>
 	 *
 	 * @throws org.eclipse.swt.SWTException
 	 *             <ul>
@@ -653,51 +679,7 @@ public class GridColumn extends Item {
 	 */
 	public void pack() {
 		checkWidget();
-
-		GC gc = new GC(parent);
-		int newWidth = getHeaderRenderer().computeSize(gc, SWT.DEFAULT,
-				SWT.DEFAULT, this).x;
-
-		getCellRenderer().setColumn(parent.indexOf(this));
-		final boolean virtual = (getParent().getStyle() & SWT.VIRTUAL) != 0;
-		final int bottomIndex = getParent().getBottomIndex() + 1;
-		final int topIndex = getParent().getTopIndex();
-		if (parent.isVisibleLinesColumnPack())
-		{
-			for (int i = topIndex; i < bottomIndex; i++)
-			{
-				GridItem item = parent.getItem(i);
-				if (item.isVisible())
-				{
-					newWidth = Math.max(newWidth, getCellRenderer().computeSize(gc, SWT.DEFAULT, SWT.DEFAULT, item).x);
-					if (virtual && (i > bottomIndex || i < topIndex))
-					{
-						getParent().getDataVisualizer().clearRow(item);
-						item.setHasSetData(false);
-					}
-				}
-			}
-
-		}
-		else
-		{
-			for (int i = 0; i < parent.getItemCount(); i++)
-			{
-				GridItem item = parent.getItem(i);
-				if (item.isVisible())
-				{
-					newWidth = Math.max(newWidth, getCellRenderer().computeSize(gc, SWT.DEFAULT, SWT.DEFAULT, item).x);
-					if (virtual && (i > bottomIndex || i < topIndex))
-					{
-						getParent().getDataVisualizer().clearRow(item);
-						item.setHasSetData(false);
-					}
-				}
-			}
-		}
-		gc.dispose();
-		setWidth(newWidth);
-		parent.redraw();
+		parent.packColumns(new GridColumn[] { this });
 	}
 
 	/**
@@ -1297,6 +1279,7 @@ public class GridColumn extends Item {
 	public void setWordWrap(boolean wordWrap) {
 		checkWidget();
 		cellRenderer.setWordWrap(wordWrap);
+		parent.invalidateRowHeights();
 		parent.redraw();
 	}
 
@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+/**
+ * Strategy used by {@link GridColumn#pack()} and {@link Grid#packColumns()} to
+ * choose the rows which are measured.
+ *
+ * @see Grid#setColumnPackStrategy(GridColumnPackStrategy)
+ * @see Grid#setColumnPackSampleSize(int)
+ */
+public enum GridColumnPackStrategy {
+	/**
+	 * Measure every visible row, the width always fits all cells
+	 */
+	EXACT,
+	/**
+	 * Measure the rows on screen plus evenly spaced rows up to the sample size
+	 */
+	SAMPLE,
+	/**
+	 * Measure the rows on screen first, then find the rows with the longest
+	 * texts in the background and widen the column if one of them needs more
+	 * space. The sample size is the number of longest texts per column.
+	 */
+	VISIBLE_AND_LONGEST
+}
@@ -0,0 +1,236 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.SWTException;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * Computes the preferred width of one or more columns of a {@link Grid}.
+ * <p>
+ * All columns are packed in a single pass over the rows, so each row is
+ * visited (and for {@link SWT#VIRTUAL} grids, its data requested) once instead
+ * of once per column. Which rows are measured depends on the
+ * {@link GridColumnPackStrategy} of the grid.
+ * </p>
+ * <p>
+ * With {@link GridColumnPackStrategy#VISIBLE_AND_LONGEST} the columns are first
+ * packed to the rows on screen. The texts of all rows are then copied and the
+ * longest of them are searched on a worker thread, one column per task. When
+ * the search is done, the rows with the longest texts are measured on the UI
+ * thread and the columns are widened if needed, unless they have been packed
+ * or resized again in the meantime.
+ * </p>
+ */
+class GridColumnPacker {
+
+	private final Grid grid;
+
+	/**
+	 * Incremented on each pack, see {@link GridColumn#packGeneration}. Results
+	 * of outdated background searches are discarded.
+	 */
+	private int generation;
+
+	GridColumnPacker(final Grid grid) {
+		this.grid = grid;
+	}
+
+	/**
+	 * Packs the given columns.
+	 *
+	 * @param columns
+	 *            the columns to pack
+	 */
+	void pack(final GridColumn[] columns) {
+		final int packGeneration = ++generation;
+		final int[] widths = new int[columns.length];
+		final int count = grid.getItemCount();
+		final int top = grid.getTopIndex();
+		final int bottom = Math.min(grid.getBottomIndex(), count - 1);
+		final GridColumnPackStrategy strategy = grid.isVisibleLinesColumnPack() ? null
+				: grid.getColumnPackStrategy();
+
+		final GC gc = new GC(grid);
+		try {
+			for (int c = 0; c < columns.length; c++) {
+				widths[c] = columns[c].getHeaderRenderer().computeSize(gc, SWT.DEFAULT, SWT.DEFAULT,
+						columns[c]).x;
+			}
+
+			if (strategy == GridColumnPackStrategy.EXACT) {
+				for (int i = 0; i < count; i++) {
+					measure(gc, columns, widths, i, top, bottom);
+				}
+			} else {
+				for (int i = top; i <= bottom; i++) {
+					measure(gc, columns, widths, i, top, bottom);
+				}
+				if (strategy == GridColumnPackStrategy.SAMPLE) {
+					final int step = Math.max(1, count / Math.max(1, grid.getColumnPackSampleSize()));
+					for (int i = 0; i < count; i += step) {
+						if (i < top || i > bottom) {
+							measure(gc, columns, widths, i, top, bottom);
+						}
+					}
+				}
+			}
+		} finally {
+			gc.dispose();
+		}
+
+		for (int c = 0; c < columns.length; c++) {
+			columns[c].setWidth(widths[c]);
+			columns[c].packGeneration = packGeneration;
+			// the width may have been limited, remember the one actually set
+			widths[c] = columns[c].getWidth();
+		}
+		grid.redraw();
+
+		if (strategy == GridColumnPackStrategy.VISIBLE_AND_LONGEST && count > bottom - top + 1) {
+			packLongest(columns, widths, packGeneration);
+		}
+	}
+
+	/**
+	 * Measures the cells of a single row in the given columns.
+	 */
+	private void measure(final GC gc, final GridColumn[] columns, final int[] widths, final int index,
+			final int top, final int bottom) {
+		final GridItem item = grid.getItem(index);
+		if (!item.isVisible()) {
+			return;
+		}
+		for (int c = 0; c < columns.length; c++) {
+			final GridCellRenderer renderer = columns[c].getCellRenderer();
+			renderer.setColumn(grid.indexOf(columns[c]));
+			widths[c] = Math.max(widths[c], renderer.computeSize(gc, SWT.DEFAULT, SWT.DEFAULT, item).x);
+		}
+		if ((grid.getStyle() & SWT.VIRTUAL) != 0 && (index < top || index > bottom)) {
+			grid.getDataVisualizer().clearRow(item);
+			item.setHasSetData(false);
+		}
+	}
+
+	/**
+	 * Searches the rows with the longest texts in the background and widens
+	 * the columns if one of them needs more space.
+	 */
+	private void packLongest(final GridColumn[] columns, final int[] widths, final int packGeneration) {
+		final GridItem[] items = grid.getItems();
+		final boolean virtual = (grid.getStyle() & SWT.VIRTUAL) != 0;
+		final String[][] texts = new String[columns.length][items.length];
+		final int[] indices = new int[columns.length];
+		for (int c = 0; c < columns.length; c++) {
+			indices[c] = grid.indexOf(columns[c]);
+		}
+		for (int i = 0; i < items.length; i++) {
+			final GridItem item = items[i];
+			// rows of a virtual grid without data are not requested just for
+			// packing
+			if (item.isVisible() && (!virtual || item.hasSetData())) {
+				for (int c = 0; c < columns.length; c++) {
+					texts[c][i] = item.getText(indices[c]);
+				}
+			}
+		}
+
+		final int k = Math.max(1, grid.getColumnPackSampleSize());
+		final Display display = grid.getDisplay();
+		CompletableFuture.supplyAsync(() -> IntStream.range(0, columns.length).parallel()
+				.mapToObj(c -> findLongest(texts[c], k)).toArray(int[][]::new)).thenAccept(rows -> {
+					try {
+						display.asyncExec(() -> applyLongest(columns, widths, items, rows, packGeneration));
+					} catch (final SWTException e) {
+						// the display has been disposed
+					}
+				});
+	}
+
+	/**
+	 * @return the indices of the k longest texts in descending order of
+	 *         length, ignoring <code>null</code> entries
+	 */
+	static int[] findLongest(final String[] texts, final int k) {
+		final PriorityQueue<Integer> longest = new PriorityQueue<>(k + 1,
+				(a, b) -> Integer.compare(texts[a].length(), texts[b].length()));
+		for (int i = 0; i < texts.length; i++) {
+			if (texts[i] == null) {
+				continue;
+			}
+			if (longest.size() < k) {
+				longest.add(i);
+			} else if (texts[i].length() > texts[longest.peek()].length()) {
+				longest.poll();
+				longest.add(i);
+			}
+		}
+		final int[] result = new int[longest.size()];
+		for (int i = result.length - 1; i >= 0; i--) {
+			result[i] = longest.poll();
+		}
+		return result;
+	}
+
+	private void applyLongest(final GridColumn[] columns, final int[] widths, final GridItem[] items,
+			final int[][] rows, final int packGeneration) {
+		if (grid.isDisposed()) {
+			return;
+		}
+		final GC gc = new GC(grid);
+		try {
+			for (int c = 0; c < columns.length; c++) {
+				final GridColumn column = columns[c];
+				if (column.isDisposed() || column.packGeneration != packGeneration
+						|| column.getWidth() != widths[c]) {
+					continue;
+				}
+				int width = widths[c];
+				final GridCellRenderer renderer = column.getCellRenderer();
+				for (final int index : rows[c]) {
+					final GridItem item = items[index];
+					if (!item.isDisposed() && item.isVisible()) {
+						renderer.setColumn(grid.indexOf(column));
+						width = Math.max(width, renderer.computeSize(gc, SWT.DEFAULT, SWT.DEFAULT, item).x);
+					}
+				}
+				if (width > widths[c]) {
+					column.setWidth(width);
+					column.fireResized();
+					fireMovedAfter(column);
+				}
+			}
+		} finally {
+			gc.dispose();
+		}
+		grid.redraw();
+	}
+
+	private void fireMovedAfter(final GridColumn column) {
+		final GridColumn[] ordered = grid.getColumnsInOrder();
+		boolean after = false;
+		for (final GridColumn other : ordered) {
+			if (after && other.isVisible()) {
+				other.fireMoved();
+			}
+			after |= other == column;
+		}
+	}
+}
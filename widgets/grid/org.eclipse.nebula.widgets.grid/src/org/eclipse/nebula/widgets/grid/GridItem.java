@@ -150,6 +150,23 @@ public class GridItem extends Item {
 
 	private final Object ROW_LOCK = new Object();
 
+	/**
+	 * Storage slot of this item in a {@link ColumnarDataVisualizer}.
+	 */
+	int visualizerSlot = -1;
+
+	/**
+	 * Incremented whenever content which affects the height of the row
+	 * changes.
+	 */
+	private int contentVersion = 0;
+
+	/**
+	 * Content version and layout generation of the grid the height of the row
+	 * has been measured for, see {@link Grid#isRowHeightMeasured(GridItem)}.
+	 */
+	private long measuredStamp = -1;
+
 	/**
 	 * Creates a new instance of this class and places the item at the end of
 	 * the grid.
@@ -216,6 +233,15 @@ public class GridItem extends Item {
 		return parent.indexOf(this);
 	}
 
+	/**
+	 * @return the row index kept by the receiver, may be outdated or -1
+	 */
+	int getCachedRowIndex() {
+		synchronized (ROW_LOCK) {
+			return row;
+		}
+	}
+
 	void increaseRow() {
 		synchronized (ROW_LOCK) {
 			row++;
@@ -1366,6 +1392,7 @@ public class GridItem extends Item {
 			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 		}
 		defaultFont = f;
+		contentChanged();
 		parent.redraw();
 	}
 
@@ -1397,6 +1424,7 @@ public class GridItem extends Item {
 			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 		}
 		parent.getDataVisualizer().setFont(this, index, font);
+		contentChanged();
 		parent.redraw();
 	}
 
@@ -1526,6 +1554,7 @@ public class GridItem extends Item {
 			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 		height = newHeight;
 		parent.hasDifferingHeights = true;
+		parent.updateRowOffset(this);
 		if (isVisible()) {
 			int myIndex = this.getRowIndex();
 			// note: cannot use Grid#isShown() here, because that returns false
@@ -1581,6 +1610,7 @@ public class GridItem extends Item {
 	@Override
 	public void setImage(Image image) {
 		parent.getDataVisualizer().setImage(this, 0, image);
+		contentChanged();
 		parent.redraw();
 	}
 
@@ -1610,6 +1640,7 @@ public class GridItem extends Item {
 			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 		}
 		parent.getDataVisualizer().setImage(this, index, image);
+		contentChanged();
 
 		parent.imageSetOnItem(index, this);
 
@@ -1641,6 +1672,7 @@ public class GridItem extends Item {
 			SWT.error(SWT.ERROR_NULL_ARGUMENT);
 		}
 		parent.getDataVisualizer().setText(this, index, text);
+		contentChanged();
 		parent.redraw();
 	}
 
@@ -1650,6 +1682,7 @@ public class GridItem extends Item {
 	@Override
 	public void setText(String string) {
 		parent.getDataVisualizer().setText(this, 0, string);
+		contentChanged();
 		parent.redraw();
 	}
 
@@ -1727,6 +1760,7 @@ public class GridItem extends Item {
 		} else {
 			parent.updateVisibleItems(NO_ROW);
 		}
+		parent.updateRowOffset(this);
 
 		if (hasChildren) {
 			boolean childrenVisible = visible;
@@ -1858,6 +1892,7 @@ public class GridItem extends Item {
 					: parent.getRowHeaderRenderer().computeSize(gc, SWT.DEFAULT, SWT.DEFAULT, this).x;
 
 			this.headerText = text;
+			contentChanged();
 
 			int newWidth = parent.getRowHeaderRenderer().computeSize(gc, SWT.DEFAULT, SWT.DEFAULT, this).x;
 
@@ -1958,6 +1993,7 @@ public class GridItem extends Item {
 	public void setHeaderFont(Font headerFont) {
 		checkWidget();
 		this.headerFont=headerFont;
+		contentChanged();
 		parent.redraw();
 	}
 
@@ -2083,6 +2119,43 @@ public class GridItem extends Item {
 		this.hasSetData = hasSetData;
 	}
 
+	boolean hasSetData() {
+		return hasSetData;
+	}
+
+	/**
+	 * Called when content which affects the height of the row has changed.
+	 */
+	void contentChanged() {
+		contentVersion++;
+		parent.rowContentChanged(this);
+	}
+
+	private long getContentStamp(int generation) {
+		return ((long) generation << 32) | (contentVersion & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * @param generation
+	 *            the layout generation of the grid
+	 * @return <code>true</code> if the height has been measured for the current
+	 *         content and the given layout generation
+	 */
+	boolean isHeightMeasured(int generation) {
+		return measuredStamp == getContentStamp(generation);
+	}
+
+	/**
+	 * Remembers that the height has been measured for the current content and
+	 * the given layout generation.
+	 *
+	 * @param generation
+	 *            the layout generation of the grid
+	 */
+	void setHeightMeasured(int generation) {
+		measuredStamp = getContentStamp(generation);
+	}
+
 	/**
 	 * Clears all properties of this item and resets values to their defaults.
 	 *
@@ -2101,6 +2174,7 @@ public class GridItem extends Item {
 		headerImage = null;
 		headerBackground = null;
 		headerForeground = null;
+		contentVersion++;
 
 		// Recursively clear children if requested.
 		if (allChildren && hasChildren) {
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.GC;
+
+/**
+ * Measures the rows of a {@link Grid} with {@link Grid#isAutoHeight()
+ * auto-height} in small batches while the UI is idle.
+ * <p>
+ * Each batch first measures the rows on screen and then continues with the
+ * other rows until its time budget is used up. Until a row has been measured
+ * it keeps its current (estimated) height. A row is measured again only after
+ * its content or the layout of the grid has changed, see
+ * {@link Grid#isRowHeightMeasured(GridItem)}.
+ * </p>
+ * <p>
+ * Text can only be measured with a {@link GC} on the UI thread, so the batches
+ * are run by {@link org.eclipse.swt.widgets.Display#timerExec(int, Runnable)}
+ * instead of a separate thread.
+ * </p>
+ */
+class GridRowHeightMeasurer implements Runnable {
+
+	/**
+	 * Delay between two batches in milliseconds.
+	 */
+	private static final int BATCH_DELAY = 20;
+
+	/**
+	 * Time budget of a single batch in nanoseconds.
+	 */
+	private static final long BATCH_DURATION = 10_000_000L;
+
+	private final Grid grid;
+
+	/**
+	 * Index of the next row to measure in the background.
+	 */
+	private int cursor;
+
+	private boolean scheduled;
+
+	GridRowHeightMeasurer(final Grid grid) {
+		this.grid = grid;
+	}
+
+	/**
+	 * Schedules the next batch if not already done.
+	 */
+	void schedule() {
+		if (!scheduled && !grid.isDisposed()) {
+			scheduled = true;
+			grid.getDisplay().timerExec(BATCH_DELAY, this);
+		}
+	}
+
+	/**
+	 * Measures all rows again, starting with the rows on screen.
+	 */
+	void restart() {
+		cursor = 0;
+		schedule();
+	}
+
+	/**
+	 * Makes sure the given row is measured again even if the background
+	 * measuring has already passed it.
+	 *
+	 * @param index
+	 *            index of the changed row
+	 */
+	void rowChanged(final int index) {
+		if (index >= 0 && index < cursor) {
+			cursor = index;
+		}
+		schedule();
+	}
+
+	/**
+	 * Stops measuring.
+	 */
+	void cancel() {
+		if (scheduled && !grid.isDisposed()) {
+			grid.getDisplay().timerExec(-1, this);
+		}
+		scheduled = false;
+	}
+
+	@Override
+	public void run() {
+		scheduled = false;
+		if (grid.isDisposed() || !grid.isAutoHeight() || grid.getItemCount() == 0) {
+			return;
+		}
+
+		final long deadline = System.nanoTime() + BATCH_DURATION;
+		final GC gc = new GC(grid);
+		try {
+			final int count = grid.getItemCount();
+			final int bottom = Math.min(grid.getBottomIndex(), count - 1);
+			for (int i = grid.getTopIndex(); i <= bottom; i++) {
+				measure(grid.getItem(i), gc);
+			}
+
+			while (cursor < count && System.nanoTime() < deadline) {
+				measure(grid.getItem(cursor), gc);
+				cursor++;
+			}
+			if (cursor < count) {
+				schedule();
+			}
+		} finally {
+			gc.dispose();
+		}
+	}
+
+	private void measure(final GridItem item, final GC gc) {
+		if (grid.isRowHeightMeasured(item)) {
+			return;
+		}
+		if ((grid.getStyle() & SWT.VIRTUAL) != 0 && !item.hasSetData()) {
+			// nothing to measure yet, the row is measured when it is painted
+			return;
+		}
+		final int height = grid.computeAutoHeight(item, gc);
+		if (height > 0 && height != item.getHeight()) {
+			item.setHeight(height);
+		}
+		grid.setRowHeightMeasured(item);
+	}
+}
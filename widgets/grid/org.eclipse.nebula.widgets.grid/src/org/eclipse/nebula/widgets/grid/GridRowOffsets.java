@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.List;
+
+/**
+ * Vertical layout of the rows of a {@link Grid} with differing heights or
+ * hidden (collapsed) rows.
+ * <p>
+ * Each row contributes its height plus the one pixel separator line if it is
+ * visible and nothing otherwise. The offsets and the number of visible rows
+ * are kept in two Fenwick trees (binary indexed trees), so changing the height
+ * or visibility of a single row as well as mapping a row to its y offset and a
+ * y offset back to a row are O(log n).
+ * </p>
+ * <p>
+ * Inserting or removing rows shifts the indices, in this case the index is
+ * invalidated and rebuilt in O(n) on the next access.
+ * </p>
+ */
+class GridRowOffsets {
+
+	/**
+	 * Height plus separator of each row or 0 if the row is hidden, 0-based.
+	 */
+	private int[] values = new int[0];
+
+	/**
+	 * Fenwick tree over {@link #values}, 1-based.
+	 */
+	private int[] offsets = new int[1];
+
+	/**
+	 * Fenwick tree over the visibility of the rows, 1-based.
+	 */
+	private int[] counts = new int[1];
+
+	private int size;
+
+	private int highestBit;
+
+	private boolean valid;
+
+	/**
+	 * @return <code>true</code> if the index reflects the rows of the grid
+	 */
+	boolean isValid() {
+		return valid;
+	}
+
+	/**
+	 * Marks the index as outdated, e.g. after rows have been inserted or
+	 * removed.
+	 */
+	void invalidate() {
+		valid = false;
+	}
+
+	/**
+	 * Rebuilds the index from the given rows in O(n).
+	 *
+	 * @param items
+	 *            the rows of the grid
+	 */
+	void rebuild(final List<GridItem> items) {
+		size = items.size();
+		if (values.length < size || values.length > size * 4 + 16) {
+			values = new int[size];
+			offsets = new int[size + 1];
+			counts = new int[size + 1];
+		} else {
+			offsets[0] = 0;
+			counts[0] = 0;
+		}
+		highestBit = Integer.highestOneBit(Math.max(size, 1));
+
+		for (int i = 0; i < size; i++) {
+			final GridItem item = items.get(i);
+			values[i] = item.isVisible() ? item.getHeight() + 1 : 0;
+			offsets[i + 1] = values[i];
+			counts[i + 1] = values[i] > 0 ? 1 : 0;
+		}
+		for (int i = 1; i <= size; i++) {
+			final int parent = i + (i & -i);
+			if (parent <= size) {
+				offsets[parent] += offsets[i];
+				counts[parent] += counts[i];
+			}
+		}
+		valid = true;
+	}
+
+	/**
+	 * Updates the height or visibility of a single row in O(log n).
+	 *
+	 * @param index
+	 *            the row index
+	 * @param visible
+	 *            whether the row is visible
+	 * @param height
+	 *            the height of the row without the separator
+	 */
+	void set(final int index, final boolean visible, final int height) {
+		final int value = visible ? height + 1 : 0;
+		final int delta = value - values[index];
+		if (delta == 0) {
+			return;
+		}
+		final int countDelta = (value > 0 ? 1 : 0) - (values[index] > 0 ? 1 : 0);
+		values[index] = value;
+		for (int i = index + 1; i <= size; i += i & -i) {
+			offsets[i] += delta;
+			counts[i] += countDelta;
+		}
+	}
+
+	/**
+	 * @return the number of rows in the index
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the y offset of the given row relative to the first row, which is
+	 * the summed height of all visible rows before it, including separators.
+	 *
+	 * @param index
+	 *            the row index, may be {@link #size()}
+	 * @return the offset in pixels
+	 */
+	int getOffset(final int index) {
+		int sum = 0;
+		for (int i = index; i > 0; i -= i & -i) {
+			sum += offsets[i];
+		}
+		return sum;
+	}
+
+	/**
+	 * @param index
+	 *            the row index, may be {@link #size()}
+	 * @return the number of visible rows before the given row
+	 */
+	int getVisibleCount(final int index) {
+		int sum = 0;
+		for (int i = index; i > 0; i -= i & -i) {
+			sum += counts[i];
+		}
+		return sum;
+	}
+
+	/**
+	 * @return the height of all visible rows, including separators
+	 */
+	int getTotalHeight() {
+		return getOffset(size);
+	}
+
+	/**
+	 * Returns the visible row which covers the given offset, the separator
+	 * below a row belongs to the row.
+	 *
+	 * @param y
+	 *            offset relative to the first row, must not be negative
+	 * @return the row index or {@link #size()} if the offset lies below the
+	 *         last row
+	 */
+	int getIndexAt(final int y) {
+		return search(offsets, y);
+	}
+
+	/**
+	 * @param n
+	 *            zero based number of the visible row
+	 * @return the index of the n-th visible row or {@link #size()} if there are
+	 *         not enough visible rows
+	 */
+	int getIndexOfVisible(final int n) {
+		return search(counts, n);
+	}
+
+	/**
+	 * @return the largest index whose prefix sum is not greater than the given
+	 *         value
+	 */
+	private int search(final int[] tree, final int value) {
+		int index = 0;
+		int remaining = value;
+		for (int step = highestBit; step > 0; step >>= 1) {
+			final int next = index + step;
+			if (next <= size && tree[next] <= remaining) {
+				index = next;
+				remaining -= tree[next];
+			}
+		}
+		return index;
+	}
+}
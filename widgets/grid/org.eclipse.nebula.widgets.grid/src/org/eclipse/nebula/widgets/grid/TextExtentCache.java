@@ -0,0 +1,350 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Nebula contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.nebula.widgets.grid;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.nebula.widgets.grid.internal.TextUtils;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.TextLayout;
+
+/**
+ * Least recently used cache of text measurements shared by the renderers of a
+ * single grid.
+ * <p>
+ * Painting and packing a grid measures the same strings over and over again,
+ * e.g. while scrolling. This cache remembers string extents, shortened strings
+ * (see {@link TextUtils#getShortStr(GC, String, int, int)}) and the height of
+ * word wrapped text. All entries are keyed by the font of the {@link GC}, so
+ * the same cache can be used for cells with different fonts. Fonts are
+ * compared by their handle, so the entries of a font are removed once it is
+ * found disposed and its handle is used by another font.
+ * </p>
+ * <p>
+ * The number of hits and misses is counted to allow tuning the maximum size
+ * of the cache for a given grid.
+ * </p>
+ */
+public class TextExtentCache {
+
+	/**
+	 * Default maximum number of entries.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 4096;
+
+	private static final int STRING_EXTENT = 0;
+	private static final int TEXT_EXTENT = 1;
+	private static final int SHORT_STRING = 2;
+	private static final int WRAPPED_HEIGHT = 3;
+
+	private int maxSize;
+
+	private long hitCount;
+
+	private long missCount;
+
+	private final LinkedHashMap<Key, Object> entries = new LinkedHashMap<Key, Object>(64, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<Key, Object> eldest) {
+			return size() > maxSize;
+		}
+	};
+
+	/**
+	 * The font first seen for each font handle.
+	 */
+	private final Map<Font, Font> fonts = new HashMap<Font, Font>();
+
+	/**
+	 * Creates a cache with the {@link #DEFAULT_MAX_SIZE default maximum size}.
+	 */
+	public TextExtentCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Creates a cache with the given maximum size.
+	 *
+	 * @param maxSize
+	 *            maximum number of entries, 0 disables caching
+	 */
+	public TextExtentCache(final int maxSize) {
+		setMaxSize(maxSize);
+	}
+
+	/**
+	 * Returns the extent of the given string as {@link GC#stringExtent(String)}
+	 * does.
+	 *
+	 * @param gc
+	 *            GC used to measure the string
+	 * @param text
+	 *            string to measure
+	 * @return the extent of the string
+	 */
+	public Point stringExtent(final GC gc, final String text) {
+		final Key key = new Key(STRING_EXTENT, checkFont(gc.getFont()), text, 0, 0);
+		Point extent = (Point) lookup(key);
+		if (extent == null) {
+			extent = gc.stringExtent(text);
+			store(key, extent);
+		}
+		return new Point(extent.x, extent.y);
+	}
+
+	/**
+	 * Returns the extent of the given text as {@link GC#textExtent(String)}
+	 * does, i.e. with tabs and line delimiters expanded.
+	 *
+	 * @param gc
+	 *            GC used to measure the text
+	 * @param text
+	 *            text to measure
+	 * @return the extent of the text
+	 */
+	public Point textExtent(final GC gc, final String text) {
+		final Key key = new Key(TEXT_EXTENT, checkFont(gc.getFont()), text, 0, 0);
+		Point extent = (Point) lookup(key);
+		if (extent == null) {
+			extent = gc.textExtent(text);
+			store(key, extent);
+		}
+		return new Point(extent.x, extent.y);
+	}
+
+	/**
+	 * Returns the given text shortened to the given width as
+	 * {@link TextUtils#getShortStr(GC, String, int, int)} does.
+	 *
+	 * @param gc
+	 *            GC used to measure the text
+	 * @param text
+	 *            text to shorten
+	 * @param width
+	 *            available width in pixels
+	 * @param style
+	 *            truncation style, see {@link SWT#LEFT}, {@link SWT#CENTER},
+	 *            {@link SWT#RIGHT}
+	 * @return the shortened text
+	 */
+	public String getShortStr(final GC gc, final String text, final int width, final int style) {
+		if (text == null || text.isEmpty()) {
+			return text;
+		}
+		final Key key = new Key(SHORT_STRING, checkFont(gc.getFont()), text, width, style);
+		String shortText = (String) lookup(key);
+		if (shortText == null) {
+			shortText = TextUtils.getShortStr(gc, text, width, style);
+			store(key, shortText);
+		}
+		return shortText;
+	}
+
+	/**
+	 * Returns the height of the given text wrapped at the given width, which is
+	 * the summed height of the lines of a {@link TextLayout}.
+	 *
+	 * @param gc
+	 *            GC used to measure the text
+	 * @param text
+	 *            text to measure
+	 * @param width
+	 *            wrap width in pixels
+	 * @param alignment
+	 *            alignment of the text, see {@link TextLayout#setAlignment(int)}
+	 * @return the height of the wrapped text
+	 */
+	public int getWrappedHeight(final GC gc, final String text, final int width, final int alignment) {
+		final Key key = new Key(WRAPPED_HEIGHT, checkFont(gc.getFont()), text, width, alignment);
+		Integer height = (Integer) lookup(key);
+		if (height == null) {
+			final TextLayout layout = new TextLayout(gc.getDevice());
+			try {
+				layout.setFont(gc.getFont());
+				layout.setText(text);
+				layout.setAlignment(alignment);
+				layout.setWidth(width < 1 ? 1 : width);
+				int sum = 0;
+				for (int i = 0; i < layout.getLineCount(); i++) {
+					sum += layout.getLineBounds(i).height;
+				}
+				height = Integer.valueOf(sum);
+			} finally {
+				layout.dispose();
+			}
+			store(key, height);
+		}
+		return height.intValue();
+	}
+
+	/**
+	 * Removes the entries of a disposed font whose handle is now used by the
+	 * given font, as they would be found for the new font otherwise.
+	 */
+	private Font checkFont(final Font font) {
+		final Font known = fonts.put(font, font);
+		if (known != null && known != font && known.isDisposed()) {
+			for (final Iterator<Key> it = entries.keySet().iterator(); it.hasNext();) {
+				if (it.next().font.equals(font)) {
+					it.remove();
+				}
+			}
+		}
+		return font;
+	}
+
+	private Object lookup(final Key key) {
+		final Object value = entries.get(key);
+		if (value != null) {
+			hitCount++;
+		} else {
+			missCount++;
+		}
+		return value;
+	}
+
+	private void store(final Key key, final Object value) {
+		if (maxSize > 0) {
+			entries.put(key, value);
+		}
+	}
+
+	/**
+	 * Sets the maximum number of entries, the least recently used entries are
+	 * removed if the cache is larger.
+	 *
+	 * @param maxSize
+	 *            maximum number of entries, 0 disables caching
+	 * @throws IllegalArgumentException
+	 *             <ul>
+	 *             <li>ERROR_INVALID_ARGUMENT - if the size is negative</li>
+	 *             </ul>
+	 */
+	public void setMaxSize(final int maxSize) {
+		if (maxSize < 0) {
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+		}
+		this.maxSize = maxSize;
+		if (entries.size() > maxSize) {
+			final int remove = entries.size() - maxSize;
+			int i = 0;
+			for (final Iterator<Key> it = entries.keySet().iterator(); i < remove; i++) {
+				it.next();
+				it.remove();
+			}
+		}
+	}
+
+	/**
+	 * @return the maximum number of entries
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * @return the current number of entries
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Removes all entries, the statistics are kept.
+	 */
+	public void clear() {
+		entries.clear();
+		fonts.clear();
+	}
+
+	/**
+	 * @return the number of lookups answered from the cache
+	 */
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return the number of lookups which needed a measurement
+	 */
+	public long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * @return the ratio of hits to all lookups between 0 and 1, or 0 if there
+	 *         have not been any lookups yet
+	 */
+	public double getHitRate() {
+		final long total = hitCount + missCount;
+		return total == 0 ? 0 : (double) hitCount / total;
+	}
+
+	/**
+	 * Resets the hit and miss counters.
+	 */
+	public void resetStatistics() {
+		hitCount = 0;
+		missCount = 0;
+	}
+
+	private static final class Key {
+		private final int kind;
+		private final Font font;
+		private final String text;
+		private final int width;
+		private final int style;
+		private final int hash;
+
+		Key(final int kind, final Font font, final String text, final int width, final int style) {
+			this.kind = kind;
+			this.font = font;
+			this.text = text;
+			this.width = width;
+			this.style = style;
+			int h = kind;
+			h = 31 * h + font.hashCode();
+			h = 31 * h + text.hashCode();
+			h = 31 * h + width;
+			h = 31 * h + style;
+			hash = h;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			final Key other = (Key) obj;
+			return hash == other.hash && kind == other.kind && width == other.width && style == other.style
+					&& font.equals(other.font) && text.equals(other.text);
+		}
+	}
+}
@@ -55,7 +55,7 @@ public class DefaultColumnFooterRenderer extends GridFooterRenderer
 
         x += leftMargin;
 
-        x += gc.stringExtent(column.getText()).x + rightMargin;
+        x += column.getParent().getTextExtentCache().stringExtent(gc, column.getText()).x + rightMargin;
 
         int y = 0;
 
@@ -115,11 +115,11 @@ public class DefaultColumnFooterRenderer extends GridFooterRenderer
 
         int y = getBounds().y + getBounds().height - bottomMargin - gc.getFontMetrics().getHeight();
 
-        String text = TextUtils.getShortStr(gc, column.getFooterText(), width, truncationStyle);
+        String text = column.getParent().getTextExtentCache().getShortStr(gc, column.getFooterText(), width, truncationStyle);
 
         if (column.getAlignment() == SWT.RIGHT)
         {
-            int len = gc.stringExtent(text).x;
+            int len = column.getParent().getTextExtentCache().stringExtent(gc, text).x;
             if (len < width)
             {
                 x += width - len;
@@ -127,7 +127,7 @@ public class DefaultColumnFooterRenderer extends GridFooterRenderer
         }
         else if (column.getAlignment() == SWT.CENTER)
         {
-            int len = gc.stringExtent(text).x;
+            int len = column.getParent().getTextExtentCache().stringExtent(gc, text).x;
             if (len < width)
             {
                 x += (width - len) / 2;
@@ -92,12 +92,12 @@ public class DefaultColumnGroupHeaderRenderer extends GridHeaderRenderer
         String text = group.getText();
 		if (!isWordWrap())
         {
-			text = TextUtils.getShortStr(gc, text, width,truncationStyle);
+			text = group.getParent().getTextExtentCache().getShortStr(gc, text, width,truncationStyle);
         }
 
         if (getHorizontalAlignment() == SWT.RIGHT)
         {
-            int len = gc.stringExtent(text).x;
+            int len = group.getParent().getTextExtentCache().stringExtent(gc, text).x;
             if (len < width)
             {
                 x += width - len;
@@ -105,7 +105,7 @@ public class DefaultColumnGroupHeaderRenderer extends GridHeaderRenderer
         }
         else if (getHorizontalAlignment() == SWT.CENTER)
         {
-            int len = gc.stringExtent(text).x;
+            int len = group.getParent().getTextExtentCache().stringExtent(gc, text).x;
             if (len < width)
             {
                 x += (width - len) / 2;
@@ -171,7 +171,7 @@ public class DefaultColumnGroupHeaderRenderer extends GridHeaderRenderer
 
         if (!isWordWrap())
         {
-          x += gc.stringExtent(group.getText()).x + rightMargin;
+          x += group.getParent().getTextExtentCache().stringExtent(gc, group.getText()).x + rightMargin;
         }
         else
         {
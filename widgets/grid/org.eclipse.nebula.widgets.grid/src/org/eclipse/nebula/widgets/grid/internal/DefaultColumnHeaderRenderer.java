@@ -73,7 +73,7 @@ public class DefaultColumnHeaderRenderer extends GridHeaderRenderer
         }
         if (!isWordWrap())
         {
-          x += gc.stringExtent(column.getText()).x + rightMargin;
+          x += column.getParent().getTextExtentCache().stringExtent(gc, column.getText()).x + rightMargin;
         }
         else
         {
@@ -172,12 +172,12 @@ public class DefaultColumnHeaderRenderer extends GridHeaderRenderer
 
         if (!isWordWrap())
         {
-          text = TextUtils.getShortStr(gc, text, width,truncationStyle);
+          text = column.getParent().getTextExtentCache().getShortStr(gc, text, width,truncationStyle);
         }
 
         if (column.getAlignment() == SWT.RIGHT)
         {
-            int len = gc.stringExtent(text).x;
+            int len = column.getParent().getTextExtentCache().stringExtent(gc, text).x;
             if (len < width)
             {
                 x += width - len;
@@ -185,7 +185,7 @@ public class DefaultColumnHeaderRenderer extends GridHeaderRenderer
         }
         else if (column.getAlignment() == SWT.CENTER)
         {
-            int len = gc.stringExtent(text).x;
+            int len = column.getParent().getTextExtentCache().stringExtent(gc, text).x;
             if (len < width)
             {
                 x += (width - len) / 2;
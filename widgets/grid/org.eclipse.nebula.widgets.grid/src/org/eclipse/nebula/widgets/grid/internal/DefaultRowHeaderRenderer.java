@@ -179,8 +179,8 @@ public class DefaultRowHeaderRenderer extends AbstractRenderer
 
         if (!item.getParent().isWordWrapHeader())
         {
-            y += (getBounds().height - gc.stringExtent(text).y) / 2;
-            gc.drawString(TextUtils.getShortStr(gc, text, width, truncationStyle), getBounds().x + x + selectionOffset, y + selectionOffset, true);
+            y += (getBounds().height - item.getParent().getTextExtentCache().stringExtent(gc, text).y) / 2;
+            gc.drawString(item.getParent().getTextExtentCache().getShortStr(gc, text, width, truncationStyle), getBounds().x + x + selectionOffset, y + selectionOffset, true);
         }
         else
         {
@@ -242,7 +242,7 @@ public class DefaultRowHeaderRenderer extends AbstractRenderer
         	x += image.getBounds().width + 5;
         }
 
-        x += gc.stringExtent(text).x + rightMargin;
+        x += item.getParent().getTextExtentCache().stringExtent(gc, text).x + rightMargin;
 
         int y = topMargin;
 
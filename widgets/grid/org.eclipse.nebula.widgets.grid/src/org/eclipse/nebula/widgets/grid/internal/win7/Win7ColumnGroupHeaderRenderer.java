@@ -3,7 +3,6 @@ package org.eclipse.nebula.widgets.grid.internal.win7;
 import org.eclipse.nebula.widgets.grid.GridColumnGroup;
 import org.eclipse.nebula.widgets.grid.internal.DefaultColumnGroupHeaderRenderer;
 import org.eclipse.nebula.widgets.grid.internal.ExpandToggleRenderer;
-import org.eclipse.nebula.widgets.grid.internal.TextUtils;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.TextLayout;
@@ -63,7 +62,7 @@ public class Win7ColumnGroupHeaderRenderer extends DefaultColumnGroupHeaderRende
 
 		gc.setForeground(getDisplay().getSystemColor(SWT.COLOR_WIDGET_FOREGROUND));
 		if (!isWordWrap()) {
-			gc.drawString(TextUtils.getShortStr(gc, group.getText(), width,truncationStyle), getBounds().x + x,
+			gc.drawString(group.getParent().getTextExtentCache().getShortStr(gc, group.getText(), width,truncationStyle), getBounds().x + x,
 					getBounds().y + topMargin, true);
 		} else {
 			getTextLayout(gc, group);
@@ -3,7 +3,6 @@ package org.eclipse.nebula.widgets.grid.internal.win7;
 import org.eclipse.nebula.widgets.grid.GridColumn;
 import org.eclipse.nebula.widgets.grid.internal.DefaultColumnHeaderRenderer;
 import org.eclipse.nebula.widgets.grid.internal.SortArrowRenderer;
-import org.eclipse.nebula.widgets.grid.internal.TextUtils;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.GC;
@@ -104,16 +103,16 @@ public class Win7GridColumnHeaderRenderer extends DefaultColumnHeaderRenderer {
         String text = column.getText();
 
         if (!isWordWrap()) {
-            text = TextUtils.getShortStr(gc, text, width,truncationStyle);
+            text = column.getParent().getTextExtentCache().getShortStr(gc, text, width,truncationStyle);
         }
 
         if (column.getAlignment() == SWT.RIGHT) {
-            int len = gc.stringExtent(text).x;
+            int len = column.getParent().getTextExtentCache().stringExtent(gc, text).x;
             if (len < width) {
                 x += width - len;
             }
         } else if (column.getAlignment() == SWT.CENTER) {
-            int len = gc.stringExtent(text).x;
+            int len = column.getParent().getTextExtentCache().stringExtent(gc, text).x;
             if (len < width) {
                 x += (width - len) / 2;
             }
@@ -4,7 +4,13 @@ import static junit.framework.Assert.assertTrue;
 import static junit.framework.Assert.assertFalse;
 import junit.framework.Assert;
 
+import static org.eclipse.nebula.widgets.oscilloscope.multichannel.Oscilloscope.OVERFLOW_DECIMATE;
+import static org.eclipse.nebula.widgets.oscilloscope.multichannel.Oscilloscope.OVERFLOW_DROP_NEWEST;
+import static org.eclipse.nebula.widgets.oscilloscope.multichannel.Oscilloscope.OVERFLOW_DROP_OLDEST;
+
 import org.eclipse.nebula.widgets.oscilloscope.multichannel.Oscilloscope.IntegerFiFoCircularStack;
+import org.eclipse.nebula.widgets.oscilloscope.multichannel.Oscilloscope.IntegerRingBuffer;
+import org.eclipse.nebula.widgets.oscilloscope.multichannel.Oscilloscope.PolylineBuffers;
 import org.eclipse.swt.widgets.Shell;
 import org.junit.After;
 import org.junit.AfterClass;
@@ -126,6 +132,214 @@ public class OscilloscopeTest {
 
 	}
 
+	@Test
+	public void ringDropOldestTest() {
+		IntegerRingBuffer ring = new IntegerRingBuffer(10, OVERFLOW_DROP_OLDEST);
+		int[] values = new int[25];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = i;
+		}
+		assertTrue(ring.offer(values, 0, 7) == 7);
+		assertTrue(ring.pop(-1) == 0);
+		ring.offer(values, 7, 18);
+		assertTrue(ring.isFull());
+		for (int i = 15; i < 25; i++) {
+			assertTrue(ring.pop(-1) == i);
+		}
+		assertTrue(ring.isEmpty());
+		assertTrue(ring.getDropCount() + "", ring.getDropCount() == 14);
+	}
+
+	@Test
+	public void ringDropNewestTest() {
+		IntegerRingBuffer ring = new IntegerRingBuffer(10, OVERFLOW_DROP_NEWEST);
+		int[] values = new int[25];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = i;
+		}
+		assertTrue(ring.offer(values, 0, 25) == 10);
+		assertFalse(ring.offer(99));
+		assertTrue(ring.pop(-1) == 0);
+		assertTrue(ring.offer(99));
+		for (int i = 1; i < 10; i++) {
+			assertTrue(ring.pop(-1) == i);
+		}
+		assertTrue(ring.pop(-1) == 99);
+		assertTrue(ring.pop(-1) == -1);
+		assertTrue(ring.getDropCount() == 16);
+	}
+
+	@Test
+	public void ringDecimateTest() {
+		IntegerRingBuffer ring = new IntegerRingBuffer(16, OVERFLOW_DECIMATE);
+		int peaks = 0;
+		for (int i = 0; i < 10000; i++) {
+			// offered ten times faster than popped, the peaks must survive
+			ring.offer(i % 10 == 0 ? 100 : 1);
+			if (i % 10 == 9 && ring.pop(0) == 100 && i > 5000) {
+				peaks++;
+			}
+		}
+		assertTrue(peaks + "", peaks > 400);
+		assertTrue(ring.getDropCount() < 1000);
+	}
+
+	@Test
+	public void ringCopyTest() {
+		IntegerRingBuffer ring = new IntegerRingBuffer(10, OVERFLOW_DROP_NEWEST);
+		for (int i = 0; i < 7; i++) {
+			ring.offer(i);
+		}
+		IntegerRingBuffer ring2 = new IntegerRingBuffer(5, ring);
+		assertTrue(ring.isEmpty());
+		assertTrue(ring2.getOverflowPolicy() == OVERFLOW_DROP_NEWEST);
+		for (int i = 2; i < 7; i++) {
+			assertTrue(ring2.pop(-1) == i);
+		}
+		assertTrue(ring2.isEmpty());
+	}
+
+	@Test
+	public void ringConcurrentTest() throws InterruptedException {
+		final IntegerRingBuffer ring = new IntegerRingBuffer(100, OVERFLOW_DROP_NEWEST);
+		final int count = 1000000;
+		Thread producer = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				int[] values = new int[64];
+				int next = 1;
+				while (next <= count) {
+					int length = Math.min(values.length, count - next + 1);
+					for (int i = 0; i < length; i++) {
+						values[i] = next + i;
+					}
+					int offered = 0;
+					while (offered < length) {
+						offered += ring.offer(values, offered, length - offered);
+					}
+					next += length;
+				}
+			}
+		});
+		producer.start();
+		int expected = 1;
+		while (expected <= count) {
+			int value = ring.pop(0);
+			if (value != 0) {
+				assertTrue(value + " " + expected, value == expected);
+				expected++;
+			}
+		}
+		producer.join();
+		assertTrue(ring.isEmpty());
+	}
+
+	@Test
+	public void ringConcurrentDropOldestTest() throws InterruptedException {
+		final IntegerRingBuffer ring = new IntegerRingBuffer(100, OVERFLOW_DROP_OLDEST);
+		final int count = 1000000;
+		Thread producer = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				int[] values = new int[64];
+				int next = 1;
+				while (next <= count) {
+					int length = Math.min(values.length, count - next + 1);
+					for (int i = 0; i < length; i++) {
+						values[i] = next + i;
+					}
+					ring.offer(values, 0, length);
+					next += length;
+				}
+			}
+		});
+		producer.start();
+		int last = 0;
+		int popped = 0;
+		while (producer.isAlive() || !ring.isEmpty()) {
+			int value = ring.pop(0);
+			if (value != 0) {
+				// values may be skipped, but never repeated or out of order
+				assertTrue(value + " " + last, value > last);
+				last = value;
+				popped++;
+			}
+		}
+		producer.join();
+		assertTrue(last == count);
+		assertTrue(popped + " " + ring.getDropCount(), popped + ring.getDropCount() == count);
+	}
+
+	@Test
+	public void polylinePaddingTest() {
+		PolylineBuffers polylines = new PolylineBuffers();
+		int[] line = createLine(5);
+
+		int[] points = polylines.getPolyline(line, 0, 5);
+		assertTrue(points.length + "", points.length == 16);
+		assertPoints(points, 0, 5);
+
+		points = polylines.getPolyline(line, 1, 4);
+		assertTrue(points.length + "", points.length == 8);
+		assertPoints(points, 1, 4);
+
+		// four points share the buffer of three points
+		assertTrue(polylines.getPolyline(line, 0, 4) == points);
+		assertPoints(points, 0, 4);
+
+		assertTrue(polylines.getPolyline(line, 2, 3) == null);
+	}
+
+	@Test
+	public void polylineWrapTest() {
+		PolylineBuffers polylines = new PolylineBuffers();
+		// a tail of 10 segments, 3 of them wrapped around the right border
+		int[] line = createLine(12);
+
+		assertPoints(polylines.getSegments(line, 3, 0, 10, false), 0, 4);
+		assertPoints(polylines.getSegments(line, 3, 0, 10, true), 4, 12);
+
+		// a band that crosses the border
+		assertPoints(polylines.getSegments(line, 3, 2, 5, false), 2, 4);
+		assertPoints(polylines.getSegments(line, 3, 2, 5, true), 4, 7);
+
+		// bands on one side of the border
+		assertTrue(polylines.getSegments(line, 3, 0, 3, true) == null);
+		assertPoints(polylines.getSegments(line, 3, 0, 3, false), 0, 4);
+		assertTrue(polylines.getSegments(line, 3, 5, 8, false) == null);
+		assertPoints(polylines.getSegments(line, 3, 5, 8, true), 6, 10);
+
+		// nothing wrapped
+		assertTrue(polylines.getSegments(line, 0, 0, 10, false) == null);
+		assertPoints(polylines.getSegments(line, 0, 0, 10, true), 0, 11);
+	}
+
+	/**
+	 * Creates a line whose points have their index as x value.
+	 */
+	private int[] createLine(int count) {
+		int[] line = new int[count * 2];
+		for (int i = 0; i < count; i++) {
+			line[i * 2] = i;
+			line[i * 2 + 1] = -i;
+		}
+		return line;
+	}
+
+	/**
+	 * Asserts that a polyline holds the points of a line from
+	 * <code>from</code> (inclusive) to <code>to</code> (exclusive), followed
+	 * by copies of the last point.
+	 */
+	private void assertPoints(int[] points, int from, int to) {
+		assertTrue(points != null);
+		for (int i = 0; i < points.length / 2; i++) {
+			int expected = Math.min(from + i, to - 1);
+			assertTrue(i + ": " + points[i * 2], points[i * 2] == expected);
+			assertTrue(i + ": " + points[i * 2 + 1], points[i * 2 + 1] == -expected);
+		}
+	}
+
 	private void stackTestEmptyInternal(int capacity) {
 		Oscilloscope x = new Oscilloscope(new Shell(), 0);
 		IntegerFiFoCircularStack stack = x.new IntegerFiFoCircularStack(
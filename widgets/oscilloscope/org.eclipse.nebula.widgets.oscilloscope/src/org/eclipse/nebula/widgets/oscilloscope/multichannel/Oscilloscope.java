@@ -16,6 +16,8 @@ package org.eclipse.nebula.widgets.oscilloscope.multichannel;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.PaintEvent;
@@ -73,18 +75,34 @@ public class Oscilloscope extends Canvas {
 		 */
 		private int originalTailSize;
 
+		private int overflowPolicy = OVERFLOW_DROP_OLDEST;
 		private boolean percentage = false;
 		private int progression = PROGRESSION_DEFAULT;
-		private IntegerFiFoCircularStack stack;
+		private volatile IntegerRingBuffer stack;
 		private List<OscilloscopeStackAdapter> stackListeners;
 		private boolean steady;
 		/**
 		 * This contains the old or historical input and is used to paint the
-		 * tail of the graph.
+		 * tail of the graph. It is a ring of the last <code>tailSize + 1</code>
+		 * values, the oldest one at <code>tailStart</code>.
 		 */
 		private int[] tail;
+		private int tailStart;
 		private int tailFade = TAILFADE_PERCENTAGE;
 		private int tailSize;
+
+		/**
+		 * The points of the line, reused for every frame.
+		 *
+		 * @see Oscilloscope#calculate(int)
+		 */
+		private int[] line;
+
+		/**
+		 * The number of segments of the tail that wrapped around the right
+		 * border.
+		 */
+		private int wrapped;
 		private int width = DEFAULT_WIDTH;
 		private boolean antiAlias = false;
 
@@ -246,6 +264,356 @@ public class Oscilloscope extends Canvas {
 		}
 	}
 
+	/**
+	 * A ring that passes the values of a channel from a producer thread to the
+	 * UI thread without locking. The producer offers values, the UI thread
+	 * pops them while painting. The ring never grows and the producer never
+	 * blocks: if it outruns the scope, the values that do not fit are handled
+	 * according to the overflow policy.
+	 * <p/>
+	 * Values must be offered by one thread at a time and popped by one thread
+	 * at a time, which may be another one.
+	 * <p/>
+	 * With {@link Oscilloscope#OVERFLOW_DROP_OLDEST} the producer may overwrite
+	 * a value while the consumer reads it. The producer therefore claims the
+	 * slots of a batch before it writes them, and the consumer checks the
+	 * claimed counter after reading a value. The values are written with
+	 * ordered writes and read with volatile reads, so a consumer that reads a
+	 * newer value also sees its claim and skips to the oldest value that was
+	 * not claimed.
+	 *
+	 * @see Oscilloscope#OVERFLOW_DROP_OLDEST
+	 * @see Oscilloscope#OVERFLOW_DROP_NEWEST
+	 * @see Oscilloscope#OVERFLOW_DECIMATE
+	 */
+	public static class IntegerRingBuffer {
+		private static final int MAX_DECIMATION = 1 << 16;
+
+		private final int capacity;
+		private final AtomicIntegerArray ring;
+		private volatile int overflowPolicy;
+
+		// number of values written, only changed by the producer
+		private volatile long head;
+		// number of values that are written or about to be written, only
+		// changed by the producer
+		private final AtomicLong claimed = new AtomicLong();
+		// number of values read, only changed by the consumer
+		private volatile long tail;
+
+		// only used by the producer
+		private final int[] single = new int[1];
+		private int decimation = 1;
+		private int decimated;
+		private int peak;
+
+		private volatile long dropped;
+		private volatile long overwritten;
+
+		/**
+		 * Creates a ring with the indicated capacity.
+		 *
+		 * @param capacity
+		 *            must be greater than 1
+		 * @param overflowPolicy
+		 *            one of the <code>OVERFLOW_*</code> constants
+		 */
+		public IntegerRingBuffer(int capacity, int overflowPolicy) {
+			if (capacity <= 1) {
+				throw new RuntimeException("Ring capacity must be > 1");
+			}
+			this.capacity = capacity;
+			ring = new AtomicIntegerArray(capacity);
+			setOverflowPolicy(overflowPolicy);
+		}
+
+		/**
+		 * Creates a ring with the indicated capacity and moves the newest
+		 * values of the old ring into the new ring. Must be called by the
+		 * consumer of the old ring, values offered to the old ring afterwards
+		 * are lost.
+		 *
+		 * @param capacity
+		 *            must be greater than 1
+		 * @param oldRing
+		 */
+		public IntegerRingBuffer(int capacity, IntegerRingBuffer oldRing) {
+			this(capacity, oldRing.overflowPolicy);
+			while (oldRing.getLoad() > capacity) {
+				oldRing.pop(0);
+			}
+			int count = 0;
+			while (!oldRing.isEmpty()) {
+				ring.set(count++, oldRing.pop(0));
+			}
+			claimed.set(count);
+			head = count;
+		}
+
+		/**
+		 * Removes all values. Must only be called by the consumer.
+		 */
+		public void clear() {
+			tail = head;
+		}
+
+		public int getCapacity() {
+			return capacity;
+		}
+
+		/**
+		 *
+		 * @return the number of values that were dropped because the ring was
+		 *         full
+		 */
+		public long getDropCount() {
+			return dropped + overwritten;
+		}
+
+		/**
+		 *
+		 * @return the number of values in the ring
+		 */
+		public int getLoad() {
+			return (int) Math.min(capacity, head - tail);
+		}
+
+		public int getOverflowPolicy() {
+			return overflowPolicy;
+		}
+
+		/**
+		 *
+		 * @return boolean
+		 */
+		public boolean isEmpty() {
+			return head == tail;
+		}
+
+		/**
+		 *
+		 * @return boolean
+		 */
+		public boolean isFull() {
+			return getLoad() == capacity;
+		}
+
+		/**
+		 * Offers a value. Must only be called by the producer.
+		 *
+		 * @param value
+		 * @return true if the value was not dropped
+		 */
+		public boolean offer(int value) {
+			single[0] = value;
+			return offer(single, 0, 1) == 1;
+		}
+
+		/**
+		 * Offers a number of values. Must only be called by the producer.
+		 *
+		 * @param values
+		 * @param offset
+		 *            index of the first value to offer
+		 * @param length
+		 *            number of values to offer
+		 * @return the number of values that were not dropped, values merged by
+		 *         decimation count as not dropped. If the newest values are
+		 *         dropped, these are the first values.
+		 */
+		public int offer(int[] values, int offset, int length) {
+			if (offset < 0 || length < 0 || offset + length > values.length) {
+				throw new IndexOutOfBoundsException("offset " + offset + ", length " + length);
+			}
+			int policy = overflowPolicy;
+			int lost = 0;
+			if (policy == OVERFLOW_DROP_OLDEST && length > capacity) {
+				// only the newest values fit
+				lost = length - capacity;
+			}
+
+			long h = head;
+			long t = tail;
+			if (policy == OVERFLOW_DROP_OLDEST) {
+				// all remaining values are written, see the class comment
+				claimed.lazySet(h + length - lost);
+			}
+			for (int i = offset + lost; i < offset + length; i++) {
+				int value = values[i];
+				if (policy == OVERFLOW_DECIMATE) {
+					// keep the value with the largest amplitude of each group
+					if (decimated == 0 || Math.abs(value) > Math.abs(peak)) {
+						peak = value;
+					}
+					if (++decimated < decimation) {
+						continue;
+					}
+					decimated = 0;
+					value = peak;
+				}
+				if (h - t >= capacity && policy != OVERFLOW_DROP_OLDEST) {
+					t = tail;
+					if (h - t >= capacity) {
+						if (policy == OVERFLOW_DROP_NEWEST) {
+							// the rest of the values are newer
+							lost += offset + length - i;
+							break;
+						}
+						lost++;
+						if (decimation < MAX_DECIMATION) {
+							decimation *= 2;
+						}
+						continue;
+					}
+				}
+				ring.lazySet((int) (h % capacity), value);
+				h++;
+			}
+			if (policy == OVERFLOW_DECIMATE && decimation > 1 && h - tail < capacity / 4) {
+				decimation /= 2;
+			}
+			head = h;
+			if (lost > 0) {
+				dropped += lost;
+			}
+			return length - lost;
+		}
+
+		/**
+		 * Returns the oldest value from the ring. Returns the supplied entry
+		 * if the ring is empty. Must only be called by the consumer.
+		 *
+		 * @param valueIfEmpty
+		 * @return int
+		 */
+		public int pop(int valueIfEmpty) {
+			final long start = tail;
+			long t = start;
+			while (true) {
+				long h = head;
+				if (h - t > capacity) {
+					// the producer overwrote the oldest values
+					t = h - capacity;
+				}
+				if (t == h) {
+					overwritten += t - start;
+					tail = t;
+					return valueIfEmpty;
+				}
+				int result = ring.get((int) (t % capacity));
+				long c = claimed.get();
+				if (c - t <= capacity) {
+					overwritten += t - start;
+					tail = t + 1;
+					return result;
+				}
+				// the producer claimed the slot for a newer value while it was
+				// read
+				t = c - capacity;
+			}
+		}
+
+		/**
+		 * Returns the oldest value from the ring and negates the value.
+		 * Returns the supplied entry if the ring is empty.
+		 *
+		 * @param valueIfEmpty
+		 * @return int
+		 */
+		public int popNegate(int valueIfEmpty) {
+			return pop(valueIfEmpty) * -1;
+		}
+
+		/**
+		 * @param overflowPolicy
+		 *            one of the <code>OVERFLOW_*</code> constants
+		 */
+		public void setOverflowPolicy(int overflowPolicy) {
+			if (overflowPolicy < OVERFLOW_DROP_OLDEST || overflowPolicy > OVERFLOW_DECIMATE) {
+				throw new IllegalArgumentException("Invalid overflow policy " + overflowPolicy);
+			}
+			this.overflowPolicy = overflowPolicy;
+		}
+	}
+
+	/**
+	 * Reused buffers to draw the points of a line as polylines.
+	 * {@link GC#drawPolyline(int[])} only accepts whole arrays, so the points
+	 * are copied to a buffer with room for the next power of two of points.
+	 * The remaining points of the buffer repeat the last point and draw
+	 * nothing. Buffers of the same size are shared, so a polyline must be
+	 * drawn before the next one is requested.
+	 * <p/>
+	 * The line of a channel holds the part of the tail that wrapped around the
+	 * right border first, followed by the rest of the tail. Segment
+	 * <code>s</code> of the tail, 0 being the oldest, connects points
+	 * <code>s</code> and <code>s + 1</code> of the wrapped part if
+	 * <code>s</code> is less than the number of wrapped segments, and the
+	 * corresponding points of the rest otherwise.
+	 */
+	public static class PolylineBuffers {
+
+		/**
+		 * Buffers indexed by the power of two of their number of points.
+		 */
+		private final int[][] buffers = new int[32][];
+
+		/**
+		 * Returns the points of the line from <code>from</code> (inclusive) to
+		 * <code>to</code> (exclusive), padded with the last point.
+		 *
+		 * @param line
+		 *            x and y coordinates of the points
+		 * @param from
+		 * @param to
+		 * @return a shared buffer, or null if there are less than two points
+		 */
+		public int[] getPolyline(int[] line, int from, int to) {
+			int count = to - from;
+			if (count < 2) {
+				return null;
+			}
+			int size = 32 - Integer.numberOfLeadingZeros(count - 1);
+			int[] buffer = buffers[size];
+			if (buffer == null) {
+				buffer = new int[2 << size];
+				buffers[size] = buffer;
+			}
+			System.arraycopy(line, from * 2, buffer, 0, count * 2);
+			for (int i = count * 2; i < buffer.length; i += 2) {
+				buffer[i] = line[to * 2 - 2];
+				buffer[i + 1] = line[to * 2 - 1];
+			}
+			return buffer;
+		}
+
+		/**
+		 * Returns the points of the segments of the tail from
+		 * <code>from</code> (inclusive) to <code>to</code> (exclusive) that lie
+		 * on one side of the right border.
+		 *
+		 * @param line
+		 *            x and y coordinates of the points
+		 * @param wrapped
+		 *            number of segments that wrapped around the right border
+		 * @param from
+		 * @param to
+		 * @param rest
+		 *            false for the wrapped segments, true for the rest
+		 * @return a shared buffer, or null if there are no such segments
+		 */
+		public int[] getSegments(int[] line, int wrapped, int from, int to, boolean rest) {
+			if (!rest) {
+				return from < wrapped ? getPolyline(line, from, Math.min(to, wrapped) + 1) : null;
+			}
+			if (to <= wrapped) {
+				return null;
+			}
+			int wrappedPoints = wrapped > 0 ? wrapped + 1 : 0;
+			return getPolyline(line, wrappedPoints + Math.max(from, wrapped) - wrapped, wrappedPoints + to - wrapped + 1);
+		}
+	}
+
 	/**
 	 * The base of the line is positioned at the center of the widget.
 	 *
@@ -280,6 +648,26 @@ public class Oscilloscope extends Canvas {
 	 */
 	public static final int LINE_WIDTH_DEFAULT = 1;
 
+	/**
+	 * If values are offered faster than the scope draws them, the oldest
+	 * values are overwritten. This is the default.
+	 */
+	public static final int OVERFLOW_DROP_OLDEST = 0;
+
+	/**
+	 * If values are offered faster than the scope draws them, new values are
+	 * dropped until there is room again.
+	 */
+	public static final int OVERFLOW_DROP_NEWEST = 1;
+
+	/**
+	 * If values are offered faster than the scope draws them, only the value
+	 * with the largest amplitude of every 2, 4, 8, ... values is kept. The
+	 * factor doubles every time the stack is full and halves once it has
+	 * drained to a quarter.
+	 */
+	public static final int OVERFLOW_DECIMATE = 2;
+
 	/**
 	 * The default tail fade percentage
 	 */
@@ -321,10 +709,17 @@ public class Oscilloscope extends Canvas {
 	 */
 	public static final int TAILSIZE_MAX = -1;
 
+	/**
+	 * The number of bands of equal alpha in which a faded tail is drawn.
+	 */
+	private static final int FADE_BANDS = 16;
+
 	private Color bg;
 
 	private final Data[] chan;
 
+	private final PolylineBuffers polylines = new PolylineBuffers();
+
 	// Blocks painting if true
 	private boolean paintBlock;
 
@@ -424,72 +819,64 @@ public class Oscilloscope extends Canvas {
 	}
 
 	/**
-	 * This method calculates the progression of the line.
-	 *
-	 * @return
+	 * This method calculates the progression of the line. Each progression
+	 * step only stores the next value in the tail, then the points of the line
+	 * are written to the line of the channel: first the part of the tail that
+	 * wrapped around the right border, if any, then the part up to the cursor.
+	 * Both parts hold the point where the line wraps.
 	 */
-	private Object[] calculate(int channel) {
+	private void calculate(int channel) {
 
 		int c = channel;
-
-		int[] line1 = null;
-		int[] line2 = null;
-		int splitPos = 0;
+		Data data = chan[c];
 
 		for (int progress = 0; progress < getProgression(c); progress++) {
 
-			if (chan[c].stack.isEmpty() && chan[c].stackListeners != null) {
+			if (data.stack.isEmpty() && data.stackListeners != null) {
 				notifyListeners(c);
 			}
 
-			splitPos = chan[c].tailSize * 4;
-
 			if (!isSteady(c)) {
-				chan[c].cursor++;
+				data.cursor++;
 			}
-			if (chan[c].cursor >= chan[c].width) {
-				chan[c].cursor = 0;
+			if (data.cursor >= data.width) {
+				data.cursor = 0;
 			}
 
-			// Draw
-			int tailIndex = 1;
-			line1 = new int[chan[c].tailSize * 4];
-			line2 = new int[chan[c].tailSize * 4];
-
-			chan[c].tail[chan[c].tailSize] = transform(c, chan[c].width, chan[c].height, chan[c].stack.popNegate(0));
-
-			for (int i = 0; i < chan[c].tailSize; i++) {
-
-				int posx = chan[c].cursor - chan[c].tailSize + i;
-				int pos = i * 4;
-				if (posx < 0) {
-					posx += chan[c].width;
-					line1[pos] = posx - 1;
-
-					line1[pos + 1] = getBase(c) + (isSteady(c) ? 0 : chan[c].tail[tailIndex - 1]);
-					line1[pos + 2] = posx;
-					line1[pos + 3] = getBase(c) + (isSteady(c) ? 0 : chan[c].tail[tailIndex]);
-				}
+			data.tail[data.tailStart] = transform(c, data.width, data.height, data.stack.popNegate(0));
+			data.tailStart = (data.tailStart + 1) % data.tail.length;
+		}
 
-				else {
-					if (splitPos == chan[c].tailSize * 4) {
-						splitPos = pos;
-					}
-					line2[pos] = posx - 1;
-					line2[pos + 1] = getBase(c) + chan[c].tail[tailIndex - 1];
-					line2[pos + 2] = posx;
-					line2[pos + 3] = (getBase(c) + chan[c].tail[tailIndex]);
-				}
-				chan[c].tail[tailIndex - 1] = chan[c].tail[tailIndex++];
+		int tailSize = data.tailSize;
+		int base = getBase(c);
+		int[] line = data.line;
+		int pos = 0;
+		data.wrapped = Math.max(0, Math.min(tailSize, tailSize - data.cursor));
+
+		int x = data.cursor - tailSize - 1;
+		if (data.wrapped > 0) {
+			for (int i = 0; i <= data.wrapped; i++) {
+				line[pos++] = x + data.width + i;
+				line[pos++] = base + (isSteady(c) ? 0 : getTailValue(data, i));
 			}
 		}
+		if (data.wrapped < tailSize) {
+			for (int i = data.wrapped; i <= tailSize; i++) {
+				line[pos++] = x + i;
+				line[pos++] = base + getTailValue(data, i);
+			}
+		}
+	}
 
-		int[] l1 = new int[splitPos];
-		System.arraycopy(line1, 0, l1, 0, l1.length);
-		int[] l2 = new int[(chan[c].tailSize * 4) - splitPos];
-		System.arraycopy(line2, splitPos, l2, 0, l2.length);
-
-		return new Object[] { l1, l2 };
+	/**
+	 * @return the value of the tail at the index, 0 being the oldest value
+	 */
+	private int getTailValue(Data data, int index) {
+		int i = data.tailStart + index;
+		if (i >= data.tail.length) {
+			i -= data.tail.length;
+		}
+		return data.tail[i];
 	}
 
 	private void calculateBase(int channel) {
@@ -573,6 +960,19 @@ public class Oscilloscope extends Canvas {
 		return chan[channel].dispatcher;
 	}
 
+	/**
+	 * This method can be called outside of the UI thread.
+	 *
+	 * @param channel
+	 * @return the number of values of the channel that were dropped because
+	 *         they were offered faster than the scope draws them
+	 * @see #setOverflowPolicy(int, int)
+	 */
+	public long getDropCount(int channel) {
+		IntegerRingBuffer stack = chan[channel].stack;
+		return stack == null ? 0 : stack.getDropCount();
+	}
+
 	/**
 	 * This method can be called outside of the UI thread.
 	 *
@@ -593,6 +993,17 @@ public class Oscilloscope extends Canvas {
 		return chan[channel].lineWidth;
 	}
 
+	/**
+	 * This method can be called outside of the UI thread.
+	 *
+	 * @param channel
+	 * @return the overflow policy of the channel
+	 * @see #setOverflowPolicy(int, int)
+	 */
+	public int getOverflowPolicy(int channel) {
+		return chan[channel].overflowPolicy;
+	}
+
 	/**
 	 * This method can be called outside of the UI thread.
 	 *
@@ -693,6 +1104,33 @@ public class Oscilloscope extends Canvas {
 		}
 	}
 
+	/**
+	 * Offers a number of values to be drawn, see {@link #setValue(int, int)}.
+	 * The values are passed to the UI thread without locking, so this is the
+	 * method to feed the scope from a data acquisition thread. If the values
+	 * are offered faster than the scope draws them, the overflow policy
+	 * decides which values are dropped.
+	 * <p/>
+	 * This method can be called outside of the UI thread, but the values of a
+	 * channel must be offered by one thread at a time.
+	 *
+	 * @param channel
+	 * @param values
+	 * @param offset
+	 *            index of the first value to offer
+	 * @param length
+	 *            number of values to offer
+	 * @return the number of values that were not dropped
+	 * @see #setOverflowPolicy(int, int)
+	 */
+	public int offer(int channel, int[] values, int offset, int length) {
+		IntegerRingBuffer stack = chan[channel].stack;
+		if (width > 0 && stack != null) {
+			return stack.offer(values, offset, length);
+		}
+		return 0;
+	}
+
 	protected void paintControl(Event e) {
 
 		for (int c = 0; c < chan.length; c++) {
@@ -703,9 +1141,8 @@ public class Oscilloscope extends Canvas {
 			}
 
 			// Go calculate the line
-			Object[] result = calculate(c);
-			int[] l1 = (int[]) result[0];
-			int[] l2 = (int[]) result[1];
+			calculate(c);
+			int[] line = chan[c].line;
 
 			// Draw it
 			GC gc = e.gc;
@@ -716,35 +1153,56 @@ public class Oscilloscope extends Canvas {
 
 			// Fade tail
 			if (isFade(c)) {
-				gc.setAlpha(0);
-				double fade = 0;
-				double fadeOutStep = (double) 125 / (double) ((getTailSize(c) * (getTailFade(c)) / 100));
-				for (int i = 0; i < l1.length - 4;) {
-					fade += (fadeOutStep / 2);
-					setAlpha(gc, fade);
-					gc.drawLine(l1[i], l1[i + 1], l1[i + 2], l1[i + 3]);
-					i += 2;
-				}
-
-				for (int i = 0; i < l2.length - 4;) {
-					fade += (fadeOutStep / 2);
-					setAlpha(gc, fade);
-					gc.drawLine(l2[i], l2[i + 1], l2[i + 2], l2[i + 3]);
-					i += 2;
-				}
-
+				drawFadedSegments(gc, c);
 			} else {
-				gc.drawPolyline(l1);
-				gc.drawPolyline(l2);
+				drawSegments(gc, chan[c], 0, chan[c].tailSize);
 			}
 
 			// Connects the head with the tail
-			if (isConnect(c) && !isFade(c) && chan[c].originalTailSize == TAILSIZE_MAX && l1.length > 0 && l2.length > 0) {
-				gc.drawLine(l2[l2.length - 2], l2[l2.length - 1], l1[0], l1[1]);
+			int last = (chan[c].tailSize + 1) * 2;
+			if (isConnect(c) && !isFade(c) && chan[c].originalTailSize == TAILSIZE_MAX && chan[c].wrapped > 0
+					&& chan[c].wrapped < chan[c].tailSize) {
+				gc.drawLine(line[last], line[last + 1], line[0], line[1]);
 			}
 		}
 	}
 
+	/**
+	 * Draws the tail with the oldest part faded out. The alpha rises with
+	 * every segment, but to save native calls the faded part is drawn in
+	 * {@link #FADE_BANDS} bands of equal alpha.
+	 */
+	private void drawFadedSegments(GC gc, int channel) {
+		Data data = chan[channel];
+		double fadeOutStep = (double) 125 / (double) ((getTailSize(channel) * (getTailFade(channel)) / 100));
+
+		// segment s has alpha (s + 0.5) * fadeOutStep until it reaches 255
+		int faded = (int) Math.min(data.tailSize, Math.max(0, Math.ceil(255 / fadeOutStep - 0.5)));
+		int bandSize = Math.max(1, (faded + FADE_BANDS - 1) / FADE_BANDS);
+		for (int from = 0; from < faded; from += bandSize) {
+			int to = Math.min(faded, from + bandSize);
+			setAlpha(gc, (from + to) / 2d * fadeOutStep);
+			drawSegments(gc, data, from, to);
+		}
+		setAlpha(gc, 255);
+		drawSegments(gc, data, faded, data.tailSize);
+	}
+
+	/**
+	 * Draws the segments of the tail from <code>from</code> (inclusive) to
+	 * <code>to</code> (exclusive), 0 being the oldest segment.
+	 */
+	private void drawSegments(GC gc, Data data, int from, int to) {
+		int[] points = polylines.getSegments(data.line, data.wrapped, from, to, false);
+		if (points != null) {
+			gc.drawPolyline(points);
+		}
+		points = polylines.getSegments(data.line, data.wrapped, from, to, true);
+		if (points != null) {
+			gc.drawPolyline(points);
+		}
+	}
+
 	/**
 	 * Removes a stack listener from the collection of stack listeners. This
 	 * method can be called outside of the UI thread.
@@ -876,6 +1334,28 @@ public class Oscilloscope extends Canvas {
 		}
 	}
 
+	/**
+	 * Sets what happens to the values of the channel that are offered faster
+	 * than the scope draws them. The default is
+	 * <code>OVERFLOW_DROP_OLDEST</code>. This method can be called outside of
+	 * the UI thread.
+	 *
+	 * @param channel
+	 * @param overflowPolicy
+	 *            one of {@link #OVERFLOW_DROP_OLDEST},
+	 *            {@link #OVERFLOW_DROP_NEWEST} and {@link #OVERFLOW_DECIMATE}
+	 */
+	public void setOverflowPolicy(int channel, int overflowPolicy) {
+		if (overflowPolicy < OVERFLOW_DROP_OLDEST || overflowPolicy > OVERFLOW_DECIMATE) {
+			throw new IllegalArgumentException("Invalid overflow policy " + overflowPolicy);
+		}
+		chan[channel].overflowPolicy = overflowPolicy;
+		IntegerRingBuffer stack = chan[channel].stack;
+		if (stack != null) {
+			stack.setOverflowPolicy(overflowPolicy);
+		}
+	}
+
 	/**
 	 * If set to true then the values are treated as percentages of the
 	 * available space rather than absolute values. This will scale the
@@ -918,9 +1398,9 @@ public class Oscilloscope extends Canvas {
 
 			if (width > 1) {
 				if (chan[c].stack == null) {
-					chan[c].stack = new IntegerFiFoCircularStack(width);
+					chan[c].stack = new IntegerRingBuffer(width, chan[c].overflowPolicy);
 				} else {
-					chan[c].stack = new IntegerFiFoCircularStack(width, chan[c].stack);
+					chan[c].stack = new IntegerRingBuffer(width, chan[c].stack);
 				}
 			}
 		}
@@ -1016,20 +1496,16 @@ public class Oscilloscope extends Canvas {
 		// Transform the old tail. This is we want to see sort of the same form
 		// after resize.
 		int[] oldTail = chan[channel].tail;
-		if (oldTail == null) {
-			chan[channel].tail = new int[chan[channel].tailSize + 1];
-		} else {
-			chan[channel].tail = new int[chan[channel].tailSize + 1];
-			if (chan[channel].tail.length >= oldTail.length) {
-				for (int i = 0; i < oldTail.length; i++) {
-					chan[channel].tail[chan[channel].tail.length - 1 - i] = oldTail[oldTail.length - 1 - i];
-				}
-			} else {
-				for (int i = 0; i < chan[channel].tail.length; i++) {
-					chan[channel].tail[chan[channel].tail.length - 1 - i] = oldTail[oldTail.length - 1 - i];
-				}
+		chan[channel].tail = new int[chan[channel].tailSize + 1];
+		chan[channel].line = new int[(chan[channel].tailSize + 2) * 2];
+		if (oldTail != null) {
+			int count = Math.min(chan[channel].tail.length, oldTail.length);
+			for (int i = 0; i < count; i++) {
+				chan[channel].tail[chan[channel].tail.length - 1 - i] = oldTail[(chan[channel].tailStart
+						+ oldTail.length - 1 - i) % oldTail.length];
 			}
 		}
+		chan[channel].tailStart = 0;
 	}
 
 	/**
@@ -1040,7 +1516,8 @@ public class Oscilloscope extends Canvas {
 	 * If you resize the widget, the old stack will be copied into a new stack
 	 * with the new capacity.
 	 * <p/>
-	 * This method can be called outside of the UI thread.
+	 * This method can be called outside of the UI thread, but the values of a
+	 * channel must be set by one thread at a time.
 	 *
 	 * @param channel
 	 * @param value
@@ -1048,12 +1525,12 @@ public class Oscilloscope extends Canvas {
 	 *
 	 * @see #isPercentage(int)
 	 * @see #setBaseOffset(int, int)
+	 * @see #offer(int, int[], int, int)
 	 */
 	public void setValue(int channel, int value) {
-		if (width > 0) {
-			if (chan[channel].stack.capacity > 0) {
-				chan[channel].stack.push(value);
-			}
+		IntegerRingBuffer stack = chan[channel].stack;
+		if (width > 0 && stack != null) {
+			stack.offer(value);
 		}
 	}
 
@@ -1068,12 +1545,8 @@ public class Oscilloscope extends Canvas {
 	 *
 	 * @see #setValue(int, int)
 	 */
-	public synchronized void setValues(int channel, int[] values) {
-		if (width > 0) {
-			for (int value : values) {
-				setValue(channel, value);
-			}
-		}
+	public void setValues(int channel, int[] values) {
+		offer(channel, values, 0, values.length);
 	}
 
 	private void tailSizeCheck(int size) {
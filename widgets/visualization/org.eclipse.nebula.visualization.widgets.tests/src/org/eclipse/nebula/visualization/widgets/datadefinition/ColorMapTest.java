@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.widgets.datadefinition;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.eclipse.nebula.visualization.widgets.datadefinition.ColorMap.PredefinedColorMap;
+import org.eclipse.nebula.visualization.widgets.datadefinition.ColorMap.ShrinkMode;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.RGB;
+import org.junit.Test;
+
+/**
+ * Tests the images drawn by {@link ColorMap}. The data is in the range 0 to
+ * 255, so each value maps to the color with its own index.
+ */
+public class ColorMapTest {
+
+	private final ColorMap colorMap = new ColorMap(PredefinedColorMap.JET, true, true);
+
+	private ImageData createImage(int width, int height, int depth) {
+		return new ImageData(width, height, depth, colorMap.getPalette());
+	}
+
+	private void assertPixels(ImageData imageData, double[] expected, int width, int height) {
+		RGB[] colors = colorMap.getColorsLookupTable();
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				int index = (int) Math.max(0, Math.min(255, expected[y * width + x]));
+				assertEquals("pixel " + x + ", " + y, colors[index],
+						imageData.palette.getRGB(imageData.getPixel(x, y)));
+			}
+		}
+	}
+
+	@Test
+	public void testByteOrder() {
+		double[] data = new double[256];
+		for (int i = 0; i < data.length; i++)
+			data[i] = i;
+		for (int depth : new int[] { 24, 32 }) {
+			ImageData imageData = createImage(16, 16, depth);
+			colorMap.drawImage(new DoubleArrayWrapper(data), 16, 16, 255, 0, imageData, false);
+			assertPixels(imageData, data, 16, 16);
+		}
+	}
+
+	@Test
+	public void testClamping() {
+		double[] data = new double[] { -10, 300, Double.NaN, 128 };
+		ImageData imageData = colorMap.drawImage(new DoubleArrayWrapper(data), 2, 2, 255, 0, null, false);
+		assertPixels(imageData, new double[] { 0, 255, 0, 128 }, 2, 2);
+	}
+
+	@Test
+	public void testBinning() {
+		// each 2x2 block holds 0, 2, 4 and 6 plus an offset
+		double[] data = new double[4 * 4];
+		for (int y = 0; y < 4; y++) {
+			for (int x = 0; x < 4; x++)
+				data[y * 4 + x] = 100 * (y / 2) + 20 * (x / 2) + 2 * (x % 2) + 4 * (y % 2);
+		}
+		double[][] expected = new double[][] { { 3, 23, 103, 123 }, { 0, 20, 100, 120 }, { 6, 26, 106, 126 } };
+		ShrinkMode[] modes = new ShrinkMode[] { ShrinkMode.AVERAGE, ShrinkMode.MINIMUM, ShrinkMode.MAXIMUM };
+		for (int depth : new int[] { 24, 32 }) {
+			for (int i = 0; i < modes.length; i++) {
+				colorMap.setShrinkMode(modes[i]);
+				ImageData imageData = createImage(2, 2, depth);
+				colorMap.drawImage(new ShortArrayWrapper(toShorts(data)), 4, 4, 255, 0, imageData, true);
+				assertPixels(imageData, expected[i], 2, 2);
+			}
+		}
+	}
+
+	@Test
+	public void testNearestNeighbor() {
+		double[] data = new double[4 * 4];
+		for (int i = 0; i < data.length; i++)
+			data[i] = 10 * i;
+		colorMap.setShrinkMode(ShrinkMode.NEAREST_NEIGHBOR);
+		ImageData imageData = createImage(2, 2, 24);
+		colorMap.drawImage(new DoubleArrayWrapper(data), 4, 4, 255, 0, imageData, true);
+		// samples columns and rows 0 and 2
+		assertPixels(imageData, new double[] { 0, 20, 80, 100 }, 2, 2);
+	}
+
+	@Test
+	public void testShrinkModeNullIgnored() {
+		colorMap.setShrinkMode(ShrinkMode.MAXIMUM);
+		colorMap.setShrinkMode(null);
+		assertEquals(ShrinkMode.MAXIMUM, colorMap.getShrinkMode());
+	}
+
+	/**
+	 * Images of more than 256k data points are painted in bands on the common
+	 * fork join pool if it has more than one thread. The result must be the
+	 * same as painting each pixel in turn.
+	 */
+	@Test
+	public void testLargeImages() {
+		int width = 1024;
+		int height = 512;
+		double[] data = new double[width * height];
+		Random random = new Random(1);
+		for (int i = 0; i < data.length; i++)
+			data[i] = random.nextInt(256);
+		IPrimaryArrayWrapper wrapper = new DoubleArrayWrapper(data);
+
+		ImageData imageData = createImage(width, height, 24);
+		colorMap.drawImage(wrapper, width, height, 255, 0, imageData, false);
+		assertPixels(imageData, data, width, height);
+
+		// 4x4 blocks
+		double[] averages = new double[width / 4 * height / 4];
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++)
+				averages[(y / 4) * (width / 4) + x / 4] += data[y * width + x];
+		}
+		for (int i = 0; i < averages.length; i++)
+			averages[i] = Math.floor(averages[i] / 16);
+		colorMap.setShrinkMode(ShrinkMode.AVERAGE);
+		for (int depth : new int[] { 24, 32 }) {
+			imageData = createImage(width / 4, height / 4, depth);
+			colorMap.drawImage(wrapper, width, height, 255, 0, imageData, true);
+			assertPixels(imageData, averages, width / 4, height / 4);
+		}
+	}
+
+	private static short[] toShorts(double[] data) {
+		short[] shorts = new short[data.length];
+		for (int i = 0; i < data.length; i++)
+			shorts[i] = (short) data[i];
+		return shorts;
+	}
+}
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.widgets.figures;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.nebula.visualization.widgets.datadefinition.ByteArrayWrapper;
+import org.eclipse.nebula.visualization.widgets.datadefinition.ColorMap;
+import org.eclipse.nebula.visualization.widgets.datadefinition.ColorMap.PredefinedColorMap;
+import org.eclipse.nebula.visualization.widgets.datadefinition.ColorMap.ShrinkMode;
+import org.eclipse.nebula.visualization.widgets.datadefinition.DoubleArrayWrapper;
+import org.eclipse.nebula.visualization.widgets.datadefinition.FloatArrayWrapper;
+import org.eclipse.nebula.visualization.widgets.datadefinition.IPrimaryArrayWrapper;
+import org.eclipse.nebula.visualization.widgets.datadefinition.IntArrayWrapper;
+import org.eclipse.nebula.visualization.widgets.datadefinition.LongArrayWrapper;
+import org.eclipse.nebula.visualization.widgets.datadefinition.ShortArrayWrapper;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.RGB;
+import org.junit.Test;
+
+/**
+ * Tests which tiles {@link IntensityImageTiles} maps again for a new frame.
+ * The data is in the range 0 to 255, so each value maps to the color with its
+ * own index.
+ */
+public class IntensityImageTilesTest {
+
+	private static final int SIZE = IntensityImageTiles.TILE_SIZE;
+
+	private final ColorMap colorMap = new ColorMap(PredefinedColorMap.JET, true, true);
+
+	private final IntensityImageTiles tiles = new IntensityImageTiles();
+
+	private final Rectangle source = new Rectangle();
+
+	private ImageData compose(int left, int top, int width, int height, int targetWidth, int targetHeight) {
+		return tiles.compose(left, top, width, height, targetWidth, targetHeight, colorMap, 255, 0, source);
+	}
+
+	private void assertPixel(ImageData image, int x, int y, int index) {
+		RGB[] colors = colorMap.getColorsLookupTable();
+		assertEquals("pixel " + x + ", " + y, colors[index], image.palette.getRGB(image.getPixel(x, y)));
+	}
+
+	@Test
+	public void testTileInvalidation() {
+		int width = 2 * SIZE + 88;
+		int height = SIZE + 44;
+		short[] data = new short[width * height];
+		tiles.setFrame(new ShortArrayWrapper(data), 0, width, height);
+		compose(0, 0, width, height, width, height);
+		assertEquals(6, tiles.getRenderedTiles());
+
+		// the same frame keeps all tiles
+		tiles.setFrame(new ShortArrayWrapper(data.clone()), 0, width, height);
+		compose(0, 0, width, height, width, height);
+		assertEquals(6, tiles.getRenderedTiles());
+
+		// a point in the bottom right tile
+		data[width * height - 1] = 100;
+		tiles.setFrame(new ShortArrayWrapper(data), 0, width, height);
+		ImageData image = compose(0, 0, width, height, width, height);
+		assertEquals(7, tiles.getRenderedTiles());
+		assertPixel(image, width - 1, height - 1, 100);
+		assertPixel(image, width - 2, height - 1, 0);
+
+		// points in two tiles of one row
+		data[SIZE - 1] = 10;
+		data[SIZE] = 20;
+		tiles.setFrame(new ShortArrayWrapper(data), 0, width, height);
+		image = compose(0, 0, width, height, width, height);
+		assertEquals(9, tiles.getRenderedTiles());
+		assertPixel(image, SIZE - 1, 0, 10);
+		assertPixel(image, SIZE, 0, 20);
+	}
+
+	@Test
+	public void testPyramidInvalidation() {
+		int size = 4 * SIZE;
+		double[] data = new double[size * size];
+		colorMap.setShrinkMode(ShrinkMode.MAXIMUM);
+		tiles.setFrame(new DoubleArrayWrapper(data), 0, size, size);
+		// level 2 is a single tile
+		compose(0, 0, size, size, SIZE, SIZE);
+		assertEquals(1, tiles.getRenderedTiles());
+		compose(2 * SIZE, 0, SIZE, SIZE, SIZE, SIZE);
+		assertEquals(2, tiles.getRenderedTiles());
+
+		data[10 * size + 700] = 200;
+		tiles.setFrame(new DoubleArrayWrapper(data), 0, size, size);
+		ImageData image = compose(0, 0, size, size, SIZE, SIZE);
+		assertEquals(3, tiles.getRenderedTiles());
+		assertPixel(image, 700 / 4, 10 / 4, 200);
+		image = compose(2 * SIZE, 0, SIZE, SIZE, SIZE, SIZE);
+		assertEquals(4, tiles.getRenderedTiles());
+		assertPixel(image, 700 - 2 * SIZE, 10, 200);
+
+		// a change in another tile of level 0 keeps the tile above
+		data[5 * size + 5] = 50;
+		tiles.setFrame(new DoubleArrayWrapper(data), 0, size, size);
+		image = compose(0, 0, size, size, SIZE, SIZE);
+		assertEquals(5, tiles.getRenderedTiles());
+		assertPixel(image, 1, 1, 50);
+		assertPixel(image, 700 / 4, 10 / 4, 200);
+		compose(2 * SIZE, 0, SIZE, SIZE, SIZE, SIZE);
+		assertEquals(5, tiles.getRenderedTiles());
+
+		// a lower maximum within the 4x4 block is reduced again
+		data[10 * size + 700] = 0;
+		data[11 * size + 701] = 30;
+		tiles.setFrame(new DoubleArrayWrapper(data), 0, size, size);
+		image = compose(0, 0, size, size, SIZE, SIZE);
+		assertPixel(image, 700 / 4, 10 / 4, 30);
+	}
+
+	@Test
+	public void testFrameTypes() {
+		int width = 16;
+		int height = 8;
+		double[] values = new double[width * height];
+		for (int i = 0; i < values.length; i++)
+			values[i] = i;
+		byte[] bytes = new byte[values.length];
+		short[] shorts = new short[values.length];
+		int[] ints = new int[values.length];
+		long[] longs = new long[values.length];
+		float[] floats = new float[values.length];
+		for (int i = 0; i < values.length; i++) {
+			bytes[i] = (byte) i;
+			shorts[i] = (short) i;
+			ints[i] = i;
+			longs[i] = i;
+			floats[i] = i;
+		}
+		IPrimaryArrayWrapper[] frames = new IPrimaryArrayWrapper[] { new ByteArrayWrapper(bytes),
+				new ShortArrayWrapper(shorts), new IntArrayWrapper(ints), new LongArrayWrapper(longs),
+				new FloatArrayWrapper(floats), new DoubleArrayWrapper(values) };
+		for (IPrimaryArrayWrapper frame : frames) {
+			tiles.setFrame(frame, 0, width, height);
+			ImageData image = compose(0, 0, width, height, width, height);
+			for (int i = 0; i < values.length; i++)
+				assertPixel(image, i % width, i / width, i);
+		}
+	}
+
+	@Test
+	public void testUnsignedFrames() {
+		byte[] data = new byte[] { -1, -128, 127, 0 };
+		tiles.setFrame(new ByteArrayWrapper(data), 8, 2, 2);
+		ImageData image = compose(0, 0, 2, 2, 2, 2);
+		assertPixel(image, 0, 0, 255);
+		assertPixel(image, 1, 0, 128);
+		assertPixel(image, 0, 1, 127);
+		assertPixel(image, 1, 1, 0);
+
+		// the same data read as signed values
+		tiles.setFrame(new ByteArrayWrapper(data), 0, 2, 2);
+		image = compose(0, 0, 2, 2, 2, 2);
+		assertPixel(image, 0, 0, 0);
+		assertPixel(image, 1, 0, 0);
+		assertPixel(image, 0, 1, 127);
+	}
+}
@@ -80,6 +80,20 @@ public class ColorMap {
 		
 	}
 	
+	/**How a pixel is computed from the block of data it covers when the image
+	 * is smaller than the data.
+	 */
+	public enum ShrinkMode{
+		/** the data point nearest to the pixel */
+		NEAREST_NEIGHBOR,
+		/** the average of the block */
+		AVERAGE,
+		/** the minimum of the block */
+		MINIMUM,
+		/** the maximum of the block, which keeps single peaks visible */
+		MAXIMUM
+	}
+	
 	private LinkedHashMap<Double, RGB> colorMap;
 	private PredefinedColorMap predefinedColorMap;
 	private boolean autoScale;
@@ -89,6 +103,7 @@ public class ColorMap {
 	private PaletteData palette = new PaletteData(0xff, 0xff00, 0xff0000);
 	private double colorMapMin;
 	private double colorMapMax;
+	private ShrinkMode shrinkMode = ShrinkMode.AVERAGE;
 	
 	public ColorMap() {
 		colorMap = new LinkedHashMap<Double, RGB>();
@@ -172,6 +187,24 @@ public class ColorMap {
 		return predefinedColorMap;
 	}
 	
+	/**
+	 * @param shrinkMode how pixels are computed when the image is smaller than the data.
+	 * The default is {@link ShrinkMode#AVERAGE}. null is ignored.
+	 */
+	public void setShrinkMode(ShrinkMode shrinkMode) {
+		if(shrinkMode == null)
+			return;
+		this.shrinkMode = shrinkMode;
+	}
+
+
+	/**
+	 * @return how pixels are computed when the image is smaller than the data
+	 */
+	public ShrinkMode getShrinkMode() {
+		return shrinkMode;
+	}
+	
 	@Override
 	public String toString() {
 		if(predefinedColorMap != null && predefinedColorMap != PredefinedColorMap.None)
@@ -188,8 +221,10 @@ public class ColorMap {
 	 * @param max the upper limit of the data in dataArray
 	 * @param min the lower limit of the data in dataArray
 	 * @param imageData the imageData to be filled. null if a new instance should be created.
-	 * @param shrink true if area size of image data is smaller than dataWidth*dataHeight. If this is true, it will use
-	 * the nearest neighbor iamge scaling algorithm as described at http://tech-algorithm.com/articles/nearest-neighbor-image-scaling/.
+	 * @param shrink true if area size of image data is smaller than dataWidth*dataHeight. If this is true, each pixel
+	 * is computed from the block of data it covers as set by {@link #setShrinkMode(ShrinkMode)}.
+	 * {@link ShrinkMode#NEAREST_NEIGHBOR} uses the nearest neighbor iamge scaling algorithm as described at
+	 * http://tech-algorithm.com/articles/nearest-neighbor-image-scaling/.
 	 * @return the image data. null if dataWidth or dataHeight is less than 1.
 	 */
 	public ImageData drawImage(IPrimaryArrayWrapper dataArray, 
@@ -205,47 +240,25 @@ public class ColorMap {
 			min = colorMapMin;
 			max = colorMapMax;
 		}
-			if(shrink){				
-				int height = imageData.height;
-				int width = imageData.width;
-				    // EDIT: added +1 to account for an early rounding problem
-				    int x_ratio = (int)((dataWidth<<16)/width) +1;
-				    int y_ratio = (int)((dataHeight<<16)/height) +1;
-				    //int x_ratio = (int)((w1<<16)/w2) ;
-				    //int y_ratio = (int)((h1<<16)/h2) ;
-				    int x2, y2 ;
-				    for (int i=0;i<height;i++) {
-				        for (int j=0;j<width;j++) {
-				            x2 = ((j*x_ratio)>>16) ;
-				            y2 = ((i*y_ratio)>>16) ;
-				            int index = (int) ((dataArray.get(y2 * dataWidth + x2) - min) / (max - min) * 255);
-							if (index < 0)
-								index = 0;
-							else if (index > 255)
-								index = 255;
-							int pixel = pixelLookupTable[index];
-				            imageData.setPixel(j,i,pixel); ;
-				        }                
-				    }  
-				
-					
-			}else{
-				for (int y = 0; y < dataHeight; y++) {
-					for (int x = 0; x < dataWidth; x++) {
-						// the index of the value in the color table array
-						int index = (int) ((dataArray.get(y * dataWidth + x) - min) / (max - min) * 255);
-						if (index < 0)
-							index = 0;
-						else if (index > 255)
-							index = 255;
-						int pixel = pixelLookupTable[index];
-						imageData.setPixel(x, y, pixel);
-					}
-				}
-			}
-				
-			
+		if(shrink || imageData.width >= dataWidth && imageData.height >= dataHeight){
+			new ColorMapPainter(dataArray, dataWidth, dataHeight, max, min, pixelLookupTable, imageData,
+					shrink ? shrinkMode : null).paint();
 			return imageData;
+		}
+		// an image smaller than the data without shrinking, kept pixel by pixel as before
+		for (int y = 0; y < dataHeight; y++) {
+			for (int x = 0; x < dataWidth; x++) {
+				// the index of the value in the color table array
+				int index = (int) ((dataArray.get(y * dataWidth + x) - min) / (max - min) * 255);
+				if (index < 0)
+					index = 0;
+				else if (index > 255)
+					index = 255;
+				int pixel = pixelLookupTable[index];
+				imageData.setPixel(x, y, pixel);
+			}
+		}
+		return imageData;
 	}
 		
 	/**Calculate the image data from source data based on the color map.
@@ -0,0 +1,266 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * Contributors:
+ * 		Eclipse Nebula contributors - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.widgets.datadefinition;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.eclipse.nebula.visualization.widgets.datadefinition.ColorMap.ShrinkMode;
+import org.eclipse.swt.graphics.ImageData;
+
+/**
+ * Maps data to the colors of a color map. The pixel bytes of 24 bit images are
+ * written directly into {@link ImageData#data}, images of other depths are
+ * written a row at a time with {@link ImageData#setPixels(int, int, int, int[], int)}.
+ * <p>
+ * Data is read a row at a time with
+ * {@link IPrimaryArrayWrapper#get(int, double[], int, int)}, so each wrapper
+ * copies from its own array type in a tight loop. Large images are split into
+ * bands of rows which are painted in parallel on the common fork join pool;
+ * the bands write disjoint parts of the image. When the image is smaller than
+ * the data, each pixel is the average, minimum or maximum of the block of data
+ * it covers, or the nearest data point.
+ */
+final class ColorMapPainter {
+
+	/** Images with fewer data points than this are painted on the calling thread. */
+	static final int PARALLEL_THRESHOLD = 1 << 18;
+
+	private static final int MIN_POINTS_PER_BAND = 1 << 16;
+
+	private final IPrimaryArrayWrapper dataArray;
+	private final int dataWidth;
+	private final int dataHeight;
+	private final double min;
+	private final double scale;
+	private final int[] pixelLookupTable;
+	/** the 3 bytes of the pixel of each of the 256 colors, null if the image is not 24 bit */
+	private final byte[] colorBytes;
+	private final ImageData imageData;
+	/** null if the image has the size of the data */
+	private final ShrinkMode shrinkMode;
+	/** image column x covers data columns columnStart[x] to columnStart[x + 1] - 1 */
+	private final int[] columnStart;
+
+	/**
+	 * @param pixelLookupTable
+	 *            the pixels of the 256 colors from min to max
+	 * @param imageData
+	 *            the image, at least as large as the data if shrinkMode is null
+	 */
+	ColorMapPainter(IPrimaryArrayWrapper dataArray, int dataWidth, int dataHeight, double max, double min,
+			int[] pixelLookupTable, ImageData imageData, ShrinkMode shrinkMode) {
+		this.dataArray = dataArray;
+		this.dataWidth = dataWidth;
+		this.dataHeight = dataHeight;
+		this.min = min;
+		// infinite if max == min, which maps values as the former division did
+		this.scale = 255 / (max - min);
+		this.imageData = imageData;
+		this.shrinkMode = shrinkMode;
+		this.pixelLookupTable = pixelLookupTable;
+		if (imageData.depth == 24) {
+			colorBytes = new byte[256 * 3];
+			for (int i = 0; i < 256; i++) {
+				// the byte order of ImageData.setPixel for 24 bit images
+				int pixel = pixelLookupTable[i];
+				colorBytes[i * 3] = (byte) (pixel >> 16);
+				colorBytes[i * 3 + 1] = (byte) (pixel >> 8);
+				colorBytes[i * 3 + 2] = (byte) pixel;
+			}
+		} else {
+			colorBytes = null;
+		}
+		if (shrinkMode != null && shrinkMode != ShrinkMode.NEAREST_NEIGHBOR)
+			columnStart = getBinStarts(dataWidth, imageData.width);
+		else
+			columnStart = null;
+	}
+
+	/**
+	 * Returns the first data index of each bin and the end of the last one.
+	 * If there are more bins than data, a bin may start where the next one
+	 * starts; it then holds just its first index.
+	 */
+	static int[] getBinStarts(int dataSize, int bins) {
+		int[] starts = new int[bins + 1];
+		for (int i = 0; i <= bins; i++)
+			starts[i] = (int) ((long) i * dataSize / bins);
+		return starts;
+	}
+
+	/**
+	 * Paints the whole image, in parallel if it is large.
+	 */
+	void paint() {
+		int height = getHeight();
+		long points = shrinkMode == null || shrinkMode == ShrinkMode.NEAREST_NEIGHBOR
+				? (long) imageData.width * height : (long) dataWidth * dataHeight;
+		if (points < PARALLEL_THRESHOLD || ForkJoinPool.getCommonPoolParallelism() < 2) {
+			paintRows(0, height);
+			return;
+		}
+		int bands = (int) Math.min(height, Math.min(ForkJoinPool.getCommonPoolParallelism() * 4L,
+				points / MIN_POINTS_PER_BAND));
+		ForkJoinPool.commonPool().invoke(new Band(0, height, Math.max(1, (height + bands - 1) / bands)));
+	}
+
+	private int getHeight() {
+		return shrinkMode == null ? dataHeight : imageData.height;
+	}
+
+	/**
+	 * Paints the image rows from to to - 1.
+	 */
+	void paintRows(int from, int to) {
+		int[] pixels = colorBytes == null ? new int[imageData.width] : null;
+		if (shrinkMode == null) {
+			double[] row = new double[dataWidth];
+			for (int y = from; y < to; y++) {
+				dataArray.get(y * dataWidth, row, 0, dataWidth);
+				writeRow(y, row, dataWidth, pixels);
+			}
+		} else if (shrinkMode == ShrinkMode.NEAREST_NEIGHBOR) {
+			paintNearest(from, to, pixels);
+		} else {
+			paintBinned(from, to, pixels);
+		}
+	}
+
+	private void paintNearest(int from, int to, int[] pixels) {
+		int width = imageData.width;
+		int height = imageData.height;
+		// same sampling as the former nearest neighbor scaling
+		int xRatio = ((dataWidth << 16) / width) + 1;
+		int yRatio = ((dataHeight << 16) / height) + 1;
+		int[] columns = new int[width];
+		for (int x = 0; x < width; x++)
+			columns[x] = (x * xRatio) >> 16;
+		double[] row = new double[width];
+		for (int y = from; y < to; y++) {
+			int rowStart = ((y * yRatio) >> 16) * dataWidth;
+			for (int x = 0; x < width; x++)
+				row[x] = dataArray.get(rowStart + columns[x]);
+			writeRow(y, row, width, pixels);
+		}
+	}
+
+	private void paintBinned(int from, int to, int[] pixels) {
+		int width = imageData.width;
+		int[] rowStart = getBinStarts(dataHeight, imageData.height);
+		double[] data = new double[dataWidth];
+		double[] bins = new double[width];
+		for (int y = from; y < to; y++) {
+			int firstRow = rowStart[y];
+			int endRow = Math.max(firstRow + 1, rowStart[y + 1]);
+			for (int dataY = firstRow; dataY < endRow; dataY++) {
+				dataArray.get(dataY * dataWidth, data, 0, dataWidth);
+				reduceRow(data, bins, dataY == firstRow);
+			}
+			if (shrinkMode == ShrinkMode.AVERAGE) {
+				for (int x = 0; x < width; x++) {
+					int columns = Math.max(1, columnStart[x + 1] - columnStart[x]);
+					bins[x] /= (double) columns * (endRow - firstRow);
+				}
+			}
+			writeRow(y, bins, width, pixels);
+		}
+	}
+
+	/**
+	 * Reduces a data row into the bins of an image row.
+	 *
+	 * @param first
+	 *            true if this is the first data row of the bins
+	 */
+	private void reduceRow(double[] data, double[] bins, boolean first) {
+		int width = bins.length;
+		for (int x = 0; x < width; x++) {
+			int start = columnStart[x];
+			int end = Math.max(start + 1, columnStart[x + 1]);
+			double value = data[start];
+			switch (shrinkMode) {
+			case MINIMUM:
+				for (int i = start + 1; i < end; i++)
+					value = Math.min(value, data[i]);
+				bins[x] = first ? value : Math.min(bins[x], value);
+				break;
+			case MAXIMUM:
+				for (int i = start + 1; i < end; i++)
+					value = Math.max(value, data[i]);
+				bins[x] = first ? value : Math.max(bins[x], value);
+				break;
+			default:
+				for (int i = start + 1; i < end; i++)
+					value += data[i];
+				bins[x] = first ? value : bins[x] + value;
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Writes the colors of the first width values to an image row.
+	 *
+	 * @param pixels
+	 *            a buffer for the pixels of the row, null for 24 bit images
+	 */
+	private void writeRow(int y, double[] values, int width, int[] pixels) {
+		if (pixels != null) {
+			for (int x = 0; x < width; x++)
+				pixels[x] = pixelLookupTable[getColorIndex(values[x])];
+			imageData.setPixels(0, y, width, pixels, 0);
+			return;
+		}
+		byte[] bytes = imageData.data;
+		int offset = y * imageData.bytesPerLine;
+		for (int x = 0; x < width; x++) {
+			int index = getColorIndex(values[x]) * 3;
+			bytes[offset++] = colorBytes[index];
+			bytes[offset++] = colorBytes[index + 1];
+			bytes[offset++] = colorBytes[index + 2];
+		}
+	}
+
+	private int getColorIndex(double value) {
+		// NaN is mapped to 0, as by the cast of the former division
+		int index = (int) ((value - min) * scale);
+		if (index < 0)
+			return 0;
+		return index > 255 ? 255 : index;
+	}
+
+	private class Band extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int from;
+		private final int to;
+		private final int rowsPerBand;
+
+		Band(int from, int to, int rowsPerBand) {
+			this.from = from;
+			this.to = to;
+			this.rowsPerBand = rowsPerBand;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= rowsPerBand) {
+				paintRows(from, to);
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new Band(from, middle, rowsPerBand), new Band(middle, to, rowsPerBand));
+		}
+	}
+}
@@ -36,4 +36,9 @@ public class DoubleArrayWrapper implements IPrimaryArrayWrapper {
 		return data.length;
 	}
 
+	@Override
+	public void get(int i, double[] values, int offset, int length) {
+		System.arraycopy(data, i, values, offset, length);
+	}
+
 }
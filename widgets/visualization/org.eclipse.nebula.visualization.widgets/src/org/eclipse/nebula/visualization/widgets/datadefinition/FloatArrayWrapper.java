@@ -36,4 +36,10 @@ public class FloatArrayWrapper implements IPrimaryArrayWrapper {
 		return data.length;
 	}
 
+	@Override
+	public void get(int i, double[] values, int offset, int length) {
+		for (int k = 0; k < length; k++)
+			values[offset + k] = data[i + k];
+	}
+
 }
@@ -12,6 +12,10 @@ package org.eclipse.nebula.visualization.widgets.datadefinition;
 
 /**A wrapper that wraps primary data types array.
  *  This allows clients to accept all primary data types array without converting the array type.
+ *  <p>
+ *  {@link ColorMap#drawImage(IPrimaryArrayWrapper, int, int, double, double, org.eclipse.swt.graphics.ImageData, boolean)}
+ *  reads large arrays from several threads of the common fork join pool at the same time, so implementations
+ *  must allow concurrent reads and must not change the data while an image is drawn.
  * @author Xihui Chen
  *
  */
@@ -27,6 +31,17 @@ public interface IPrimaryArrayWrapper {
 	 * @return size of the array.
 	 */
 	public int getSize();
-	
+
+	/**Get consecutive array element values. Wrappers should override this
+	 * with a loop over their array, as it is called for every row of an image.
+	 * @param i index of the first element
+	 * @param values the array to copy the values to
+	 * @param offset index in values of the first value
+	 * @param length number of values to copy
+	 */
+	public default void get(int i, double[] values, int offset, int length) {
+		for (int k = 0; k < length; k++)
+			values[offset + k] = get(i + k);
+	}
 	
 }
@@ -165,12 +165,62 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 			}
 		}
 
+		@Override
+		public void get(int i, double[] values, int offset, int length) {
+			array.get(i, values, offset, length);
+			for (int k = offset; k < offset + length; k++) {
+				if (values[k] < 0) {
+					values[k] += this.offset;
+				}
+			}
+		}
+
 		@Override
 		public int getSize() {
 			return array.getSize();
 		}
 	}
 
+	/**
+	 * A region of an array of data, without copying it.
+	 */
+	private static class CroppedArrayWrapper implements IPrimaryArrayWrapper {
+
+		private final IPrimaryArrayWrapper array;
+		private final int arrayWidth, left, top, width, height;
+
+		CroppedArrayWrapper(IPrimaryArrayWrapper array, int arrayWidth, int left, int top, int width, int height) {
+			this.array = array;
+			this.arrayWidth = arrayWidth;
+			this.left = left;
+			this.top = top;
+			this.width = width;
+			this.height = height;
+		}
+
+		@Override
+		public double get(int i) {
+			return array.get((top + i / width) * arrayWidth + left + i % width);
+		}
+
+		@Override
+		public void get(int i, double[] values, int offset, int length) {
+			while (length > 0) {
+				int x = i % width;
+				int count = Math.min(length, width - x);
+				array.get((top + i / width) * arrayWidth + left + x, values, offset, count);
+				i += count;
+				offset += count;
+				length -= count;
+			}
+		}
+
+		@Override
+		public int getSize() {
+			return width * height;
+		}
+	}
+
 	class SinglePixelProfileCrossHair extends Figure {
 		/**
 		 * Center coordinates 
@@ -360,10 +410,13 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 			if((left != 0 || right != 0 || top != 0 || bottom != 0) &&
 					(dataWidth - left - right) * (dataHeight - top-bottom) >0){
 				int i=0;
+				if (!inRGBMode)
+					return new CroppedArrayWrapper(dataArray, dataWidth, left, top,
+							dataWidth - left - right, dataHeight - top - bottom);
 				if((dataWidth - left - right) * (dataHeight - top - bottom) > MAX_ARRAY_SIZE)
 					return dataArray;
 				double[] result = null;
-				if (inRGBMode) {
+				{
 					result = new double[(dataWidth - left - right)
 							* (dataHeight - top - bottom)*3];
 					for (int y = top; y < (dataHeight - bottom); y++) {
@@ -375,14 +428,6 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 							i+=3;
 						}
 					}
-				} else {
-					result = new double[(dataWidth - left - right)
-							* (dataHeight - top - bottom)];
-					for (int y = top; y < (dataHeight - bottom); y++) {
-						for (int x = left; x < (dataWidth - right); x++) {
-							result[i++] = dataArray.get(y * dataWidth + x);
-						}
-					}
 				}				
 				return new DoubleArrayWrapper(result);
 			}else
@@ -463,24 +508,23 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 //				for(ROIFigure roiFigure : roiMap.values()){
 //					roiFigure.fireROIUpdated();
 //				}
-				boolean shrink= false;
-				if(clientArea.width*clientArea.height < croppedDataHeight * croppedDataWidth){
-					shrink = true;
-				}
-				
-				
-				if(shrink){
-					if(bufferedImageData == null || bufferedImageData.width != clientArea.width 
-							|| bufferedImageData.height !=clientArea.height){
-						bufferedImageData = new ImageData(clientArea.width, clientArea.height, 24, colorMap.getPalette());
-					}					
-				}else if(bufferedImageData == null || bufferedImageData.width != croppedDataWidth
-						|| bufferedImageData.height !=croppedDataHeight)
-					bufferedImageData = new ImageData(croppedDataWidth, croppedDataHeight, 24, colorMap.getPalette());
-
-					
 				ImageData imageData = null;
-				if(inRGBMode)
+				if(inRGBMode){
+					boolean shrink= false;
+					if(clientArea.width*clientArea.height < croppedDataHeight * croppedDataWidth){
+						shrink = true;
+					}
+					
+					
+					if(shrink){
+						if(bufferedImageData == null || bufferedImageData.width != clientArea.width 
+								|| bufferedImageData.height !=clientArea.height){
+							bufferedImageData = new ImageData(clientArea.width, clientArea.height, 24, colorMap.getPalette());
+						}					
+					}else if(bufferedImageData == null || bufferedImageData.width != croppedDataWidth
+							|| bufferedImageData.height !=croppedDataHeight)
+						bufferedImageData = new ImageData(croppedDataWidth, croppedDataHeight, 24, colorMap.getPalette());
+	
 					try {
 						imageData = drawRGBImage(croppedDataArray,
 								croppedDataWidth, croppedDataHeight,
@@ -490,17 +534,24 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 					"\nPlease check if the data or color depth is correct.",
 								clientArea.getLocation());
 					}
-				else
-					imageData = colorMap.drawImage(croppedDataArray,
-								croppedDataWidth, croppedDataHeight,
-								max, min, bufferedImageData, shrink);		
+					if(imageData != null)
+						bufferedImageSource.setBounds(0, 0, imageData.width, imageData.height);
+				}else{
+					//only the tiles of changed parts of the frame are mapped again
+					if(frameDirty){
+						frameDirty = false;
+						imageTiles.setFrame(dataArray, unsignedBits, dataWidth, dataHeight);
+					}
+					imageData = imageTiles.compose(cropLeft, cropTop, croppedDataWidth, croppedDataHeight,
+							clientArea.width, clientArea.height, colorMap, max, min, bufferedImageSource);
+				}
 
 				if(imageData == null)
 					return;
 				bufferedImage = new Image(Display.getCurrent(), imageData);
 				
 			}
-			graphics.drawImage(bufferedImage, new Rectangle(bufferedImage.getBounds()), clientArea);		
+			graphics.drawImage(bufferedImage, bufferedImageSource, clientArea);		
 				
 			if(armed && end != null && start != null){
 				graphics.setLineStyle(SWTConstants.LINE_DOT);
@@ -689,6 +740,9 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 	private boolean dataDirty;  //true if the image need to be redrawn
 	private ImageData bufferedImageData;
 	private Image bufferedImage; //the buffered image 
+	private final Rectangle bufferedImageSource = new Rectangle(); //the part of the buffered image to draw
+	private final IntensityImageTiles imageTiles = new IntensityImageTiles();
+	private boolean frameDirty = true; //true if the data array or its size changed
 	private List<IProfileDataChangeLisenter> profileListeners;
 	private List<IPixelInfoProvider> pixelInfoProviders;
 	private List<ICroppedDataSizeListener> croppedDataSizeListeners;
@@ -859,6 +913,7 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 			bufferedImage.dispose();
 			bufferedImage = null;
 		}
+		imageTiles.clear();
 	}
 	
 	/**Calculate the image data from source RGB data array [RGBRGBRGB...].
@@ -1380,6 +1435,7 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 		dataArray = dataWrapper;
 		croppedDataArray = null;
 		dataDirty = true;
+		frameDirty = true;
 		graphArea.repaint();
 	}
 
@@ -1394,6 +1450,7 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 		this.dataHeight = dataHeight;
 		updateCroppedDataSize();
 		dataDirty = true;
+		frameDirty = true;
 		repaint();
 	}
 
@@ -1409,6 +1466,7 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 		this.dataWidth = dataWidth;
 		updateCroppedDataSize();
 		dataDirty = true;
+		frameDirty = true;
 		repaint();
 	}
 
@@ -1430,6 +1488,7 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 		
 		this.inRGBMode = inRGBMode;
 		dataDirty = true;
+		frameDirty = true;
 		repaint();
 	}
 	
@@ -1476,6 +1535,7 @@ public class IntensityGraphFigure extends Figure implements Introspectable {
 		if (bits > 1023)
 			throw new IllegalArgumentException("The value given is higher than 1023!");
 		this.unsignedBits = bits;
+		frameDirty = true;
 	}
 
 
@@ -0,0 +1,545 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * Contributors:
+ * 		Eclipse Nebula contributors - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.widgets.figures;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.nebula.visualization.widgets.datadefinition.ByteArrayWrapper;
+import org.eclipse.nebula.visualization.widgets.datadefinition.ColorMap;
+import org.eclipse.nebula.visualization.widgets.datadefinition.ColorMap.ShrinkMode;
+import org.eclipse.nebula.visualization.widgets.datadefinition.DoubleArrayWrapper;
+import org.eclipse.nebula.visualization.widgets.datadefinition.FloatArrayWrapper;
+import org.eclipse.nebula.visualization.widgets.datadefinition.IPrimaryArrayWrapper;
+import org.eclipse.nebula.visualization.widgets.datadefinition.IntArrayWrapper;
+import org.eclipse.nebula.visualization.widgets.datadefinition.ShortArrayWrapper;
+import org.eclipse.swt.graphics.ImageData;
+
+/**
+ * A resolution pyramid of the current frame of an intensity graph and a cache
+ * of colour mapped tiles of its levels.
+ * <p>
+ * Level 0 is a copy of the frame in the primitive type of the array wrapper it
+ * was taken from, so a frame of shorts takes a quarter of the memory of
+ * doubles. Each further level halves the resolution of the one below by
+ * reducing blocks of 2x2 points as set by the shrink mode of the color map.
+ * The levels are built when first needed. An image of a cropped region is
+ * composed from the tiles of the coarsest level that still has at least the
+ * resolution of the screen, so zooming out reads a fraction of the data, and
+ * panning or zooming back only maps tiles not seen before.
+ * <p>
+ * A new frame is compared with the copy of the previous one while it is
+ * copied, in a single pass. Only the cached tiles covering a changed tile, on
+ * every level, are dropped, and only their regions of the pyramid are reduced
+ * again. A change of the color map or of the range of the data drops all
+ * tiles.
+ */
+class IntensityImageTiles {
+
+	/** Width and height of a tile, in points of its level. */
+	static final int TILE_SIZE = 256;
+
+	/** Cached tiles, 192 KiB each. */
+	static final int MAX_TILES = 256;
+
+	private static final int MAX_LEVEL = 16;
+
+	private static class Level {
+		final int width;
+		final int height;
+		final int tilesX;
+		final IPrimaryArrayWrapper values;
+		/** the values of a reduced level, null for level 0 */
+		final double[] data;
+		/** tiles whose data must be reduced again from the level below */
+		final boolean[] dirty;
+
+		Level(int width, int height, Frame frame) {
+			this.width = width;
+			this.height = height;
+			tilesX = (width + TILE_SIZE - 1) / TILE_SIZE;
+			if (frame == null) {
+				data = new double[width * height];
+				values = new DoubleArrayWrapper(data);
+			} else {
+				data = null;
+				values = frame;
+			}
+			dirty = new boolean[tilesX * ((height + TILE_SIZE - 1) / TILE_SIZE)];
+		}
+	}
+
+	/**
+	 * The copy of a frame, in the primitive type of its array.
+	 */
+	private abstract static class Frame implements IPrimaryArrayWrapper {
+		/** added to negative values to read them as unsigned, 0 if signed */
+		final double unsignedOffset;
+
+		Frame(int unsignedBits) {
+			unsignedOffset = unsignedBits > 0 ? Math.pow(2, unsignedBits) : 0;
+		}
+
+		/**
+		 * Copies values to the frame.
+		 *
+		 * @param values
+		 *            the values as read from the array of the frame
+		 * @param from
+		 *            the first value to copy
+		 * @param to
+		 *            the end of the values to copy
+		 * @param index
+		 *            the index in the frame of the first value
+		 * @return true if any of the values differed
+		 */
+		abstract boolean copy(double[] values, int from, int to, int index);
+
+		abstract double getSigned(int i);
+
+		@Override
+		public double get(int i) {
+			double value = getSigned(i);
+			return value < 0 ? value + unsignedOffset : value;
+		}
+
+		static Frame create(IPrimaryArrayWrapper array, int unsignedBits, int size) {
+			if (array instanceof ByteArrayWrapper)
+				return new ByteFrame(unsignedBits, size);
+			if (array instanceof ShortArrayWrapper)
+				return new ShortFrame(unsignedBits, size);
+			if (array instanceof IntArrayWrapper)
+				return new IntFrame(unsignedBits, size);
+			if (array instanceof FloatArrayWrapper)
+				return new FloatFrame(unsignedBits, size);
+			// long values are read as doubles as well
+			return new DoubleFrame(unsignedBits, size);
+		}
+	}
+
+	private static class ByteFrame extends Frame {
+		private final byte[] data;
+
+		ByteFrame(int unsignedBits, int size) {
+			super(unsignedBits);
+			data = new byte[size];
+		}
+
+		@Override
+		boolean copy(double[] values, int from, int to, int index) {
+			boolean changed = false;
+			for (int i = from; i < to; i++, index++) {
+				byte value = (byte) values[i];
+				if (data[index] != value) {
+					data[index] = value;
+					changed = true;
+				}
+			}
+			return changed;
+		}
+
+		@Override
+		double getSigned(int i) {
+			return data[i];
+		}
+
+		@Override
+		public int getSize() {
+			return data.length;
+		}
+	}
+
+	private static class ShortFrame extends Frame {
+		private final short[] data;
+
+		ShortFrame(int unsignedBits, int size) {
+			super(unsignedBits);
+			data = new short[size];
+		}
+
+		@Override
+		boolean copy(double[] values, int from, int to, int index) {
+			boolean changed = false;
+			for (int i = from; i < to; i++, index++) {
+				short value = (short) values[i];
+				if (data[index] != value) {
+					data[index] = value;
+					changed = true;
+				}
+			}
+			return changed;
+		}
+
+		@Override
+		double getSigned(int i) {
+			return data[i];
+		}
+
+		@Override
+		public int getSize() {
+			return data.length;
+		}
+	}
+
+	private static class IntFrame extends Frame {
+		private final int[] data;
+
+		IntFrame(int unsignedBits, int size) {
+			super(unsignedBits);
+			data = new int[size];
+		}
+
+		@Override
+		boolean copy(double[] values, int from, int to, int index) {
+			boolean changed = false;
+			for (int i = from; i < to; i++, index++) {
+				int value = (int) values[i];
+				if (data[index] != value) {
+					data[index] = value;
+					changed = true;
+				}
+			}
+			return changed;
+		}
+
+		@Override
+		double getSigned(int i) {
+			return data[i];
+		}
+
+		@Override
+		public int getSize() {
+			return data.length;
+		}
+	}
+
+	private static class FloatFrame extends Frame {
+		private final float[] data;
+
+		FloatFrame(int unsignedBits, int size) {
+			super(unsignedBits);
+			data = new float[size];
+		}
+
+		@Override
+		boolean copy(double[] values, int from, int to, int index) {
+			boolean changed = false;
+			for (int i = from; i < to; i++, index++) {
+				float value = (float) values[i];
+				if (Float.floatToIntBits(data[index]) != Float.floatToIntBits(value)) {
+					data[index] = value;
+					changed = true;
+				}
+			}
+			return changed;
+		}
+
+		@Override
+		double getSigned(int i) {
+			return data[i];
+		}
+
+		@Override
+		public int getSize() {
+			return data.length;
+		}
+	}
+
+	private static class DoubleFrame extends Frame {
+		private final double[] data;
+
+		DoubleFrame(int unsignedBits, int size) {
+			super(unsignedBits);
+			data = new double[size];
+		}
+
+		@Override
+		boolean copy(double[] values, int from, int to, int index) {
+			boolean changed = false;
+			for (int i = from; i < to; i++, index++) {
+				double value = values[i];
+				// NaN equals NaN
+				if (Double.doubleToLongBits(data[index]) != Double.doubleToLongBits(value)) {
+					data[index] = value;
+					changed = true;
+				}
+			}
+			return changed;
+		}
+
+		@Override
+		double getSigned(int i) {
+			return data[i];
+		}
+
+		@Override
+		public int getSize() {
+			return data.length;
+		}
+	}
+
+	private final List<Level> levels = new ArrayList<Level>();
+
+	private final Map<Long, ImageData> tiles = new LinkedHashMap<Long, ImageData>(64, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, ImageData> eldest) {
+			return size() > MAX_TILES;
+		}
+	};
+
+	private ShrinkMode pyramidMode;
+	private List<Object> colorState;
+	private ImageData image;
+	private double[] tileData;
+	private int renderedTiles;
+
+	/**
+	 * Takes a new frame. Tiles whose data did not change are kept.
+	 *
+	 * @param data
+	 *            the frame, at least width * height points
+	 * @param unsignedBits
+	 *            the bits of the unsigned values in data, 0 if they are
+	 *            signed
+	 */
+	void setFrame(IPrimaryArrayWrapper data, int unsignedBits, int width, int height) {
+		Level base = levels.isEmpty() ? null : levels.get(0);
+		if (base == null || base.width != width || base.height != height
+				|| !isFrameOf((Frame) base.values, data, unsignedBits)) {
+			clear();
+			base = new Level(width, height, Frame.create(data, unsignedBits, width * height));
+			levels.add(base);
+		}
+		Frame frame = (Frame) base.values;
+		boolean[] changed = new boolean[base.dirty.length];
+		double[] row = new double[width];
+		for (int y = 0; y < height; y++) {
+			data.get(y * width, row, 0, width);
+			int rowStart = y * width;
+			int tileRow = (y / TILE_SIZE) * base.tilesX;
+			for (int tx = 0; tx < base.tilesX; tx++) {
+				int from = tx * TILE_SIZE;
+				int to = Math.min(width, from + TILE_SIZE);
+				if (frame.copy(row, from, to, rowStart + from))
+					changed[tileRow + tx] = true;
+			}
+		}
+		for (int i = 0; i < changed.length; i++) {
+			if (changed[i])
+				invalidate(i % base.tilesX, i / base.tilesX);
+		}
+	}
+
+	private static boolean isFrameOf(Frame frame, IPrimaryArrayWrapper data, int unsignedBits) {
+		Frame other = Frame.create(data, unsignedBits, 0);
+		return frame.getClass() == other.getClass() && frame.unsignedOffset == other.unsignedOffset;
+	}
+
+	/**
+	 * Drops the tiles covering a tile of level 0 on every level.
+	 */
+	private void invalidate(int tx, int ty) {
+		for (int level = 0; level < levels.size(); level++) {
+			Level l = levels.get(level);
+			int x = tx >> level;
+			int y = ty >> level;
+			tiles.remove(key(level, x, y));
+			if (level > 0)
+				l.dirty[y * l.tilesX + x] = true;
+		}
+	}
+
+	/**
+	 * Composes the image of a region of the frame for a screen area. The
+	 * image has the resolution of the level the region is taken from; the
+	 * caller scales the source rectangle to the screen area.
+	 *
+	 * @param left
+	 *            first column of the region
+	 * @param top
+	 *            first row of the region
+	 * @param width
+	 *            columns of the region
+	 * @param height
+	 *            rows of the region
+	 * @param targetWidth
+	 *            width of the screen area
+	 * @param targetHeight
+	 *            height of the screen area
+	 * @param source
+	 *            set to the region in the image
+	 * @return the image, null if there is no frame or the region is empty
+	 */
+	ImageData compose(int left, int top, int width, int height, int targetWidth, int targetHeight,
+			ColorMap colorMap, double max, double min, Rectangle source) {
+		if (levels.isEmpty() || width < 1 || height < 1)
+			return null;
+		validate(colorMap, max, min);
+		int level = 0;
+		while (level < MAX_LEVEL && (width >> (level + 1)) >= Math.max(1, targetWidth)
+				&& (height >> (level + 1)) >= Math.max(1, targetHeight))
+			level++;
+		Level l = getLevel(level);
+		int scale = 1 << level;
+		int x0 = left >> level;
+		int y0 = top >> level;
+		int x1 = Math.min(l.width, (left + width + scale - 1) >> level);
+		int y1 = Math.min(l.height, (top + height + scale - 1) >> level);
+		if (image == null || image.width != x1 - x0 || image.height != y1 - y0)
+			image = new ImageData(x1 - x0, y1 - y0, 24, colorMap.getPalette());
+		for (int ty = y0 / TILE_SIZE; ty <= (y1 - 1) / TILE_SIZE; ty++) {
+			for (int tx = x0 / TILE_SIZE; tx <= (x1 - 1) / TILE_SIZE; tx++) {
+				ImageData tile = getTile(level, tx, ty, colorMap, max, min);
+				int tileX = tx * TILE_SIZE;
+				int tileY = ty * TILE_SIZE;
+				int from = Math.max(x0, tileX);
+				int to = Math.min(x1, tileX + tile.width);
+				for (int y = Math.max(y0, tileY); y < Math.min(y1, tileY + tile.height); y++) {
+					System.arraycopy(tile.data, (y - tileY) * tile.bytesPerLine + (from - tileX) * 3, image.data,
+							(y - y0) * image.bytesPerLine + (from - x0) * 3, (to - from) * 3);
+				}
+			}
+		}
+		int sx = (int) Math.round((left - ((double) x0 * scale)) / scale);
+		int sy = (int) Math.round((top - ((double) y0 * scale)) / scale);
+		source.setBounds(sx, sy, Math.max(1, Math.min(image.width - sx, (int) Math.round((double) width / scale))),
+				Math.max(1, Math.min(image.height - sy, (int) Math.round((double) height / scale))));
+		return image;
+	}
+
+	/**
+	 * Drops the tiles if they were mapped with other colors, and the levels
+	 * above 0 if they were reduced in another way.
+	 */
+	private void validate(ColorMap colorMap, double max, double min) {
+		ShrinkMode mode = colorMap.getShrinkMode();
+		if (mode != pyramidMode) {
+			while (levels.size() > 1)
+				levels.remove(levels.size() - 1);
+			tiles.clear();
+			pyramidMode = mode;
+		}
+		// the lookup table is created again whenever the colors change
+		List<Object> state = Arrays.<Object> asList(colorMap, colorMap.getColorsLookupTable(),
+				colorMap.isAutoScale(), colorMap.isInterpolate(), max, min);
+		if (!state.equals(colorState)) {
+			tiles.clear();
+			colorState = state;
+		}
+	}
+
+	private Level getLevel(int level) {
+		while (levels.size() <= level) {
+			Level below = levels.get(levels.size() - 1);
+			Level l = new Level((below.width + 1) / 2, (below.height + 1) / 2, null);
+			Arrays.fill(l.dirty, true);
+			levels.add(l);
+		}
+		for (int i = 1; i <= level; i++) {
+			Level l = levels.get(i);
+			for (int t = 0; t < l.dirty.length; t++) {
+				if (l.dirty[t]) {
+					reduce(levels.get(i - 1), l, t % l.tilesX, t / l.tilesX);
+					l.dirty[t] = false;
+				}
+			}
+		}
+		return levels.get(level);
+	}
+
+	/**
+	 * Computes a tile of a level from the 2x2 blocks of the level below. The
+	 * blocks at an odd right or bottom edge have fewer points.
+	 */
+	private void reduce(Level below, Level l, int tx, int ty) {
+		int xEnd = Math.min(l.width, (tx + 1) * TILE_SIZE);
+		int yEnd = Math.min(l.height, (ty + 1) * TILE_SIZE);
+		for (int y = ty * TILE_SIZE; y < yEnd; y++) {
+			int row0 = 2 * y * below.width;
+			int row1 = 2 * y + 1 < below.height ? row0 + below.width : row0;
+			for (int x = tx * TILE_SIZE; x < xEnd; x++) {
+				int x0 = 2 * x;
+				int x1 = x0 + 1 < below.width ? x0 + 1 : x0;
+				double a = below.values.get(row0 + x0);
+				double b = below.values.get(row0 + x1);
+				double c = below.values.get(row1 + x0);
+				double d = below.values.get(row1 + x1);
+				double value;
+				switch (pyramidMode) {
+				case NEAREST_NEIGHBOR:
+					value = a;
+					break;
+				case MINIMUM:
+					value = Math.min(Math.min(a, b), Math.min(c, d));
+					break;
+				case MAXIMUM:
+					value = Math.max(Math.max(a, b), Math.max(c, d));
+					break;
+				default:
+					// duplicated edge points leave the average unchanged
+					value = (a + b + c + d) / 4;
+					break;
+				}
+				l.data[y * l.width + x] = value;
+			}
+		}
+	}
+
+	private ImageData getTile(int level, int tx, int ty, ColorMap colorMap, double max, double min) {
+		Long key = key(level, tx, ty);
+		ImageData tile = tiles.get(key);
+		if (tile == null) {
+			Level l = levels.get(level);
+			int x0 = tx * TILE_SIZE;
+			int y0 = ty * TILE_SIZE;
+			int w = Math.min(TILE_SIZE, l.width - x0);
+			int h = Math.min(TILE_SIZE, l.height - y0);
+			if (tileData == null)
+				tileData = new double[TILE_SIZE * TILE_SIZE];
+			for (int y = 0; y < h; y++)
+				l.values.get((y0 + y) * l.width + x0, tileData, y * w, w);
+			tile = colorMap.drawImage(new DoubleArrayWrapper(tileData), w, h, max, min,
+					new ImageData(w, h, 24, colorMap.getPalette()), false);
+			tiles.put(key, tile);
+			renderedTiles++;
+		}
+		return tile;
+	}
+
+	private static Long key(int level, int tx, int ty) {
+		return ((long) level << 56) | ((long) ty << 28) | tx;
+	}
+
+	/**
+	 * @return the number of tiles colour mapped so far
+	 */
+	int getRenderedTiles() {
+		return renderedTiles;
+	}
+
+	/**
+	 * Drops the frame, the pyramid and the tiles.
+	 */
+	void clear() {
+		levels.clear();
+		tiles.clear();
+		image = null;
+		colorState = null;
+	}
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.dataprovider;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Compares the sustained ingest rate of {@link CircularBufferDataProvider} and
+ * {@link PrimitiveCircularBufferDataProvider} while a reader thread repeatedly
+ * walks all samples under the provider lock, as a trace does when it paints.
+ * <p>
+ * Run as a Java application, optionally with the window size and the batch
+ * size as arguments. Each provider gets warm-up rounds before the measured
+ * rounds; the rates and the garbage collections during the measured rounds
+ * are printed.
+ */
+public class DataProviderIngestBenchmark {
+
+	private static final int WARMUP_ROUNDS = 3;
+	private static final int ROUNDS = 5;
+	private static final long ROUND_NANOS = 1000000000L;
+
+	private interface Producer {
+		void append(double[] x, double[] y, int length);
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		final int window = args.length > 0 ? Integer.parseInt(args[0]) : 10000000;
+		final int batch = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+
+		final CircularBufferDataProvider circular = new CircularBufferDataProvider(true);
+		circular.setBufferSize(window);
+		run("CircularBufferDataProvider", circular, (x, y, length) -> {
+			for (int i = 0; i < length; i++) {
+				circular.addSample(new Sample(x[i], y[i]));
+			}
+		}, null, batch);
+
+		final PrimitiveCircularBufferDataProvider primitive = new PrimitiveCircularBufferDataProvider(true, window);
+		run("PrimitiveCircularBufferDataProvider", primitive, (x, y, length) -> primitive.append(x, y, 0, length),
+				primitive::update, batch);
+	}
+
+	private static void run(String name, IDataProvider provider, Producer producer, Runnable update, int batch)
+			throws InterruptedException {
+		final AtomicBoolean reading = new AtomicBoolean(true);
+		// sum of the values read, printed so the reads cannot be optimized away
+		final double[] sum = new double[1];
+		final Thread reader = new Thread(() -> {
+			double readSum = 0;
+			while (reading.get()) {
+				synchronized (provider) {
+					if (update != null)
+						update.run();
+					final int size = provider.getSize();
+					for (int i = 0; i < size; i++) {
+						readSum += provider.getSample(i).getYValue();
+					}
+				}
+			}
+			sum[0] = readSum;
+		});
+		reader.setDaemon(true);
+		reader.start();
+
+		final double[] x = new double[batch];
+		final double[] y = new double[batch];
+		long next = 0;
+		for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+			final long gcCount = getGcCount();
+			final long gcTime = getGcTime();
+			final long start = System.nanoTime();
+			long count = 0;
+			while (System.nanoTime() - start < ROUND_NANOS) {
+				for (int i = 0; i < batch; i++) {
+					x[i] = next;
+					y[i] = Math.sin(next++ * 0.001);
+				}
+				producer.append(x, y, batch);
+				count += batch;
+			}
+			final double seconds = (System.nanoTime() - start) / 1e9;
+			System.out.printf("%s %s %d: %.2f M samples/s, %d GCs, %d ms GC%n", name, //$NON-NLS-1$
+					round < WARMUP_ROUNDS ? "warm-up" : "round", round, count / seconds / 1e6, //$NON-NLS-1$ //$NON-NLS-2$
+					getGcCount() - gcCount, getGcTime() - gcTime);
+		}
+		reading.set(false);
+		reader.join();
+		System.out.printf("%s read sum %g%n", name, sum[0]); //$NON-NLS-1$
+	}
+
+	private static long getGcCount() {
+		long count = 0;
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			count += Math.max(0, gc.getCollectionCount());
+		}
+		return count;
+	}
+
+	private static long getGcTime() {
+		long time = 0;
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			time += Math.max(0, gc.getCollectionTime());
+		}
+		return time;
+	}
+}
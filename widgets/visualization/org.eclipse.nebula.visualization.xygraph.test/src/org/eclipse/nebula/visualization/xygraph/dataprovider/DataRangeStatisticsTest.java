@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.dataprovider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Random;
+
+import org.eclipse.nebula.visualization.xygraph.linearscale.Range;
+import org.junit.Test;
+
+public class DataRangeStatisticsTest {
+
+	private final Random random = new Random(42);
+
+	private Sample nextSample(int i) {
+		double y = random.nextGaussian() * 10;
+		if (i % 17 == 0)
+			y = Double.NaN;
+		return new Sample(i, y, random.nextDouble(), random.nextDouble(), 0, 0);
+	}
+
+	private static void assertRanges(AbstractDataProvider provider) {
+		for (boolean positiveOnly : new boolean[] { false, true }) {
+			assertEquals(provider.getDataRange(positiveOnly, true), provider.getXDataMinMax(positiveOnly));
+			assertEquals(provider.getDataRange(positiveOnly, false), provider.getYDataMinMax(positiveOnly));
+		}
+	}
+
+	@Test
+	public void testEmpty() {
+		CircularBufferDataProvider provider = new CircularBufferDataProvider(true);
+		assertNull(provider.getXDataMinMax());
+		assertNull(provider.getYDataMinMax(true));
+	}
+
+	@Test
+	public void testSlidingWindow() {
+		CircularBufferDataProvider provider = new CircularBufferDataProvider(true);
+		provider.setBufferSize(50);
+		for (int i = 0; i < 1000; i++) {
+			provider.addSample(nextSample(i));
+			assertRanges(provider);
+		}
+	}
+
+	@Test
+	public void testBufferSizeChange() {
+		CircularBufferDataProvider provider = new CircularBufferDataProvider(true);
+		provider.setBufferSize(100);
+		for (int i = 0; i < 150; i++) {
+			provider.addSample(nextSample(i));
+		}
+		provider.setBufferSize(30);
+		assertRanges(provider);
+		for (int i = 150; i < 200; i++) {
+			provider.addSample(nextSample(i));
+			assertRanges(provider);
+		}
+		provider.clearTrace();
+		assertNull(provider.getYDataMinMax());
+	}
+
+	@Test
+	public void testPositiveOnly() {
+		CircularBufferDataProvider provider = new CircularBufferDataProvider(true);
+		provider.addSample(new Sample(1, -5));
+		provider.addSample(new Sample(2, 0));
+		assertEquals(new Range(Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY), provider.getYDataMinMax(true));
+		provider.addSample(new Sample(3, 4));
+		provider.addSample(new Sample(4, 2));
+		assertEquals(new Range(2, 4), provider.getYDataMinMax(true));
+		assertEquals(new Range(-5, 4), provider.getYDataMinMax());
+	}
+
+	@Test
+	public void testClippingWindow() {
+		ClippedCircularBufferDataProvider provider = new ClippedCircularBufferDataProvider(true, 200, 20);
+		for (int i = 0; i < 500; i++) {
+			provider.addSample(nextSample(i));
+			assertRanges(provider);
+		}
+		provider.setClippingWindow(60);
+		assertRanges(provider);
+	}
+}
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.dataprovider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class PrimitiveCircularBufferDataProviderTest {
+
+	private static void assertWindow(PrimitiveCircularBufferDataProvider provider, int first, int count) {
+		assertEquals(count, provider.getSize());
+		for (int i = 0; i < count; i++) {
+			ISample sample = provider.getSample(i);
+			assertEquals(first + i, sample.getXValue(), 0);
+			assertEquals(2 * (first + i), sample.getYValue(), 0);
+		}
+		for (boolean positiveOnly : new boolean[] { false, true }) {
+			assertEquals(provider.getDataRange(positiveOnly, true), provider.getXDataMinMax(positiveOnly));
+			assertEquals(provider.getDataRange(positiveOnly, false), provider.getYDataMinMax(positiveOnly));
+		}
+	}
+
+	@Test
+	public void testSnapshot() {
+		PrimitiveCircularBufferDataProvider provider = new PrimitiveCircularBufferDataProvider(true, 10, 5, false);
+		provider.append(0, 0);
+		provider.append(1, 2);
+		assertEquals(0, provider.getSize());
+		assertTrue(provider.update());
+		assertWindow(provider, 0, 2);
+		provider.append(2, 4);
+		// not visible before the next update
+		assertEquals(2, provider.getSize());
+		assertTrue(provider.update());
+		assertWindow(provider, 0, 3);
+		assertEquals(false, provider.update());
+	}
+
+	@Test
+	public void testSlidingWindow() {
+		PrimitiveCircularBufferDataProvider provider = new PrimitiveCircularBufferDataProvider(true, 10, 5, false);
+		for (int i = 0; i < 100; i++) {
+			provider.append(i, 2 * i);
+			if (i % 3 == 0) {
+				provider.update();
+				assertWindow(provider, Math.max(0, i - 9), Math.min(10, i + 1));
+			}
+		}
+		assertEquals(0, provider.getOverrunCount());
+	}
+
+	@Test
+	public void testBatchAppend() {
+		PrimitiveCircularBufferDataProvider provider = new PrimitiveCircularBufferDataProvider(true, 10, 5, false);
+		double[] x = new double[40];
+		double[] y = new double[40];
+		for (int i = 0; i < x.length; i++) {
+			x[i] = i;
+			y[i] = 2 * i;
+		}
+		provider.append(x, y, 0, 7);
+		provider.update();
+		assertWindow(provider, 0, 7);
+		// wraps around the end of the arrays
+		provider.append(x, y, 7, 6);
+		provider.update();
+		assertWindow(provider, 3, 10);
+		// more than fits
+		provider.append(x, y, 13, 27);
+		provider.update();
+		assertWindow(provider, 30, 10);
+	}
+
+	@Test
+	public void testErrors() {
+		PrimitiveCircularBufferDataProvider provider = new PrimitiveCircularBufferDataProvider(false, 10, 0, true);
+		assertTrue(provider.hasErrors());
+		provider.append(1, 5, 0.5, 0.25, 2, 1);
+		provider.append(new double[] { 2 }, new double[] { 3 }, null, null, new double[] { 1 }, new double[] { 4 },
+				0, 1);
+		provider.update();
+		ISample sample = provider.getSample(0);
+		assertEquals(0.5, sample.getXPlusError(), 0);
+		assertEquals(0.25, sample.getXMinusError(), 0);
+		assertEquals(2, sample.getYPlusError(), 0);
+		assertEquals(1, sample.getYMinusError(), 0);
+		assertEquals(0, provider.getSample(1).getXPlusError(), 0);
+		assertEquals(provider.getDataRange(false, true), provider.getXDataMinMax());
+		assertEquals(provider.getDataRange(false, false), provider.getYDataMinMax());
+	}
+
+	@Test
+	public void testClear() {
+		PrimitiveCircularBufferDataProvider provider = new PrimitiveCircularBufferDataProvider(true, 10, 5, false);
+		for (int i = 0; i < 8; i++) {
+			provider.append(i, 2 * i);
+		}
+		provider.update();
+		provider.clear();
+		assertTrue(provider.update());
+		assertEquals(0, provider.getSize());
+		assertEquals(null, provider.getYDataMinMax());
+		provider.append(8, 16);
+		provider.update();
+		assertWindow(provider, 8, 1);
+	}
+
+	@Test
+	public void testOverrun() {
+		PrimitiveCircularBufferDataProvider provider = new PrimitiveCircularBufferDataProvider(true, 10, 5, false);
+		for (int i = 0; i < 10; i++) {
+			provider.append(i, 2 * i);
+		}
+		provider.update();
+		// fills the slack, the snapshot is still intact
+		for (int i = 10; i < 15; i++) {
+			provider.append(i, 2 * i);
+		}
+		assertWindow(provider, 0, 10);
+		assertEquals(0, provider.getOverrunCount());
+		// overwrites the first two samples of the snapshot
+		provider.append(15, 30);
+		provider.append(16, 32);
+		assertEquals(15, provider.getSample(0).getXValue(), 0);
+		assertEquals(1, provider.getOverrunCount());
+		provider.getSample(1);
+		provider.getSample(2);
+		assertEquals(2, provider.getOverrunCount());
+	}
+
+	@Test
+	public void testConcurrentProducer() throws InterruptedException {
+		final PrimitiveCircularBufferDataProvider provider = new PrimitiveCircularBufferDataProvider(true, 1000,
+				1000000, false);
+		Thread producer = new Thread(() -> {
+			for (int i = 0; i < 500000; i++) {
+				provider.append(i, 2 * i);
+			}
+		});
+		producer.start();
+		while (producer.isAlive()) {
+			synchronized (provider) {
+				provider.update();
+				int size = provider.getSize();
+				for (int i = 1; i < size; i++) {
+					assertEquals(provider.getSample(i - 1).getXValue() + 1, provider.getSample(i).getXValue(), 0);
+				}
+			}
+		}
+		producer.join();
+		provider.update();
+		assertWindow(provider, 499000, 1000);
+	}
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.figures;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.eclipse.nebula.visualization.xygraph.dataprovider.ISample;
+import org.eclipse.nebula.visualization.xygraph.dataprovider.Sample;
+import org.junit.Test;
+
+public class HotSampleIndexTest {
+
+	private static ISample bruteForce(ISample[] samples, int[] xs, int[] ys, int x, int y) {
+		ISample nearest = null;
+		double minD = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < samples.length; i++) {
+			double d = Math.sqrt(Math.pow(xs[i] - x, 2) + Math.pow(ys[i] - y, 2));
+			if (minD > d) {
+				minD = d;
+				nearest = samples[i];
+			}
+		}
+		return nearest;
+	}
+
+	@Test
+	public void testEmpty() {
+		HotSampleIndex index = new HotSampleIndex();
+		assertNull(index.getNearest(10, 10));
+		assertFalse(index.contains(new Sample(0, 0), 0, 0));
+	}
+
+	@Test
+	public void testNearestMatchesScan() {
+		Random random = new Random(7);
+		int n = 5000;
+		ISample[] samples = new ISample[n];
+		int[] xs = new int[n];
+		int[] ys = new int[n];
+		HotSampleIndex index = new HotSampleIndex();
+		for (int i = 0; i < n; i++) {
+			samples[i] = new Sample(i, i);
+			// dense columns with duplicate positions
+			xs[i] = 20 + random.nextInt(300);
+			ys[i] = 10 + random.nextInt(100);
+			index.add(samples[i], xs[i], ys[i]);
+		}
+		assertEquals(n, index.size());
+		for (int q = 0; q < 2000; q++) {
+			int x = random.nextInt(400) - 20;
+			int y = random.nextInt(200) - 40;
+			assertSame(bruteForce(samples, xs, ys, x, y), index.getNearest(x, y));
+		}
+	}
+
+	@Test
+	public void testSparseColumns() {
+		HotSampleIndex index = new HotSampleIndex();
+		ISample a = new Sample(1, 1);
+		ISample b = new Sample(2, 2);
+		ISample c = new Sample(3, 3);
+		index.add(a, 0, 50);
+		index.add(b, 100, 0);
+		index.add(c, 100, 100);
+		assertSame(a, index.getNearest(40, 50));
+		assertSame(b, index.getNearest(90, 40));
+		assertSame(c, index.getNearest(90, 60));
+		// equal distance, the first added wins
+		assertSame(b, index.getNearest(100, 50));
+	}
+
+	@Test
+	public void testContains() {
+		HotSampleIndex index = new HotSampleIndex();
+		ISample a = new Sample(1, 1);
+		index.add(a, 10, 20);
+		index.add(new Sample(2, 2), 10, 30);
+		assertTrue(index.contains(a, 10, 20));
+		// equal samples count as contained, as in the hot sample list
+		assertTrue(index.contains(new Sample(2, 2), 10, 30));
+		assertFalse(index.contains(new Sample(3, 3), 10, 30));
+		assertFalse(index.contains(a, 11, 20));
+		index.clear();
+		assertFalse(index.contains(a, 10, 20));
+	}
+}
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.figures;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.nebula.visualization.xygraph.dataprovider.CircularBufferDataProvider;
+import org.eclipse.nebula.visualization.xygraph.dataprovider.ISample;
+import org.eclipse.nebula.visualization.xygraph.dataprovider.Sample;
+import org.junit.Test;
+
+public class TraceDecimatorTest {
+
+	private static CircularBufferDataProvider createProvider(double[] y) {
+		CircularBufferDataProvider provider = new CircularBufferDataProvider(true);
+		provider.setBufferSize(y.length);
+		for (int i = 0; i < y.length; i++) {
+			provider.addSample(new Sample(i, y[i]));
+		}
+		return provider;
+	}
+
+	@Test
+	public void testKeepsFirstMinMaxLastPerColumn() {
+		// ten samples per pixel column
+		CircularBufferDataProvider provider = createProvider(
+				new double[] { 5, 3, 9, 1, 7, 4, 6, 2, 8, 5, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1 });
+		List<ISample> samples = TraceDecimator.decimate(provider, 0, 19, x -> (int) x / 10);
+
+		assertEquals(6, samples.size());
+		// first column: first, max (index 2), min (index 3), last
+		assertSame(provider.getSample(0), samples.get(0));
+		assertSame(provider.getSample(2), samples.get(1));
+		assertSame(provider.getSample(3), samples.get(2));
+		assertSame(provider.getSample(9), samples.get(3));
+		// second column: the extremes are the first and the last sample
+		assertSame(provider.getSample(10), samples.get(4));
+		assertSame(provider.getSample(19), samples.get(5));
+	}
+
+	@Test
+	public void testSingleSampleColumns() {
+		CircularBufferDataProvider provider = createProvider(new double[] { 1, 2, 3, 4 });
+		List<ISample> samples = TraceDecimator.decimate(provider, 0, 3, x -> (int) x);
+		assertEquals(4, samples.size());
+		for (int i = 0; i < 4; i++) {
+			assertSame(provider.getSample(i), samples.get(i));
+		}
+	}
+
+	@Test
+	public void testNaNSplitsColumn() {
+		CircularBufferDataProvider provider = createProvider(
+				new double[] { 1, 5, Double.NaN, Double.NaN, 3, 2, 4, 1 });
+		List<ISample> samples = TraceDecimator.decimate(provider, 0, 7, x -> 0);
+
+		// the gap is kept once, the samples on either side are reduced on their own
+		assertEquals(6, samples.size());
+		assertSame(provider.getSample(1), samples.get(1));
+		assertTrue(Double.isNaN(samples.get(2).getYValue()));
+		assertSame(provider.getSample(4), samples.get(3));
+		assertSame(provider.getSample(7), samples.get(5));
+	}
+
+	@Test
+	public void testSubRange() {
+		double[] y = new double[1000];
+		for (int i = 0; i < y.length; i++) {
+			y[i] = Math.sin(i / 10.0);
+		}
+		CircularBufferDataProvider provider = createProvider(y);
+		List<ISample> samples = TraceDecimator.decimate(provider, 100, 899, x -> (int) x / 100);
+
+		assertEquals(8 * 4, samples.size());
+		assertSame(provider.getSample(100), samples.get(0));
+		assertSame(provider.getSample(899), samples.get(samples.size() - 1));
+		for (int i = 1; i < samples.size(); i++) {
+			assertTrue(samples.get(i - 1).getXValue() < samples.get(i).getXValue());
+		}
+	}
+
+	@Test
+	public void testEmptyRange() {
+		CircularBufferDataProvider provider = createProvider(new double[] { 1, 2 });
+		assertTrue(TraceDecimator.decimate(provider, 1, 0, x -> (int) x).isEmpty());
+	}
+}
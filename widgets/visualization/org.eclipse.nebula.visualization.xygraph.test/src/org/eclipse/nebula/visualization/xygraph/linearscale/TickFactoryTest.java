@@ -531,4 +531,27 @@ public class TickFactoryTest {
 			Assert.assertEquals(v, nt.getPosition(), verr);
 		}
 	}
+
+	@Test
+	public void testLabelCache() {
+		TickLabelCache cache = new TickLabelCache(null);
+		int labels = 0;
+		for (int i = 0; i < 100; i++) {
+			// scrolling by a fraction of the tick step
+			double lower = 1000 + i * 0.25;
+			double upper = lower + 10;
+			List<Tick> expected = new TickFactory(TickFormatting.autoMode, null).generateTicks(lower, upper, 6,
+					true, false);
+			TickFactory tf = new TickFactory(TickFormatting.autoMode, null);
+			tf.setLabelCache(cache);
+			List<Tick> t = tf.generateTicks(lower, upper, 6, true, false);
+			Assert.assertEquals(expected.size(), t.size());
+			for (int j = 0; j < t.size(); j++) {
+				Assert.assertEquals(expected.get(j).getText(), t.get(j).getText());
+			}
+			labels += t.size();
+		}
+		// only the ticks entering the view were formatted
+		Assert.assertTrue(cache.size() < labels / 4);
+	}
 }
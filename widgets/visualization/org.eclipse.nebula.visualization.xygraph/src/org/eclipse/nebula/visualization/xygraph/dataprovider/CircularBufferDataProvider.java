@@ -17,6 +17,7 @@ package org.eclipse.nebula.visualization.xygraph.dataprovider;
 import java.util.Calendar;
 import java.util.Iterator;
 
+import org.eclipse.nebula.visualization.xygraph.linearscale.Range;
 import org.eclipse.swt.widgets.Display;
 
 /**
@@ -75,6 +76,13 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 
 	private CircularBuffer<ISample> traceData;
 
+	/**
+	 * Ranges of the samples in traceData, updated as samples are added so that
+	 * autoscaling does not have to look at all samples after each change
+	 */
+	private final DataRangeStatistics xStatistics;
+	private final DataRangeStatistics yStatistics;
+
 	private double currentXData;
 
 	private double currentYData;
@@ -111,6 +119,8 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 	public CircularBufferDataProvider(boolean chronological) {
 		super(chronological);
 		traceData = new CircularBuffer<ISample>(100);
+		xStatistics = new DataRangeStatistics(traceData.getBufferSize());
+		yStatistics = new DataRangeStatistics(traceData.getBufferSize());
 		fireUpdate = new Runnable() {
 			public void run() {
 				for (IDataProviderListener listener : listeners) {
@@ -149,7 +159,7 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 	public synchronized void addSample(ISample sample) {
 		if (traceData.size() == traceData.getBufferSize() && plotMode == PlotMode.N_STOP)
 			return;
-		traceData.add(sample);
+		append(sample);
 		fireDataChange();
 	}
 
@@ -223,7 +233,7 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 	private void addDataPoint() {
 		double newXValue;
 		if (!concatenate_data)
-			traceData.clear();
+			clearData();
 		if (chronological) {
 			if (xAxisDateEnabled) {
 				if (updateMode != UpdateMode.TRIGGER)
@@ -239,7 +249,7 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 		} else {
 			newXValue = currentXData;
 		}
-		traceData.add(new Sample(newXValue, currentYData));
+		append(new Sample(newXValue, currentYData));
 		currentXDataChanged = false;
 		currentYDataChanged = false;
 		// currentYDataTimestampChanged = false;
@@ -303,7 +313,7 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 	 */
 	private void addDataArray() {
 		if (!concatenate_data)
-			traceData.clear();
+			clearData();
 
 		if (chronological) {
 			double[] newXValueArray;
@@ -318,7 +328,7 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 				}
 			for (int i = 0; i < Math.min(traceData.getBufferSize(),
 					Math.min(newXValueArray.length, currentYDataArray.length)); i++) {
-				traceData.add(new Sample(newXValueArray[i], currentYDataArray[i]));
+				append(new Sample(newXValueArray[i], currentYDataArray[i]));
 			}
 		} else {
 			// newXValueArray = currentXDataArray;
@@ -327,7 +337,7 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 			// just ignore the tail data.
 			for (int i = 0; i < Math.min(traceData.getBufferSize(),
 					Math.min(currentXDataArray.length, currentYDataArray.length)); i++) {
-				traceData.add(new Sample(currentXDataArray[i], currentYDataArray[i]));
+				append(new Sample(currentXDataArray[i], currentYDataArray[i]));
 			}
 		}
 
@@ -341,7 +351,7 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 	 * Clear all data on in the data provider.
 	 */
 	public synchronized void clearTrace() {
-		traceData.clear();
+		clearData();
 		currentXDataArray = new double[] {};
 		currentYDataArray = new double[] {};
 		currentXDataChanged = false;
@@ -351,16 +361,75 @@ public class CircularBufferDataProvider extends AbstractDataProvider {
 		fireDataChange();
 	}
 
+	private void append(ISample sample) {
+		traceData.add(sample);
+		xStatistics.add(sample.getXValue() - sample.getXMinusError(), sample.getXValue() + sample.getXPlusError());
+		yStatistics.add(sample.getYValue() - sample.getYMinusError(), sample.getYValue() + sample.getYPlusError());
+	}
+
+	private void clearData() {
+		traceData.clear();
+		xStatistics.clear();
+		yStatistics.clear();
+	}
+
+	/**
+	 * @return number of most recent samples the data ranges cover, all
+	 *         samples by default
+	 */
+	int getStatisticsWindow() {
+		return traceData.getBufferSize();
+	}
+
+	/**
+	 * Recomputes the data ranges, needed when the samples they cover change
+	 * other than by adding samples.
+	 */
+	synchronized void resetStatistics() {
+		final int window = getStatisticsWindow();
+		xStatistics.setWindow(window);
+		yStatistics.setWindow(window);
+		for (int i = Math.max(0, traceData.size() - window); i < traceData.size(); i++) {
+			final ISample sample = traceData.getElement(i);
+			xStatistics.add(sample.getXValue() - sample.getXMinusError(), sample.getXValue() + sample.getXPlusError());
+			yStatistics.add(sample.getYValue() - sample.getYMinusError(), sample.getYValue() + sample.getYPlusError());
+		}
+	}
+
+	@Override
+	public synchronized Range getXDataMinMax(boolean positiveOnly) {
+		if (getSize() <= 0)
+			return null;
+		xDataMinMax = xStatistics.getRange(positiveOnly);
+		return xDataMinMax;
+	}
+
+	@Override
+	public synchronized Range getYDataMinMax(boolean positiveOnly) {
+		if (getSize() <= 0)
+			return null;
+		yDataMinMax = yStatistics.getRange(positiveOnly);
+		return yDataMinMax;
+	}
+
 	public Iterator<ISample> iterator() {
 		return traceData.iterator();
 	}
 
+	/**
+	 * @return the bufferSize
+	 */
+	public int getBufferSize() {
+		return traceData.getBufferSize();
+	}
+
 	/**
 	 * @param bufferSize
 	 *            the bufferSize to set
 	 */
 	public synchronized void setBufferSize(int bufferSize) {
 		traceData.setBufferSize(bufferSize, false);
+		resetStatistics();
 	}
 
 	/**
@@ -31,14 +31,23 @@ public class ClippedCircularBufferDataProvider extends CircularBufferDataProvide
 
 	public void setClippingWindow(int clippingWindow) {
 		assert clippingWindow > 0;
-		assert clippingWindow <= getSize();
+		assert clippingWindow <= getBufferSize();
 		this.clippingWindow = clippingWindow;
+		resetStatistics();
 	}
 
 	public int getClippingWindow() {
 		return clippingWindow;
 	}
 
+	@Override
+	int getStatisticsWindow() {
+		// same samples as getDataRange
+		if (clippingWindow > 0)
+			return Math.min(super.getStatisticsWindow(), clippingWindow + 1);
+		return super.getStatisticsWindow();
+	}
+
 	@Override
 	public Range getDataRange(final boolean positiveOnly, final boolean isXAxis) {
 		Range range = null;
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * Contributors:
+ * 		Eclipse Nebula contributors - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.dataprovider;
+
+import org.eclipse.nebula.visualization.xygraph.linearscale.Range;
+
+/**
+ * Range of the values of one axis over the last <code>window</code> samples
+ * added, kept up to date as samples are added instead of being computed from
+ * all samples on each request.
+ * <p>
+ * The minimum, the positive minimum (for log scale) and the maximum are each
+ * kept in a monotonic deque: a value is dropped as soon as a newer value makes
+ * it irrelevant, so the front of each deque always holds the extreme of the
+ * current window. Adding a sample costs amortized O(1) and the range is
+ * available in O(1). The ranges are the same as the ones of
+ * {@link AbstractDataProvider#getDataRange(boolean, boolean)}, NaN values are
+ * ignored.
+ */
+class DataRangeStatistics {
+
+	private final Deque min = new Deque(false);
+	private final Deque positiveMin = new Deque(false);
+	private final Deque max = new Deque(true);
+
+	private int window;
+
+	/** number of samples added since the last clear */
+	private long count;
+
+	/**
+	 * @param window
+	 *            number of most recent samples the range covers
+	 */
+	DataRangeStatistics(int window) {
+		this.window = window;
+	}
+
+	/**
+	 * Changes the number of samples the range covers and clears it.
+	 *
+	 * @param window
+	 *            number of most recent samples the range covers
+	 */
+	void setWindow(int window) {
+		this.window = window;
+		clear();
+	}
+
+	int getWindow() {
+		return window;
+	}
+
+	/**
+	 * Adds the values of a sample, the oldest sample leaves the range once it
+	 * covers more than <code>window</code> samples.
+	 *
+	 * @param lower
+	 *            value minus its error
+	 * @param upper
+	 *            value plus its error
+	 */
+	void add(double lower, double upper) {
+		final long index = count++;
+		if (!Double.isNaN(lower)) {
+			min.add(lower, index);
+			if (lower > 0)
+				positiveMin.add(lower, index);
+		}
+		if (!Double.isNaN(upper))
+			max.add(upper, index);
+
+		final long oldest = count - window;
+		min.evict(oldest);
+		positiveMin.evict(oldest);
+		max.evict(oldest);
+	}
+
+	void clear() {
+		count = 0;
+		min.clear();
+		positiveMin.clear();
+		max.clear();
+	}
+
+	/**
+	 * @param positiveOnly
+	 *            if only positive values count (for log scale mode)
+	 * @return the range of the samples in the window, null if there are none
+	 */
+	Range getRange(boolean positiveOnly) {
+		if (count == 0)
+			return null;
+		if (positiveOnly) {
+			final double lower = positiveMin.peek(Double.POSITIVE_INFINITY);
+			final double upper = Math.max(0, max.peek(0));
+			return new Range(lower, Math.max(lower, upper));
+		}
+		return new Range(min.peek(Double.POSITIVE_INFINITY), max.peek(Double.NEGATIVE_INFINITY));
+	}
+
+	/**
+	 * Values with the index of the sample they belong to, ordered so that the
+	 * front holds the extreme.
+	 */
+	private static class Deque {
+		private final boolean descending;
+		private double[] values = new double[16];
+		private long[] indices = new long[16];
+		private int head;
+		private int size;
+
+		Deque(boolean descending) {
+			this.descending = descending;
+		}
+
+		void add(double value, long index) {
+			// values that can no longer become the extreme are dropped
+			while (size > 0) {
+				final double last = values[(head + size - 1) & (values.length - 1)];
+				if (descending ? last > value : last < value)
+					break;
+				size--;
+			}
+			if (size == values.length)
+				grow();
+			final int tail = (head + size) & (values.length - 1);
+			values[tail] = value;
+			indices[tail] = index;
+			size++;
+		}
+
+		void evict(long oldest) {
+			while (size > 0 && indices[head] < oldest) {
+				head = (head + 1) & (values.length - 1);
+				size--;
+			}
+		}
+
+		double peek(double empty) {
+			return size > 0 ? values[head] : empty;
+		}
+
+		void clear() {
+			head = 0;
+			size = 0;
+		}
+
+		private void grow() {
+			final double[] newValues = new double[values.length * 2];
+			final long[] newIndices = new long[values.length * 2];
+			for (int i = 0; i < size; i++) {
+				newValues[i] = values[(head + i) & (values.length - 1)];
+				newIndices[i] = indices[(head + i) & (values.length - 1)];
+			}
+			values = newValues;
+			indices = newIndices;
+			head = 0;
+		}
+	}
+}
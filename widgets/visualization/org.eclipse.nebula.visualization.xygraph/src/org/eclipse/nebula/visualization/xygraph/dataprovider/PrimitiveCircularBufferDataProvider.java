@@ -0,0 +1,385 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * Contributors:
+ * 		Eclipse Nebula contributors - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.dataprovider;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+import org.eclipse.nebula.visualization.xygraph.linearscale.Range;
+
+/**
+ * Data provider for high rate streaming, keeping the last <code>window</code>
+ * samples in primitive arrays instead of one {@link Sample} object per point.
+ * <p>
+ * <b>Threading</b><br>
+ * Samples are appended by a single producer thread with the
+ * <code>append</code> methods, which never block and never allocate. The
+ * producer does not synchronize on the provider, so it is not held up while a
+ * trace paints. Appended samples are published with a volatile counter and
+ * become visible to the graph when {@link #update()} is called on the UI
+ * thread, typically from a timer. <code>update</code> takes a snapshot of the
+ * published samples and notifies the listeners; {@link #getSize()} and
+ * {@link #getSample(int)} refer to that snapshot until the next update, so the
+ * indices stay stable while the graph paints.
+ * <p>
+ * The arrays hold <code>slack</code> samples more than the window, so the
+ * producer can append that many samples after an update before it overwrites
+ * samples of the snapshot. If it appends more before the graph is done with
+ * the snapshot, some samples of the snapshot are read with newer values. This
+ * is counted by {@link #getOverrunCount()}, a hint to enlarge the slack or to
+ * update more often.
+ * <p>
+ * The values are kept as raw long bits in an {@link AtomicLongArray}, one
+ * sample after the other. The producer claims a slot before it writes the
+ * slot with ordered writes, and a reader reads the values with volatile reads
+ * before it checks the claimed counter. A reader that sees any value of a
+ * newer sample therefore also sees its claim, so no overwritten sample is
+ * missed by the overrun count.
+ */
+public class PrimitiveCircularBufferDataProvider extends AbstractDataProvider {
+
+	// ordered writes of the counters and values are enough for a single
+	// producer and avoid a full fence per sample
+	private static final AtomicLongFieldUpdater<PrimitiveCircularBufferDataProvider> CLAIMED = AtomicLongFieldUpdater
+			.newUpdater(PrimitiveCircularBufferDataProvider.class, "claimed"); //$NON-NLS-1$
+	private static final AtomicLongFieldUpdater<PrimitiveCircularBufferDataProvider> PUBLISHED = AtomicLongFieldUpdater
+			.newUpdater(PrimitiveCircularBufferDataProvider.class, "published"); //$NON-NLS-1$
+
+	// offsets of the values of a sample
+	private static final int X = 0;
+	private static final int Y = 1;
+	private static final int X_PLUS_ERROR = 2;
+	private static final int X_MINUS_ERROR = 3;
+	private static final int Y_PLUS_ERROR = 4;
+	private static final int Y_MINUS_ERROR = 5;
+
+	private final int window;
+	private final int capacity;
+	private final boolean errors;
+
+	/** number of values per sample */
+	private final int stride;
+
+	/** values of the samples as raw long bits */
+	private final AtomicLongArray data;
+
+	/** number of samples appended so far, only used by the producer */
+	private long written;
+
+	/** samples up to here are about to be written */
+	private volatile long claimed;
+
+	/** samples up to here are written and may be read */
+	private volatile long published;
+
+	/** samples before this were cleared */
+	private volatile long cleared;
+
+	// snapshot of the last update, guarded by the provider
+	private long start;
+	private int size;
+	private long snapshotCleared;
+
+	private final DataRangeStatistics xStatistics;
+	private final DataRangeStatistics yStatistics;
+
+	private final AtomicLong overruns = new AtomicLong();
+
+	/**
+	 * Creates a provider without error values and a slack of a quarter of the
+	 * window.
+	 *
+	 * @param chronological
+	 *            true if the data is sorted on the x axis
+	 * @param window
+	 *            number of most recent samples provided to the graph
+	 */
+	public PrimitiveCircularBufferDataProvider(boolean chronological, int window) {
+		this(chronological, window, Math.max(1024, window / 4), false);
+	}
+
+	/**
+	 * @param chronological
+	 *            true if the data is sorted on the x axis
+	 * @param window
+	 *            number of most recent samples provided to the graph
+	 * @param slack
+	 *            number of samples that can be appended after an update before
+	 *            samples of the snapshot are overwritten
+	 * @param errors
+	 *            true to store error values with the samples
+	 */
+	public PrimitiveCircularBufferDataProvider(boolean chronological, int window, int slack, boolean errors) {
+		super(chronological);
+		if (window <= 0)
+			throw new IllegalArgumentException("Window must be greater than zero.");
+		this.stride = errors ? 6 : 2;
+		if (slack < 0 || ((long) window + slack) * stride > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("Invalid slack: " + slack);
+		this.window = window;
+		this.capacity = window + slack;
+		this.errors = errors;
+		data = new AtomicLongArray(capacity * stride);
+		xStatistics = new DataRangeStatistics(window);
+		yStatistics = new DataRangeStatistics(window);
+	}
+
+	/**
+	 * Appends a sample. Must only be called by the producer thread.
+	 *
+	 * @param x
+	 *            x value
+	 * @param y
+	 *            y value
+	 */
+	public void append(double x, double y) {
+		final int slot = claim(1);
+		put(slot, X, x);
+		put(slot, Y, y);
+		if (errors) {
+			put(slot, X_PLUS_ERROR, 0);
+			put(slot, X_MINUS_ERROR, 0);
+			put(slot, Y_PLUS_ERROR, 0);
+			put(slot, Y_MINUS_ERROR, 0);
+		}
+		PUBLISHED.lazySet(this, written);
+	}
+
+	/**
+	 * Appends a sample with error values. Must only be called by the producer
+	 * thread.
+	 *
+	 * @param x
+	 *            x value
+	 * @param y
+	 *            y value
+	 * @param xPlusError
+	 * @param xMinusError
+	 * @param yPlusError
+	 * @param yMinusError
+	 * @throws IllegalStateException
+	 *             if the provider does not store error values
+	 */
+	public void append(double x, double y, double xPlusError, double xMinusError, double yPlusError,
+			double yMinusError) {
+		if (!errors)
+			throw new IllegalStateException("Provider does not store error values.");
+		final int slot = claim(1);
+		put(slot, X, x);
+		put(slot, Y, y);
+		put(slot, X_PLUS_ERROR, xPlusError);
+		put(slot, X_MINUS_ERROR, xMinusError);
+		put(slot, Y_PLUS_ERROR, yPlusError);
+		put(slot, Y_MINUS_ERROR, yMinusError);
+		PUBLISHED.lazySet(this, written);
+	}
+
+	/**
+	 * Appends a batch of samples. Must only be called by the producer thread.
+	 *
+	 * @param x
+	 *            x values
+	 * @param y
+	 *            y values
+	 * @param offset
+	 *            index of the first sample in the arrays
+	 * @param length
+	 *            number of samples
+	 */
+	public void append(double[] x, double[] y, int offset, int length) {
+		append(x, y, null, null, null, null, offset, length);
+	}
+
+	/**
+	 * Appends a batch of samples with error values. Must only be called by the
+	 * producer thread. The error arrays are ignored if the provider does not
+	 * store error values, <code>null</code> arrays count as zero errors.
+	 *
+	 * @param x
+	 *            x values
+	 * @param y
+	 *            y values
+	 * @param xPlusError
+	 * @param xMinusError
+	 * @param yPlusError
+	 * @param yMinusError
+	 * @param offset
+	 *            index of the first sample in the arrays
+	 * @param length
+	 *            number of samples
+	 */
+	public void append(double[] x, double[] y, double[] xPlusError, double[] xMinusError, double[] yPlusError,
+			double[] yMinusError, int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > x.length || offset + length > y.length)
+			throw new IndexOutOfBoundsException("offset " + offset + ", length " + length); //$NON-NLS-1$ //$NON-NLS-2$
+		if (length == 0)
+			return;
+		// only the newest samples fit
+		final int skip = Math.max(0, length - capacity);
+		final int count = length - skip;
+		final int from = offset + skip;
+
+		int slot = claim(count);
+		for (int i = from; i < from + count; i++) {
+			put(slot, X, x[i]);
+			put(slot, Y, y[i]);
+			if (errors) {
+				put(slot, X_PLUS_ERROR, value(xPlusError, i));
+				put(slot, X_MINUS_ERROR, value(xMinusError, i));
+				put(slot, Y_PLUS_ERROR, value(yPlusError, i));
+				put(slot, Y_MINUS_ERROR, value(yMinusError, i));
+			}
+			if (++slot == capacity)
+				slot = 0;
+		}
+		PUBLISHED.lazySet(this, written);
+	}
+
+	private static double value(double[] values, int index) {
+		return values == null ? 0 : values[index];
+	}
+
+	private void put(int slot, int offset, double value) {
+		data.lazySet(slot * stride + offset, Double.doubleToRawLongBits(value));
+	}
+
+	private double get(int slot, int offset) {
+		return Double.longBitsToDouble(data.get(slot * stride + offset));
+	}
+
+	/**
+	 * Announces the next samples and returns the slot of the first one.
+	 */
+	private int claim(int count) {
+		final int slot = (int) (written % capacity);
+		written += count;
+		CLAIMED.lazySet(this, written);
+		return slot;
+	}
+
+	/**
+	 * Removes all samples. Must only be called by the producer thread.
+	 */
+	public void clear() {
+		cleared = written;
+	}
+
+	/**
+	 * Makes the samples appended since the last update visible to the graph
+	 * and notifies the listeners if there are any. Must be called on the UI
+	 * thread.
+	 *
+	 * @return true if the data changed
+	 */
+	public boolean update() {
+		synchronized (this) {
+			final long end = published;
+			final long clearedAt = cleared;
+			final long newStart = Math.max(clearedAt, end - window);
+			final long oldEnd = start + size;
+			if (newStart == start && end == oldEnd && clearedAt == snapshotCleared)
+				return false;
+
+			// only the samples that are new to the window are added to the
+			// statistics
+			long from = oldEnd;
+			if (clearedAt != snapshotCleared || oldEnd < newStart) {
+				xStatistics.clear();
+				yStatistics.clear();
+				from = newStart;
+			}
+			for (long k = from; k < end; k++) {
+				final int slot = (int) (k % capacity);
+				final double x = get(slot, X);
+				final double y = get(slot, Y);
+				xStatistics.add(x - error(slot, X_MINUS_ERROR), x + error(slot, X_PLUS_ERROR));
+				yStatistics.add(y - error(slot, Y_MINUS_ERROR), y + error(slot, Y_PLUS_ERROR));
+			}
+			start = newStart;
+			size = (int) (end - newStart);
+			snapshotCleared = clearedAt;
+		}
+		fireDataChange();
+		return true;
+	}
+
+	private double error(int slot, int offset) {
+		return errors ? get(slot, offset) : 0;
+	}
+
+	/**
+	 * @return number of samples in the snapshot of the last update
+	 */
+	@Override
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * @param index
+	 *            index in the snapshot of the last update
+	 * @return a new sample with the values at the index
+	 */
+	@Override
+	public ISample getSample(int index) {
+		if (index < 0 || index >= size)
+			return null;
+		final long k = start + index;
+		final int slot = (int) (k % capacity);
+		final Sample sample = errors
+				? new Sample(get(slot, X), get(slot, Y), get(slot, Y_PLUS_ERROR), get(slot, Y_MINUS_ERROR),
+						get(slot, X_PLUS_ERROR), get(slot, X_MINUS_ERROR))
+				: new Sample(get(slot, X), get(slot, Y));
+		// checked after the values were read, see the class comment
+		if (claimed > k + capacity)
+			overruns.incrementAndGet();
+		return sample;
+	}
+
+	@Override
+	public synchronized Range getXDataMinMax(boolean positiveOnly) {
+		if (getSize() <= 0)
+			return null;
+		xDataMinMax = xStatistics.getRange(positiveOnly);
+		return xDataMinMax;
+	}
+
+	@Override
+	public synchronized Range getYDataMinMax(boolean positiveOnly) {
+		if (getSize() <= 0)
+			return null;
+		yDataMinMax = yStatistics.getRange(positiveOnly);
+		return yDataMinMax;
+	}
+
+	@Override
+	public boolean hasErrors() {
+		return errors;
+	}
+
+	/**
+	 * @return number of samples the graph provides at most
+	 */
+	public int getWindow() {
+		return window;
+	}
+
+	/**
+	 * @return number of samples read from the snapshot after the producer had
+	 *         already overwritten them
+	 */
+	public long getOverrunCount() {
+		return overruns.get();
+	}
+}
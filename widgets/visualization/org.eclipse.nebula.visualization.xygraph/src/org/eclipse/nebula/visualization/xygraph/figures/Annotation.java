@@ -723,7 +723,7 @@ public class Annotation extends Figure implements IAxisListener, IDataProviderLi
 	 * @param keepLabelPosition
 	 */
 	public void setCurrentSnappedSample(ISample currentSnappedSample, boolean keepLabelPosition) {
-		if (!trace.getHotSampleList().contains(currentSnappedSample))
+		if (!trace.isHotSample(currentSnappedSample))
 			updateToDefaultPosition();
 		else {
 			this.currentSnappedSample = currentSnappedSample;
@@ -759,7 +759,7 @@ public class Annotation extends Figure implements IAxisListener, IDataProviderLi
 		Display.getCurrent().asyncExec(new Runnable() {
 			@Override
 			public void run() {
-				if (trace.getHotSampleList().contains(currentSnappedSample)) {
+				if (trace.isHotSample(currentSnappedSample)) {
 					double oldX = xValue;
 					double oldY = yValue;
 					if (yValue != currentSnappedSample.getYValue()) { // When
@@ -967,17 +967,7 @@ public class Annotation extends Figure implements IAxisListener, IDataProviderLi
 						// xAxis.getPositionValue(me.getLocation().x, false);
 						// double tempY =
 						// yAxis.getPositionValue(me.getLocation().y, false);
-				ISample tempSample = null;
-				double minD = Double.POSITIVE_INFINITY;
-				double d;
-				for (ISample s : trace.getHotSampleList()) {
-					d = Math.sqrt(Math.pow(xAxis.getValuePosition(s.getXValue(), false) - mouseLocation.x, 2)
-							+ Math.pow(yAxis.getValuePosition(s.getYValue(), false) - mouseLocation.y, 2));
-					if (minD > d) {
-						minD = d;
-						tempSample = s;
-					}
-				}
+				ISample tempSample = trace.getNearestHotSample(mouseLocation);
 				if (tempSample != null && currentSnappedSample != tempSample)
 					setCurrentSnappedSample(tempSample, me.getState() == (SWT.BUTTON1 | SWT.CONTROL));
 				else if (tempSample == null) {
@@ -0,0 +1,269 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * Contributors:
+ * 		Eclipse Nebula contributors - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.figures;
+
+import java.util.Arrays;
+
+import org.eclipse.nebula.visualization.xygraph.dataprovider.IDataProvider;
+import org.eclipse.nebula.visualization.xygraph.dataprovider.ISample;
+import org.eclipse.nebula.visualization.xygraph.linearscale.AbstractScale.LabelSide;
+import org.eclipse.nebula.visualization.xygraph.linearscale.Range;
+
+/**
+ * Screen positions of the hot samples of a trace, for finding the sample
+ * nearest to the mouse without computing the position of every sample.
+ * <p>
+ * The trace adds the samples with their positions while it paints. The index
+ * remembers the axes and data they were painted with and is only filled again
+ * once one of those changed, so repainting for other reasons keeps it. The
+ * first query after it has been filled sorts the samples into pixel columns,
+ * each ordered by y. A nearest sample query then looks at the columns around
+ * the position, from the inside out, with a binary search in each.
+ */
+class HotSampleIndex {
+
+	private ISample[] samples = new ISample[64];
+	private int[] xs = new int[64];
+	private int[] ys = new int[64];
+	private int count;
+
+	// pixel columns: keys of column c are in keys[columnStart[c]..columnStart[c + 1]),
+	// each key is (y << 32 | index)
+	private boolean built;
+	private int minX;
+	private int[] columnStart;
+	private long[] keys;
+
+	// what the samples were painted with
+	private boolean valid;
+	private IDataProvider dataProvider;
+	private int dataVersion;
+	private boolean decimated;
+	private Range xRange;
+	private Range yRange;
+	private int xLower, xUpper, yLower, yUpper;
+	private LabelSide labelSide;
+
+	/**
+	 * @return true if the samples were painted with the given axes and data
+	 */
+	boolean isCurrent(final Axis xAxis, final Axis yAxis, final IDataProvider dataProvider, final int dataVersion,
+			final boolean decimated) {
+		return dataProvider == this.dataProvider && dataVersion == this.dataVersion && decimated == this.decimated
+				&& isCurrent(xAxis, yAxis);
+	}
+
+	/**
+	 * @return true if the positions of the samples are still the same on the
+	 *         given axes
+	 */
+	boolean isCurrent(final Axis xAxis, final Axis yAxis) {
+		return valid && xAxis.getRange().equals(xRange) && yAxis.getRange().equals(yRange)
+				&& xAxis.getTickLabelSide() == labelSide
+				&& xAxis.getValuePosition(xRange.getLower(), false) == xLower
+				&& xAxis.getValuePosition(xRange.getUpper(), false) == xUpper
+				&& yAxis.getValuePosition(yRange.getLower(), false) == yLower
+				&& yAxis.getValuePosition(yRange.getUpper(), false) == yUpper;
+	}
+
+	/**
+	 * Removes all samples and remembers what the samples about to be added
+	 * are painted with.
+	 */
+	void reset(final Axis xAxis, final Axis yAxis, final IDataProvider dataProvider, final int dataVersion,
+			final boolean decimated) {
+		clear();
+		this.dataProvider = dataProvider;
+		this.dataVersion = dataVersion;
+		this.decimated = decimated;
+		xRange = xAxis.getRange();
+		yRange = yAxis.getRange();
+		labelSide = xAxis.getTickLabelSide();
+		xLower = xAxis.getValuePosition(xRange.getLower(), false);
+		xUpper = xAxis.getValuePosition(xRange.getUpper(), false);
+		yLower = yAxis.getValuePosition(yRange.getLower(), false);
+		yUpper = yAxis.getValuePosition(yRange.getUpper(), false);
+		valid = true;
+	}
+
+	/**
+	 * Removes all samples.
+	 */
+	void clear() {
+		Arrays.fill(samples, 0, count, null);
+		count = 0;
+		built = false;
+		valid = false;
+		dataProvider = null;
+	}
+
+	/**
+	 * Adds a sample at its position on screen.
+	 */
+	void add(final ISample sample, final int x, final int y) {
+		if (count == samples.length) {
+			samples = Arrays.copyOf(samples, count * 2);
+			xs = Arrays.copyOf(xs, count * 2);
+			ys = Arrays.copyOf(ys, count * 2);
+		}
+		samples[count] = sample;
+		xs[count] = x;
+		ys[count] = y;
+		count++;
+		built = false;
+	}
+
+	int size() {
+		return count;
+	}
+
+	/**
+	 * Returns the sample nearest to the given position. Of several samples at
+	 * the same distance, the one added first is returned.
+	 *
+	 * @return the nearest sample, null if there are none
+	 */
+	ISample getNearest(final int x, final int y) {
+		if (count == 0)
+			return null;
+		build();
+		final int columns = columnStart.length - 1;
+		final int column = Math.max(0, Math.min(columns - 1, x - minX));
+		long best = Long.MAX_VALUE;
+		int bestIndex = -1;
+		for (int d = 0;; d++) {
+			final int left = column - d;
+			final int right = column + d;
+			if (left < 0 && right >= columns)
+				break;
+			// no column further away can hold a nearer sample
+			long dx = Long.MAX_VALUE;
+			if (left >= 0)
+				dx = Math.abs(x - (minX + left));
+			if (right < columns)
+				dx = Math.min(dx, Math.abs(x - (minX + right)));
+			if (bestIndex >= 0 && dx * dx > best)
+				break;
+			for (int c = left; c <= right; c += Math.max(1, right - left)) {
+				if (c < 0 || c >= columns)
+					continue;
+				final int index = nearestInColumn(c, y);
+				if (index < 0)
+					continue;
+				final long ex = xs[index] - x;
+				final long ey = ys[index] - y;
+				final long distance = ex * ex + ey * ey;
+				if (distance < best || (distance == best && index < bestIndex)) {
+					best = distance;
+					bestIndex = index;
+				}
+			}
+		}
+		return samples[bestIndex];
+	}
+
+	/**
+	 * @return true if the index holds a sample equal to the given one at the
+	 *         given position
+	 */
+	boolean contains(final ISample sample, final int x, final int y) {
+		if (count == 0 || sample == null)
+			return false;
+		build();
+		final int c = x - minX;
+		if (c < 0 || c >= columnStart.length - 1)
+			return false;
+		final int end = columnStart[c + 1];
+		for (int i = search(columnStart[c], end, y); i < end && (int) (keys[i] >> 32) == y; i++) {
+			if (sample.equals(samples[(int) keys[i]]))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * @return the index of the sample of the column nearest to y, the first
+	 *         added of several at the same y, or -1 if the column is empty
+	 */
+	private int nearestInColumn(final int c, final int y) {
+		final int from = columnStart[c];
+		final int end = columnStart[c + 1];
+		if (from == end)
+			return -1;
+		final int above = search(from, end, y);
+		int index = -1;
+		long distance = Long.MAX_VALUE;
+		if (above < end) {
+			index = (int) keys[above];
+			distance = (keys[above] >> 32) - y;
+		}
+		if (above > from) {
+			final int belowY = (int) (keys[above - 1] >> 32);
+			final int below = (int) keys[search(from, end, belowY)];
+			final long belowDistance = y - belowY;
+			if (belowDistance < distance || (belowDistance == distance && below < index))
+				index = below;
+		}
+		return index;
+	}
+
+	/**
+	 * @return the first position in keys[from..end) with a y of at least the
+	 *         given one
+	 */
+	private int search(int from, int end, final int y) {
+		final long key = (long) y << 32;
+		while (from < end) {
+			final int mid = (from + end) >>> 1;
+			if (keys[mid] < key)
+				from = mid + 1;
+			else
+				end = mid;
+		}
+		return from;
+	}
+
+	/**
+	 * Sorts the samples into pixel columns with a counting sort on x and a
+	 * sort on y in each column.
+	 */
+	private void build() {
+		if (built)
+			return;
+		int min = Integer.MAX_VALUE;
+		int max = Integer.MIN_VALUE;
+		for (int i = 0; i < count; i++) {
+			min = Math.min(min, xs[i]);
+			max = Math.max(max, xs[i]);
+		}
+		minX = min;
+		final int columns = max - min + 1;
+		columnStart = new int[columns + 1];
+		for (int i = 0; i < count; i++) {
+			columnStart[xs[i] - min + 1]++;
+		}
+		for (int c = 0; c < columns; c++) {
+			columnStart[c + 1] += columnStart[c];
+		}
+		keys = new long[count];
+		final int[] next = Arrays.copyOf(columnStart, columns);
+		for (int i = 0; i < count; i++) {
+			keys[next[xs[i] - min]++] = (long) ys[i] << 32 | i;
+		}
+		for (int c = 0; c < columns; c++) {
+			if (columnStart[c + 1] - columnStart[c] > 1)
+				Arrays.sort(keys, columnStart[c], columnStart[c + 1]);
+		}
+		built = true;
+	}
+}
@@ -285,6 +285,21 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 
 	private IPointStyleProvider fPointStyleProvider;
 
+	/**
+	 * Reduce line traces with many more samples than pixels before drawing
+	 */
+	private boolean decimationEnabled = false;
+
+	private final TraceDecimator decimator = new TraceDecimator();
+
+	private final HotSampleIndex hotSampleIndex = new HotSampleIndex();
+
+	/**
+	 * Incremented whenever the data changes, the hot sample index is refilled
+	 * on the next paint
+	 */
+	private int dataVersion;
+
 	/**
 	 * {@link #init(Axis, Axis, IDataProvider)} needs to be called if a trace is
 	 * created with this constructor
@@ -652,6 +667,21 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 					endIndex = traceDataProvider.getSize() - 1;
 				}
 
+				// Reduce a large line trace to the samples that make a
+				// difference on screen, the loop below handles them like any
+				// other samples
+				final List<ISample> decimated = isDecimating(startIndex, endIndex)
+						? decimator.getSamples(traceDataProvider, startIndex, endIndex, xAxis) : null;
+				final int firstIndex = decimated == null ? startIndex : 0;
+				final int lastIndex = decimated == null ? endIndex : decimated.size() - 1;
+
+				// The hot samples are the same as last time unless the axes or
+				// the data changed
+				final boolean indexHotSamples = !hotSampleIndex.isCurrent(xAxis, yAxis, traceDataProvider,
+						dataVersion, decimated != null);
+				if (indexHotSamples)
+					hotSampleIndex.reset(xAxis, yAxis, traceDataProvider, dataVersion, decimated != null);
+
 				// Set of points which were already drawn
 				HashSet<Point> hsPoint = new HashSet<Point>();
 
@@ -667,8 +697,8 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 				Point minInRegion = null;
 				Point lastInRegion = null;
 
-				for (int i = startIndex; i <= endIndex; i++) {
-					ISample dp = traceDataProvider.getSample(i);
+				for (int i = firstIndex; i <= lastIndex; i++) {
+					ISample dp = decimated == null ? traceDataProvider.getSample(i) : decimated.get(i);
 					if (dp == null) {
 						continue;
 					}
@@ -691,6 +721,8 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 						if (dp instanceof IMetaData)
 							nanSample.setData(((IMetaData) dp).getData());
 						hotSampleist.add(nanSample);
+						if (indexHotSamples)
+							hotSampleIndex.add(nanSample, markPos.x, markPos.y);
 					}
 					// Is data point in the plot area?
 					boolean dpInRange = dpInXRange && yAxis.getRange().inRange(dp.getYValue());
@@ -699,6 +731,8 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 						dpPos = new Point(xAxis.getValuePosition(dp.getXValue(), false),
 								yAxis.getValuePosition(dp.getYValue(), false));
 						hotSampleist.add(dp);
+						if (indexHotSamples)
+							hotSampleIndex.add(dp, dpPos.x, dpPos.y);
 
 						// Do not draw points in the same place to improve
 						// performance
@@ -1031,6 +1065,33 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 		}
 	}
 
+	/**
+	 * Decimation only applies to chronological line traces without points or
+	 * error bars, which look the same when drawn from the reduced samples, and
+	 * only if there are several samples per pixel.
+	 */
+	private boolean isDecimating(final int startIndex, final int endIndex) {
+		if (!decimationEnabled || !traceDataProvider.isChronological() || pointStyle != PointStyle.NONE
+				|| errorBarEnabled)
+			return false;
+		switch (traceType) {
+		case SOLID_LINE:
+		case DASH_LINE:
+		case DASHDOT_LINE:
+		case DASHDOTDOT_LINE:
+		case DOT_LINE:
+		case STEP_HORIZONTALLY:
+		case STEP_VERTICALLY:
+			break;
+		default:
+			return false;
+		}
+		final Range range = xAxis.getRange();
+		final int width = Math.abs(xAxis.getValuePosition(range.getUpper(), false)
+				- xAxis.getValuePosition(range.getLower(), false)) + 1;
+		return endIndex - startIndex + 1 > 4 * width;
+	}
+
 	/**
 	 * Compute axes intersection considering the 'TraceType'
 	 * 
@@ -1498,6 +1559,8 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 	}
 
 	public void dataChanged(IDataProvider dataProvider) {
+		decimator.invalidate();
+		dataVersion++;
 		// if the axis has been repainted, it will cause the trace to be
 		// repainted autoly,
 		// the trace doesn't have to be repainted again.
@@ -1651,6 +1714,33 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 		errorBarColorSetFlag = true;
 	}
 
+	/**
+	 * Enables the reduction of line traces to the first, minimum, maximum and
+	 * last sample of each pixel column before drawing. This keeps repainting
+	 * traces with millions of samples fast and draws the same line, but the
+	 * {@link #getHotSampleList() hot samples} then only contain the reduced
+	 * samples. Only applies to chronological data drawn as a line without
+	 * points or error bars.
+	 *
+	 * @param decimationEnabled
+	 *            true to reduce large traces
+	 */
+	public void setDecimationEnabled(boolean decimationEnabled) {
+		if (this.decimationEnabled == decimationEnabled)
+			return;
+		this.decimationEnabled = decimationEnabled;
+		decimator.invalidate();
+		repaint();
+	}
+
+	/**
+	 * @return true if large line traces are reduced before drawing
+	 * @see #setDecimationEnabled(boolean)
+	 */
+	public boolean isDecimationEnabled() {
+		return decimationEnabled;
+	}
+
 	/**
 	 * Hot Sample is the sample on the trace which has been drawn in plot area.
 	 * 
@@ -1660,6 +1750,53 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 		return hotSampleist;
 	}
 
+	/**
+	 * Finds the hot sample nearest to a location on screen, e.g. to snap an
+	 * annotation or a cursor to the trace. The samples are looked up in an
+	 * index by screen position that is built from the last paint, so this is
+	 * fast even for dense traces.
+	 *
+	 * @param location
+	 *            location in the coordinates of the plot area
+	 * @return the nearest hot sample, the first of several at the same
+	 *         distance, or null if there are no hot samples
+	 * @see #getHotSampleList()
+	 */
+	public ISample getNearestHotSample(Point location) {
+		if (isHotSampleIndexCurrent())
+			return hotSampleIndex.getNearest(location.x, location.y);
+		// the axes changed since the last paint
+		ISample nearest = null;
+		double minD = Double.POSITIVE_INFINITY;
+		for (ISample s : hotSampleist) {
+			double d = Math.sqrt(Math.pow(xAxis.getValuePosition(s.getXValue(), false) - location.x, 2)
+					+ Math.pow(yAxis.getValuePosition(s.getYValue(), false) - location.y, 2));
+			if (minD > d) {
+				minD = d;
+				nearest = s;
+			}
+		}
+		return nearest;
+	}
+
+	/**
+	 * @param sample
+	 *            the sample to look for
+	 * @return true if the hot sample list contains the sample, see
+	 *         {@link List#contains(Object)}
+	 */
+	public boolean isHotSample(ISample sample) {
+		if (sample != null && isHotSampleIndexCurrent())
+			return hotSampleIndex.contains(sample, xAxis.getValuePosition(sample.getXValue(), false),
+					yAxis.getValuePosition(sample.getYValue(), false));
+		return hotSampleist.contains(sample);
+	}
+
+	private boolean isHotSampleIndexCurrent() {
+		return xAxis != null && yAxis != null && hotSampleIndex.size() == hotSampleist.size()
+				&& hotSampleIndex.isCurrent(xAxis, yAxis);
+	}
+
 	/**
 	 * @return the baseLine
 	 */
@@ -1780,6 +1917,8 @@ public class Trace extends Figure implements IDataProviderListener, IAxisListene
 		this.xErrorBarType = null;
 		this.errorBarColor = null;
 		this.xyGraph = null;
+		decimator.invalidate();
+		hotSampleIndex.clear();
 	}
 
 }
@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * Contributors:
+ * 		Eclipse Nebula contributors - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.figures;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.DoubleToIntFunction;
+
+import org.eclipse.nebula.visualization.xygraph.dataprovider.IDataProvider;
+import org.eclipse.nebula.visualization.xygraph.dataprovider.ISample;
+import org.eclipse.nebula.visualization.xygraph.linearscale.Range;
+
+/**
+ * Reduces the samples of a chronological trace to those that make a
+ * difference when drawn as a line.
+ * <p>
+ * All samples that fall into the same pixel column are connected by vertical
+ * line segments, so only the first, the minimum, the maximum and the last
+ * sample of each column are kept (min/max per bucket, also known as M4). The
+ * line drawn through the reduced samples covers exactly the same pixels as the
+ * line through all samples. NaN samples split the columns, so gaps in the
+ * trace remain where they are.
+ * <p>
+ * The reduced samples are cached until the data or the x axis changes, so
+ * repainting after a change of the y axis only has to project them again.
+ */
+class TraceDecimator {
+
+	private List<ISample> samples;
+
+	private IDataProvider dataProvider;
+	private int startIndex;
+	private int endIndex;
+	private int size;
+	private ISample firstSample;
+	private ISample lastSample;
+	private Range xRange;
+	private boolean xLogScale;
+	private int xLowerPosition;
+	private int xUpperPosition;
+
+	/**
+	 * Returns the reduced samples of the given index range, from the cache if
+	 * neither the data nor the x axis changed since the last call. Must be
+	 * called while synchronized on the data provider.
+	 *
+	 * @param dataProvider
+	 *            chronological data
+	 * @param startIndex
+	 *            first index to draw
+	 * @param endIndex
+	 *            last index to draw
+	 * @param xAxis
+	 *            x axis the trace is drawn on
+	 * @return the reduced samples in their original order
+	 */
+	List<ISample> getSamples(final IDataProvider dataProvider, final int startIndex, final int endIndex,
+			final Axis xAxis) {
+		final Range range = xAxis.getRange();
+		final int lowerPosition = xAxis.getValuePosition(range.getLower(), false);
+		final int upperPosition = xAxis.getValuePosition(range.getUpper(), false);
+		final ISample first = dataProvider.getSample(startIndex);
+		final ISample last = dataProvider.getSample(endIndex);
+
+		if (samples == null || dataProvider != this.dataProvider || startIndex != this.startIndex
+				|| endIndex != this.endIndex || dataProvider.getSize() != size || first != firstSample
+				|| last != lastSample || !range.equals(xRange) || xAxis.isLogScaleEnabled() != xLogScale
+				|| lowerPosition != xLowerPosition || upperPosition != xUpperPosition) {
+			samples = decimate(dataProvider, startIndex, endIndex, value -> xAxis.getValuePosition(value, false));
+			this.dataProvider = dataProvider;
+			this.startIndex = startIndex;
+			this.endIndex = endIndex;
+			size = dataProvider.getSize();
+			firstSample = first;
+			lastSample = last;
+			xRange = range;
+			xLogScale = xAxis.isLogScaleEnabled();
+			xLowerPosition = lowerPosition;
+			xUpperPosition = upperPosition;
+		}
+		return samples;
+	}
+
+	/**
+	 * Drops the cached samples, e.g. because the data changed.
+	 */
+	void invalidate() {
+		samples = null;
+		dataProvider = null;
+		firstSample = null;
+		lastSample = null;
+	}
+
+	/**
+	 * Reduces the samples of the given index range to the first, minimum,
+	 * maximum and last sample of each pixel column.
+	 *
+	 * @param dataProvider
+	 *            chronological data
+	 * @param startIndex
+	 *            first index
+	 * @param endIndex
+	 *            last index
+	 * @param xToPixel
+	 *            maps x values to pixel columns
+	 * @return the reduced samples in their original order
+	 */
+	static List<ISample> decimate(final IDataProvider dataProvider, final int startIndex, final int endIndex,
+			final DoubleToIntFunction xToPixel) {
+		if (endIndex < startIndex) {
+			return Collections.emptyList();
+		}
+		final List<ISample> result = new ArrayList<ISample>();
+		final Bucket bucket = new Bucket();
+		int nanColumn = 0;
+		boolean lastWasNaN = false;
+
+		for (int i = startIndex; i <= endIndex; i++) {
+			final ISample sample = dataProvider.getSample(i);
+			if (sample == null) {
+				continue;
+			}
+			final int column = xToPixel.applyAsInt(sample.getXValue());
+			if (Double.isNaN(sample.getYValue())) {
+				bucket.flush(result);
+				// one NaN marks the gap as well as several in the same column
+				if (!lastWasNaN || column != nanColumn) {
+					result.add(sample);
+				}
+				nanColumn = column;
+				lastWasNaN = true;
+				continue;
+			}
+			lastWasNaN = false;
+			if (bucket.first == null || column != bucket.column) {
+				bucket.flush(result);
+				bucket.start(sample, i, column);
+			} else {
+				bucket.add(sample, i);
+			}
+		}
+		bucket.flush(result);
+		return result;
+	}
+
+	/**
+	 * Samples of a single pixel column.
+	 */
+	private static class Bucket {
+		int column;
+		ISample first, min, max, last;
+		int minIndex, maxIndex, lastIndex, firstIndex;
+
+		void start(final ISample sample, final int index, final int column) {
+			this.column = column;
+			first = min = max = last = sample;
+			firstIndex = minIndex = maxIndex = lastIndex = index;
+		}
+
+		void add(final ISample sample, final int index) {
+			final double y = sample.getYValue();
+			if (y < min.getYValue()) {
+				min = sample;
+				minIndex = index;
+			} else if (y > max.getYValue()) {
+				max = sample;
+				maxIndex = index;
+			}
+			last = sample;
+			lastIndex = index;
+		}
+
+		void flush(final List<ISample> result) {
+			if (first == null) {
+				return;
+			}
+			result.add(first);
+			// keep the extremes in the order they were recorded
+			final boolean minFirst = minIndex < maxIndex;
+			addInner(result, minFirst ? min : max, minFirst ? minIndex : maxIndex);
+			addInner(result, minFirst ? max : min, minFirst ? maxIndex : minIndex);
+			if (lastIndex != firstIndex) {
+				result.add(last);
+			}
+			first = min = max = last = null;
+		}
+
+		private void addInner(final List<ISample> result, final ISample sample, final int index) {
+			if (index != firstIndex && index != lastIndex) {
+				result.add(sample);
+			}
+		}
+	}
+}
@@ -12,11 +12,10 @@ package org.eclipse.nebula.visualization.xygraph.linearscale;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
-import java.util.Date;
 import java.util.List;
 
-import org.eclipse.draw2d.FigureUtilities;
 import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.nebula.visualization.internal.xygraph.utils.LargeNumberUtils;
 
@@ -78,6 +77,12 @@ public class LinearScaleTicks implements ITicksProvider {
 
 	private IScaleProvider scale;
 
+	/** labels and extents of previous layouts */
+	private final TickLabelCache labelCache;
+
+	/** everything the last layout depends on */
+	private List<Object> layoutState;
+
 	/**
 	 * constructor
 	 *
@@ -90,6 +95,7 @@ public class LinearScaleTicks implements ITicksProvider {
 		tickLabelPositions = new ArrayList<Integer>();
 		tickLabelVisibilities = new ArrayList<Boolean>();
 		minorPositions = new ArrayList<Integer>();
+		labelCache = new TickLabelCache(scale);
 	}
 
 	/**
@@ -329,8 +335,8 @@ public class LinearScaleTicks implements ITicksProvider {
 	 */
 	private boolean hasSpaceToDraw(int previousPosition, int tickLabelPosition, String previousTickLabel,
 			String tickLabel) {
-		Dimension tickLabelSize = FigureUtilities.getTextExtents(tickLabel, scale.getFont());
-		Dimension previousTickLabelSize = FigureUtilities.getTextExtents(previousTickLabel, scale.getFont());
+		Dimension tickLabelSize = labelCache.getExtent(tickLabel);
+		Dimension previousTickLabelSize = labelCache.getExtent(previousTickLabel);
 		int interval = tickLabelPosition - previousPosition;
 		int textLength = (int) (scale.isHorizontal() ? (tickLabelSize.width / 2.0 + previousTickLabelSize.width / 2.0)
 				: tickLabelSize.height);
@@ -340,8 +346,7 @@ public class LinearScaleTicks implements ITicksProvider {
 		// if it is not the end tick label
 		if (tickLabelPosition != tickLabelPositions.get(tickLabelPositions.size() - 1)) {
 			noLapOnPrevoius = interval > (textLength + TICK_LABEL_GAP);
-			Dimension endTickLabelSize = FigureUtilities.getTextExtents(tickLabels.get(tickLabels.size() - 1),
-					scale.getFont());
+			Dimension endTickLabelSize = labelCache.getExtent(tickLabels.get(tickLabels.size() - 1));
 			interval = tickLabelPositions.get(tickLabelPositions.size() - 1) - tickLabelPosition;
 			textLength = (int) (scale.isHorizontal() ? (tickLabelSize.width / 2.0 + endTickLabelSize.width / 2.0)
 					: tickLabelSize.height);
@@ -439,11 +444,10 @@ public class LinearScaleTicks implements ITicksProvider {
 			String lblStr;
 			if (isShowMinLabel()) {
 				if (scale.isDateEnabled()) {
-					Date date = new Date((long) min);
-					lblStr = scale.format(date, true);
+					lblStr = labelCache.formatDate((long) min, true);
 					minDateAdded = true;
 				} else {
-					lblStr = scale.format(min);
+					lblStr = labelCache.format(min);
 				}
 			} else
 				lblStr = "";
@@ -464,10 +468,9 @@ public class LinearScaleTicks implements ITicksProvider {
 				continue;
 			}
 			if (scale.isDateEnabled()) {
-				Date date = new Date((long) b);
-				tickLabels.add(scale.format(date, i == 1 && !minDateAdded));
+				tickLabels.add(labelCache.formatDate((long) b, i == 1 && !minDateAdded));
 			} else {
-				tickLabels.add(scale.format(b));
+				tickLabels.add(labelCache.format(b));
 			}
 			tickLabelValues.add(b);
 
@@ -481,10 +484,9 @@ public class LinearScaleTicks implements ITicksProvider {
 		String lblStr;
 		if (showMaxLabel) {
 			if (scale.isDateEnabled()) {
-				Date date = new Date((long) max);
-				lblStr = scale.format(date, true);
+				lblStr = labelCache.formatDate((long) max, true);
 			} else {
-				lblStr = scale.format(max);
+				lblStr = labelCache.format(max);
 			}
 		} else
 			lblStr = "";
@@ -576,10 +578,9 @@ public class LinearScaleTicks implements ITicksProvider {
 	private void addTickInfo(BigDecimal d, double max, double logMin, int length, boolean isFirstPosition,
 			boolean minDateAdded) {
 		if (scale.isDateEnabled()) {
-			Date date = new Date((long) d.doubleValue());
-			tickLabels.add(scale.format(date, isFirstPosition && !minDateAdded));
+			tickLabels.add(labelCache.formatDate((long) d.doubleValue(), isFirstPosition && !minDateAdded));
 		} else {
-			tickLabels.add(scale.format(d.doubleValue()));
+			tickLabels.add(labelCache.format(d.doubleValue()));
 		}
 		int tickLabelPosition = (int) ((Math.log10(d.doubleValue()) - logMin) / (Math.log10(max) - logMin) * length)
 				+ scale.getMargin();
@@ -606,20 +607,18 @@ public class LinearScaleTicks implements ITicksProvider {
 			tickLabelValues.add(value);
 			BigDecimal minDec = BigDecimal.valueOf(value);
 			if (scale.isDateEnabled()) {
-				Date date = new Date((long) minDec.doubleValue());
-				tickLabels.add(scale.format(date, true));
+				tickLabels.add(labelCache.formatDate((long) minDec.doubleValue(), true));
 				minDateAdded = true;
 			} else {
-				tickLabels.add(scale.format(minDec.doubleValue()));
+				tickLabels.add(labelCache.format(minDec.doubleValue()));
 			}
 			tickLabelPositions.add(scale.getMargin());
 		} else {
 			tickLabelValues.add(value);
 			if (scale.isDateEnabled()) {
-				Date date = new Date((long) value);
-				tickLabels.add(scale.format(date, true));
+				tickLabels.add(labelCache.formatDate((long) value, true));
 			} else {
-				tickLabels.add(scale.format(value));
+				tickLabels.add(labelCache.format(value));
 			}
 			tickLabelPositions.add(scale.getMargin() + length);
 		}
@@ -634,9 +633,9 @@ public class LinearScaleTicks implements ITicksProvider {
 		int maxHeight = 0;
 		for (int i = 0; i < tickLabels.size(); i++) {
 			if (tickLabelVisibilities.size() > i && tickLabelVisibilities.get(i)) {
-				Dimension p = FigureUtilities.getTextExtents(tickLabels.get(i), scale.getFont());
+				Dimension p = labelCache.getExtent(tickLabels.get(i));
 				if (tickLabels.get(0).startsWith(MINUS) && !tickLabels.get(i).startsWith(MINUS)) {
-					p.width += FigureUtilities.getTextExtents(MINUS, scale.getFont()).width;
+					p.width += labelCache.getExtent(MINUS).width;
 				}
 				if (p.width > maxLength) {
 					maxLength = p.width;
@@ -713,6 +712,15 @@ public class LinearScaleTicks implements ITicksProvider {
 
 	@Override
 	public Range update(final double min, final double max, final int length) {
+		// nothing to do if the layout would be the same
+		final List<Object> state = Arrays.<Object> asList(min, max, length, scale.isLogScaleEnabled(),
+				scale.isDateEnabled(), scale.getMargin(), scale.isHorizontal(), scale.getMajorGridStep(),
+				scale.getMajorTickMarkStepHint(), scale.getTimeUnit(), showMinLabel, showMaxLabel, scale.getFont(),
+				labelCache.validate());
+		if (state.equals(layoutState))
+			return null;
+		layoutState = null;
+
 		tickLabels.clear();
 		tickLabelValues.clear();
 		tickLabelPositions.clear();
@@ -725,6 +733,7 @@ public class LinearScaleTicks implements ITicksProvider {
 
 		updateTickVisibility();
 		updateTickLabelMaxLengthAndHeight();
+		layoutState = state;
 		return null;
 	}
 }
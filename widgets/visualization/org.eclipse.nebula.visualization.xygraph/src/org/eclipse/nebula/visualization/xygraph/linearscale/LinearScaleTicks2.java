@@ -47,6 +47,9 @@ public class LinearScaleTicks2 implements ITicksProvider {
 	/** the scale */
 	protected IScaleProvider scale;
 
+	/** labels and extents of previous layouts */
+	private final TickLabelCache labelCache;
+
 	private boolean ticksIndexBased;
 
 	/** default: show max label */
@@ -62,6 +65,7 @@ public class LinearScaleTicks2 implements ITicksProvider {
 	public LinearScaleTicks2(DAxis scale) {
 		this.scale = scale;
 		minorPositions = new ArrayList<Integer>();
+		labelCache = new TickLabelCache(scale);
 	}
 
 	@Override
@@ -188,6 +192,8 @@ public class LinearScaleTicks2 implements ITicksProvider {
 				tf = new TickFactory(TickFormatting.autoMode, scale);
 			}
 		}
+		labelCache.validate();
+		tf.setLabelCache(labelCache);
 
 		final int hMargin = getHeadMargin();
 		final int tMargin = getTailMargin();
@@ -293,10 +299,10 @@ public class LinearScaleTicks2 implements ITicksProvider {
 		maxWidth = 0;
 		maxHeight = 0;
 		final boolean hasNegative = ticks.get(0).getText().startsWith(MINUS);
-		final int minus = scale.getDimension(MINUS).width;
+		final int minus = labelCache.getExtent(MINUS).width;
 		for (Tick t : ticks) {
 			final String l = t.getText();
-			final Dimension d = scale.getDimension(l);
+			final Dimension d = labelCache.getExtent(l);
 			if (hasNegative && !l.startsWith(MINUS)) {
 				d.width += minus;
 			}
@@ -315,10 +321,10 @@ public class LinearScaleTicks2 implements ITicksProvider {
 		// re-expand length (so labels can flow into margins)
 		length += hMargin + tMargin;
 		if (scale.isHorizontal()) {
-			final int space = (int) (0.67 * scale.getDimension(" ").width);
+			final int space = (int) (0.67 * labelCache.getExtent(" ").width);
 			int last = 0;
 			for (Tick t : ticks) {
-				final Dimension d = scale.getDimension(t.getText());
+				final Dimension d = labelCache.getExtent(t.getText());
 				int w = d.width;
 				int p = (int) Math.ceil(t.getPosition() - w * 0.5);
 				if (p < 0) {
@@ -339,7 +345,7 @@ public class LinearScaleTicks2 implements ITicksProvider {
 			}
 		} else {
 			for (Tick t : ticks) {
-				final Dimension d = scale.getDimension(t.getText());
+				final Dimension d = labelCache.getExtent(t.getText());
 				int h = d.height;
 				int p = (int) Math.ceil(length - 1 - t.getPosition() - h * 0.5);
 				if (p < 0) {
@@ -73,6 +73,7 @@ public class TickFactory {
 	private IScaleProvider scale;
 	private int numberOfIntervals;
 	private boolean isReversed;
+	private TickLabelCache labelCache;
 
 	/**
 	 * @param format
@@ -89,15 +90,32 @@ public class TickFactory {
 		this.scale = scale;
 	}
 
+	/**
+	 * @param labelCache
+	 *            cache of the labels of previously generated ticks, may be
+	 *            null
+	 */
+	void setLabelCache(TickLabelCache labelCache) {
+		this.labelCache = labelCache;
+	}
+
 	private String getTickString(double value) {
 
 		if (scale != null)
 			value = scale.getLabel(value);
 
-		String returnString = "";
 		if (Double.isNaN(value))
-			return returnString;
+			return "";
+
+		if (labelCache == null)
+			return formatTickString(value);
+		if (formatOfTicks == TickFormatting.useCustom)
+			return labelCache.format(value);
+		return labelCache.format(tickFormat != null ? tickFormat : formatOfTicks, value, this::formatTickString);
+	}
 
+	private String formatTickString(double value) {
+		String returnString = "";
 		switch (formatOfTicks) {
 		case autoMode:
 			returnString = String.format(tickFormat, value);
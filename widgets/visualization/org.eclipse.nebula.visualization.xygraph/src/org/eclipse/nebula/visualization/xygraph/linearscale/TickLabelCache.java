@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Nebula contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * Contributors:
+ * 		Eclipse Nebula contributors - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.nebula.visualization.xygraph.linearscale;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleFunction;
+
+import org.eclipse.draw2d.FigureUtilities;
+import org.eclipse.draw2d.geometry.Dimension;
+import org.eclipse.swt.graphics.Font;
+
+/**
+ * Formatted tick labels and their extents, reused by the tick providers of a
+ * scale from one layout to the next.
+ * <p>
+ * When a time axis scrolls, or a range is panned, most ticks of the new layout
+ * have the values of ticks of the previous one. Their labels and extents are
+ * taken from the cache, so only the ticks entering the view are formatted and
+ * measured. Labels are dropped when the format of the scale changes, extents
+ * when its font changes. Both are kept in least recently used order up to
+ * {@link #MAX_SIZE} entries, so ticks leaving the view are eventually evicted.
+ */
+class TickLabelCache {
+
+	static final int MAX_SIZE = 512;
+
+	private static final int NUMBER = 0;
+	private static final int DATE = 1;
+	private static final int MIN_OR_MAX_DATE = 2;
+
+	private final IScaleProvider scale;
+
+	private List<Object> formatState;
+
+	private Font font;
+
+	private final Map<Key, String> labels = new LinkedHashMap<Key, String>(64, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+			return size() > MAX_SIZE;
+		}
+	};
+
+	private final Map<String, Dimension> extents = new LinkedHashMap<String, Dimension>(64, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Dimension> eldest) {
+			return size() > MAX_SIZE;
+		}
+	};
+
+	/**
+	 * @param scale
+	 *            the scale whose labels are cached, may be null if only
+	 *            {@link #format(Object, double, DoubleFunction)} is used
+	 */
+	TickLabelCache(IScaleProvider scale) {
+		this.scale = scale;
+	}
+
+	/**
+	 * Drops the labels if the format of the scale changed since the last call.
+	 * Must be called before the labels of a layout are formatted.
+	 *
+	 * @return the current format of the scale, to be compared by the caller
+	 */
+	List<Object> validate() {
+		final List<Object> state = getFormatState();
+		if (!state.equals(formatState)) {
+			labels.clear();
+			formatState = state;
+		}
+		return state;
+	}
+
+	/**
+	 * Everything the labels formatted by the scale depend on. The auto format
+	 * of a date scale is chosen by the span of the range, so it is part of the
+	 * state: scrolling keeps the span and thus the labels.
+	 */
+	private List<Object> getFormatState() {
+		if (!(scale instanceof AbstractScale))
+			return Arrays.<Object> asList(scale);
+		final AbstractScale s = (AbstractScale) scale;
+		final boolean date = s.isDateEnabled();
+		final Range range = s.getRange();
+		return Arrays.<Object> asList(scale, date, s.isAutoFormat(), s.getFormatPattern(), s.getTimeUnit(),
+				date ? Math.abs(range.getUpper() - range.getLower()) : null);
+	}
+
+	/**
+	 * @return the value formatted by the scale
+	 */
+	String format(double value) {
+		return format(NUMBER, value);
+	}
+
+	/**
+	 * @return the date formatted by the scale
+	 */
+	String formatDate(long time, boolean minOrMaxDate) {
+		return format(minOrMaxDate ? MIN_OR_MAX_DATE : DATE, time);
+	}
+
+	private String format(int kind, double value) {
+		// labels of other scales may depend on state unknown here
+		if (!(scale instanceof AbstractScale))
+			return scaleFormat(kind, value);
+		final Key key = new Key(null, kind, value);
+		String label = labels.get(key);
+		if (label == null) {
+			label = scaleFormat(kind, value);
+			labels.put(key, label);
+		}
+		return label;
+	}
+
+	private String scaleFormat(int kind, double value) {
+		if (kind == NUMBER)
+			return scale.format(value);
+		return scale.format(new Date((long) value), kind == MIN_OR_MAX_DATE);
+	}
+
+	/**
+	 * Returns the label of a value formatted independently of the scale, e.g.
+	 * with {@link String#format(String, Object...)}.
+	 *
+	 * @param format
+	 *            identifies the formatter, labels of equal formats are shared
+	 * @param value
+	 * @param formatter
+	 *            formats the value if it is not cached
+	 * @return the label
+	 */
+	String format(Object format, double value, DoubleFunction<String> formatter) {
+		final Key key = new Key(format, NUMBER, value);
+		String label = labels.get(key);
+		if (label == null) {
+			label = formatter.apply(value);
+			labels.put(key, label);
+		}
+		return label;
+	}
+
+	/**
+	 * @return a new dimension with the extent of the text in the font of the
+	 *         scale
+	 */
+	Dimension getExtent(String text) {
+		final Font f = scale.getFont();
+		if (f != font) {
+			extents.clear();
+			font = f;
+		}
+		Dimension extent = extents.get(text);
+		if (extent == null) {
+			extent = FigureUtilities.getTextExtents(text, f);
+			extents.put(text, extent);
+		}
+		return extent.getCopy();
+	}
+
+	int size() {
+		return labels.size();
+	}
+
+	private static final class Key {
+		private final Object format;
+		private final int kind;
+		private final long value;
+
+		Key(Object format, int kind, double value) {
+			this.format = format;
+			this.kind = kind;
+			this.value = Double.doubleToLongBits(value);
+		}
+
+		@Override
+		public int hashCode() {
+			int result = 31 * kind + (int) (value ^ (value >>> 32));
+			return format == null ? result : 31 * result + format.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			final Key other = (Key) obj;
+			return kind == other.kind && value == other.value
+					&& (format == null ? other.format == null : format.equals(other.format));
+		}
+	}
+}